@@ -161,6 +161,10 @@ public class MessageKeys {
   public static final String PVC_NOT_BOUND_ERROR = "WLSKO-0239";
   public static final String FLUENTBIT_CONFIGMAP_CREATED = "WLSKO-0240";
   public static final String FLUENTBIT_CONFIGMAP_REPLACED = "WLSKO-0241";
+  public static final String SHARD_MEMBERS_CHANGED = "WLSKO-0242";
+  public static final String SHARD_LEASE_UPDATE_FAILED = "WLSKO-0243";
+  public static final String SHARD_LEASE_EXPIRED = "WLSKO-0244";
+  public static final String CLUSTER_WATCH_FORBIDDEN = "WLSKO-0245";
 
   // domain status messages
   public static final String MAKE_RIGHT_WILL_RETRY = "WLSDO-0000";
@@ -93,7 +93,9 @@ public class SchemaConversionUtils {
   private static final String V9_STATE_GOAL_KEY = "stateGoal";
   private static final String REASON = "reason";
 
-  private final AtomicInteger containerIndex = new AtomicInteger(0);
+  // An ObjectMapper is thread-safe once configured, so that a converter may be shared by concurrent conversions.
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private final String targetAPIVersion;
 
   public SchemaConversionUtils(String targetAPIVersion) {
@@ -241,28 +243,32 @@ public class SchemaConversionUtils {
   private void removeAndPreserveLegacyAuxiliaryImages(Map<String, Object> spec, Map<String, Object> toBePreserved) {
     List<Object> auxiliaryImageVolumes = (List<Object>) spec.remove(AUXILIARY_IMAGE_VOLUMES);
     if (auxiliaryImageVolumes != null) {
+      // init containers are numbered within each domain, so that its conversion does not depend on any other
+      AtomicInteger containerIndex = new AtomicInteger(0);
       preserve(toBePreserved, DOLLAR_SPEC, Map.of(AUXILIARY_IMAGE_VOLUMES, auxiliaryImageVolumes));
-      removeAndPreserveLegacyAuxiliaryImages(spec, auxiliaryImageVolumes, toBePreserved, DOLLAR_SPEC_SERVERPOD);
+      removeAndPreserveLegacyAuxiliaryImages(spec, auxiliaryImageVolumes, toBePreserved, DOLLAR_SPEC_SERVERPOD,
+          containerIndex);
       Optional.ofNullable(getAdminServer(spec)).ifPresent(
           as -> removeAndPreserveLegacyAuxiliaryImages(as, auxiliaryImageVolumes,
-              toBePreserved, DOLLAR_SPEC_AS_SERVERPOD));
+              toBePreserved, DOLLAR_SPEC_AS_SERVERPOD, containerIndex));
       Optional.ofNullable(getClusters(spec)).ifPresent(cl -> cl.forEach(cluster ->
           removeAndPreserveLegacyAuxiliaryImagesForCluster(
-              (Map<String, Object>) cluster, auxiliaryImageVolumes, toBePreserved)));
+              (Map<String, Object>) cluster, auxiliaryImageVolumes, toBePreserved, containerIndex)));
       Optional.ofNullable(getManagedServers(spec)).ifPresent(ms -> ms.forEach(managedServer ->
           removeAndPreserveLegacyAuxiliaryImagesForManagedServer(
-              (Map<String, Object>) managedServer, auxiliaryImageVolumes, toBePreserved)));
+              (Map<String, Object>) managedServer, auxiliaryImageVolumes, toBePreserved, containerIndex)));
     }
   }
 
   private void removeAndPreserveLegacyAuxiliaryImages(Map<String, Object> spec, List<Object> auxiliaryImageVolumes,
-                                                      Map<String, Object> toBePreserved, String scope) {
+                                                      Map<String, Object> toBePreserved, String scope,
+                                                      AtomicInteger containerIndex) {
     Map<String, Object> serverPod = getServerPod(spec);
     if (serverPod != null) {
       List<Object> auxiliaryImages = (List<Object>) serverPod.remove(AUXILIARY_IMAGES);
       if (auxiliaryImages != null) {
         preserve(toBePreserved, scope, Map.of(AUXILIARY_IMAGES, auxiliaryImages));
-        addInitContainersVolumeAndMountsToServerPod(serverPod, auxiliaryImages, auxiliaryImageVolumes);
+        addInitContainersVolumeAndMountsToServerPod(serverPod, auxiliaryImages, auxiliaryImageVolumes, containerIndex);
       }
     }
   }
@@ -277,22 +283,25 @@ public class SchemaConversionUtils {
 
   private void removeAndPreserveLegacyAuxiliaryImagesForCluster(Map<String, Object> cluster,
                                                                 List<Object> auxiliaryImageVolumes,
-                                                                Map<String, Object> toBePreserved) {
+                                                                Map<String, Object> toBePreserved,
+                                                                AtomicInteger containerIndex) {
     Object name = cluster.get(CLUSTER_NAME);
     if (name != null) {
       removeAndPreserveLegacyAuxiliaryImages(
-          cluster, auxiliaryImageVolumes, toBePreserved, getDollarSpecForCluster(name) + ".serverPod");
+          cluster, auxiliaryImageVolumes, toBePreserved, getDollarSpecForCluster(name) + ".serverPod",
+          containerIndex);
     }
   }
 
   private void removeAndPreserveLegacyAuxiliaryImagesForManagedServer(Map<String, Object> managedServer,
                                                                       List<Object> auxiliaryImageVolumes,
-                                                                      Map<String, Object> toBePreserved) {
+                                                                      Map<String, Object> toBePreserved,
+                                                                      AtomicInteger containerIndex) {
     Object name = managedServer.get("serverName");
     if (name != null) {
       removeAndPreserveLegacyAuxiliaryImages(
           managedServer, auxiliaryImageVolumes,
-              toBePreserved, getDollarSpecForManagedServer(name) + ".serverPod");
+              toBePreserved, getDollarSpecForManagedServer(name) + ".serverPod", containerIndex);
     }
   }
 
@@ -598,7 +607,8 @@ public class SchemaConversionUtils {
   }
 
   private void addInitContainersVolumeAndMountsToServerPod(Map<String, Object> serverPod, List<Object> auxiliaryImages,
-                                                                         List<Object> auxiliaryImageVolumes) {
+                                                           List<Object> auxiliaryImageVolumes,
+                                                           AtomicInteger containerIndex) {
     addEmptyDirVolume(serverPod, auxiliaryImageVolumes);
     List<Object> initContainers =  new ArrayList<>();
     for (Object auxiliaryImage : auxiliaryImages) {
@@ -907,7 +917,7 @@ public class SchemaConversionUtils {
       Map<String, Object> meta = getMetadata(domain);
       Map<String, Object> annotations = (Map<String, Object>) meta.computeIfAbsent(
           ANNOTATIONS, k -> new LinkedHashMap<>());
-      annotations.put(annoName, new ObjectMapper().writeValueAsString(toBePreserved));
+      annotations.put(annoName, OBJECT_MAPPER.writeValueAsString(toBePreserved));
     }
   }
 
@@ -951,7 +961,7 @@ public class SchemaConversionUtils {
   private void restore(String annoName, Map<String, Object> domain, RestoreValidator restoreValidator) {
     withAnnotation(annoName, domain, labelValue -> {
       try {
-        restore(domain, new ObjectMapper().readValue(labelValue, new TypeReference<>(){}), restoreValidator);
+        restore(domain, OBJECT_MAPPER.readValue(labelValue, new TypeReference<>(){}), restoreValidator);
       } catch (JsonProcessingException e) {
         throw new RuntimeException(e);
       }
@@ -57,6 +57,12 @@ data:
   {{- if .kubernetesPlatform }}
   kubernetesPlatform: {{ .kubernetesPlatform | quote }}
   {{- end }}
+  {{- if .clusterScopedWatch }}
+  clusterScopedWatch: {{ .clusterScopedWatch | quote }}
+  {{- end }}
+  {{- if .namespaceShardingEnabled }}
+  namespaceShardingEnabled: {{ .namespaceShardingEnabled | quote }}
+  {{- end }}
 kind: "ConfigMap"
 metadata:
   labels:
@@ -17,7 +17,7 @@ spec:
   selector:
     matchLabels:
       weblogic.operatorName: {{ .Release.Namespace | quote }}
-  replicas: 1
+  replicas: {{ .operatorReplicas | default 1 }}
   template:
     metadata:
       annotations:
@@ -113,7 +113,7 @@ public class ClusterResourceStatusUpdater {
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<ClusterResource> callResponse) {
       if (callResponse.getObject() != null) {
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+        DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
         info.addClusterResource(callResponse.getObject());
       }
       return doNext(packet);
@@ -289,7 +289,7 @@ public class ClusterResourceStatusUpdater {
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<ClusterResource> callResponse) {
       if (callResponse.getObject() != null) {
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+        DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
         info.addClusterResource(callResponse.getObject());
       }
       return doNext(packet);
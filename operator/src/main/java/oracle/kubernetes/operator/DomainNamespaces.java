@@ -3,17 +3,20 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -26,7 +29,10 @@ import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetList;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.calls.ResourceCache;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
+import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.watcher.ClusterWatcher;
@@ -38,6 +44,7 @@ import oracle.kubernetes.operator.watcher.OperatorEventWatcher;
 import oracle.kubernetes.operator.watcher.PodWatcher;
 import oracle.kubernetes.operator.watcher.ServiceWatcher;
 import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.watcher.WatchMultiplexer;
 import oracle.kubernetes.operator.watcher.Watcher;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
@@ -58,27 +65,34 @@ public class DomainNamespaces {
 
   private final Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
   private final Map<String, AtomicBoolean> namespaceStoppingMap = new ConcurrentHashMap<>();
+  private final AtomicBoolean clusterWatchersStopping = new AtomicBoolean(false);
 
   private final WatcherControl<ClusterResource, ClusterWatcher> clusterWatchers
-      = new WatcherControl<>(ClusterWatcher::create, d -> d::dispatchClusterWatch);
+      = new WatcherControl<>(ClusterWatcher.class, ClusterWatcher::create, d -> d::dispatchClusterWatch);
   private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapWatchers
-        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
+        = new WatcherControl<>(ConfigMapWatcher.class, ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
   private final WatcherControl<DomainResource, DomainWatcher> domainWatchers
-        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch);
+        = new WatcherControl<>(DomainWatcher.class, DomainWatcher::create, d -> d::dispatchDomainWatch);
+  // Readiness probe events are created by the kubelet without operator labels, so a cluster-scoped watch of them
+  // could not be restricted to the operator's pods; they are always watched in each namespace.
   private final WatcherControl<CoreV1Event, EventWatcher> eventWatchers
-        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch);
+        = new WatcherControl<>(null, EventWatcher::create, d -> d::dispatchEventWatch);
   private final WatcherControl<CoreV1Event, OperatorEventWatcher> operatorEventWatchers
-      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch);
+      = new WatcherControl<>(OperatorEventWatcher.class, OperatorEventWatcher::create, d -> d::dispatchEventWatch);
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
-        = new WatcherControl<>(JobWatcher::create, d -> d::dispatchJobWatch);
+        = new WatcherControl<>(JobWatcher.class, JobWatcher::create, d -> d::dispatchJobWatch);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(PodWatcher.class, PodWatcher::create, d -> w -> dispatchPodWatch(d, w));
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
-        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
+        = new WatcherControl<>(ServiceWatcher.class, ServiceWatcher::create, d -> d::dispatchServiceWatch);
   private final WatcherControl<V1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
-          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
+          = new WatcherControl<>(PodDisruptionBudgetWatcher.class, PodDisruptionBudgetWatcher::create,
+                                 d -> d::dispatchPodDisruptionBudgetWatch);
 
   private final SemanticVersion productVersion;
+  private final List<WatchListener<V1Pod>> podListeners = new CopyOnWriteArrayList<>();
+  private final List<Consumer<V1PodList>> podListListeners = new CopyOnWriteArrayList<>();
+  private final List<Consumer<String>> namespaceStopListeners = new CopyOnWriteArrayList<>();
 
   AtomicBoolean isStopping(String ns) {
     return namespaceStoppingMap.computeIfAbsent(ns, key -> new AtomicBoolean(false));
@@ -101,6 +115,7 @@ public class DomainNamespaces {
   DomainNamespaces(SemanticVersion productVersion) {
     namespaceStatuses.clear();
     namespaceStoppingMap.clear();
+    WatchMultiplexer.clearAll();
     this.productVersion = productVersion;
   }
 
@@ -117,6 +132,7 @@ public class DomainNamespaces {
    */
   void stopAllWatchers() {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
+    clusterWatchersStopping.set(true);
   }
 
   /**
@@ -135,10 +151,47 @@ public class DomainNamespaces {
     podDisruptionBudgetWatchers.removeWatcher(ns);
     configMapWatchers.removeWatcher(ns);
     jobWatchers.removeWatcher(ns);
+    ResourceCache.getInstance().removeNamespace(ns);
+    EventHelper.removeNamespace(ns);
+    namespaceStopListeners.forEach(l -> l.accept(ns));
 
     DomainProcessorImpl.cleanupNamespace(ns);
   }
 
+  /**
+   * Adds a listener which receives the name of each namespace when it is stopped.
+   * @param listener the listener to add
+   */
+  void addNamespaceStopListener(Consumer<String> listener) {
+    namespaceStopListeners.add(listener);
+  }
+
+  /**
+   * Adds a listener which receives the pod watch events of every managed namespace.
+   * @param listener the listener to add
+   */
+  void addPodListener(WatchListener<V1Pod> listener) {
+    podListeners.add(listener);
+  }
+
+  /**
+   * Adds a listener which receives each page of the pods listed in a managed namespace when its watcher is
+   * started or resumed.
+   * @param listener the listener to add
+   */
+  void addPodListListener(Consumer<V1PodList> listener) {
+    podListListeners.add(listener);
+  }
+
+  private void dispatchPodList(V1PodList list) {
+    podListListeners.forEach(l -> l.accept(list));
+  }
+
+  private void dispatchPodWatch(DomainProcessor domainProcessor, Watch.Response<V1Pod> item) {
+    domainProcessor.dispatchPodWatch(item);
+    podListeners.forEach(l -> l.receivedResponse(item));
+  }
+
   ConfigMapWatcher getConfigMapWatcher(String namespace) {
     return configMapWatchers.getWatcher(namespace);
   }
@@ -188,6 +241,13 @@ public class DomainNamespaces {
     return TuningParameters.getInstance().getWatchTuning();
   }
 
+  // A single cluster-scoped watch per kind requires permission to watch in all namespaces,
+  // which the operator does not have when it manages only its own namespace.
+  static boolean isClusterScopedWatch() {
+    return getWatchTuning().isClusterScopedWatch()
+        && Namespaces.getSelectionStrategy() != Namespaces.SelectionStrategy.DEDICATED;
+  }
+
   static ThreadFactory getThreadFactory() {
     return ThreadFactorySingleton.getInstance();
   }
@@ -203,6 +263,7 @@ public class DomainNamespaces {
     NamespacedResources resources = new NamespacedResources(ns, null, this);
     resources.addProcessing(new DomainResourcesValidation(ns, processor).getProcessors());
     resources.addProcessing(createWatcherStartupProcessing(ns, processor));
+    resources.addProcessing(new ResourceCacheProcessing(ns, null));
     return Step.chain(ConfigMapHelper.createScriptConfigMapStep(ns, productVersion), resources.createListSteps());
   }
 
@@ -214,7 +275,7 @@ public class DomainNamespaces {
     getNamespaceStatus(ns).clearNamespaceStartingFlag();
   }
 
-  interface WatcherFactory<T, W extends Watcher<T>> {
+  interface WatcherFactory<T extends KubernetesObject, W extends Watcher<T>> {
     W create(
           ThreadFactory threadFactory,
           String namespace,
@@ -226,21 +287,37 @@ public class DomainNamespaces {
 
   interface ListenerSelector<T> extends Function<DomainProcessor, WatchListener<T>> { }
 
-  class WatcherControl<T, W extends Watcher<T>> {
+  class WatcherControl<T extends KubernetesObject, W extends Watcher<T>> {
     private final Map<String, W> watchers = new ConcurrentHashMap<>();
+    private final Class<W> watcherClass; // null if the watchers may not share a cluster-scoped watch
     private final WatcherFactory<T,W> factory;
     private final ListenerSelector<T> selector;
+    private WatchMultiplexer<T> multiplexer;
 
-    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+    private WatcherControl(Class<W> watcherClass, WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+      this.watcherClass = watcherClass;
       this.factory = factory;
       this.selector = selector;
     }
 
     void startWatcher(String namespace, String resourceVersion, DomainProcessor domainProcessor) {
+      if (watcherClass != null && isClusterScopedWatch()) {
+        startMultiplexer(resourceVersion);
+      }
       watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, selector.apply(domainProcessor)));
       getWatcher(namespace).withResourceVersion(resourceVersion).resume();
     }
 
+    // Resource versions are common to all namespaces, so the cluster-scoped watch may start from the version of
+    // the first namespace list; it restarts from an older version whenever a namespace is listed before it.
+    private synchronized void startMultiplexer(String resourceVersion) {
+      if (multiplexer == null) {
+        multiplexer = WatchMultiplexer.start(watcherClass,
+            l -> factory.create(getThreadFactory(), null, resourceVersion, getWatchTuning(), l,
+                clusterWatchersStopping));
+      }
+    }
+
     W createWatcher(String ns, String resourceVersion, WatchListener<T> listener) {
       return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
     }
@@ -251,6 +328,7 @@ public class DomainNamespaces {
 
     void removeWatcher(String ns) {
       watchers.remove(ns);
+      Optional.ofNullable(multiplexer).ifPresent(m -> m.removeNamespace(ns));
     }
   }
 
@@ -289,7 +367,10 @@ public class DomainNamespaces {
 
     @Override
     public Consumer<V1PodList> getPodListProcessing() {
-      return l -> podWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        dispatchPodList(l);
+        podWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      };
     }
 
     @Override
@@ -350,8 +431,11 @@ public class DomainNamespaces {
 
     @Override
     public Consumer<V1PodList> getPodListProcessing() {
-      return l -> Optional.ofNullable(podWatchers.getWatcher(ns))
-          .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      return l -> {
+        dispatchPodList(l);
+        Optional.ofNullable(podWatchers.getWatcher(ns))
+            .ifPresent(w -> w.withResourceVersion(getResourceVersion(l)).resume());
+      };
     }
 
     @Override
@@ -152,4 +152,12 @@ public interface DomainProcessor {
   default List<DomainPresenceInfo> getExistingDomainPresenceInfoForCluster(String namespace, String clusterName) {
     return Collections.emptyList();
   }
+
+  /**
+   * Discards any make-right requests held for the domains in a namespace which is no longer managed.
+   * @param namespace the namespace
+   */
+  default void discardHeldMakeRights(String namespace) {
+    // no-op
+  }
 }
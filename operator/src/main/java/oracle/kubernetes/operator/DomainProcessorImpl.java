@@ -14,6 +14,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
@@ -47,6 +48,7 @@ import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResourcePresenceInfo;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
@@ -106,19 +108,27 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @SuppressWarnings("FieldMayBeFinal")
   private static Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
 
+  static {
+    OperatorMetrics.setFiberCountSource("make_right", () -> countFibers(makeRightFiberGates));
+    OperatorMetrics.setFiberCountSource("status", () -> countFibers(statusFiberGates));
+  }
+
   // Map namespace to map of domainUID to Domain; tests may replace this value.
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Map<String, Map<String, DomainPresenceInfo>> domains = new ConcurrentHashMap<>();
 
   // map namespace to map of uid to processing.
   @SuppressWarnings("FieldMayBeFinal")
-  private static Map<String, Map<String, Cancellable>> statusUpdaters = new ConcurrentHashMap<>();
+  private static Map<String, Map<String, StatusUpdateSchedule>> statusUpdaters = new ConcurrentHashMap<>();
 
   // List of clusters in a namespace.
   private static final Map<String, Map<String, ClusterPresenceInfo>> clusters = new ConcurrentHashMap<>();
 
   private final DomainProcessorDelegate delegate;
   private final SemanticVersion productVersion;
+  private final StatusUpdateSchedule.Budget statusUpdateBudget = new StatusUpdateSchedule.Budget();
+  private final MakeRightDebouncer podEventMakeRights;
+  private final MakeRightQueue makeRightQueue = new MakeRightQueue();
 
   // Map namespace to map of domainUID to KubernetesEventObjects; tests may replace this value.
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
@@ -139,6 +149,15 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   public DomainProcessorImpl(DomainProcessorDelegate delegate, SemanticVersion productVersion) {
     this.delegate = delegate;
     this.productVersion = productVersion;
+    this.podEventMakeRights = new MakeRightDebouncer(delegate, DomainProcessorImpl::isMakeRightRunning,
+        info -> createMakeRightOperation(info).interrupt().withExplicitRecheck().execute());
+  }
+
+  private static boolean isMakeRightRunning(DomainPresenceInfo info) {
+    return Optional.ofNullable(makeRightFiberGates.get(info.getNamespace()))
+        .map(FiberGate::getCurrentFibers)
+        .map(fibers -> fibers.containsKey(info.getDomainUid()))
+        .orElse(false);
   }
 
   @Override
@@ -173,6 +192,10 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     return clusters;
   }
 
+  private static double countFibers(Map<String, FiberGate> gates) {
+    return gates.values().stream().mapToInt(g -> g.getCurrentFibers().size()).sum();
+  }
+
   @Override
   public Map<String, FiberGate> getMakeRightFiberGateMap() {
     return makeRightFiberGates;
@@ -186,23 +209,33 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     return referencingDomains;
   }
 
+  @Override
+  public void discardHeldMakeRights(String namespace) {
+    podEventMakeRights.discardNamespace(namespace);
+  }
+
   static void cleanupNamespace(String namespace) {
     clusterEventK8SObjects.remove(namespace);
     domains.remove(namespace);
     domainEventK8SObjects.remove(namespace);
     namespaceEventK8SObjects.remove(namespace);
-    statusUpdaters.remove((namespace));
+    Optional.ofNullable(statusUpdaters.remove(namespace))
+        .ifPresent(schedules -> schedules.values().forEach(StatusUpdateSchedule::cancel));
   }
 
   private static void registerStatusUpdater(
-        String ns, String domainUid, Cancellable future) {
+        String ns, String domainUid, StatusUpdateSchedule schedule) {
     Cancellable existing =
-          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, future);
+          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, schedule);
     if (existing != null) {
       existing.cancel();
     }
   }
 
+  private static void expediteStatusUpdates(String ns, String domainUid) {
+    Optional.ofNullable(statusUpdaters.get(ns)).map(m -> m.get(domainUid)).ifPresent(StatusUpdateSchedule::expedite);
+  }
+
   public static void updateEventK8SObjects(CoreV1Event event) {
     getEventK8SObjects(event).update(event);
   }
@@ -361,7 +394,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       try (ThreadLoggingContext ignored = setThreadContext().presenceInfo(liveInfo)) {
         if (shouldContinue(operation, liveInfo)) {
           logStartingDomain(liveInfo);
-          new DomainPlan(operation, delegate).execute();
+          new DomainPlan(operation, delegate, makeRightQueue).execute();
         } else {
           logNotStartingDomain(liveInfo);
         }
@@ -376,7 +409,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     if (delegate.isNamespaceRunning(liveInfo.getNamespace())) {
       try (ThreadLoggingContext ignored = setThreadContext().presenceInfo(liveInfo)) {
         if (shouldContinue(operation, liveInfo)) {
-          new ClusterPlan(operation, delegate).execute();
+          new ClusterPlan(operation, delegate, makeRightQueue).execute();
         }
       }
     }
@@ -462,18 +495,13 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @Override
   public void scheduleDomainStatusUpdates(DomainPresenceInfo info) {
     final int statusUpdateTimeoutSeconds = TuningParameters.getInstance().getStatusUpdateTimeoutSeconds();
-    final int initialShortDelay = TuningParameters.getInstance().getInitialShortDelay();
     final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
+    final StatusUpdateSchedule schedule = new StatusUpdateSchedule(delegate, statusUpdateBudget,
+        onDone -> new ScheduledStatusUpdater(info.getNamespace(), info.getDomainUid(), loggingFilter, onDone)
+                .withTimeoutSeconds(statusUpdateTimeoutSeconds).updateStatus());
 
-    registerStatusUpdater(
-        info.getNamespace(),
-        info.getDomainUid(),
-        delegate.scheduleWithFixedDelay(
-            () -> new ScheduledStatusUpdater(info.getNamespace(), info.getDomainUid(), loggingFilter)
-                .withTimeoutSeconds(statusUpdateTimeoutSeconds).updateStatus(),
-            initialShortDelay,
-            initialShortDelay,
-            TimeUnit.SECONDS));
+    registerStatusUpdater(info.getNamespace(), info.getDomainUid(), schedule);
+    schedule.start();
   }
 
   @Override
@@ -519,7 +547,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   @Override
   public void endScheduledDomainStatusUpdates(DomainPresenceInfo info) {
-    Map<String, Cancellable> map = statusUpdaters.get(info.getNamespace());
+    Map<String, StatusUpdateSchedule> map = statusUpdaters.get(info.getNamespace());
     if (map != null) {
       Cancellable existing = map.remove(info.getDomainUid());
       if (existing != null) {
@@ -605,6 +633,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       return;
     }
 
+    expediteStatusUpdates(info.getNamespace(), domainUid);
     String serverName = getPodLabel(pod, LabelConstants.SERVERNAME_LABEL);
     switch (watchType) {
       case ADDED:
@@ -623,7 +652,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         boolean isReady = PodHelper.isReady(pod);
         boolean isLabeledForShutdown = PodHelper.isPodAlreadyAnnotatedForShutdown(pod);
         if ((isEvicted || isReady != isLabeledForShutdown || PodHelper.isFailed(pod)) && !PodHelper.isDeleting(pod)) {
-          createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+          podEventMakeRights.request(info);
         }
         boolean isUnschedulable = PodHelper.hasUnSchedulableCondition(pod);
         if (isUnschedulable) {
@@ -635,7 +664,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         if (removed && isNotDeleting(info) && Boolean.FALSE.equals(info.isServerPodBeingDeleted(serverName))) {
           LOGGER.info(MessageKeys.POD_DELETED, domainUid, getPodNamespace(pod), serverName);
         }
-        createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
+        podEventMakeRights.request(info);
         break;
 
       case ERROR:
@@ -691,7 +720,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @Override
   public void updateDomainStatus(@Nonnull V1Pod pod, DomainPresenceInfo info) {
     Packet packet = new Packet();
-    packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, info);
+    packet.putValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY, info);
     Optional.ofNullable(IntrospectionStatus.createStatusUpdateSteps(pod))
           .ifPresent(steps -> delegate.runSteps(packet, steps, null));
   }
@@ -699,7 +728,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
   @Override
   public void updateDomainStatus(@Nonnull V1PersistentVolumeClaim pvc, DomainPresenceInfo info) {
     Packet packet = new Packet();
-    packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, info);
+    packet.putValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY, info);
     if (!ProcessingConstants.BOUND.equals(getPhase(pvc))) {
       delegate.runSteps(packet, DomainStatusUpdater
               .createPersistentVolumeClaimFailureSteps(getMessage(pvc)), null);
@@ -1065,8 +1094,13 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   private static class DomainPlan extends Plan<MakeRightDomainOperation> {
 
-    public DomainPlan(MakeRightDomainOperation operation, DomainProcessorDelegate delegate) {
-      super(operation, delegate);
+    public DomainPlan(MakeRightDomainOperation operation, DomainProcessorDelegate delegate, MakeRightQueue queue) {
+      super(operation, delegate, queue);
+    }
+
+    @Override
+    boolean isSpecChange() {
+      return super.isSpecChange() || operation.isDeleting();
     }
 
     @Override
@@ -1075,17 +1109,30 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     }
 
     class DomainPlanCompletionCallback implements CompletionCallback {
+      private final long startNanos = System.nanoTime();
 
       @Override
       public void onCompletion(Packet packet) {
+        recordMakeRight(shouldRetry(packet) ? OperatorMetrics.RETRY : OperatorMetrics.SUCCESS);
         retryIfNeeded(packet);
       }
 
       @Override
       public void onThrowable(Packet packet, Throwable throwable) {
+        recordMakeRight(OperatorMetrics.FAILURE);
         reportFailure(throwable);
       }
 
+      // a deleted domain will not be made right again, so its series are removed rather than extended
+      private void recordMakeRight(String outcome) {
+        if (operation.isDeleting()) {
+          OperatorMetrics.removeMakeRights(presenceInfo.getNamespace(), presenceInfo.getResourceName());
+        } else {
+          OperatorMetrics.recordMakeRight(
+              presenceInfo.getNamespace(), presenceInfo.getResourceName(), outcome, startNanos);
+        }
+      }
+
       private void reportFailure(Throwable throwable) {
         logThrowable(throwable);
         runFailureSteps(throwable);
@@ -1150,8 +1197,8 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
 
   private static class ClusterPlan extends Plan<MakeRightClusterOperation> {
 
-    public ClusterPlan(MakeRightClusterOperation operation, DomainProcessorDelegate delegate) {
-      super(operation, delegate);
+    public ClusterPlan(MakeRightClusterOperation operation, DomainProcessorDelegate delegate, MakeRightQueue queue) {
+      super(operation, delegate, queue);
     }
 
     @Override
@@ -1192,12 +1239,14 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     protected final ResourcePresenceInfo presenceInfo;
     protected final FiberGate gate;
     protected final DomainProcessorDelegate delegate;
+    private final MakeRightQueue queue;
 
-    public Plan(T operation, DomainProcessorDelegate delegate) {
+    public Plan(T operation, DomainProcessorDelegate delegate, MakeRightQueue queue) {
       this.operation = operation;
       this.presenceInfo = operation.getPresenceInfo();
       this.gate = getMakeRightFiberGate(delegate, this.presenceInfo.getNamespace());
       this.delegate = delegate;
+      this.queue = queue;
     }
 
     private FiberGate getMakeRightFiberGate(DomainProcessorDelegate delegate, String ns) {
@@ -1205,17 +1254,59 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
     }
 
     void execute() {
-      gate.startFiber(presenceInfo.getResourceName(), () -> operation.createSteps(), () -> operation.createPacket(),
-          createCompletionCallback());
+      queue.submit(presenceInfo.getNamespace(), presenceInfo.getResourceName(), getQueuePriority(), this::startFiber);
+    }
+
+    private MakeRightQueue.Priority getQueuePriority() {
+      if (isSpecChange()) {
+        return MakeRightQueue.Priority.SPEC_CHANGE;
+      } else if (operation.isWillInterrupt()) {
+        return MakeRightQueue.Priority.WATCH_EVENT;
+      } else {
+        return MakeRightQueue.Priority.RECHECK;
+      }
+    }
+
+    boolean isSpecChange() {
+      return operation.hasEventData();
+    }
+
+    private void startFiber(Runnable release) {
+      try {
+        gate.startFiber(presenceInfo.getResourceName(), () -> operation.createSteps(), () -> operation.createPacket(),
+            new ReleasingCompletionCallback(createCompletionCallback(), release));
+      } catch (RuntimeException e) {
+        release.run();
+        throw e;
+      }
     }
 
     abstract CompletionCallback createCompletionCallback();
   }
 
+  // Frees a make-right's place in the queue once it completes, before its own completion work
+  // starts any further make-rights.
+  private record ReleasingCompletionCallback(CompletionCallback callback, Runnable release)
+        implements CompletionCallback {
+
+    @Override
+    public void onCompletion(Packet packet) {
+      release.run();
+      callback.onCompletion(packet);
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      release.run();
+      callback.onThrowable(packet, throwable);
+    }
+  }
+
   private class ScheduledStatusUpdater {
     private final String namespace;
     private final String domainUid;
     private final OncePerMessageLoggingFilter loggingFilter;
+    private final Consumer<Packet> onDone;
     private int timeoutSeconds;
 
     ScheduledStatusUpdater withTimeoutSeconds(int timeoutSeconds) {
@@ -1223,10 +1314,12 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       return this;
     }
 
-    public ScheduledStatusUpdater(String namespace, String domainUid, OncePerMessageLoggingFilter loggingFilter) {
+    public ScheduledStatusUpdater(String namespace, String domainUid, OncePerMessageLoggingFilter loggingFilter,
+                                  Consumer<Packet> onDone) {
       this.namespace = namespace;
       this.domainUid = domainUid;
       this.loggingFilter = loggingFilter;
+      this.onDone = onDone;
     }
 
     @SuppressWarnings("try")
@@ -1240,6 +1333,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
                  = setThreadContext().namespace(getNamespace()).domainUid(getDomainUid())) {
           LOGGER.severe(MessageKeys.EXCEPTION, t);
         }
+        onDone.accept(null);
       }
     }
 
@@ -1268,7 +1362,7 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
       public @Nonnull Result apply(Packet packet) {
         Optional.ofNullable(domains.get(getNamespace()))
             .map(n -> n.get(getDomainUid()))
-            .ifPresent(i -> packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, i));
+            .ifPresent(i -> packet.putValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY, i));
 
         return doNext(packet);
       }
@@ -1284,12 +1378,14 @@ public class DomainProcessorImpl implements DomainProcessor, MakeRightExecutor {
         } else {
           loggingFilter.setFiltering(true);
         }
+        onDone.accept(packet);
       }
 
       @Override
       public void onThrowable(Packet packet, Throwable throwable) {
         logThrowable(throwable);
         loggingFilter.setFiltering(true);
+        onDone.accept(null);
       }
     }
   }
@@ -21,6 +21,7 @@ import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.helpers.EventHelper;
@@ -142,7 +143,8 @@ class DomainRecheck {
    * identified as domain namespaces.
    */
   Step readExistingNamespaces() {
-    return RequestBuilder.NAMESPACE.list(new NamespaceListResponseStep());
+    return RequestBuilder.NAMESPACE.list(
+        NamespacedResources.inPages(new ListOptions()), new NamespaceListResponseStep());
   }
 
   private class NamespaceListResponseStep extends DefaultResponseStep<V1NamespaceList> {
@@ -157,7 +159,7 @@ class DomainRecheck {
     @Override
     protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1NamespaceList> callResponse) {
       return useBackupStrategy(callResponse)
-            ? doNext(createStartNamespacesStep(Namespaces.getConfiguredDomainNamespaces()), packet)
+            ? doNext(createStartNamespacesStep(getConfiguredNamespacesInShard()), packet)
             : super.onFailureNoRetry(packet, callResponse);
     }
 
@@ -201,10 +203,21 @@ class DomainRecheck {
           .map(V1Namespace::getMetadata)
           .filter(Objects::nonNull)
           .map(V1ObjectMeta::getName)
+          .filter(DomainRecheck.this::isInShard)
           .collect(Collectors.toSet());
     }
   }
 
+  private Collection<String> getConfiguredNamespacesInShard() {
+    return Namespaces.getConfiguredDomainNamespaces().stream().filter(this::isInShard).toList();
+  }
+
+  // When the operator replicas share the namespaces, a replica manages only those assigned to it,
+  // and only once its claim to them has been confirmed.
+  private boolean isInShard(String ns) {
+    return NamespaceShards.getInstance().mayManage(ns);
+  }
+
   Step createStartNamespacesStep(Collection<String> domainNamespaces) {
     return RunInParallel.perNamespace(domainNamespaces, this::startNamespaceSteps);
   }
@@ -293,7 +306,7 @@ class DomainRecheck {
             startDetails.add(new Fiber.StepAndPacket(stepFactory.apply(ns), packet.copy()));
           }
         }
-        return doForkJoin(getNext(), packet, startDetails);
+        return doConcurrentForkJoin(getNext(), packet, startDetails);
       }
     }
   }
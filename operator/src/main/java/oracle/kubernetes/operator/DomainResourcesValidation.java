@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -50,14 +51,17 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_CR
 /**
  * A class to handle coordinating the operator with the actual resources in Kubernetes. This reviews lists
  * of pods and services to detect those which have been stranded by the deletion of a Domain, and ensures
- * that any domains which are found have the proper pods and services.
+ * that any domains which are found have the proper pods and services. Lists may be read in several pages; each page
+ * is folded into the domain presence information as it arrives, and only the names needed to detect deletions are kept
+ * until processing completes.
  */
 class DomainResourcesValidation {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final String namespace;
   private final DomainProcessor processor;
-  private ClusterList activeClusterResources;
+  private Map<String, ClusterResource> activeClusterResources;
+  private Set<String> listedDomainUids;
   private final Set<String> modifiedClusterNames = new HashSet<>();
   private final Set<String> newClusterNames = new HashSet<>();
   private final Set<String> modifiedDomainNames = new HashSet<>();
@@ -104,9 +108,10 @@ class DomainResourcesValidation {
       public void completeProcessing(Packet packet) {
         DomainProcessor dp = Optional.ofNullable((DomainProcessor)
             packet.get(ProcessingConstants.DOMAIN_PROCESSOR)).orElse(processor);
+        Optional.ofNullable(listedDomainUids).ifPresent(DomainResourcesValidation.this::updateDeletedDomainsInDPI);
         getStrandedDomainPresenceInfos(dp).forEach(info -> removeStrandedDomainPresenceInfo(dp, info));
         Optional.ofNullable(activeClusterResources).ifPresent(c -> getActiveDomainPresenceInfos()
-            .forEach(info -> adjustClusterResources(c, info)));
+            .forEach(info -> adjustClusterResources(c.values(), info)));
         executeMakeRightForClusterEvents(dp);
         getActiveDomainPresenceInfos().forEach(info -> activateDomain(dp, info));
         getDomainPresenceInfoMap().values().forEach(DomainResourcesValidation.this::removeDeletedPodsFromDPI);
@@ -127,11 +132,11 @@ class DomainResourcesValidation {
 
   @NotNull
   private List<ClusterResource> getActiveClusterResources() {
-    return Optional.ofNullable(activeClusterResources).map(ClusterList::getItems).orElse(new ArrayList<>());
+    return Optional.ofNullable(activeClusterResources).map(m -> new ArrayList<>(m.values())).orElse(new ArrayList<>());
   }
 
-  private void adjustClusterResources(ClusterList clusters, DomainPresenceInfo info) {
-    List<ClusterResource> resources = clusters.getItems().stream()
+  private void adjustClusterResources(Collection<ClusterResource> clusters, DomainPresenceInfo info) {
+    List<ClusterResource> resources = clusters.stream()
         .filter(c -> isForDomain(c, info)).toList();
     info.adjustClusterResources(resources);
   }
@@ -210,14 +215,14 @@ class DomainResourcesValidation {
   }
 
   private void addDomainList(DomainList list) {
-    getDomainPresenceInfoMap().values().forEach(dpi -> updateDeletedDomainsInDPI(list));
+    if (listedDomainUids == null) {
+      listedDomainUids = new HashSet<>();
+    }
+    list.getItems().stream().map(DomainResource::getDomainUid).forEach(listedDomainUids::add);
     list.getItems().forEach(this::addDomain);
   }
 
-  private void updateDeletedDomainsInDPI(DomainList list) {
-    Collection<String> domainNamesFromList = list.getItems().stream()
-        .map(DomainResource::getDomainUid).toList();
-
+  private void updateDeletedDomainsInDPI(Collection<String> domainNamesFromList) {
     getDomainPresenceInfoMap().values().stream()
         .filter(dpi -> !domainNamesFromList.contains(dpi.getDomainUid()))
         .filter(dpi -> isNotBeingProcessed(dpi.getNamespace(), dpi.getDomainUid()))
@@ -246,7 +251,10 @@ class DomainResourcesValidation {
   }
 
   private void addClusterList(ClusterList list) {
-    activeClusterResources = list;
+    if (activeClusterResources == null) {
+      activeClusterResources = new LinkedHashMap<>();
+    }
+    list.getItems().forEach(c -> activeClusterResources.put(getClusterName(c), c));
     list.getItems().forEach(this::addCluster);
   }
 
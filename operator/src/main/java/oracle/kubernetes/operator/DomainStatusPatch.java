@@ -0,0 +1,130 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.io.StringReader;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonPatchBuilder;
+import jakarta.json.JsonStructure;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * Creates a JSON patch which changes the status of a domain resource to a new value. The patch contains only the
+ * operations needed for the change, preceded by a test of the resource version from which it was computed, so that
+ * Kubernetes rejects it if the domain has changed since it was read. A patch is only created if applying it to the
+ * current status yields the new one; otherwise the whole status must be replaced.
+ */
+final class DomainStatusPatch {
+
+  private static final Gson GSON = new JSON().getGson();
+
+  // Volatile fields hold operator state which is not part of the domain schema, and so is never written.
+  private static final Gson PERSISTED = GSON.newBuilder()
+        .excludeFieldsWithModifiers(Modifier.STATIC, Modifier.TRANSIENT, Modifier.VOLATILE)
+        .create();
+  private static final String RESOURCE_VERSION_PATH = "/metadata/resourceVersion";
+
+  private DomainStatusPatch() {
+  }
+
+  /**
+   * Returns a patch to change the status of the specified domain, or null if none can be created.
+   * @param domain the domain, with its current status
+   * @param oldStatus the current status of the domain
+   * @param newStatus the desired status
+   */
+  @Nullable
+  static V1Patch create(DomainResource domain, @Nullable DomainStatus oldStatus, DomainStatus newStatus) {
+    final String resourceVersion = Optional.ofNullable(domain.getMetadata())
+          .map(V1ObjectMeta::getResourceVersion).orElse(null);
+    final JsonPatchBuilder builder = Json.createPatchBuilder();
+    Optional.ofNullable(resourceVersion).ifPresent(v -> builder.test(RESOURCE_VERSION_PATH, v));
+    newStatus.createPatchFrom(builder, oldStatus);
+    final JsonPatch patch = builder.build();
+
+    return yieldsStatus(patch, resourceVersion, oldStatus, newStatus) ? new V1Patch(patch.toString()) : null;
+  }
+
+  // Applies the patch to a copy of the current status, and compares the result with the desired one.
+  private static boolean yieldsStatus(
+        JsonPatch patch, String resourceVersion, DomainStatus oldStatus, DomainStatus newStatus) {
+    try {
+      final DomainResource patched = fromJson(patch.apply(toJson(resourceVersion, oldStatus)));
+      return isEquivalent(PERSISTED.toJsonTree(patched.getStatus()), PERSISTED.toJsonTree(newStatus));
+    } catch (JsonException | JsonParseException e) {
+      return false;
+    }
+  }
+
+  private static JsonStructure toJson(String resourceVersion, DomainStatus status) {
+    final DomainResource domain = new DomainResource()
+          .withMetadata(new V1ObjectMeta().resourceVersion(resourceVersion)).withStatus(status);
+    return Json.createReader(new StringReader(GSON.toJson(domain))).read();
+  }
+
+  private static DomainResource fromJson(JsonStructure json) {
+    return GSON.fromJson(json.toString(), DomainResource.class);
+  }
+
+  // The order of the entries in the status lists has no meaning, and the patch appends any new entries.
+  private static boolean isEquivalent(JsonElement first, JsonElement second) {
+    if (first instanceof JsonObject firstObject && second instanceof JsonObject secondObject) {
+      return isEquivalent(firstObject, secondObject);
+    } else if (first instanceof JsonArray firstArray && second instanceof JsonArray secondArray) {
+      return isEquivalent(firstArray, secondArray);
+    } else {
+      return first.equals(second);
+    }
+  }
+
+  private static boolean isEquivalent(JsonObject first, JsonObject second) {
+    if (!first.keySet().equals(second.keySet())) {
+      return false;
+    }
+    for (Map.Entry<String, JsonElement> entry : first.entrySet()) {
+      if (!isEquivalent(entry.getValue(), second.get(entry.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isEquivalent(JsonArray first, JsonArray second) {
+    final List<JsonElement> unmatched = new ArrayList<>(second.asList());
+    for (JsonElement element : first) {
+      if (!removeEquivalent(unmatched, element)) {
+        return false;
+      }
+    }
+    return unmatched.isEmpty();
+  }
+
+  private static boolean removeEquivalent(List<JsonElement> elements, JsonElement element) {
+    for (int i = 0; i < elements.size(); i++) {
+      if (isEquivalent(elements.get(i), element)) {
+        elements.remove(i);
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -20,6 +20,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -82,7 +83,7 @@ import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.TO_BE_ROLLED_LABEL;
 import static oracle.kubernetes.operator.MIINonDynamicChangesMethod.COMMIT_UPDATE_ONLY;
-import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY_KEY;
 import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE;
 import static oracle.kubernetes.operator.ProcessingConstants.MII_DYNAMIC_UPDATE_RESTART_REQUIRED;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
@@ -374,7 +375,7 @@ public class DomainStatusUpdater {
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<DomainResource> callResponse) {
       if (callResponse.getObject() != null) {
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+        DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
         info.setDomain(callResponse.getObject());
       }
       return doNext(createClusterResourceStatusUpdaterStep(getNext()), packet);
@@ -398,11 +399,34 @@ public class DomainStatusUpdater {
     }
   }
 
+  // A failed status patch is retried as a replacement of the whole status, unless the domain no longer exists.
+  static class StatusPatchResponseStep extends StatusReplaceResponseStep {
+    private final DomainStatusUpdaterContext context;
+    private final DomainStatus status;
+
+    StatusPatchResponseStep(DomainStatusUpdaterStep updaterStep, DomainStatusUpdaterContext context,
+                            DomainStatus status) {
+      super(updaterStep, context, null);
+      this.context = context;
+      this.status = status;
+    }
+
+    @Override
+    public Result onFailure(Packet packet, KubernetesApiResponse<DomainResource> callResponse) {
+      if (callResponse.getHttpStatusCode() == HTTP_NOT_FOUND) {
+        return super.onFailure(packet, callResponse);
+      }
+
+      LOGGER.fine("Unable to patch status of domain " + context.getDomainUid() + "; replacing it");
+      return doNext(Step.chain(context.createReplaceStatusStep(status), getNext()), packet);
+    }
+  }
+
   static class DomainUpdateStep extends ResponseStep<DomainResource> {
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<DomainResource> callResponse) {
       if (callResponse.getObject() != null) {
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+        DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
         info.setDomain(callResponse.getObject());
       }
       return doNext(packet);
@@ -498,7 +522,7 @@ public class DomainStatusUpdater {
         status.setObservedGeneration(oldDomain.getMetadata().getGeneration());
       }
 
-      return getCallStep(oldDomain, status);
+      return getCallStep(oldDomain, oldDomain.getStatus(), status);
     }
 
     Step createDomainStatusObservedGenerationReplaceStep() {
@@ -506,20 +530,33 @@ public class DomainStatusUpdater {
       DomainStatus status = oldDomain.getStatus();
 
       if (isGenerationChanged(oldDomain, status)) {
+        DomainStatus oldStatus = new DomainStatus(status);
         // Only set observedGeneration during a make-right, but not during a background status update
         status.setObservedGeneration(getDomainGeneration(oldDomain));
 
-        return getCallStep(oldDomain, status);
+        return getCallStep(oldDomain, oldStatus, status);
       }
 
       return null;
     }
 
-    private Step getCallStep(DomainResource oldDomain, DomainStatus status) {
+    // Sends only the changes to the status, if possible, rather than replacing all of it.
+    private Step getCallStep(DomainResource oldDomain, DomainStatus oldStatus, DomainStatus status) {
+      return Optional.ofNullable(DomainStatusPatch.create(oldDomain, oldStatus, status))
+          .map(patch -> createPatchStatusStep(patch, status))
+          .orElseGet(() -> createReplaceStatusStep(status));
+    }
+
+    private Step createPatchStatusStep(V1Patch patch, DomainStatus status) {
+      return RequestBuilder.DOMAIN.patchStatus(getNamespace(), getDomainName(), patch,
+          new StatusPatchResponseStep(domainStatusUpdaterStep, this, status));
+    }
+
+    private Step createReplaceStatusStep(DomainStatus status) {
       DomainResource newDomain = new DomainResource()
           .withKind(KubernetesConstants.DOMAIN)
           .withApiVersion(KubernetesConstants.API_VERSION_WEBLOGIC_ORACLE)
-          .withMetadata(oldDomain.getMetadata())
+          .withMetadata(getMetadata())
           .withSpec(null)
           .withStatus(status);
 
@@ -651,14 +688,14 @@ public class DomainStatusUpdater {
     }
 
     private boolean shouldSkipDomainStatusUpdate(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       return info.getServerStartupInfo() == null
           && info.clusterStatusInitialized()
           && !endOfProcessing;
     }
 
     private boolean isDomainNotPresent(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       return info == null || info.getDomain() == null;
     }
 
@@ -672,7 +709,7 @@ public class DomainStatusUpdater {
       StatusUpdateContext(Packet packet, StatusUpdateStep statusUpdateStep) {
         super(packet, statusUpdateStep);
         this.packet = packet;
-        config = packet.getValue(DOMAIN_TOPOLOGY);
+        config = packet.getValue(DOMAIN_TOPOLOGY_KEY);
         serverState = packet.getValue(SERVER_STATE_MAP);
         serverHealth = packet.getValue(SERVER_HEALTH_MAP);
         expectedRunningServers = getInfo().getExpectedRunningServers();
@@ -696,7 +733,7 @@ public class DomainStatusUpdater {
           setStatusDetails(status);
         }
         if (getDomain() != null) {
-          DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+          DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
           updateStatusDetails(status, info);
           setStatusConditions(status);
         }
@@ -14,6 +14,7 @@ public interface LabelConstants {
   String CREATEDBYOPERATOR_LABEL = "weblogic.createdByOperator";
   String CREATEDBY_CONVERSION_WEBHOOK_LABEL = "weblogic.createdByConversionWebhook";
   String OPERATORNAME_LABEL = "weblogic.operatorName";
+  String OPERATOR_SHARD_LABEL = "weblogic.operatorShard";
   String JOBNAME_LABEL = "job-name";
   String APP_LABEL = "app";
   String DOMAINRESTARTVERSION_LABEL = "weblogic.domainRestartVersion";
@@ -0,0 +1,162 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Cancellable;
+
+/**
+ * Combines the make-right requests which pod watch events make for a domain. A request is held until no further
+ * request for the domain has arrived for the "makeRightDebounceMillis" tuning parameter, and then until any
+ * make-right of the domain which is already running has finished, so that a burst of pod events, such as those
+ * of a rolling restart, leads to a single make-right rather than to one which replaces the running make-right
+ * for each event. No request is held for longer than the "makeRightMaxDebounceSeconds" tuning parameter; once
+ * that time has passed, its make-right starts even if it must replace a running one.
+ */
+class MakeRightDebouncer {
+
+  private final CoreDelegate delegate;
+  private final Predicate<DomainPresenceInfo> isMakeRightRunning;
+  private final Consumer<DomainPresenceInfo> makeRight;
+  private final Map<String, HeldRequest> heldRequests = new HashMap<>();
+  private final AtomicLong numRequests = new AtomicLong();
+  private final AtomicLong numStarts = new AtomicLong();
+
+  /**
+   * Creates a debouncer.
+   * @param delegate the delegate used to schedule the end of each hold
+   * @param isMakeRightRunning returns true if a make-right of the specified domain is running
+   * @param makeRight starts a make-right of the specified domain
+   */
+  MakeRightDebouncer(CoreDelegate delegate, Predicate<DomainPresenceInfo> isMakeRightRunning,
+                     Consumer<DomainPresenceInfo> makeRight) {
+    this.delegate = delegate;
+    this.isMakeRightRunning = isMakeRightRunning;
+    this.makeRight = makeRight;
+  }
+
+  /**
+   * Requests a make-right of the specified domain.
+   * @param info the presence info of the domain
+   */
+  void request(DomainPresenceInfo info) {
+    numRequests.incrementAndGet();
+    OperatorMetrics.recordMakeRightTrigger(info.getNamespace());
+    if (getDebounceMillis() <= 0) {
+      start(info);
+    } else {
+      hold(info);
+    }
+  }
+
+  private synchronized void hold(DomainPresenceInfo info) {
+    final HeldRequest request = heldRequests.computeIfAbsent(getKey(info), HeldRequest::new);
+    request.info = info;
+    request.waitFor(getDebounceMillis());
+  }
+
+  /**
+   * Discards the requests held for the domains in a namespace which is no longer managed.
+   * @param namespace the namespace
+   */
+  synchronized void discardNamespace(String namespace) {
+    heldRequests.values().stream().filter(request -> namespace.equals(request.info.getNamespace())).toList()
+          .forEach(this::discard);
+  }
+
+  private void discard(HeldRequest request) {
+    heldRequests.remove(request.key);
+    request.cancelTimers();
+  }
+
+  private void endHold(HeldRequest request, boolean overdue, int wait) {
+    if (release(request, overdue, wait)) {
+      start(request.info);
+    }
+  }
+
+  // Returns true if the specified request has been released so that its make-right may start. A wait which has since
+  // been replaced by a later one does not release the request; nor does one which ends while a make-right is running,
+  // unless the request is overdue; in that case, the request waits again.
+  private synchronized boolean release(HeldRequest request, boolean overdue, int wait) {
+    if (heldRequests.get(request.key) != request || (!overdue && wait != request.numWaits)) {
+      return false;
+    } else if (!overdue && isMakeRightRunning.test(request.info)) {
+      request.waitFor(getDebounceMillis());
+      return false;
+    }
+
+    heldRequests.remove(request.key);
+    request.cancelTimers();
+    return true;
+  }
+
+  private void start(DomainPresenceInfo info) {
+    numStarts.incrementAndGet();
+    OperatorMetrics.recordTriggeredMakeRightStart(info.getNamespace());
+    makeRight.accept(info);
+  }
+
+  /** Returns the number of make-right requests received. */
+  long getNumRequests() {
+    return numRequests.get();
+  }
+
+  /** Returns the number of make-rights started to satisfy the requests received. */
+  long getNumStarts() {
+    return numStarts.get();
+  }
+
+  /** Returns the number of domains with held requests. */
+  synchronized int getNumHeldRequests() {
+    return heldRequests.size();
+  }
+
+  private static String getKey(DomainPresenceInfo info) {
+    return info.getNamespace() + "/" + info.getDomainUid();
+  }
+
+  private static int getDebounceMillis() {
+    return TuningParameters.getInstance().getMakeRightDebounceMillis();
+  }
+
+  private static int getMaxDebounceSeconds() {
+    return TuningParameters.getInstance().getMakeRightMaxDebounceSeconds();
+  }
+
+  private class HeldRequest {
+    private final String key;
+    private final Cancellable deadline;
+    private DomainPresenceInfo info;
+    private Cancellable pending;
+    private int numWaits;
+
+    HeldRequest(String key) {
+      this.key = key;
+      deadline = delegate.schedule(() -> endHold(this, true, 0), getMaxDebounceSeconds(), TimeUnit.SECONDS);
+    }
+
+    // schedules the end of the hold after the specified delay, replacing any wait already scheduled
+    void waitFor(long delayMillis) {
+      Optional.ofNullable(pending).ifPresent(Cancellable::cancel);
+      final int wait = ++numWaits;
+      pending = delegate.schedule(() -> endHold(this, false, wait), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void cancelTimers() {
+      deadline.cancel();
+      Optional.ofNullable(pending).ifPresent(Cancellable::cancel);
+    }
+  }
+}
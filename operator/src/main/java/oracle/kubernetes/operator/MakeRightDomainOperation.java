@@ -109,7 +109,7 @@ public interface MakeRightDomainOperation extends MakeRightOperation<DomainPrese
    * @return true, if the domain requires introspection
    */
   private static boolean domainRequiresIntrospectionInCurrentMakeRight(Packet packet) {
-    return Optional.ofNullable((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO))
+    return Optional.ofNullable(packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY))
         .map(DomainPresenceInfo::getDomain)
         .map(DomainResource::isNewIntrospectionRequiredForNewServers)
         .orElse(false);
@@ -37,6 +37,7 @@ public interface MakeRightExecutor {
     resources.addProcessing(processors);
     if (domainNamespaces != null) {
       resources.addProcessing(domainNamespaces.createWatcherResumeProcessing(info.getNamespace()));
+      resources.addProcessing(new ResourceCacheProcessing(info.getNamespace(), info.getDomainUid()));
     }
     return resources.createListSteps();
   }
@@ -0,0 +1,187 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+/**
+ * Decides when each make-right may start its fiber. No more make-rights run at once than the
+ * "makeRightConcurrencyLimit" tuning parameter allows; the others wait, highest priority first and, within a
+ * priority, with namespaces taking turns, so that one namespace with many domains cannot hold up the others.
+ *
+ * <p>A resource has at most one waiting make-right: a newer request replaces the one already waiting, keeping
+ * its place in line unless the newer request has a higher priority. A request for a resource whose make-right is
+ * already running starts at once, so that it replaces the running fiber as it did before make-rights were queued.
+ */
+class MakeRightQueue {
+
+  enum Priority {
+    /** Make-rights started by a change to a domain or cluster resource, usually by a user. */
+    SPEC_CHANGE,
+    /** Make-rights started by changes to the resources which the operator manages, such as pods. */
+    WATCH_EVENT,
+    /** Periodic and retry make-rights, which may wait. */
+    RECHECK;
+
+    String getLabel() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final Map<Priority, Map<String, Map<String, Entry>>> lanes = new EnumMap<>(Priority.class);
+  private final Map<String, Long> running = new HashMap<>();
+  private long lastGeneration;
+
+  MakeRightQueue() {
+    for (Priority priority : Priority.values()) {
+      lanes.put(priority, new LinkedHashMap<>());
+      OperatorMetrics.setMakeRightQueueDepthSource(priority.getLabel(), () -> getNumWaiting(priority));
+    }
+  }
+
+  /**
+   * Asks to start a make-right. Once it may run, the start function is called with a release function,
+   * which must be called when the make-right completes to allow another make-right to start.
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   * @param priority the priority of the make-right
+   * @param start a function which starts the make-right
+   */
+  void submit(String namespace, String name, Priority priority, Starter start) {
+    final List<Runnable> starts = new ArrayList<>();
+    synchronized (this) {
+      final String key = toKey(namespace, name);
+      if (running.containsKey(key)) {
+        starts.add(admit(key, start));
+      } else {
+        enqueue(new Entry(namespace, key, priority, start));
+        admitWaiting(starts);
+      }
+    }
+    starts.forEach(Runnable::run);
+  }
+
+  private void enqueue(Entry entry) {
+    for (Priority priority : Priority.values()) {
+      final Entry waiting = lanes.get(priority).getOrDefault(entry.namespace, Map.of()).get(entry.key);
+      if (waiting != null) {
+        if (waiting.priority.compareTo(entry.priority) <= 0) {
+          waiting.start = entry.start;
+          return;
+        }
+        removeEntry(waiting);
+        entry.queuedNanos = waiting.queuedNanos;
+        break;
+      }
+    }
+    lanes.get(entry.priority).computeIfAbsent(entry.namespace, ns -> new LinkedHashMap<>()).put(entry.key, entry);
+  }
+
+  private void removeEntry(Entry entry) {
+    final Map<String, Map<String, Entry>> lane = lanes.get(entry.priority);
+    final Map<String, Entry> entries = lane.get(entry.namespace);
+    entries.remove(entry.key);
+    if (entries.isEmpty()) {
+      lane.remove(entry.namespace);
+    }
+  }
+
+  // Admits as many waiting make-rights as the limit allows, adding the functions which start them to the list
+  private void admitWaiting(List<Runnable> starts) {
+    Entry next;
+    while (!isAtLimit() && (next = pollNext()) != null) {
+      OperatorMetrics.recordMakeRightQueueWait(next.priority.getLabel(), next.queuedNanos);
+      starts.add(admit(next.key, next.start));
+    }
+  }
+
+  // Takes the first waiting make-right from the first namespace of the highest non-empty priority,
+  // and moves that namespace to the end of the line.
+  private Entry pollNext() {
+    for (Map<String, Map<String, Entry>> lane : lanes.values()) {
+      final Iterator<Map.Entry<String, Map<String, Entry>>> namespaces = lane.entrySet().iterator();
+      if (namespaces.hasNext()) {
+        final Map.Entry<String, Map<String, Entry>> first = namespaces.next();
+        namespaces.remove();
+        final Iterator<Entry> entries = first.getValue().values().iterator();
+        final Entry entry = entries.next();
+        entries.remove();
+        if (!first.getValue().isEmpty()) {
+          lane.put(first.getKey(), first.getValue());
+        }
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private boolean isAtLimit() {
+    final int limit = TuningParameters.getInstance().getMakeRightConcurrencyLimit();
+    return limit > 0 && running.size() >= limit;
+  }
+
+  // Records a make-right as running. A make-right which replaces a running one takes over its slot.
+  private Runnable admit(String key, Starter start) {
+    final long generation = ++lastGeneration;
+    running.put(key, generation);
+    return () -> start.start(() -> release(key, generation));
+  }
+
+  private void release(String key, long generation) {
+    final List<Runnable> starts = new ArrayList<>();
+    synchronized (this) {
+      if (running.remove(key, generation)) {
+        admitWaiting(starts);
+      }
+    }
+    starts.forEach(Runnable::run);
+  }
+
+  private static String toKey(String namespace, String name) {
+    return namespace + "/" + name;
+  }
+
+  synchronized int getNumRunning() {
+    return running.size();
+  }
+
+  synchronized int getNumWaiting(Priority priority) {
+    return lanes.get(priority).values().stream().mapToInt(Map::size).sum();
+  }
+
+  /** A function which starts a make-right. */
+  interface Starter {
+
+    /**
+     * Starts a make-right.
+     * @param release a function to call when the make-right completes
+     */
+    void start(Runnable release);
+  }
+
+  private static class Entry {
+    private final String namespace;
+    private final String key;
+    private final Priority priority;
+    private Starter start;
+    private long queuedNanos = System.nanoTime();
+
+    Entry(String namespace, String key, Priority priority, Starter start) {
+      this.namespace = namespace;
+      this.key = key;
+      this.priority = priority;
+      this.start = start;
+    }
+  }
+}
@@ -0,0 +1,374 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import io.kubernetes.client.util.generic.options.ListOptions;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+import static oracle.kubernetes.operator.LabelConstants.OPERATORNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.OPERATOR_SHARD_LABEL;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorPodName;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorPodUID;
+
+/**
+ * Divides the domain namespaces among the replicas of the operator, when the "namespaceShardingEnabled" tuning
+ * parameter is set. Each replica holds a Lease in the operator namespace, which it renews periodically, and reads
+ * the leases of the others; the replicas whose leases have not expired share the namespaces by consistent hashing.
+ * Expiry of another replica's lease is judged by when this replica last saw the lease change, as with leader
+ * election in client-go, so that the clocks of the replicas need not agree. A replica which has not renewed its
+ * own lease within its duration treats itself as expired, and manages no namespaces until it renews the lease.
+ * Each lease is owned by the pod of its replica, so that Kubernetes deletes it once that pod is gone, and replicas
+ * which start later never see the leases of replicas which have already been removed.
+ *
+ * <p>A replica's lease also lists the namespaces it claims: those it manages, those in which it still has
+ * make-rights running, and those assigned to it which it has been asked to start. A replica starts a namespace
+ * only once it has published its claim, and a later read of the leases shows no other replica claiming the
+ * namespace. As a replica claims a namespace before it starts it, and keeps the claim until it has stopped it and
+ * finished any make-rights already running in it, no two replicas can manage a namespace at once.
+ */
+public class NamespaceShards {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final String LEASE_NAME_PREFIX = "weblogic-operator-shard-";
+  static final String CLAIMED_NAMESPACES_ANNOTATION = "weblogic.claimedNamespaces";
+  private static final String DEFAULT_IDENTITY = "weblogic-operator";
+
+  // tests may replace this value
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static NamespaceShards instance = new NamespaceShards();
+
+  private final String identity;
+  private final Map<String, Observation> observations = new HashMap<>();
+  private final Map<String, OffsetDateTime> wanted = new ConcurrentHashMap<>();
+  private volatile ShardRing ring = new ShardRing(List.of());
+  private volatile Map<String, Set<String>> otherClaims = Map.of();
+  private volatile Set<String> published = Set.of();
+  private volatile Set<String> confirmed = Set.of();
+  private volatile OffsetDateTime lastRenewed;
+
+  NamespaceShards() {
+    this(Optional.ofNullable(getOperatorPodName()).filter(n -> !n.isEmpty()).orElse(DEFAULT_IDENTITY));
+  }
+
+  NamespaceShards(String identity) {
+    this.identity = identity;
+  }
+
+  public static NamespaceShards getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns true if the operator shares the domain namespaces with other replicas. Sharding does not apply when the
+   * operator manages only its own namespace.
+   */
+  static boolean isEnabled() {
+    return TuningParameters.getInstance().isNamespaceShardingEnabled()
+        && Namespaces.getSelectionStrategy() != Namespaces.SelectionStrategy.DEDICATED;
+  }
+
+  /**
+   * Returns true if this replica has not renewed its lease within the lease duration, and so must assume that
+   * the other replicas have taken over its namespaces.
+   */
+  boolean isFenced() {
+    return isEnabled() && Optional.ofNullable(lastRenewed)
+        .map(renewed -> !renewed.plusSeconds(getLeaseDurationSeconds()).isAfter(SystemClock.now()))
+        .orElse(true);
+  }
+
+  /**
+   * Returns true if the specified namespace is assigned to this replica. Until this replica has renewed its lease,
+   * and while that lease has expired, no namespace is assigned to it.
+   * @param namespace the name of a namespace
+   */
+  boolean isAssigned(String namespace) {
+    return !isEnabled() || (!isFenced() && identity.equals(ring.getOwner(namespace)));
+  }
+
+  /**
+   * Returns true if another replica claims the specified namespace.
+   * @param namespace the name of a namespace
+   */
+  boolean isClaimedByOther(String namespace) {
+    return isEnabled() && otherClaims.values().stream().anyMatch(claims -> claims.contains(namespace));
+  }
+
+  /**
+   * Returns true if this replica is managing, or may start managing, the specified namespace: it is assigned to
+   * this replica, and this replica's claim to it has been confirmed. An assigned namespace whose claim is not yet
+   * confirmed is claimed at the next renewal of the lease, and may be started once a later renewal confirms it.
+   * @param namespace the name of a namespace
+   */
+  boolean mayManage(String namespace) {
+    if (!isEnabled()) {
+      return true;
+    } else if (!isAssigned(namespace)) {
+      return false;
+    }
+
+    wanted.put(namespace, SystemClock.now());
+    return confirmed.contains(namespace);
+  }
+
+  /**
+   * Returns true if this replica may continue to run make-rights in the specified namespace. Unlike
+   * {@link #mayManage(String)}, does not ask to claim the namespace.
+   * @param namespace the name of a namespace
+   */
+  boolean isManaging(String namespace) {
+    return !isEnabled() || (isAssigned(namespace) && confirmed.contains(namespace));
+  }
+
+  Set<String> getMembers() {
+    return ring.getMembers();
+  }
+
+  String getLeaseName() {
+    return LEASE_NAME_PREFIX + identity;
+  }
+
+  /**
+   * Creates steps to read the leases of all replicas, and to renew the lease of this one.
+   * @param claimedNamespaces a function which returns the namespaces which this replica is managing,
+   *                          or in which it is still working
+   * @param onChange a function to run when the replicas, the namespaces claimed by others,
+   *                 or the namespaces which this replica may start, change
+   */
+  Step createRenewSteps(Supplier<Collection<String>> claimedNamespaces, Runnable onChange) {
+    return RequestBuilder.LEASE.list(getOperatorNamespace(),
+        new ListOptions().labelSelector(OPERATOR_SHARD_LABEL + "=true"),
+        new LeaseListResponseStep(claimedNamespaces, onChange));
+  }
+
+  private boolean isOwn(V1Lease lease) {
+    return getLeaseName().equals(getName(lease));
+  }
+
+  private static String getName(V1Lease lease) {
+    return Optional.ofNullable(lease.getMetadata()).map(V1ObjectMeta::getName).orElse("");
+  }
+
+  private static String getHolder(V1Lease lease) {
+    return Optional.ofNullable(lease.getSpec()).map(V1LeaseSpec::getHolderIdentity).orElse(getName(lease));
+  }
+
+  // A lease is live if this replica has seen it change within its duration.
+  private boolean isLive(V1Lease lease, OffsetDateTime now) {
+    final Observation observation = observations.get(getName(lease));
+    return observation != null && observation.observedAt().plusSeconds(getDurationSeconds(lease)).isAfter(now);
+  }
+
+  // Records when each lease was first seen in its current version.
+  private void observe(List<V1Lease> leases, OffsetDateTime now) {
+    final Map<String, Observation> current = new HashMap<>();
+    for (V1Lease lease : leases) {
+      final String version = getVersion(lease);
+      current.put(getName(lease), Optional.ofNullable(observations.get(getName(lease)))
+          .filter(o -> Objects.equals(o.version(), version))
+          .orElse(new Observation(version, now)));
+    }
+    observations.clear();
+    observations.putAll(current);
+  }
+
+  private static String getVersion(V1Lease lease) {
+    return Optional.ofNullable(lease.getMetadata()).map(V1ObjectMeta::getResourceVersion)
+        .orElseGet(() -> Optional.ofNullable(lease.getSpec()).map(V1LeaseSpec::getRenewTime)
+            .map(OffsetDateTime::toString).orElse(null));
+  }
+
+  private static int getDurationSeconds(V1Lease lease) {
+    return Optional.ofNullable(lease.getSpec()).map(V1LeaseSpec::getLeaseDurationSeconds)
+        .orElse(getLeaseDurationSeconds());
+  }
+
+  private static int getLeaseDurationSeconds() {
+    return TuningParameters.getInstance().getNamespaceShardLeaseDurationSeconds();
+  }
+
+  private static Set<String> getClaims(V1Lease lease) {
+    return Optional.ofNullable(lease.getMetadata())
+        .map(V1ObjectMeta::getAnnotations)
+        .map(annotations -> annotations.get(CLAIMED_NAMESPACES_ANNOTATION))
+        .map(value -> Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()))
+        .map(names -> names.collect(Collectors.toCollection(TreeSet::new)))
+        .map(Collections::unmodifiableSet)
+        .orElse(Collections.emptySet());
+  }
+
+  // Records the replicas with live leases, and the namespaces they claim. Returns true if either has changed.
+  private boolean updateMembership(List<V1Lease> otherLiveLeases) {
+    final Map<String, Set<String>> claims = new HashMap<>();
+    otherLiveLeases.forEach(lease -> claims.put(getHolder(lease), getClaims(lease)));
+    final Set<String> members = new TreeSet<>(claims.keySet());
+    members.add(identity);
+
+    final boolean membersChanged = !members.equals(ring.getMembers());
+    final boolean claimsChanged = !claims.equals(otherClaims);
+    if (membersChanged) {
+      ring = new ShardRing(members);
+      LOGGER.info(MessageKeys.SHARD_MEMBERS_CHANGED, String.join(", ", members));
+    }
+    otherClaims = Map.copyOf(claims);
+    return membersChanged || claimsChanged;
+  }
+
+  // A published claim is confirmed once the leases, read after it was published, show that no other replica
+  // claims the namespace. A confirmed claim remains so while the namespace is assigned to this replica,
+  // as any other replica will defer to it. Returns true if any claims have newly been confirmed.
+  private boolean updateConfirmedClaims() {
+    final Set<String> newlyConfirmed = published.stream()
+        .filter(this::isAssigned)
+        .filter(ns -> confirmed.contains(ns) || !isClaimedByOther(ns))
+        .collect(Collectors.toCollection(TreeSet::new));
+    final boolean grown = !confirmed.containsAll(newlyConfirmed);
+    confirmed = Collections.unmodifiableSet(newlyConfirmed);
+    return grown;
+  }
+
+  // The namespaces which this replica has been asked to start recently, and which it may claim: those whose claims
+  // are already confirmed, and those which no other replica claims.
+  private Set<String> getWantedClaims(OffsetDateTime now) {
+    wanted.entrySet().removeIf(e -> !e.getValue().plusSeconds(2L * getLeaseDurationSeconds()).isAfter(now));
+    return wanted.keySet().stream().filter(this::isAssigned)
+        .filter(ns -> confirmed.contains(ns) || !isClaimedByOther(ns))
+        .collect(Collectors.toSet());
+  }
+
+  private V1Lease createLease(Collection<String> claimedNamespaces) {
+    final V1Lease lease = new V1Lease()
+        .metadata(new V1ObjectMeta()
+            .namespace(getOperatorNamespace())
+            .name(getLeaseName())
+            .putLabelsItem(OPERATORNAME_LABEL, getOperatorNamespace())
+            .putLabelsItem(OPERATOR_SHARD_LABEL, "true"))
+        .spec(new V1LeaseSpec().acquireTime(SystemClock.now()));
+    Optional.ofNullable(createOwnerReference()).ifPresent(lease.getMetadata()::addOwnerReferencesItem);
+    return renew(lease, claimedNamespaces);
+  }
+
+  // makes the operator pod own the lease, so that Kubernetes deletes the lease along with the pod
+  private V1OwnerReference createOwnerReference() {
+    final String uid = getOperatorPodUID();
+    if (uid.isEmpty()) {
+      return null;
+    }
+    return new V1OwnerReference()
+        .apiVersion("v1")
+        .kind("Pod")
+        .name(getOperatorPodName())
+        .uid(uid);
+  }
+
+  private V1Lease renew(V1Lease lease, Collection<String> claimedNamespaces) {
+    lease.getMetadata().putAnnotationsItem(CLAIMED_NAMESPACES_ANNOTATION, String.join(",", claimedNamespaces));
+    if (lease.getSpec() == null) {
+      lease.setSpec(new V1LeaseSpec());
+    }
+    lease.getSpec()
+        .holderIdentity(identity)
+        .renewTime(SystemClock.now())
+        .leaseDurationSeconds(getLeaseDurationSeconds());
+    return lease;
+  }
+
+  private record Observation(String version, OffsetDateTime observedAt) {
+  }
+
+  private class LeaseListResponseStep extends DefaultResponseStep<V1LeaseList> {
+    private final Supplier<Collection<String>> claimedNamespaces;
+    private final Runnable onChange;
+
+    LeaseListResponseStep(Supplier<Collection<String>> claimedNamespaces, Runnable onChange) {
+      this.claimedNamespaces = claimedNamespaces;
+      this.onChange = onChange;
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1LeaseList> callResponse) {
+      final OffsetDateTime now = SystemClock.now();
+      final List<V1Lease> leases = Optional.ofNullable(callResponse.getObject())
+          .map(V1LeaseList::getItems).orElse(List.of());
+      final V1Lease ownLease = leases.stream().filter(NamespaceShards.this::isOwn).findFirst().orElse(null);
+      final List<V1Lease> otherLeases = leases.stream().filter(lease -> !isOwn(lease)).toList();
+      final boolean changed;
+      synchronized (NamespaceShards.this) {
+        observe(otherLeases, now);
+        changed = updateMembership(otherLeases.stream().filter(lease -> isLive(lease, now)).toList())
+            | updateConfirmedClaims();
+      }
+
+      final Set<String> claims = new TreeSet<>(claimedNamespaces.get());
+      claims.addAll(getWantedClaims(now));
+
+      // the renewal is timed from before the write, so that this replica's lease expires for it no later
+      // than it does for the replicas which see the write
+      final LeaseWriteResponseStep writeResponse = new LeaseWriteResponseStep(now, claims);
+      final Step writeLease = ownLease == null
+          ? RequestBuilder.LEASE.create(createLease(claims), writeResponse)
+          : RequestBuilder.LEASE.update(renew(ownLease, claims), writeResponse);
+      if (changed) {
+        onChange.run();
+      }
+      return doNext(writeLease, packet);
+    }
+  }
+
+  private class LeaseWriteResponseStep extends ResponseStep<V1Lease> {
+    private final OffsetDateTime renewalStart;
+    private final Set<String> claims;
+
+    LeaseWriteResponseStep(OffsetDateTime renewalStart, Set<String> claims) {
+      this.renewalStart = renewalStart;
+      this.claims = claims;
+    }
+
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      lastRenewed = renewalStart;
+      published = Collections.unmodifiableSet(claims);
+      return doNext(packet);
+    }
+
+    // A failed renewal is tried again at the next interval, so long as the lease has not yet expired.
+    @Override
+    protected Result onFailureNoRetry(Packet packet, KubernetesApiResponse<V1Lease> callResponse) {
+      LOGGER.warning(MessageKeys.SHARD_LEASE_UPDATE_FAILED, getLeaseName(), createFailureMessage(callResponse));
+      return doNext(packet);
+    }
+  }
+}
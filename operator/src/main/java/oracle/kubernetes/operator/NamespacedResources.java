@@ -12,6 +12,7 @@ import java.util.function.Function;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
@@ -23,6 +24,7 @@ import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.watcher.ClusterWatcher;
 import oracle.kubernetes.operator.watcher.ConfigMapWatcher;
 import oracle.kubernetes.operator.watcher.DomainWatcher;
@@ -84,7 +86,7 @@ class NamespacedResources {
 
   private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
     return Step.chain(getPauseWatchersStep(getConfigMapWatcher()),
-        RequestBuilder.CM.list(namespace, new ListResponseStep<>(processing)));
+        RequestBuilder.CM.list(namespace, inPages(new ListOptions()), new ListResponseStep<>(processing)));
   }
 
   private ConfigMapWatcher getConfigMapWatcher() {
@@ -98,7 +100,7 @@ class NamespacedResources {
   private Step createPodEventListStep(List<Consumer<CoreV1EventList>> processing) {
     return Step.chain(getPauseWatchersStep(getEventWatcher()),
         RequestBuilder.EVENT.list(namespace,
-            new ListOptions().fieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER),
+            inPages(new ListOptions().fieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER)),
             new ListResponseStep<>(processing)));
   }
 
@@ -114,7 +116,7 @@ class NamespacedResources {
   private Step createOperatorEventListStep(List<Consumer<CoreV1EventList>> processing) {
     return Step.chain(getPauseWatchersStep(getOperatorEventWatcher()),
         RequestBuilder.EVENT.list(namespace,
-            new ListOptions().labelSelector(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER),
+            inPages(new ListOptions().labelSelector(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER)),
             new ListResponseStep<>(processing)));
   }
 
@@ -130,7 +132,8 @@ class NamespacedResources {
   private Step createPodDisruptionBudgetListStep(List<Consumer<V1PodDisruptionBudgetList>> processing) {
     return Step.chain(getPauseWatchersStep(getPodDisruptionBudgetWatcher()),
         RequestBuilder.PDB.list(namespace,
-            new ListOptions().labelSelector(forDomainUidSelector(domainUid) + "," + getCreatedByOperatorSelector()),
+            inPages(new ListOptions()
+                .labelSelector(forDomainUidSelector(domainUid) + "," + getCreatedByOperatorSelector())),
             new ListResponseStep<>(processing)));
   }
 
@@ -146,7 +149,8 @@ class NamespacedResources {
   private Step createJobListStep(List<Consumer<V1JobList>> processing) {
     return Step.chain(getPauseWatchersStep(getJobWatcher()),
         RequestBuilder.JOB.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
+            inPages(new ListOptions()
+                .labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel())),
             new ListResponseStep<>(processing)));
   }
 
@@ -161,7 +165,8 @@ class NamespacedResources {
   private Step createPodListStep(List<Consumer<V1PodList>> processing) {
     return Step.chain(getPauseWatchersStep(getPodWatcher()),
         RequestBuilder.POD.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
+            inPages(new ListOptions()
+                .labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel())),
             new ListResponseStep<>(processing)));
   }
 
@@ -180,7 +185,8 @@ class NamespacedResources {
   private Step createServiceListStep(List<Consumer<V1ServiceList>> processing) {
     return Step.chain(getPauseWatchersStep(getServiceWatcher()),
         RequestBuilder.SERVICE.list(namespace,
-            new ListOptions().labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel()),
+            inPages(new ListOptions()
+                .labelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL + "," + getDomainUidLabel())),
             new ListResponseStep<>(processing)));
   }
 
@@ -194,7 +200,7 @@ class NamespacedResources {
 
   private Step createClusterListSteps(List<Consumer<ClusterList>> processing) {
     return Step.chain(getPauseWatchersStep(getClusterWatcher()),
-        RequestBuilder.CLUSTER.list(namespace, new ListResponseStep<>(processing)));
+        RequestBuilder.CLUSTER.list(namespace, inPages(new ListOptions()), new ListResponseStep<>(processing)));
   }
 
   private ClusterWatcher getClusterWatcher() {
@@ -207,13 +213,20 @@ class NamespacedResources {
 
   private Step createDomainListSteps(List<Consumer<DomainList>> processing) {
     return Step.chain(getPauseWatchersStep(getDomainWatcher()),
-        RequestBuilder.DOMAIN.list(namespace, new ListResponseStep<>(processing)));
+        RequestBuilder.DOMAIN.list(namespace, inPages(new ListOptions()), new ListResponseStep<>(processing)));
   }
 
   private DomainWatcher getDomainWatcher() {
     return Optional.ofNullable(domainNamespaces).map(n -> n.getDomainWatcher(namespace)).orElse(null);
   }
 
+  // Each page is passed to the processors as it is read and may then be released, so the memory needed to read
+  // the resources in a namespace is bounded by the page size rather than by the number of resources.
+  static ListOptions inPages(ListOptions listOptions) {
+    listOptions.setLimit(TuningParameters.getInstance().getCallBuilderTuning().getCallRequestLimit());
+    return listOptions;
+  }
+
   private <L extends KubernetesListObject>
         Optional<List<Consumer<L>>> getListProcessing(Function<Processors, Consumer<L>> method) {
     return nullIfEmpty(processors.stream().map(method).filter(Objects::nonNull).toList());
@@ -232,7 +245,7 @@ class NamespacedResources {
     }
   }
 
-  class PauseWatchersStep<T> extends Step {
+  class PauseWatchersStep<T extends KubernetesObject> extends Step {
     private final Watcher<T> watcher;
 
     PauseWatchersStep(Watcher<T> watcher) {
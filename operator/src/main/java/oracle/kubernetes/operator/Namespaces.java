@@ -273,7 +273,9 @@ public class Namespaces {
     @Override
     public @Nonnull Result apply(Packet packet) {
       NamespaceValidationContext validationContext = new NamespaceValidationContext(packet, domainNamespaces);
-      getNonNullConfiguredDomainNamespaces().forEach(validationContext::validateConfiguredNamespace);
+      getNonNullConfiguredDomainNamespaces().stream()
+          .filter(NamespaceShards.getInstance()::mayManage)
+          .forEach(validationContext::validateConfiguredNamespace);
       List<Fiber.StepAndPacket> nsStopEventSteps = getCreateNSStopEventSteps(packet, validationContext);
       stopRemovedNamespaces(validationContext);
       return doNext(Step.chain(createNamespaceWatchStopEventsStep(nsStopEventSteps), getNext()), packet);
@@ -15,6 +15,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -140,7 +142,7 @@ public class OperatorMain extends BaseMain {
 
     @Override
     public boolean isNamespaceRunning(String namespace) {
-      return !domainNamespaces.isStopping(namespace).get();
+      return NamespaceShards.getInstance().isManaging(namespace) && !domainNamespaces.isStopping(namespace).get();
     }
 
     @Override
@@ -191,6 +193,15 @@ public class OperatorMain extends BaseMain {
     super(mainDelegate);
     this.mainDelegate = mainDelegate;
     stuckPodProcessing = new StuckPodProcessing(mainDelegate);
+    Optional.ofNullable(mainDelegate.getDomainNamespaces())
+          .ifPresent(this::addNamespaceListeners);
+  }
+
+  private void addNamespaceListeners(DomainNamespaces domainNamespaces) {
+    domainNamespaces.addPodListener(stuckPodProcessing::onPodWatch);
+    domainNamespaces.addPodListListener(stuckPodProcessing::onPodList);
+    domainNamespaces.addNamespaceStopListener(stuckPodProcessing::onNamespaceStopped);
+    domainNamespaces.addNamespaceStopListener(ns -> mainDelegate.getDomainProcessor().discardHeldMakeRights(ns));
   }
 
   @Override
@@ -243,7 +254,10 @@ public class OperatorMain extends BaseMain {
       return Step.chain(
           RequestBuilder.NAMESPACE.list(new StartNamespaceWatcherStep()),
           createOperatorNamespaceEventListStep(),
-          createDomainRecheckSteps());
+          createShardRenewSteps(() -> { }),
+          createDomainRecheckSteps(),
+          createShardRenewSteps(() -> { }),
+          createShardRenewSteps(recheckDomains()));
     }
   }
 
@@ -275,6 +289,10 @@ public class OperatorMain extends BaseMain {
       int stuckPodInterval = TuningParameters.getInstance().getStuckPodRecheckSeconds();
       mainDelegate.scheduleWithFixedDelay(recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
       mainDelegate.scheduleWithFixedDelay(checkStuckPods(), stuckPodInterval, stuckPodInterval, TimeUnit.SECONDS);
+      if (NamespaceShards.isEnabled()) {
+        int renewInterval = TuningParameters.getInstance().getNamespaceShardRenewIntervalSeconds();
+        mainDelegate.scheduleWithFixedDelay(renewShardLease(), renewInterval, renewInterval, TimeUnit.SECONDS);
+      }
 
       markReadyAndStartLivenessThread();
 
@@ -303,7 +321,43 @@ public class OperatorMain extends BaseMain {
   }
 
   Runnable recheckDomains() {
-    return () -> mainDelegate.runSteps(createDomainRecheckSteps());
+    return () -> mainDelegate.runSteps(new Packet(), createDomainRecheckSteps(), null);
+  }
+
+  Runnable renewShardLease() {
+    return () -> {
+      stopNamespacesIfFenced();
+      mainDelegate.runSteps(new Packet(), createShardRenewSteps(recheckDomains()), null);
+    };
+  }
+
+  // A replica whose lease has expired stops its namespaces at once, as other replicas may already have started them.
+  private void stopNamespacesIfFenced() {
+    final Set<String> namespaces = getDomainNamespaces().getNamespaces();
+    if (NamespaceShards.getInstance().isFenced() && !namespaces.isEmpty()) {
+      LOGGER.warning(MessageKeys.SHARD_LEASE_EXPIRED, String.join(", ", namespaces));
+      namespaces.forEach(getDomainNamespaces()::stopNamespace);
+    }
+  }
+
+  // Reads the shard leases of all operator replicas and renews that of this one. When sharding is disabled,
+  // returns null, so that the step may be omitted from a chain. A namespace newly asked for by a recheck is
+  // claimed by one renewal, and confirmed by the next, which then runs the specified function.
+  private Step createShardRenewSteps(Runnable onChange) {
+    return NamespaceShards.isEnabled()
+        ? NamespaceShards.getInstance().createRenewSteps(this::getClaimedNamespaces, onChange)
+        : null;
+  }
+
+  // The namespaces which this replica is managing or in which its make-rights are still running.
+  private Collection<String> getClaimedNamespaces() {
+    final Set<String> claimed = new TreeSet<>(getDomainNamespaces().getNamespaces());
+    mainDelegate.getDomainProcessor().getMakeRightFiberGateMap().forEach((ns, gate) -> {
+      if (!gate.getCurrentFibers().isEmpty()) {
+        claimed.add(ns);
+      }
+    });
+    return claimed;
   }
 
   Runnable checkStuckPods() {
@@ -443,7 +497,7 @@ public class OperatorMain extends BaseMain {
 
     switch (item.type) {
       case "ADDED":
-        if (!Namespaces.isDomainNamespace(item.object)) {
+        if (!Namespaces.isDomainNamespace(item.object) || !NamespaceShards.getInstance().mayManage(ns)) {
           return;
         }
 
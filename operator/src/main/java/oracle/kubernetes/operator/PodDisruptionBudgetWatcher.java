@@ -68,6 +68,11 @@ public class PodDisruptionBudgetWatcher extends Watcher<V1PodDisruptionBudget> {
     return ns;
   }
 
+  @Override
+  protected Class<V1PodDisruptionBudget> getCachedKind() {
+    return V1PodDisruptionBudget.class;
+  }
+
   @Override
   public String getDomainUid(Response<V1PodDisruptionBudget> item) {
     return KubernetesUtils.getDomainUidLabel(
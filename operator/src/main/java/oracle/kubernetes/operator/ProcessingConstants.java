@@ -3,6 +3,10 @@
 
 package oracle.kubernetes.operator;
 
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Packet;
+
 /** Constants used in asynchronous processing. */
 public interface ProcessingConstants {
 
@@ -27,6 +31,8 @@ public interface ProcessingConstants {
   String DOMAIN_PRESENCE_INFO = "dpi";
   String CLUSTER_PRESENCE_INFO = "cpi";
   String DOMAIN_TOPOLOGY = "domainTopology";
+  Packet.Key<DomainPresenceInfo> DOMAIN_PRESENCE_INFO_KEY = Packet.Key.of(DOMAIN_PRESENCE_INFO);
+  Packet.Key<WlsDomainConfig> DOMAIN_TOPOLOGY_KEY = Packet.Key.of(DOMAIN_TOPOLOGY);
   String JOB_POD = "jobPod";
   String JOB_POD_INTROSPECT_CONTAINER_TERMINATED = "JOB_POD_CONTAINER_TERMINATED";
   String JOB_POD_INTROSPECT_CONTAINER_TERMINATED_MARKER = "done";
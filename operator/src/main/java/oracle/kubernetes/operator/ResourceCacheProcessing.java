@@ -0,0 +1,110 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
+import io.kubernetes.client.openapi.models.V1PodDisruptionBudgetList;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import oracle.kubernetes.operator.calls.ResourceCache;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.weblogic.domain.model.ClusterList;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+/**
+ * Processing which seeds the shared resource cache from the lists of namespaced resources. Each list may be
+ * returned in several pages; the items of each page are recorded as it arrives, and only their names are kept
+ * so that the objects no longer present can be removed once all lists have been read.
+ */
+class ResourceCacheProcessing implements Processors {
+  private final String namespace;
+  private final String domainUid;
+  private final Map<Class<?>, Set<String>> listedNames = new HashMap<>();
+  private final Map<Class<?>, String> listVersions = new HashMap<>();
+
+  /**
+   * Creates the processing.
+   * @param namespace the namespace being listed
+   * @param domainUid the UID of the domain to which the lists of domain resources are restricted, or null for all
+   */
+  ResourceCacheProcessing(String namespace, @Nullable String domainUid) {
+    this.namespace = namespace;
+    this.domainUid = domainUid;
+  }
+
+  @Override
+  public Consumer<V1ConfigMapList> getConfigMapListProcessing() {
+    return l -> addItems(V1ConfigMap.class, l);
+  }
+
+  @Override
+  public Consumer<V1PodList> getPodListProcessing() {
+    return l -> addItems(V1Pod.class, l);
+  }
+
+  @Override
+  public Consumer<V1ServiceList> getServiceListProcessing() {
+    return l -> addItems(V1Service.class, l);
+  }
+
+  @Override
+  public Consumer<V1PodDisruptionBudgetList> getPodDisruptionBudgetListProcessing() {
+    return l -> addItems(V1PodDisruptionBudget.class, l);
+  }
+
+  @Override
+  public Consumer<DomainList> getDomainListProcessing() {
+    return l -> addItems(DomainResource.class, l);
+  }
+
+  @Override
+  public Consumer<ClusterList> getClusterListProcessing() {
+    return l -> addItems(ClusterResource.class, l);
+  }
+
+  // The pages of a list share the resource version of its first page.
+  private synchronized void addItems(Class<?> kind, KubernetesListObject list) {
+    final List<? extends KubernetesObject> items = list.getItems();
+    ResourceCache.getInstance().recordListed(kind, namespace, items);
+    final Set<String> names = listedNames.computeIfAbsent(kind, k -> new HashSet<>());
+    items.forEach(item -> names.add(item.getMetadata().getName()));
+    Optional.ofNullable(list.getMetadata()).map(V1ListMeta::getResourceVersion)
+        .ifPresent(v -> listVersions.putIfAbsent(kind, v));
+  }
+
+  @Override
+  public synchronized void completeProcessing(Packet packet) {
+    listedNames.forEach((kind, names) -> ResourceCache.getInstance()
+        .completeList(kind, namespace, getListScope(kind), listVersions.get(kind), names));
+    listedNames.clear();
+    listVersions.clear();
+  }
+
+  // Domains, clusters and config maps are always listed for the entire namespace.
+  private String getListScope(Class<?> kind) {
+    return isDomainScopedList(kind) ? domainUid : null;
+  }
+
+  private boolean isDomainScopedList(Class<?> kind) {
+    return kind == V1Pod.class || kind == V1Service.class || kind == V1PodDisruptionBudget.class;
+  }
+}
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -46,19 +47,30 @@ import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static oracle.kubernetes.operator.logging.ThreadLoggingContext.setThreadContext;
 
-/** Creates an asynchronous step to read the WebLogic server state from a particular pod. */
+/**
+ * Creates an asynchronous step to read the WebLogic server state from a particular pod. The state of a server
+ * whose pod is not ready is read over HTTP when possible, and otherwise by running a script in the pod.
+ */
 public class ServerStatusReader {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  static final long READ_STATE_HTTP_TIMEOUT_SECONDS = 5;
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Function<Step, Step> stepFactory = ReadHealthStep::createReadHealthStep;
 
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static ReadStateStepFactory readStateStepFactory = ReadHealthStep::createReadStateStep;
+
   @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit test
   private static KubernetesExecFactory execFactory = new KubernetesExecFactoryImpl();
 
   private ServerStatusReader() {
   }
 
+  interface ReadStateStepFactory {
+    Step createReadStateStep(long timeoutSeconds, Step fallback, Step next);
+  }
+
   static Step createDomainStatusReaderStep(
       DomainPresenceInfo info, long timeoutSeconds, Step next) {
     return new DomainStatusReaderStep(info, timeoutSeconds, next);
@@ -143,7 +155,7 @@ public class ServerStatusReader {
       final long unchangedCountToDelayStatusRecheck
           = TuningParameters.getInstance().getUnchangedCountToDelayStatusRecheck();
       final int eventualLongDelay = TuningParameters.getInstance().getEventualLongDelay();
-      final DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      final DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       final LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
       final V1Pod currentPod = info.getServerPod(serverName);
 
@@ -162,6 +174,49 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
+      if (canReadStateWithHttp(info, currentPod)) {
+        final long httpTimeoutSeconds = getHttpTimeoutSeconds();
+        final Step readStateWithExec
+            = new ReadStateWithExecStep(serverName, Math.max(0, timeoutSeconds - httpTimeoutSeconds), getNext());
+        packet.put(ProcessingConstants.SERVER_NAME, serverName);
+        return doNext(
+            readStateStepFactory.createReadStateStep(httpTimeoutSeconds, readStateWithExec, getNext()), packet);
+      }
+      return doNext(new ReadStateWithExecStep(serverName, timeoutSeconds, getNext()), packet);
+    }
+
+    // An unready server often does not answer at all, so the HTTP read is given only a short part of the timeout,
+    // and the exec fallback the rest.
+    private long getHttpTimeoutSeconds() {
+      return Math.max(1, Math.min(READ_STATE_HTTP_TIMEOUT_SECONDS, timeoutSeconds / 2));
+    }
+
+    // A server whose pod is being deleted may no longer be listening, but its state is still needed.
+    private boolean canReadStateWithHttp(DomainPresenceInfo info, V1Pod pod) {
+      return info.getServerService(serverName) != null && !isPodBeingDeleted(info, pod);
+    }
+  }
+
+  private static class ReadStateWithExecStep extends Step {
+    private final String serverName;
+    private final long timeoutSeconds;
+
+    ReadStateWithExecStep(String serverName, long timeoutSeconds, Step next) {
+      super(next);
+      this.serverName = serverName;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    @SuppressWarnings("try")
+    public @Nonnull Result apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      final ConcurrentMap<String, String> serverStateMap =
+          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      final DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
+      final LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
+      final V1Pod currentPod = info.getServerPod(serverName);
+
       final boolean stdin = false;
       final boolean tty = false;
       Process proc = null;
@@ -217,10 +272,6 @@ public class ServerStatusReader {
       return doNext(packet);
     }
 
-    private boolean isPodBeingDeleted(DomainPresenceInfo info, V1Pod pod) {
-      return PodHelper.isDeleting(pod) || info.isServerPodBeingDeleted(PodHelper.getPodServerName(pod));
-    }
-
     private String getNamespace(@Nonnull V1Pod pod) {
       return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getNamespace).orElse(null);
     }
@@ -252,6 +303,10 @@ public class ServerStatusReader {
     }
   }
 
+  private static boolean isPodBeingDeleted(DomainPresenceInfo info, V1Pod pod) {
+    return PodHelper.isDeleting(pod) || info.isServerPodBeingDeleted(PodHelper.getPodServerName(pod));
+  }
+
   private static class ServerHealthStep extends Step {
     private final String serverName;
     private final V1Pod pod;
@@ -269,6 +324,10 @@ public class ServerStatusReader {
           (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
       String state = serverStateMap.get(serverName);
 
+      if (isHealthAlreadyRead(packet)) {
+        return doNext(packet);
+      }
+
       if (PodHelper.hasReadyStatus(pod)
           || WebLogicConstants.STATES_SUPPORTING_REST.contains(state)) {
         packet.put(ProcessingConstants.SERVER_NAME, serverName);
@@ -277,6 +336,13 @@ public class ServerStatusReader {
 
       return doNext(packet);
     }
+
+    // the health of a server whose state was read over HTTP was recorded along with its state
+    private boolean isHealthAlreadyRead(Packet packet) {
+      return Optional.ofNullable(packet.<Map<String, ServerHealth>>getValue(SERVER_HEALTH_MAP))
+          .map(m -> m.containsKey(serverName))
+          .orElse(false);
+    }
   }
 
   static class StatusUpdateHookStep extends Step {
@@ -289,7 +355,7 @@ public class ServerStatusReader {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       return doNext(getNextStep(info), packet);
     }
 
@@ -0,0 +1,63 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A consistent hash ring which assigns each namespace to one of a set of members. Each member is placed on the ring
+ * at many points, and a namespace belongs to the member at the first point at or after the namespace's own hash.
+ * When a member joins or leaves, only the namespaces next to its points move, so most namespaces keep their owner.
+ */
+class ShardRing {
+
+  static final int POINTS_PER_MEMBER = 64;
+
+  private final Set<String> members;
+  private final NavigableMap<Long, String> points = new TreeMap<>();
+
+  ShardRing(Collection<String> members) {
+    this.members = new TreeSet<>(members);
+    for (String member : this.members) {
+      for (int i = 0; i < POINTS_PER_MEMBER; i++) {
+        points.putIfAbsent(hash(member + "#" + i), member);
+      }
+    }
+  }
+
+  Set<String> getMembers() {
+    return members;
+  }
+
+  /**
+   * Returns the member to which the specified namespace is assigned.
+   * @param namespace the name of a namespace
+   * @return a member, or null if the ring has no members
+   */
+  String getOwner(String namespace) {
+    return Optional.ofNullable(points.ceilingEntry(hash(namespace)))
+        .or(() -> Optional.ofNullable(points.firstEntry()))
+        .map(Map.Entry::getValue)
+        .orElse(null);
+  }
+
+  private static long hash(String value) {
+    try {
+      return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)))
+          .getLong();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
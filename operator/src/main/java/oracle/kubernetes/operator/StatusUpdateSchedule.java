@@ -0,0 +1,208 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Cancellable;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
+
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+
+/**
+ * The schedule on which the states and health of a domain's servers are read and its status updated.
+ *
+ * <p>Each update is scheduled when the previous one is done. Updates run at the initial short delay until the
+ * servers' states and health have been unchanged for the configured number of updates, after which the delay
+ * doubles with each further unchanged update, up to the eventual long delay. Any change, or a call to
+ * {@link #expedite()}, returns the schedule to the short delay. Each delay is shortened by a random fraction,
+ * so that the updates of domains scheduled together drift apart, and a shared {@link Budget} limits the number
+ * of domains whose updates may run at the same time.
+ */
+class StatusUpdateSchedule implements Cancellable {
+
+  static final double JITTER_FRACTION = 0.25;
+  private static final int MAX_BACKOFF_DOUBLINGS = 16;
+
+  // returns a value in the range [0, 1); tests may replace it
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static DoubleSupplier jitterSource = () -> ThreadLocalRandom.current().nextDouble();
+
+  private final CoreDelegate delegate;
+  private final Budget budget;
+  private final Updater updater;
+  private Cancellable pending;
+  private long generation;
+  private long dueNanos;
+  private boolean cancelled;
+  private int unchangedCount;
+  private Snapshot lastSnapshot;
+
+  /**
+   * Starts a status update for the domain.
+   */
+  interface Updater {
+
+    /**
+     * Starts a status update, which must report its result to the specified callback when done.
+     * @param onDone a callback which accepts the packet of a completed update, or null if the update failed
+     */
+    void startUpdate(Consumer<Packet> onDone);
+  }
+
+  /**
+   * Limits the number of status updates which may run at the same time across all domains.
+   */
+  static class Budget {
+    private final Set<StatusUpdateSchedule> running = ConcurrentHashMap.newKeySet();
+
+    // A schedule whose update is already running may start another, as that one will replace it.
+    private boolean tryAcquire(StatusUpdateSchedule schedule) {
+      synchronized (running) {
+        if (!running.contains(schedule) && running.size() >= getConcurrencyLimit()) {
+          return false;
+        }
+        running.add(schedule);
+        return true;
+      }
+    }
+
+    private void release(StatusUpdateSchedule schedule) {
+      running.remove(schedule);
+    }
+
+    // for test
+    int getNumRunning() {
+      return running.size();
+    }
+
+    private int getConcurrencyLimit() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+            .map(TuningParameters::getStatusUpdateConcurrencyLimit)
+            .orElse(TuningParameters.DEFAULT_STATUS_UPDATE_CONCURRENCY_LIMIT);
+    }
+  }
+
+  StatusUpdateSchedule(CoreDelegate delegate, Budget budget, Updater updater) {
+    this.delegate = delegate;
+    this.budget = budget;
+    this.updater = updater;
+  }
+
+  /**
+   * Schedules the first status update.
+   */
+  synchronized void start() {
+    scheduleNext(getShortDelayMillis());
+  }
+
+  /**
+   * Ends any backoff, so that the next update runs no later than the short delay from now.
+   * Called when a domain's pods change, and its status is therefore likely to change as well.
+   */
+  synchronized void expedite() {
+    final boolean isBackedOff = isBackedOff();
+    unchangedCount = 0;
+    if (isBackedOff && !cancelled) {
+      pending.cancel();
+      scheduleNext(getShortDelayMillis());
+    }
+  }
+
+  @Override
+  public synchronized boolean cancel() {
+    cancelled = true;
+    budget.release(this);
+    return Optional.ofNullable(pending).map(Cancellable::cancel).orElse(true);
+  }
+
+  synchronized long getNextDelayMillis() {
+    if (!isBackedOff()) {
+      return getShortDelayMillis();
+    }
+    final int numDoublings = Math.min(MAX_BACKOFF_DOUBLINGS, unchangedCount - getUnchangedCountToDelay() + 1);
+    return Math.min(getLongDelayMillis(), getShortDelayMillis() << numDoublings);
+  }
+
+  private boolean isBackedOff() {
+    return unchangedCount >= getUnchangedCountToDelay();
+  }
+
+  // A superseded update does nothing when it runs, even if the executor did not cancel it.
+  private void scheduleNext(long delayMillis) {
+    final long scheduledGeneration = ++generation;
+    final long jitteredDelayMillis = withJitter(delayMillis);
+    dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(jitteredDelayMillis);
+    pending = delegate.schedule(() -> runUpdate(scheduledGeneration), jitteredDelayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private long withJitter(long delayMillis) {
+    return delayMillis - (long) (delayMillis * JITTER_FRACTION * jitterSource.getAsDouble());
+  }
+
+  private synchronized void runUpdate(long scheduledGeneration) {
+    if (cancelled || scheduledGeneration != generation) {
+      return;
+    }
+    OperatorMetrics.recordStatusUpdateLag(dueNanos);
+
+    if (!budget.tryAcquire(this)) {
+      scheduleNext(getShortDelayMillis());
+    } else {
+      scheduleNext(getLongDelayMillis());  // in case the update never reports that it is done
+      updater.startUpdate(this::recordUpdate);
+    }
+  }
+
+  // The next update is scheduled from the time this one is done, so that updates of a slow domain do not overlap.
+  private synchronized void recordUpdate(Packet packet) {
+    budget.release(this);
+    final Snapshot snapshot = Optional.ofNullable(packet).map(Snapshot::new).orElse(null);
+    if (snapshot != null && snapshot.equals(lastSnapshot)) {
+      unchangedCount++;
+    } else {
+      unchangedCount = 0;
+    }
+    lastSnapshot = snapshot;
+
+    if (!cancelled) {
+      scheduleNext(getNextDelayMillis());
+    }
+  }
+
+  private long getShortDelayMillis() {
+    return TimeUnit.SECONDS.toMillis(TuningParameters.getInstance().getInitialShortDelay());
+  }
+
+  private long getLongDelayMillis() {
+    return TimeUnit.SECONDS.toMillis(TuningParameters.getInstance().getEventualLongDelay());
+  }
+
+  private int getUnchangedCountToDelay() {
+    return TuningParameters.getInstance().getUnchangedCountToDelayStatusRecheck();
+  }
+
+  // The server states and health read by a status update.
+  private record Snapshot(Map<String, String> states, Map<String, ServerHealth> health) {
+
+    Snapshot(Packet packet) {
+      this(copy(packet.getValue(SERVER_STATE_MAP)), copy(packet.getValue(SERVER_HEALTH_MAP)));
+    }
+
+    private static <T> Map<String, T> copy(Map<String, T> map) {
+      return Optional.ofNullable(map).<Map<String, T>>map(Map::copyOf).orElse(Map.of());
+    }
+  }
+}
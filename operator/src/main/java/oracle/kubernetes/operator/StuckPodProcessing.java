@@ -3,27 +3,37 @@
 
 package oracle.kubernetes.operator;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import io.kubernetes.client.util.generic.options.DeleteOptions;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.RequestScheduler;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -34,21 +44,111 @@ import static oracle.kubernetes.common.logging.MessageKeys.POD_FORCE_DELETED;
 /**
  * Under certain circumstances, when a Kubernetes node goes down, it may mark its pods as terminating, but never
  * actually remove them. This code detects such cases, deletes the pods and triggers the necessary make-right flows.
+ * Pod watch events and namespace pod lists which show that a pod is terminating schedule a check for the time its
+ * grace period expires; a periodic list of the pods in each namespace remains as a backstop for events which were
+ * missed. Only the domains whose pods were deleted are made right.
  */
 public class StuckPodProcessing {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final String DELETED = "DELETED";
 
   private final MainDelegate mainDelegate;
+  private final Map<String, PendingCheck> pendingChecks = new ConcurrentHashMap<>();
 
   public StuckPodProcessing(MainDelegate mainDelegate) {
     this.mainDelegate = mainDelegate;
   }
 
+  /**
+   * Tracks operator-created pods which are terminating, scheduling a check of each for the time at which its grace
+   * period expires. A check which finds the pod still present deletes it as in {@link #checkStuckPods(String)}.
+   * @param item a pod watch event
+   */
+  void onPodWatch(Watch.Response<V1Pod> item) {
+    if (!isCreatedByOperator(item.object)) {
+      return;
+    }
+
+    final String key = getKey(item.object);
+    if (DELETED.equals(item.type)) {
+      Optional.ofNullable(pendingChecks.remove(key)).ifPresent(PendingCheck::cancel);
+    } else if (isTerminating(item.object)) {
+      scheduleCheck(key, item.object);
+    }
+  }
+
+  /**
+   * Schedules checks of the terminating operator-created pods found when a namespace's pods are listed, which
+   * include pods that were already terminating when the operator started and so will produce no watch events.
+   * @param list a page of the pods in a namespace
+   */
+  void onPodList(V1PodList list) {
+    Optional.ofNullable(list).map(V1PodList::getItems).orElse(List.of()).stream()
+          .filter(this::isCreatedByOperator)
+          .filter(this::isTerminating)
+          .forEach(pod -> scheduleCheck(getKey(pod), pod));
+  }
+
+  /**
+   * Cancels the checks scheduled for pods in a namespace which is no longer managed.
+   * @param namespace the namespace
+   */
+  void onNamespaceStopped(String namespace) {
+    final String prefix = namespace + "/";
+    pendingChecks.keySet().stream().filter(key -> key.startsWith(prefix)).toList()
+          .forEach(key -> Optional.ofNullable(pendingChecks.remove(key)).ifPresent(PendingCheck::cancel));
+  }
+
+  private boolean isCreatedByOperator(V1Pod pod) {
+    return Optional.ofNullable(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getLabels)
+          .map(labels -> "true".equalsIgnoreCase(labels.get(LabelConstants.CREATEDBYOPERATOR_LABEL)))
+          .orElse(false);
+  }
+
+  private String getKey(V1Pod pod) {
+    return getNamespace(pod) + "/" + getName(pod);
+  }
+
+  private boolean isTerminating(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata()).map(V1ObjectMeta::getDeletionTimestamp).isPresent();
+  }
+
+  private void scheduleCheck(String key, V1Pod pod) {
+    final OffsetDateTime deadline = getExpectedDeleteTime(pod);
+    pendingChecks.compute(key, (k, pending) -> {
+      if (pending != null && !pending.deadline().isAfter(deadline)) {
+        return pending;
+      }
+      Optional.ofNullable(pending).ifPresent(PendingCheck::cancel);
+      final Runnable check = () -> checkStuckPod(key, getNamespace(pod), getName(pod));
+      return new PendingCheck(deadline, mainDelegate.schedule(check, getMillisUntil(deadline), TimeUnit.MILLISECONDS));
+    });
+  }
+
+  // The pod is stuck only once the deadline is strictly in the past, so wait one millisecond beyond it.
+  private long getMillisUntil(OffsetDateTime deadline) {
+    return Math.max(0, Duration.between(SystemClock.now(), deadline).toMillis()) + 1;
+  }
+
+  private void checkStuckPod(String key, String namespace, String name) {
+    pendingChecks.remove(key);
+    Step step = RequestBuilder.POD.get(namespace, name, new PodReadProcessing(namespace));
+    mainDelegate.runSteps(createBackgroundPacket(namespace), step, null);
+  }
+
+  private static Packet createBackgroundPacket(String namespace) {
+    return RequestScheduler.inBackground(OperatorMain.createPacketWithLoggingContext(namespace));
+  }
+
+  int getNumPendingChecks() {
+    return pendingChecks.size();
+  }
+
   void checkStuckPods(String namespace) {
     Step step = RequestBuilder.POD.list(namespace,
         new ListOptions().labelSelector(LabelConstants.getCreatedByOperatorSelector()),
         new PodListProcessing(namespace, SystemClock.now()));
-    mainDelegate.runSteps(OperatorMain.createPacketWithLoggingContext(namespace), step, null);
+    mainDelegate.runSteps(createBackgroundPacket(namespace), step, null);
   }
 
   @SuppressWarnings("unchecked")
@@ -74,24 +174,56 @@ public class StuckPodProcessing {
       return doContinueListOrNext(callResponse, packet);
     }
 
-    private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
-      return getExpectedDeleteTime(pod).isBefore(now);
-    }
+  }
 
-    private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
-      return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
-    }
+  class PodReadProcessing extends DefaultResponseStep<V1Pod> {
 
-    private long getDeletionGracePeriodSeconds(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+    public PodReadProcessing(String namespace) {
+      super(new PodActionsStep(namespace));
     }
 
-    private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+    @Override
+    public Result onSuccess(Packet packet, KubernetesApiResponse<V1Pod> callResponse) {
+      Optional.ofNullable(callResponse.getObject())
+            .filter(StuckPodProcessing.this::isCreatedByOperator)
+            .filter(pod -> isStuck(pod, SystemClock.now()))
+            .ifPresent(pod -> addStuckPodToPacket(packet, pod));
+
+      return doNext(packet);
     }
+  }
 
-    private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
-      getStuckPodList(packet).add(stuckPod);
+  private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
+    return getExpectedDeleteTime(pod).isBefore(now);
+  }
+
+  private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
+    return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+  }
+
+  private long getDeletionGracePeriodSeconds(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+  }
+
+  private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+  }
+
+  private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
+    getStuckPodList(packet).add(stuckPod);
+  }
+
+  private String getName(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getName();
+  }
+
+  private String getNamespace(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getNamespace();
+  }
+
+  private record PendingCheck(OffsetDateTime deadline, Cancellable scheduled) {
+    void cancel() {
+      scheduled.cancel();
     }
   }
 
@@ -114,32 +246,58 @@ public class StuckPodProcessing {
         for (V1Pod pod : stuckPodList) {
           startDetails.add(new Fiber.StepAndPacket(createForcedDeletePodStep(pod), packet.copy()));
         }
-        return doForkJoin(readExistingNamespaces(), packet, startDetails);
+        return doForkJoin(new MakeRightAffectedDomainsStep(namespace, stuckPodList), packet, startDetails);
       }
     }
 
-    @Nonnull
-    private Step readExistingNamespaces() {
-      return mainDelegate.getDomainNamespaces().readExistingResources(
-          namespace, mainDelegate.getDomainProcessor());
-    }
-
     private Step createForcedDeletePodStep(V1Pod pod) {
       return RequestBuilder.POD.delete(getNamespace(pod), getName(pod),
           (DeleteOptions) new DeleteOptions().gracePeriodSeconds(0L),
           new ForcedDeleteResponseStep(getName(pod), getNamespace(pod), getDomainUid(pod)));
     }
 
-    private String getName(V1Pod pod) {
-      return Objects.requireNonNull(pod.getMetadata()).getName();
+    private String getDomainUid(V1Pod pod) {
+      return PodHelper.getPodDomainUid(pod);
+    }
+  }
+
+  /**
+   * Removes the deleted pods from the domain presence information and makes right the domains which owned them.
+   */
+  class MakeRightAffectedDomainsStep extends Step {
+
+    private final String namespace;
+    private final List<V1Pod> deletedPods;
+
+    MakeRightAffectedDomainsStep(String namespace, List<V1Pod> deletedPods) {
+      this.namespace = namespace;
+      this.deletedPods = new ArrayList<>(deletedPods);
     }
 
-    private String getNamespace(V1Pod pod) {
-      return Objects.requireNonNull(pod.getMetadata()).getNamespace();
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      final Set<DomainPresenceInfo> affectedDomains = new LinkedHashSet<>();
+      for (V1Pod pod : deletedPods) {
+        Optional.ofNullable(getDomainPresenceInfo(pod))
+              .ifPresent(info -> removeDeletedPod(info, pod, affectedDomains));
+      }
+      affectedDomains.forEach(this::makeRight);
+      return doNext(packet);
     }
 
-    private String getDomainUid(V1Pod pod) {
-      return PodHelper.getPodDomainUid(pod);
+    private DomainPresenceInfo getDomainPresenceInfo(V1Pod pod) {
+      return Optional.ofNullable(PodHelper.getPodDomainUid(pod))
+            .map(uid -> mainDelegate.getDomainProcessor().getExistingDomainPresenceInfo(namespace, uid))
+            .orElse(null);
+    }
+
+    private void removeDeletedPod(DomainPresenceInfo info, V1Pod pod, Set<DomainPresenceInfo> affectedDomains) {
+      info.deleteServerPodFromEvent(PodHelper.getPodServerName(pod), pod);
+      affectedDomains.add(info);
+    }
+
+    private void makeRight(DomainPresenceInfo info) {
+      mainDelegate.getDomainProcessor().createMakeRightOperation(info).interrupt().withExplicitRecheck().execute();
     }
   }
 
@@ -15,4 +15,10 @@ public interface WatchTuning {
   int getWatchBackstopRecheckDelay();
 
   int getWatchBackstopRecheckCount();
+
+  /**
+   * Returns true if each kind of namespaced resource should be watched with a single cluster-scoped watch,
+   * shared by all managed namespaces, rather than with a separate watch in each namespace.
+   */
+  boolean isClusterScopedWatch();
 }
@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
 
@@ -30,6 +31,7 @@ import oracle.kubernetes.operator.steps.InitializeWebhookIdentityStep;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.utils.Certificates;
 import oracle.kubernetes.operator.webhooks.WebhookRestServer;
+import oracle.kubernetes.operator.webhooks.resource.AdmissionResourceCache;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
@@ -53,6 +55,7 @@ public class WebhookMain extends BaseMain {
   private boolean warnedOfCrdAbsence;
   private final AtomicInteger crdPresenceCheckCount = new AtomicInteger(0);
   private final RestConfig restConfig = new RestConfigImpl(new Certificates(delegate));
+  private final AtomicBoolean admissionWatchersStopping = new AtomicBoolean(false);
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static NextStepFactory nextStepFactory = WebhookMain::createInitializeWebhookIdentityStep;
 
@@ -135,10 +138,13 @@ public class WebhookMain extends BaseMain {
     try {
       startMetricsServer();
       startRestServer();
+      startAdmissionResourceCache();
 
       // start periodic recheck of CRD
       int recheckInterval = TuningParameters.getInstance().getDomainNamespaceRecheckIntervalSeconds();
       delegate.scheduleWithFixedDelay(recheckCrd(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
+      delegate.scheduleWithFixedDelay(
+          AdmissionResourceCache.getInstance()::retryFailedLoads, recheckInterval, recheckInterval, TimeUnit.SECONDS);
 
       markReadyAndStartLivenessThread();
 
@@ -151,7 +157,16 @@ public class WebhookMain extends BaseMain {
     }
   }
 
+  // The admission checks find the domains and clusters related to a proposed change in a watched store.
+  // Under the Dedicated strategy the webhook may only read its own namespace, so the store is restricted to it.
+  private void startAdmissionResourceCache() {
+    AdmissionResourceCache.getInstance().start(DomainNamespaces.getThreadFactory(),
+        TuningParameters.getInstance().getWatchTuning(), admissionWatchersStopping,
+        OperatorMain.isDedicated() ? getWebhookNamespace() : null);
+  }
+
   void completeStop() {
+    admissionWatchersStopping.set(true);
     stopRestServer();
     stopMetricsServer();
   }
@@ -29,7 +29,7 @@ public class Client {
    * @return API client
    */
   public static ApiClient getInstance() {
-    return singleton.getAndUpdate(c -> {
+    return singleton.updateAndGet(c -> {
       if (c != null) {
         return c;
       }
@@ -53,6 +53,14 @@ public class Client {
     });
   }
 
+  /**
+   * Discards the current API client, so that the next call to {@link #getInstance()} creates a new one.
+   * API handles cached for the discarded client will no longer be used.
+   */
+  static void reset() {
+    singleton.set(null);
+  }
+
   private static class DefaultClientFactory implements ClientFactory {
     @Override
     public ApiClient get() throws IOException {
@@ -224,6 +224,16 @@ public interface KubernetesApi<A extends KubernetesObject, L extends KubernetesL
       V1Patch patch,
       final PatchOptions patchOptions);
 
+  /**
+   * Patch the status of a resource under the namespace with a JSON patch.
+   *
+   * @param namespace the namespace
+   * @param name the name
+   * @param patch the JSON patch, whose paths are relative to the resource
+   * @return the Kubernetes API response
+   */
+  KubernetesApiResponse<A> patchStatus(String namespace, String name, V1Patch patch);
+
   /**
    * Delete Kubernetes API response.
    *
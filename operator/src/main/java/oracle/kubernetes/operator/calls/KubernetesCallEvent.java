@@ -0,0 +1,40 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import oracle.kubernetes.operator.work.FiberEvents;
+
+/** A Flight Recorder event for a call to the Kubernetes API. See {@link FiberEvents}. */
+@Name(FiberEvents.EVENT_NAME_PREFIX + "KubernetesCall")
+@Label("Kubernetes Call")
+@Description("A call to the Kubernetes API, from when it waits to be scheduled until its response is received")
+@Category({FiberEvents.CATEGORY, "Kubernetes"})
+class KubernetesCallEvent extends FiberEvents.FiberWorkEvent {
+  @Label("Operation")
+  String operation;
+
+  @Label("Resource")
+  String resource;
+
+  @Label("Resource Namespace")
+  String resourceNamespace;
+
+  @Label("Resource Name")
+  String resourceName;
+
+  @Label("Priority")
+  String priority;
+
+  @Label("HTTP Status")
+  int httpStatus;
+
+  @Label("Scheduling Wait")
+  @Timespan(Timespan.NANOSECONDS)
+  long waitNanos;
+}
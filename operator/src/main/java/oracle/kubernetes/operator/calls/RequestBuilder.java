@@ -5,6 +5,8 @@ package oracle.kubernetes.operator.calls;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -15,6 +17,7 @@ import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -23,6 +26,8 @@ import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinitionList;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -60,25 +65,72 @@ import oracle.kubernetes.weblogic.domain.model.DomainList;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 public class RequestBuilder<A extends KubernetesObject, L extends KubernetesListObject> {
-  private static final KubernetesApiFactory DEFAULT_KUBERNETES_API_FACTORY = new KubernetesApiFactory() {
+  static final KubernetesApiFactory DEFAULT_KUBERNETES_API_FACTORY = new KubernetesApiFactory() {
   };
 
+  /**
+   * Returns an API handle for the specified resource type. Handles which use the shared client are cached,
+   * and replaced when the shared client is.
+   * @param apiTypeClass API type class
+   * @param apiListTypeClass API list type class
+   * @param apiGroup group
+   * @param apiVersion version
+   * @param resourcePlural plural
+   * @param clientSelector client selector
+   * @param <X> the resource type
+   * @param <Y> the resource list type
+   * @return an API handle
+   */
+  @SuppressWarnings("unchecked")
   public static <X extends KubernetesObject, Y extends KubernetesListObject>
       KubernetesApi<X, Y> createKubernetesApi(Class<X> apiTypeClass, Class<Y> apiListTypeClass,
                                               String apiGroup, String apiVersion, String resourcePlural,
                                               UnaryOperator<ApiClient> clientSelector) {
-    return kubernetesApiFactory.create(apiTypeClass, apiListTypeClass, apiGroup, apiVersion,
-            resourcePlural, clientSelector);
+    if (kubernetesApiFactory != DEFAULT_KUBERNETES_API_FACTORY || clientSelector != CLIENT_SELECTOR) {
+      return kubernetesApiFactory.create(apiTypeClass, apiListTypeClass, apiGroup, apiVersion,
+              resourcePlural, clientSelector);
+    }
+
+    return (KubernetesApi<X, Y>) getApiCache().apis.computeIfAbsent(
+          new ApiKey(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural),
+          k -> kubernetesApiFactory.create(apiTypeClass, apiListTypeClass, apiGroup, apiVersion,
+              resourcePlural, clientSelector));
+  }
+
+  private static ApiCache getApiCache() {
+    final ApiClient client = Client.getInstance();
+    return apiCache.updateAndGet(cache -> cache.client == client ? cache : new ApiCache(client));
   }
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static KubernetesApiFactory kubernetesApiFactory = DEFAULT_KUBERNETES_API_FACTORY;
 
+  private static final AtomicReference<ApiCache> apiCache = new AtomicReference<>(new ApiCache(null));
+
+  private record ApiKey(Class<?> apiTypeClass, Class<?> apiListTypeClass,
+                        String apiGroup, String apiVersion, String resourcePlural) {
+  }
+
+  // The API handles created for a single shared client.
+  private static class ApiCache {
+    private final ApiClient client;
+    private final Map<ApiKey, KubernetesApi<?, ?>> apis = new ConcurrentHashMap<>();
+
+    ApiCache(ApiClient client) {
+      this.client = client;
+    }
+  }
+
   private static final WatchApiFactory DEFAULT_WATCH_API_FACTORY = new WatchApiFactory() {
   };
 
   protected static final UnaryOperator<ApiClient> CLIENT_SELECTOR = (client) -> client;
 
+  /** The field manager named in the server-side apply requests of the operator. */
+  public static final String FIELD_MANAGER = "weblogic-operator";
+
+  private static final JSON SERIALIZER = new JSON();
+
   public static <X extends KubernetesObject, Y extends KubernetesListObject>
       WatchApi<X> createWatchApi(Class<X> apiTypeClass, Class<Y> apiListTypeClass,
                                  String apiGroup, String apiVersion, String resourcePlural) {
@@ -137,6 +189,8 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
 
   public static final RequestBuilder<V1Job, V1JobList> JOB =
       new RequestBuilder<>(V1Job.class, V1JobList.class, "batch", "v1", "jobs", "job");
+  public static final RequestBuilder<V1Lease, V1LeaseList> LEASE =
+      new RequestBuilder<>(V1Lease.class, V1LeaseList.class, "coordination.k8s.io", "v1", "leases", "lease");
   public static final RequestBuilder<V1PodDisruptionBudget, V1PodDisruptionBudgetList> PDB =
       new RequestBuilder<>(V1PodDisruptionBudget.class, V1PodDisruptionBudgetList.class,
           "policy", "v1", "poddisruptionbudgets", "poddisruptionbudget");
@@ -980,6 +1034,21 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
     return response.get();
   }
 
+  /**
+   * Apply resource with a server-side apply, which creates the resource if it does not exist. The operator
+   * becomes the manager of the fields specified in the object, taking them over from any other manager,
+   * and fields set only by other managers are left alone.
+   * @param object Resource, which must specify its kind, API version, namespace and name
+   * @param responseStep Response step
+   * @return Request step
+   */
+  public RequestStep<A, L, A> apply(A object, ResponseStep<A> responseStep) {
+    V1ObjectMeta meta = object.getMetadata();
+    return patch(meta.getNamespace(), meta.getName(), V1Patch.PATCH_FORMAT_APPLY_YAML,
+          new V1Patch(SERIALIZER.serialize(object)), new PatchOptions().fieldManager(FIELD_MANAGER).force(true),
+          responseStep);
+  }
+
   /**
    * Update status.
    * @param object Resource object
@@ -1064,6 +1133,21 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
     return response.get();
   }
 
+  /**
+   * Patch the status of a resource with a JSON patch.
+   * @param namespace Namespace
+   * @param name Name
+   * @param patch JSON patch, whose paths are relative to the resource
+   * @param responseStep Response step
+   * @return Request step
+   */
+  public RequestStep<A, L, A> patchStatus(String namespace, String name, V1Patch patch,
+                                          ResponseStep<A> responseStep) {
+    return new RequestStep.PatchStatusRequestStep<>(
+            responseStep, apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, resourceSingular,
+            namespace, name, patch, CLIENT_SELECTOR);
+  }
+
   /**
    * Create watch.
    * @param listOptions the list options
@@ -1077,12 +1161,16 @@ public class RequestBuilder<A extends KubernetesObject, L extends KubernetesList
 
   /**
    * Create watch.
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch the resources in all namespaces
    * @param listOptions the list options
    * @return the watchable
    * @throws ApiException thrown on failure
    */
   public Watchable<A> watch(String namespace, final ListOptions listOptions) throws ApiException {
+    if (namespace == null) {
+      return watch(listOptions);
+    }
+
     WatchApi<A> client = createWatchApi(apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural);
     return client.watch(namespace, listOptions);
   }
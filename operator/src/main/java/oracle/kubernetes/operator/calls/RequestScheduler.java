@@ -0,0 +1,391 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.openapi.models.V1StatusDetails;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.tuning.CallBuilderTuning;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Packet;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_TOO_MANY_REQUESTS;
+
+/**
+ * Decides when each call to the Kubernetes API may start. Calls wait in one of three priority lanes and are started
+ * highest priority first; within a lane, namespaces take turns, so that one busy namespace cannot hold up the others.
+ * So that a steady flow of higher priority calls cannot starve the lower lanes, a waiting call is promoted by one
+ * priority level for each {@value #AGING_SECONDS} seconds it has waited, and among calls of equal priority,
+ * the one which has waited longest starts first.
+ *
+ * <p>If the "callConcurrencyLimit" tuning parameter is set, a call may start only while fewer calls are in progress
+ * than it allows; and, if "callsPerSecond" is set, while a token bucket of "callBurst" tokens refilled at that rate
+ * is not empty.
+ *
+ * <p>When the API server rejects a call as too many requests, no further calls are started until the time given
+ * in its retry-after detail, and the concurrency limit is halved. The limit then grows back by one each time
+ * that many calls have completed without being rejected.
+ */
+public class RequestScheduler {
+
+  /** Packet key for the {@link Priority} of the calls made by a fiber, overriding the default for each call. */
+  public static final String PRIORITY = "requestPriority";
+
+  private static final Set<String> READ_OPERATIONS = Set.of("get", "list", "logs", "getVersion");
+  private static final Set<String> STATUS_OPERATIONS = Set.of("updateStatus", "patchStatus");
+  private static final String EVENTS = "events";
+  private static final String LEASES = "leases";
+  static final int AGING_SECONDS = 2;
+  private static final long AGING_NANOS = TimeUnit.SECONDS.toNanos(AGING_SECONDS);
+
+  // tests may replace this value
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static RequestScheduler instance = new RequestScheduler();
+
+  // tests may replace this value
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static LongSupplier nanoClock = System::nanoTime;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition admissionsChanged = lock.newCondition();
+  private final Map<Priority, Lane> lanes = new EnumMap<>(Priority.class);
+  private int numInProgress;
+  private int adaptiveLimit = Integer.MAX_VALUE;
+  private int numCompletedSinceIncrease;
+  private long throttledUntilNanos;
+  private double tokens = -1;
+  private long lastRefillNanos;
+
+  public enum Priority {
+    /** Writes which change the operator's managed resources, such as the pod creations of a scale-up. */
+    HIGH,
+    /** Reads, which precede most decisions. */
+    NORMAL,
+    /** Work which may wait: events and status updates outside of make-rights, and periodic scans. */
+    BACKGROUND
+  }
+
+  RequestScheduler() {
+    for (Priority priority : Priority.values()) {
+      lanes.put(priority, new Lane());
+    }
+  }
+
+  public static RequestScheduler getInstance() {
+    return instance;
+  }
+
+  /**
+   * Marks the specified packet so that the calls made by fibers which use it are scheduled as background work.
+   * @param packet the packet to mark
+   * @return the packet
+   */
+  public static Packet inBackground(Packet packet) {
+    packet.put(PRIORITY, Priority.BACKGROUND);
+    return packet;
+  }
+
+  /**
+   * Returns the priority of a call, as set in the packet or else as chosen for its operation and resource.
+   * Calls on leases always have the highest priority. Events and status updates written by a make-right have
+   * the same priority as its other writes, so that the make-right is not held up behind background work.
+   * @param packet the packet of the fiber making the call
+   * @param operationName the name of the operation
+   * @param resourcePlural the plural name of the resource
+   */
+  static Priority getPriority(Packet packet, String operationName, String resourcePlural) {
+    if (LEASES.equals(resourcePlural)) {
+      return Priority.HIGH;   // an operator replica which cannot renew its lease must stop managing its namespaces
+    }
+    return Optional.ofNullable((Priority) packet.get(PRIORITY))
+        .orElseGet(() -> getDefaultPriority(operationName, resourcePlural, isInMakeRight(packet)));
+  }
+
+  private static boolean isInMakeRight(Packet packet) {
+    return packet.get(ProcessingConstants.MAKE_RIGHT_DOMAIN_OPERATION) != null;
+  }
+
+  private static Priority getDefaultPriority(String operationName, String resourcePlural, boolean inMakeRight) {
+    if (!inMakeRight && (EVENTS.equals(resourcePlural) || STATUS_OPERATIONS.contains(operationName))) {
+      return Priority.BACKGROUND;
+    } else if (READ_OPERATIONS.contains(operationName)) {
+      return Priority.NORMAL;
+    } else {
+      return Priority.HIGH;
+    }
+  }
+
+  /**
+   * Returns the number of seconds after which a rejected call may be retried, as reported by the API server.
+   * @param response the response to the call
+   * @return the number of seconds, or null if none was reported
+   */
+  static Integer getRetryAfterSeconds(KubernetesApiResponse<?> response) {
+    return Optional.ofNullable(response)
+        .map(KubernetesApiResponse::getStatus)
+        .map(V1Status::getDetails)
+        .map(V1StatusDetails::getRetryAfterSeconds)
+        .orElse(null);
+  }
+
+  /**
+   * Waits until a call with the specified priority may start. Every call to this method which returns normally
+   * must be followed by a call to {@link #complete(KubernetesApiResponse)}.
+   * @param priority the priority of the call
+   * @param namespace the namespace of the resource, or null if the resource is not namespaced
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  void acquire(Priority priority, String namespace) throws InterruptedException {
+    awaitAdmission(enqueue(priority, namespace));
+  }
+
+  Ticket enqueue(Priority priority, String namespace) {
+    lock.lock();
+    try {
+      final Ticket ticket = new Ticket(priority, Optional.ofNullable(namespace).orElse(""));
+      lanes.get(priority).add(ticket);
+      admitWaitingCalls();
+      return ticket;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void awaitAdmission(Ticket ticket) throws InterruptedException {
+    lock.lock();
+    try {
+      while (!ticket.admitted) {
+        final long waitNanos = admitWaitingCalls();
+        if (ticket.admitted) {
+          break;
+        } else if (waitNanos > 0) {
+          admissionsChanged.awaitNanos(waitNanos);
+        } else {
+          admissionsChanged.await();
+        }
+      }
+    } catch (InterruptedException e) {
+      withdraw(ticket);
+      throw e;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // gives up a ticket, along with the admission it may already have been granted
+  private void withdraw(Ticket ticket) {
+    if (ticket.admitted) {
+      numInProgress--;
+      admitWaitingCalls();
+    } else {
+      lanes.get(ticket.priority).remove(ticket);
+    }
+  }
+
+  /**
+   * Records the completion of a call which had been permitted to start.
+   * @param response the response to the call, or null if there was none
+   */
+  void complete(KubernetesApiResponse<?> response) {
+    final int statusCode = Optional.ofNullable(response).map(KubernetesApiResponse::getHttpStatusCode).orElse(0);
+    lock.lock();
+    try {
+      numInProgress--;
+      if (statusCode == HTTP_TOO_MANY_REQUESTS) {
+        backOff(getRetryAfterSeconds(response));
+      } else if (statusCode > 0 && statusCode < HTTP_INTERNAL_ERROR) {
+        recoverLimit();
+      }
+      admitWaitingCalls();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Without a configured limit, the limit is halved from the number of calls which were in progress.
+  private void backOff(Integer retryAfterSeconds) {
+    final int currentLimit
+        = Math.min(adaptiveLimit, isConcurrencyLimited() ? getConcurrencyLimit() : numInProgress + 1);
+    adaptiveLimit = Math.max(1, currentLimit / 2);
+    numCompletedSinceIncrease = 0;
+    Optional.ofNullable(retryAfterSeconds)
+        .map(TimeUnit.SECONDS::toNanos)
+        .map(nanos -> nowNanos() + nanos)
+        .filter(until -> until - throttledUntilNanos > 0)
+        .ifPresent(until -> throttledUntilNanos = until);
+  }
+
+  private void recoverLimit() {
+    if (adaptiveLimit < getConfiguredLimit() && ++numCompletedSinceIncrease >= adaptiveLimit) {
+      adaptiveLimit++;
+      numCompletedSinceIncrease = 0;
+    }
+  }
+
+  // Starts as many waiting calls as the limits allow, and returns the number of nanoseconds until the limits
+  // will next allow a call to start, or zero if that will happen only when a call completes.
+  private long admitWaitingCalls() {
+    final long now = nowNanos();
+    Ticket next;
+    while ((next = peekNextTicket(now)) != null) {
+      if (throttledUntilNanos - now > 0) {
+        return throttledUntilNanos - now;
+      } else if (isAtConcurrencyLimit()) {
+        return 0;
+      }
+
+      final long tokenWaitNanos = getNanosUntilToken(now);
+      if (tokenWaitNanos > 0) {
+        return tokenWaitNanos;
+      }
+
+      lanes.get(next.priority).poll();
+      next.admitted = true;
+      numInProgress++;
+      admissionsChanged.signalAll();
+    }
+    return 0;
+  }
+
+  // Selects the next call of each lane, and chooses among them by their aged priorities.
+  private Ticket peekNextTicket(long now) {
+    Ticket next = null;
+    for (Lane lane : lanes.values()) {
+      if (!lane.isEmpty() && (next == null || lane.peek().isServedBefore(next, now))) {
+        next = lane.peek();
+      }
+    }
+    return next;
+  }
+
+  private boolean isAtConcurrencyLimit() {
+    return numInProgress >= Math.min(getConfiguredLimit(), adaptiveLimit);
+  }
+
+  private boolean isConcurrencyLimited() {
+    return getConcurrencyLimit() > 0;
+  }
+
+  private int getConfiguredLimit() {
+    return isConcurrencyLimited() ? getConcurrencyLimit() : Integer.MAX_VALUE;
+  }
+
+  // refills the token bucket and, if it then holds a token, takes it
+  private long getNanosUntilToken(long now) {
+    final int rate = getTuning().map(CallBuilderTuning::getCallsPerSecond).orElse(0);
+    if (rate <= 0) {
+      return 0;
+    }
+
+    final int burst = Math.max(1, getTuning().map(CallBuilderTuning::getCallBurst).orElse(1));
+    final double refill = tokens < 0 ? burst : (now - lastRefillNanos) * rate / (double) TimeUnit.SECONDS.toNanos(1);
+    tokens = Math.min(burst, Math.max(0, tokens) + refill);
+    lastRefillNanos = now;
+    if (tokens < 1) {
+      return (long) Math.ceil((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / rate);
+    }
+
+    tokens--;
+    return 0;
+  }
+
+  private int getConcurrencyLimit() {
+    return getTuning().map(CallBuilderTuning::getCallConcurrencyLimit).orElse(0);
+  }
+
+  private Optional<CallBuilderTuning> getTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getCallBuilderTuning);
+  }
+
+  private static long nowNanos() {
+    return nanoClock.getAsLong();
+  }
+
+  /** Returns the number of calls which have been permitted to start, and have not completed. */
+  int getNumInProgress() {
+    lock.lock();
+    try {
+      return numInProgress;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  static class Ticket {
+    private final Priority priority;
+    private final String namespace;
+    private final long enqueuedNanos = nowNanos();
+    private boolean admitted;
+
+    private Ticket(Priority priority, String namespace) {
+      this.priority = priority;
+      this.namespace = namespace;
+    }
+
+    boolean isAdmitted() {
+      return admitted;
+    }
+
+    // returns true if this ticket should be served before the other, which has a higher or equal original priority
+    private boolean isServedBefore(Ticket other, long now) {
+      final long rank = getAgedRank(now);
+      final long otherRank = other.getAgedRank(now);
+      return rank < otherRank || (rank == otherRank && enqueuedNanos - other.enqueuedNanos < 0);
+    }
+
+    private long getAgedRank(long now) {
+      return Math.max(0, priority.ordinal() - (now - enqueuedNanos) / AGING_NANOS);
+    }
+  }
+
+  // The calls waiting with one priority, queued separately for each namespace. The namespaces are kept in the order
+  // in which they are to be served; once a namespace has been served, it moves to the end.
+  private static class Lane {
+    private final Map<String, Deque<Ticket>> queues = new LinkedHashMap<>();
+
+    void add(Ticket ticket) {
+      queues.computeIfAbsent(ticket.namespace, n -> new ArrayDeque<>()).add(ticket);
+    }
+
+    boolean isEmpty() {
+      return queues.isEmpty();
+    }
+
+    Ticket peek() {
+      return queues.values().iterator().next().peek();
+    }
+
+    void poll() {
+      final String namespace = queues.keySet().iterator().next();
+      final Deque<Ticket> queue = queues.remove(namespace);
+      queue.poll();
+      if (!queue.isEmpty()) {
+        queues.put(namespace, queue);
+      }
+    }
+
+    void remove(Ticket ticket) {
+      Optional.ofNullable(queues.get(ticket.namespace)).ifPresent(queue -> {
+        queue.remove(ticket);
+        if (queue.isEmpty()) {
+          queues.remove(ticket.namespace);
+        }
+      });
+    }
+  }
+}
@@ -30,9 +30,13 @@ import io.kubernetes.client.util.generic.options.GetOptions;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import io.kubernetes.client.util.generic.options.PatchOptions;
 import io.kubernetes.client.util.generic.options.UpdateOptions;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_CONFLICT;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+
 /**
  * A Step driven by a call to the Kubernetes API.
  */
@@ -110,7 +114,30 @@ public abstract class RequestStep<
     KubernetesApi<A, L> client
             = RequestBuilder.createKubernetesApi(apiTypeClass, apiListTypeClass, apiGroup, apiVersion,
             resourcePlural, clientSelector);
-    KubernetesApiResponse<R> result = execute(client, packet);
+    final RequestScheduler scheduler = RequestScheduler.getInstance();
+    final RequestScheduler.Priority priority = RequestScheduler.getPriority(packet, operationName, resourcePlural);
+    final KubernetesCallEvent callEvent = new KubernetesCallEvent();
+    callEvent.begin();
+    final long queuedNanos = System.nanoTime();
+    try {
+      scheduler.acquire(priority, getNamespace());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return doTerminate(e, packet);
+    }
+
+    final long startNanos = System.nanoTime();
+    KubernetesApiResponse<R> result = null;
+    try {
+      result = execute(client, packet);
+    } finally {
+      scheduler.complete(result);
+    }
+    OperatorMetrics.recordApiRequest(operationName, resourcePlural, getStatusCode(result), startNanos);
+    recordCallEvent(callEvent, packet, priority, getStatusCode(result), startNanos - queuedNanos);
+    if (ResourceCache.isCachedKind(apiTypeClass)) {
+      updateResourceCache(ResourceCache.getInstance(), result);
+    }
 
     // update packet
     packet.put(RESPONSE_COMPONENT_NAME, result);
@@ -118,6 +145,49 @@ public abstract class RequestStep<
     return doNext(packet);
   }
 
+  private void recordCallEvent(KubernetesCallEvent event, Packet packet, RequestScheduler.Priority priority,
+                               int statusCode, long waitNanos) {
+    if (event.shouldCommit()) {
+      event.identify(packet);
+      event.operation = operationName;
+      event.resource = resourcePlural;
+      event.resourceNamespace = getNamespace();
+      event.resourceName = getName();
+      event.priority = priority.name();
+      event.httpStatus = statusCode;
+      event.waitNanos = waitNanos;
+      event.commit();
+    }
+  }
+
+  private static int getStatusCode(KubernetesApiResponse<?> response) {
+    return Optional.ofNullable(response).map(KubernetesApiResponse::getHttpStatusCode).orElse(FIBER_TIMEOUT);
+  }
+
+  /**
+   * Updates the resource cache to reflect the response to this request. Does nothing by default.
+   * @param cache the resource cache
+   * @param response the response from the API server
+   */
+  void updateResourceCache(ResourceCache cache, KubernetesApiResponse<R> response) {
+    // no-op
+  }
+
+  Class<A> getApiTypeClass() {
+    return apiTypeClass;
+  }
+
+  // Records an object returned in response to a request which wrote it, or discards the cached version
+  // if the write failed because that version was out of date.
+  static void recordWrite(ResourceCache cache, KubernetesApiResponse<? extends KubernetesObject> response,
+                          Class<?> apiTypeClass, String namespace, String name) {
+    if (response.isSuccess()) {
+      Optional.ofNullable(response.getObject()).ifPresent(cache::recordWrite);
+    } else if (response.getHttpStatusCode() == HTTP_CONFLICT) {
+      cache.discard(apiTypeClass, namespace, name);
+    }
+  }
+
   String getResourceSingular() {
     return resourceSingular;
   }
@@ -224,9 +294,38 @@ public abstract class RequestStep<
       return name;
     }
 
+    String getNamespace() {
+      return namespace;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      A cached = isCacheable() ? ResourceCache.getInstance().get(getApiTypeClass(), namespace, name) : null;
+      if (cached == null) {
+        return super.apply(packet);
+      }
+
+      packet.put(RESPONSE_COMPONENT_NAME, new KubernetesApiResponse<>(cached));
+      return doNext(packet);
+    }
+
+    private boolean isCacheable() {
+      return ResourceCache.isCachedKind(getApiTypeClass())
+          && !Boolean.TRUE.equals(getOptions.isPartialObjectMetadataRequest());
+    }
+
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.get(namespace, name, getOptions);
     }
+
+    @Override
+    void updateResourceCache(ResourceCache cache, KubernetesApiResponse<A> response) {
+      if (response.isSuccess() && isCacheable()) {
+        Optional.ofNullable(response.getObject()).ifPresent(cache::record);
+      } else if (response.getHttpStatusCode() == HTTP_NOT_FOUND) {
+        cache.discard(getApiTypeClass(), namespace, name);
+      }
+    }
   }
 
   public static class UpdateRequestStep<A extends KubernetesObject, L extends KubernetesListObject>
@@ -278,6 +377,11 @@ public abstract class RequestStep<
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.update(object, updateOptions);
     }
+
+    @Override
+    void updateResourceCache(ResourceCache cache, KubernetesApiResponse<A> response) {
+      recordWrite(cache, response, getApiTypeClass(), getNamespace(), getName());
+    }
   }
 
   public static class ClusterPatchRequestStep<A extends KubernetesObject,
@@ -393,6 +497,69 @@ public abstract class RequestStep<
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.patch(namespace, name, patchType, patch, patchOptions);
     }
+
+    @Override
+    void updateResourceCache(ResourceCache cache, KubernetesApiResponse<A> response) {
+      recordWrite(cache, response, getApiTypeClass(), namespace, name);
+    }
+  }
+
+  public static class PatchStatusRequestStep<A extends KubernetesObject, L extends KubernetesListObject>
+      extends RequestStep<A, L, A> {
+    private final String namespace;
+    private final String name;
+    private final V1Patch patch;
+
+    /**
+     * Construct patch status request step.
+     *
+     * @param next Response step
+     * @param apiTypeClass API type class
+     * @param apiListTypeClass API list type class
+     * @param apiGroup API group
+     * @param apiVersion API version
+     * @param resourcePlural Resource plural
+     * @param resourceSingular Resource singular
+     * @param namespace Namespace
+     * @param name Name
+     * @param patch JSON patch
+     * @param clientSelector Client selector
+     */
+    public PatchStatusRequestStep(
+        ResponseStep<A> next,
+        Class<A> apiTypeClass,
+        Class<L> apiListTypeClass,
+        String apiGroup,
+        String apiVersion,
+        String resourcePlural,
+        String resourceSingular,
+        String namespace,
+        String name,
+        V1Patch patch,
+        UnaryOperator<ApiClient> clientSelector) {
+      super(next, apiTypeClass, apiListTypeClass, apiGroup, apiVersion, resourcePlural, resourceSingular,
+              "patchStatus", clientSelector);
+      this.namespace = namespace;
+      this.name = name;
+      this.patch = patch;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    String getNamespace() {
+      return namespace;
+    }
+
+    KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
+      return client.patchStatus(namespace, name, patch);
+    }
+
+    @Override
+    void updateResourceCache(ResourceCache cache, KubernetesApiResponse<A> response) {
+      recordWrite(cache, response, getApiTypeClass(), namespace, name);
+    }
   }
 
   public static class ClusterDeleteRequestStep<A extends KubernetesObject, L extends KubernetesListObject>
@@ -491,6 +658,13 @@ public abstract class RequestStep<
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.delete(namespace, name, deleteOptions);
     }
+
+    @Override
+    void updateResourceCache(ResourceCache cache, KubernetesApiResponse<A> response) {
+      if (response.isSuccess() || response.getHttpStatusCode() == HTTP_NOT_FOUND) {
+        cache.discard(getApiTypeClass(), namespace, name);
+      }
+    }
   }
 
   public static class ClusterListRequestStep<A extends KubernetesObject, L extends KubernetesListObject>
@@ -527,10 +701,23 @@ public abstract class RequestStep<
 
     KubernetesApiResponse<L> execute(
         KubernetesApi<A, L> client, Packet packet) {
-      return client.list(listOptions);
+      return client.list(selectPage(listOptions, packet));
     }
   }
 
+  /**
+   * Selects the page of a list request which follows the one whose continue value is in the packet, or the first page
+   * if there is none. The continue value is always replaced, so that an options object reused by a later list does
+   * not resume an earlier one.
+   * @param listOptions the options for the request
+   * @param packet the packet in the fiber
+   * @return the updated options
+   */
+  static ListOptions selectPage(ListOptions listOptions, Packet packet) {
+    listOptions.setContinue((String) packet.remove(CONTINUE));
+    return listOptions;
+  }
+
   public static class ListRequestStep<A extends KubernetesObject, L extends KubernetesListObject>
       extends RequestStep<A, L, L> {
     private final String namespace;
@@ -573,11 +760,7 @@ public abstract class RequestStep<
 
     KubernetesApiResponse<L> execute(
         KubernetesApi<A, L> client, Packet packet) {
-      String cont = (String) packet.remove(CONTINUE);
-      if (cont != null) {
-        listOptions.setContinue(cont);
-      }
-      return client.list(namespace, listOptions);
+      return client.list(namespace, selectPage(listOptions, packet));
     }
   }
 
@@ -630,6 +813,11 @@ public abstract class RequestStep<
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.create(object, createOptions);
     }
+
+    @Override
+    void updateResourceCache(ResourceCache cache, KubernetesApiResponse<A> response) {
+      recordWrite(cache, response, getApiTypeClass(), getNamespace(), getName());
+    }
   }
 
   public static class UpdateStatusRequestStep<A extends KubernetesObject, L extends KubernetesListObject>
@@ -685,6 +873,11 @@ public abstract class RequestStep<
     KubernetesApiResponse<A> execute(KubernetesApi<A, L> client, Packet packet) {
       return client.updateStatus(object, status, updateOptions);
     }
+
+    @Override
+    void updateResourceCache(ResourceCache cache, KubernetesApiResponse<A> response) {
+      recordWrite(cache, response, getApiTypeClass(), getNamespace(), getName());
+    }
   }
 
   private static void checkForIOException(ApiException e) {
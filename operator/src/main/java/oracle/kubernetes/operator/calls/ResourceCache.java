@@ -0,0 +1,501 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodDisruptionBudget;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+
+/**
+ * A local, namespace-partitioned store of the Kubernetes resources which the operator watches. The store is fed
+ * by the namespace watchers and by the lists which the operator performs when it starts or rechecks a namespace,
+ * and allows read requests for those resources to be answered without a call to the API server.
+ *
+ * <p>A resource kind in a namespace is only used to answer reads once a list of that namespace has been
+ * recorded, and stops being used if its watcher reports an error, until the next such list. Entries are
+ * also bypassed whenever the operator has itself written a newer version of a resource than the one held,
+ * so that a read never returns a version older than the operator's own last write. A deleted object leaves
+ * behind its resource version, so that a list taken before the deletion, but recorded after it, does not
+ * restore the object.
+ *
+ * <p>Pods, services and pod disruption budgets are held and returned as recorded, without copying, as the
+ * operator never modifies them in place: callers must treat both the objects they record and those they read
+ * as read-only. Config maps, domains and clusters are modified by the operator after reading them, so the store
+ * holds copies of them and returns copies.
+ */
+public class ResourceCache {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final Map<Class<?>, Predicate<V1ObjectMeta>> CACHED_KINDS = Map.of(
+        V1Pod.class, ResourceCache::isOperatorCreatedDomainResource,
+        V1Service.class, ResourceCache::isOperatorCreatedDomainResource,
+        V1PodDisruptionBudget.class, ResourceCache::isOperatorCreatedDomainResource,
+        V1ConfigMap.class, ResourceCache::isOperatorCreated,
+        DomainResource.class, m -> true,
+        ClusterResource.class, m -> true);
+
+  private static final Set<Class<?>> COPIED_KINDS = Set.of(V1ConfigMap.class, DomainResource.class,
+        ClusterResource.class);
+
+  private static final JSON SERIALIZER = new JSON();
+
+  // tests may replace this value
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static ResourceCache instance = new ResourceCache();
+
+  private final Map<String, Map<Class<?>, KindStore>> namespaces = new ConcurrentHashMap<>();
+
+  public static ResourceCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns true if the specified kind of resource is held in the cache.
+   * @param kind the class of the resource
+   */
+  public static boolean isCachedKind(Class<?> kind) {
+    return CACHED_KINDS.containsKey(kind);
+  }
+
+  private static boolean isOperatorCreatedDomainResource(V1ObjectMeta metadata) {
+    return isOperatorCreated(metadata) && getLabel(metadata, DOMAINUID_LABEL) != null;
+  }
+
+  private static boolean isOperatorCreated(V1ObjectMeta metadata) {
+    return Boolean.parseBoolean(getLabel(metadata, CREATEDBYOPERATOR_LABEL));
+  }
+
+  private static String getLabel(V1ObjectMeta metadata, String name) {
+    return Optional.ofNullable(metadata.getLabels()).map(l -> l.get(name)).orElse(null);
+  }
+
+  /**
+   * Records a watch event.
+   * @param type the type of event: "ADDED", "MODIFIED" or "DELETED"
+   * @param object the object reported by the event
+   */
+  public void recordWatchEvent(String type, KubernetesObject object) {
+    if ("DELETED".equals(type)) {
+      Optional.ofNullable(getStore(object)).ifPresent(s -> s.remove(object.getMetadata()));
+    } else if ("ADDED".equals(type) || "MODIFIED".equals(type)) {
+      record(object);
+    }
+  }
+
+  /**
+   * Records an object read from Kubernetes, replacing any older version.
+   * @param object the object to record
+   */
+  public void record(KubernetesObject object) {
+    Optional.ofNullable(getStore(object)).ifPresent(s -> s.put(object));
+  }
+
+  /**
+   * Records an object written by the operator. Until the cache holds this version or a newer one,
+   * reads of the object will bypass the cache.
+   * @param object the object returned by the API server in response to a create, replace or patch
+   */
+  void recordWrite(KubernetesObject object) {
+    Optional.ofNullable(getStore(object)).ifPresent(s -> s.putWritten(object));
+  }
+
+  /**
+   * Discards any cached version of the specified object. Used when the API server reports that the operator's
+   * view of the object is out of date, or that the object no longer exists.
+   * @param kind the class of the resource
+   * @param namespace the namespace containing the resource
+   * @param name the name of the resource
+   */
+  void discard(Class<?> kind, String namespace, String name) {
+    Optional.ofNullable(getStore(kind, namespace)).ifPresent(s -> s.discard(name));
+  }
+
+  /**
+   * Records the objects returned by a list of a namespace. Objects which fall within the scope of the list,
+   * but which were not returned by it, are removed, unless they are newer than the list. Once a list of all domains
+   * in the namespace has been recorded, the cache may be used to answer reads of the kind in the namespace.
+   * @param kind the class of the resource
+   * @param namespace the listed namespace
+   * @param domainUid the UID of the domain to which the list was restricted, or null for a list of all domains
+   * @param listVersion the resource version of the list, or null if not known
+   * @param objects the objects returned by the list
+   */
+  public void recordList(Class<?> kind, String namespace, @Nullable String domainUid, @Nullable String listVersion,
+                         Collection<? extends KubernetesObject> objects) {
+    recordListed(kind, namespace, objects);
+    completeList(kind, namespace, domainUid, listVersion,
+          objects.stream().map(o -> o.getMetadata().getName()).collect(Collectors.toSet()));
+  }
+
+  /**
+   * Records the objects returned by one page of a list of a namespace. The list must be completed by
+   * {@link #completeList} once all of its pages have been recorded.
+   * @param kind the class of the resource
+   * @param namespace the listed namespace
+   * @param objects the objects returned in the page
+   */
+  public void recordListed(Class<?> kind, String namespace, Collection<? extends KubernetesObject> objects) {
+    if (isCachedKind(kind)) {
+      getOrCreateStore(kind, namespace).putListed(objects);
+    }
+  }
+
+  /**
+   * Completes a list of a namespace whose pages have been recorded by {@link #recordListed}. Objects which fall
+   * within the scope of the list, but were not returned by it, are removed, unless they are newer than the list.
+   * @param kind the class of the resource
+   * @param namespace the listed namespace
+   * @param domainUid the UID of the domain to which the list was restricted, or null for a list of all domains
+   * @param listVersion the resource version of the list, or null if not known
+   * @param listedNames the names of all objects returned by the list
+   */
+  public void completeList(Class<?> kind, String namespace, @Nullable String domainUid, @Nullable String listVersion,
+                           Set<String> listedNames) {
+    if (isCachedKind(kind)) {
+      getOrCreateStore(kind, namespace).completeList(domainUid, listVersion, listedNames);
+    }
+  }
+
+  /**
+   * Marks a kind of resource in a namespace as no longer reliable, typically because its watcher has reported
+   * an error and may have missed events. Reads will bypass the cache until the next list of the namespace.
+   * @param kind the class of the resource
+   * @param namespace the namespace, or null to invalidate the kind in all namespaces
+   */
+  public void invalidate(Class<?> kind, @Nullable String namespace) {
+    if (namespace == null) {
+      namespaces.values().stream().map(m -> m.get(kind)).filter(Objects::nonNull).forEach(KindStore::invalidate);
+    } else {
+      Optional.ofNullable(getStore(kind, namespace)).ifPresent(KindStore::invalidate);
+    }
+  }
+
+  /**
+   * Removes all resources in the specified namespace.
+   * @param namespace the namespace which the operator is no longer managing
+   */
+  public void removeNamespace(String namespace) {
+    namespaces.remove(namespace);
+  }
+
+  /**
+   * Returns the cached object, or null if the cache may not be used to answer the read.
+   * @param kind the class of the resource
+   * @param namespace the namespace containing the resource
+   * @param name the name of the resource
+   * @param <T> the type of the resource
+   */
+  @Nullable
+  public <T extends KubernetesObject> T get(Class<T> kind, String namespace, String name) {
+    return Optional.ofNullable(getStore(kind, namespace)).map(s -> s.get(name)).map(o -> toResult(kind, o))
+          .orElse(null);
+  }
+
+  /**
+   * Returns the cached objects of the specified kind which belong to the specified domain. Returns null
+   * if the cache may not be used to answer the read.
+   * @param kind the class of the resource
+   * @param namespace the namespace containing the resources
+   * @param domainUid the value of the domain UID label
+   * @param <T> the type of the resource
+   */
+  @Nullable
+  public <T extends KubernetesObject> List<T> getDomainResources(Class<T> kind, String namespace, String domainUid) {
+    return Optional.ofNullable(getStore(kind, namespace))
+          .map(s -> s.getByDomainUid(domainUid))
+          .map(l -> l.stream().map(o -> toResult(kind, o)).toList())
+          .orElse(null);
+  }
+
+  /**
+   * Returns the cached object of the specified kind which belongs to the specified domain and server.
+   * Returns null if there is no such object, or if the cache may not be used to answer the read.
+   * @param kind the class of the resource
+   * @param namespace the namespace containing the resources
+   * @param domainUid the value of the domain UID label
+   * @param serverName the value of the server name label
+   * @param <T> the type of the resource
+   */
+  @Nullable
+  public <T extends KubernetesObject> T getServerResource(
+        Class<T> kind, String namespace, String domainUid, String serverName) {
+    return Optional.ofNullable(getStore(kind, namespace))
+          .map(s -> s.getByServerName(domainUid, serverName))
+          .map(o -> toResult(kind, o))
+          .orElse(null);
+  }
+
+  /**
+   * Returns all cached objects of the specified kind in a namespace. Returns null if the cache may not be
+   * used to answer the read, or if the namespace has not been listed since the specified time.
+   * @param kind the class of the resource
+   * @param namespace the namespace containing the resources
+   * @param listedSince the earliest acceptable time of the last list of the namespace
+   * @param <T> the type of the resource
+   */
+  @Nullable
+  public <T extends KubernetesObject> List<T> list(Class<T> kind, String namespace, OffsetDateTime listedSince) {
+    return Optional.ofNullable(getStore(kind, namespace))
+          .map(s -> s.getAll(listedSince))
+          .map(l -> l.stream().map(o -> toResult(kind, o)).toList())
+          .orElse(null);
+  }
+
+  private static <T extends KubernetesObject> T toResult(Class<T> kind, KubernetesObject object) {
+    return isCopiedKind(kind) ? copy(kind, object) : kind.cast(object);
+  }
+
+  private static boolean isCopiedKind(Class<?> kind) {
+    return COPIED_KINDS.contains(kind);
+  }
+
+  private static <T extends KubernetesObject> T copy(Class<T> kind, KubernetesObject object) {
+    return SERIALIZER.deserialize(SERIALIZER.serialize(object), kind);
+  }
+
+  private KindStore getStore(KubernetesObject object) {
+    if (object == null || object.getMetadata() == null || !isCachedKind(object.getClass())) {
+      return null;
+    }
+    return getOrCreateStore(object.getClass(), object.getMetadata().getNamespace());
+  }
+
+  private KindStore getStore(Class<?> kind, String namespace) {
+    return Optional.ofNullable(namespace).map(namespaces::get).map(m -> m.get(kind)).orElse(null);
+  }
+
+  private KindStore getOrCreateStore(Class<?> kind, String namespace) {
+    return namespaces.computeIfAbsent(namespace, n -> new ConcurrentHashMap<>())
+          .computeIfAbsent(kind, k -> new KindStore(CACHED_KINDS.get(k)));
+  }
+
+  /**
+   * Compares two resource versions. Kubernetes describes resource versions as opaque; in practice they are
+   * increasing integers. If either cannot be parsed as such, returns null to indicate that they cannot be compared.
+   */
+  public static Integer compareVersions(String first, String second) {
+    try {
+      return Long.compare(Long.parseLong(first), Long.parseLong(second));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static String getResourceVersion(KubernetesObject object) {
+    return object.getMetadata().getResourceVersion();
+  }
+
+  private static String serverKey(String domainUid, String serverName) {
+    return domainUid + "/" + serverName;
+  }
+
+  /** The cached objects of a single kind in a single namespace. */
+  private static class KindStore {
+    private final Predicate<V1ObjectMeta> selector;
+    private final Map<String, KubernetesObject> objects = new HashMap<>();
+    private final Map<String, String> minimumVersions = new HashMap<>();
+    private final Map<String, String> deletedVersions = new HashMap<>();
+    private final Map<String, Set<String>> domainIndex = new HashMap<>();
+    private final Map<String, String> serverIndex = new HashMap<>();
+    private boolean synchronizedWithList;
+    private OffsetDateTime listTime;
+
+    KindStore(Predicate<V1ObjectMeta> selector) {
+      this.selector = selector;
+    }
+
+    synchronized void put(KubernetesObject object) {
+      final V1ObjectMeta metadata = object.getMetadata();
+      if (!selector.test(metadata)) {
+        // an object whose labels no longer select it is treated as deleted at this version
+        remove(metadata);
+        return;
+      }
+
+      final String name = metadata.getName();
+      if (isOlderThan(getResourceVersion(object), objects.get(name), minimumVersions.get(name))
+            || isNotNewer(getResourceVersion(object), deletedVersions.get(name))) {
+        return;
+      }
+
+      // hold a private copy of kinds which callers may go on to modify
+      final KubernetesObject held = isCopiedKind(object.getClass()) ? copy(object.getClass(), object) : object;
+      removeFromIndexes(objects.put(name, held));
+      addToIndexes(held);
+      deletedVersions.remove(name);
+      if (Optional.ofNullable(minimumVersions.get(name))
+            .map(v -> compareVersions(getResourceVersion(object), v))
+            .map(c -> c >= 0).orElse(false)) {
+        minimumVersions.remove(name);
+      }
+    }
+
+    // returns true if the specified version is known to be older than either the cached object
+    // or the minimum acceptable version
+    private boolean isOlderThan(String version, KubernetesObject cached, String minimumVersion) {
+      return isOlder(version, Optional.ofNullable(cached).map(ResourceCache::getResourceVersion).orElse(null))
+          || isOlder(version, minimumVersion);
+    }
+
+    private boolean isOlder(String version, String other) {
+      return other != null && Optional.ofNullable(compareVersions(version, other)).map(c -> c < 0).orElse(false);
+    }
+
+    private boolean isNotNewer(String version, String other) {
+      return other != null && Optional.ofNullable(compareVersions(version, other)).map(c -> c <= 0).orElse(false);
+    }
+
+    synchronized void putWritten(KubernetesObject object) {
+      final String name = object.getMetadata().getName();
+      minimumVersions.put(name, getResourceVersion(object));
+      put(object);
+    }
+
+    // Removes a deleted object, remembering the version at which it was deleted. A deletion repeated by a
+    // restarted watch is ignored if the object has since been recreated.
+    synchronized void remove(V1ObjectMeta metadata) {
+      if (isOlderThan(metadata.getResourceVersion(), objects.get(metadata.getName()), null)) {
+        return;
+      }
+      removeFromIndexes(objects.remove(metadata.getName()));
+      Optional.ofNullable(metadata.getResourceVersion()).ifPresent(v -> deletedVersions.put(metadata.getName(), v));
+    }
+
+    synchronized void discard(String name) {
+      removeFromIndexes(objects.remove(name));
+      minimumVersions.remove(name);
+    }
+
+    synchronized void putListed(Collection<? extends KubernetesObject> listed) {
+      listed.forEach(this::put);
+    }
+
+    synchronized void completeList(String domainUid, String listVersion, Set<String> listedNames) {
+      Set<String> inScope = domainUid == null ? new HashSet<>(objects.keySet()) : getDomainNames(domainUid);
+      inScope.removeAll(listedNames);
+      inScope.stream().filter(name -> !isNewerThanList(objects.get(name), listVersion)).forEach(this::discard);
+
+      if (domainUid == null) {
+        // the list reflects every deletion up to its own version
+        deletedVersions.values().removeIf(v -> listVersion == null || isNotNewer(v, listVersion));
+        synchronizedWithList = true;
+        listTime = SystemClock.now();
+      }
+    }
+
+    // returns true if the object was created or modified after the list was taken
+    private boolean isNewerThanList(KubernetesObject object, String listVersion) {
+      return listVersion != null && isOlder(listVersion, getResourceVersion(object));
+    }
+
+    synchronized void invalidate() {
+      synchronizedWithList = false;
+    }
+
+    synchronized KubernetesObject get(String name) {
+      return synchronizedWithList ? getIfCurrent(objects.get(name)) : null;
+    }
+
+    // returns null if the operator has written a version of the object which is newer than the cached one,
+    // or if it is not possible to tell
+    private KubernetesObject getIfCurrent(KubernetesObject object) {
+      if (object == null) {
+        return null;
+      }
+
+      final String minimumVersion = minimumVersions.get(object.getMetadata().getName());
+      if (minimumVersion == null) {
+        return object;
+      } else if (Optional.ofNullable(compareVersions(getResourceVersion(object), minimumVersion))
+            .map(c -> c >= 0).orElse(false)) {
+        return object;
+      } else {
+        LOGGER.finer("Cached {0} is older than version {1}", object.getMetadata().getName(), minimumVersion);
+        return null;
+      }
+    }
+
+    synchronized List<KubernetesObject> getByDomainUid(String domainUid) {
+      if (!synchronizedWithList) {
+        return null;
+      }
+
+      final List<KubernetesObject> result = getDomainNames(domainUid).stream()
+            .map(objects::get).map(this::getIfCurrent).toList();
+      return result.contains(null) ? null : result;
+    }
+
+    synchronized List<KubernetesObject> getAll(OffsetDateTime listedSince) {
+      if (!synchronizedWithList || listTime.isBefore(listedSince)) {
+        return null;
+      }
+
+      final List<KubernetesObject> result = objects.values().stream().map(this::getIfCurrent).toList();
+      return result.contains(null) ? null : result;
+    }
+
+    synchronized KubernetesObject getByServerName(String domainUid, String serverName) {
+      return synchronizedWithList
+          ? Optional.ofNullable(serverIndex.get(serverKey(domainUid, serverName))).map(this::get).orElse(null)
+          : null;
+    }
+
+    @Nonnull
+    private Set<String> getDomainNames(String domainUid) {
+      return new HashSet<>(Optional.ofNullable(domainIndex.get(domainUid)).orElse(Set.of()));
+    }
+
+    private void addToIndexes(KubernetesObject object) {
+      final V1ObjectMeta metadata = object.getMetadata();
+      final String domainUid = getLabel(metadata, DOMAINUID_LABEL);
+      if (domainUid != null) {
+        domainIndex.computeIfAbsent(domainUid, d -> new HashSet<>()).add(metadata.getName());
+        Optional.ofNullable(getLabel(metadata, SERVERNAME_LABEL))
+              .ifPresent(s -> serverIndex.put(serverKey(domainUid, s), metadata.getName()));
+      }
+    }
+
+    private void removeFromIndexes(KubernetesObject object) {
+      if (object == null) {
+        return;
+      }
+
+      final V1ObjectMeta metadata = object.getMetadata();
+      final String domainUid = getLabel(metadata, DOMAINUID_LABEL);
+      if (domainUid != null) {
+        Optional.ofNullable(domainIndex.get(domainUid)).ifPresent(names -> names.remove(metadata.getName()));
+        Optional.ofNullable(getLabel(metadata, SERVERNAME_LABEL))
+              .ifPresent(s -> serverIndex.remove(serverKey(domainUid, s), metadata.getName()));
+      }
+    }
+  }
+}
@@ -16,6 +16,7 @@ import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.tuning.TuningParameters;
@@ -326,9 +327,14 @@ public abstract class ResponseStep<T extends KubernetesType> extends Step {
       int statusCode = Optional.ofNullable(callResponse)
           .map(KubernetesApiResponse::getHttpStatusCode).orElse(FIBER_TIMEOUT);
       if (mayRetryOnStatusValue(statusCode)) {
-        return retriesLeft() ? backOffAndRetry(packet, retryStep) : null;
+        if (!retriesLeft()) {
+          return null;
+        }
+        OperatorMetrics.recordApiRetry(statusCode);
+        return backOffAndRetry(packet, retryStep, getMinimumWaitTime(callResponse));
       } else if (isRestartableConflict(conflictStep, statusCode)) {
-        return backOffAndRetry(packet, conflictStep);
+        OperatorMetrics.recordApiConflict();
+        return backOffAndRetry(packet, conflictStep, 0);
       }
       return null;
     }
@@ -348,12 +354,18 @@ public abstract class ResponseStep<T extends KubernetesType> extends Step {
     }
 
     @Nonnull
-    private Result backOffAndRetry(Packet packet, Step nextStep) {
-      final long waitTime = getNextWaitTime();
+    private Result backOffAndRetry(Packet packet, Step nextStep, long minimumWaitTime) {
+      final long waitTime = Math.max(getNextWaitTime(), minimumWaitTime);
 
       return doDelay(nextStep, packet, waitTime, TimeUnit.MILLISECONDS);
     }
 
+    // A server which rejects a request as one of too many may say how long to wait before retrying it
+    private long getMinimumWaitTime(KubernetesApiResponse<?> callResponse) {
+      return Optional.ofNullable(RequestScheduler.getRetryAfterSeconds(callResponse))
+          .map(TimeUnit.SECONDS::toMillis).orElse(0L);
+    }
+
     // Compute wait time, increasing exponentially
     private int getNextWaitTime() {
       return Math.min((2 << ++retryCount) * SCALE, MAX) + (R.nextInt(HIGH - LOW) + LOW);
@@ -0,0 +1,173 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.Serial;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * A bounded store of the results of the token reviews and subject access reviews which authenticate and authorize
+ * operator REST requests, so that repeated requests with the same token need not repeat them. A result is kept
+ * for the number of seconds set by the "accessReviewCacheSeconds" tuning parameter, or by the shorter
+ * "accessReviewNegativeCacheSeconds" if the review rejected the token or denied the access. Tokens are held only
+ * as hashes. Reviews which fail are not kept.
+ */
+public class AccessReviewCache {
+
+  static final int MAX_ENTRIES = 1000;
+
+  // tests may replace this value
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static AccessReviewCache instance = new AccessReviewCache();
+
+  private final Map<Object, CachedResult> results = Collections.synchronizedMap(new RecentResults());
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  public static AccessReviewCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the status of a review of the specified token, performing the review only if no unexpired result is held.
+   * @param principal the principal which performs the review
+   * @param token the access token to review
+   * @param namespace the namespace in which the review is authorized, or null if it is authorized cluster-wide
+   * @param review a function which performs the review, returning null if it fails
+   */
+  V1TokenReviewStatus getTokenReviewStatus(
+        String principal, String token, String namespace, Supplier<V1TokenReviewStatus> review) {
+    return getResult(new TokenKey(principal, hash(token), namespace), review, AccessReviewCache::isAuthenticated);
+  }
+
+  private static boolean isAuthenticated(V1TokenReviewStatus status) {
+    return status.getError() == null && Boolean.TRUE.equals(status.getAuthenticated());
+  }
+
+  /**
+   * Returns true if the specified principal is allowed to perform the specified operation, performing a subject
+   * access review only if no unexpired result is held.
+   *
+   * @param proxy the proxy which performs the review
+   * @param principal The user, group or service account.
+   * @param groups The groups that principal is a member of.
+   * @param operation The operation to be authorized.
+   * @param resource The kind of resource on which the operation is to be authorized.
+   * @param resourceName The name of the resource instance on which the operation is to be
+   *     authorized.
+   * @param scope The scope of the operation (cluster or namespace).
+   * @param namespaceName name of the namespace if scope is namespace else null.
+   * @return true if the operation is allowed, or false if not.
+   */
+  public boolean check(
+      AuthorizationProxy proxy,
+      String principal,
+      List<String> groups,
+      Operation operation,
+      Resource resource,
+      String resourceName,
+      Scope scope,
+      String namespaceName) {
+    return Boolean.TRUE.equals(getResult(
+        new AccessKey(principal, groups, operation, resource, resourceName, scope, namespaceName),
+        () -> proxy.review(principal, groups, operation, resource, resourceName, scope, namespaceName),
+        Boolean::booleanValue));
+  }
+
+  /** Returns the number of reviews answered from the cache. */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /** Returns the number of reviews which could not be answered from the cache. */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T getResult(Object key, Supplier<T> review, Predicate<T> isPositive) {
+    final CachedResult cached = results.get(key);
+    if (cached != null && cached.isUnexpired()) {
+      hitCount.incrementAndGet();
+      OperatorMetrics.recordAccessReviewCacheLookup("hit");
+      return (T) cached.result();
+    }
+
+    missCount.incrementAndGet();
+    OperatorMetrics.recordAccessReviewCacheLookup("miss");
+    final T result = review.get();
+    Optional.ofNullable(result)
+          .map(r -> isPositive.test(r) ? getPositiveSeconds() : getNegativeSeconds())
+          .filter(seconds -> seconds > 0)
+          .ifPresentOrElse(
+              seconds -> results.put(key, new CachedResult(result, SystemClock.now().plusSeconds(seconds))),
+              () -> results.remove(key));
+    return result;
+  }
+
+  private int getPositiveSeconds() {
+    return TuningParameters.getInstance().getAccessReviewCacheSeconds();
+  }
+
+  private int getNegativeSeconds() {
+    return TuningParameters.getInstance().getAccessReviewNegativeCacheSeconds();
+  }
+
+  private static String hash(String token) {
+    try {
+      return Base64.getEncoder().encodeToString(
+            MessageDigest.getInstance("SHA-256").digest(Optional.ofNullable(token).orElse("")
+                  .getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record TokenKey(String principal, String tokenHash, String namespace) {
+  }
+
+  private record AccessKey(String principal, List<String> groups, Operation operation, Resource resource,
+                           String resourceName, Scope scope, String namespace) {
+  }
+
+  private record CachedResult(Object result, OffsetDateTime expiration) {
+    boolean isUnexpired() {
+      return SystemClock.now().isBefore(expiration);
+    }
+  }
+
+  private static class RecentResults extends LinkedHashMap<Object, CachedResult> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    RecentResults() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Object, CachedResult> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  }
+}
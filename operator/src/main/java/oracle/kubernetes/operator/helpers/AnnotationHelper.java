@@ -12,6 +12,7 @@ import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import org.apache.commons.codec.digest.DigestUtils;
 
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
@@ -26,7 +27,9 @@ public class AnnotationHelper {
   private static final String HASHED_STRING = "hashedString";
 
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
-  private static Function<Object, String> hashFunction = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> hashFunction = AnnotationHelper::createConfiguredHash;
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static Function<Object, String> legacyHashFunction = o -> DigestUtils.sha256Hex(Yaml.dump(o));
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -75,6 +78,23 @@ public class AnnotationHelper {
     return hashFunction.apply(objectToHash);
   }
 
+  /**
+   * Creates the hash of the specified object as computed by earlier versions of the operator, from its YAML form.
+   * Used to recognize resources created by those versions, so that they need not be replaced after an upgrade.
+   * @param objectToHash the object to hash
+   */
+  static String createLegacyHash(Object objectToHash) {
+    return legacyHashFunction.apply(objectToHash);
+  }
+
+  private static String createConfiguredHash(Object objectToHash) {
+    return isLegacyRecipeHash() ? createLegacyHash(objectToHash) : CanonicalHash.sha256Hex(objectToHash);
+  }
+
+  private static boolean isLegacyRecipeHash() {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::isLegacyRecipeHash).orElse(false);
+  }
+
   static String getHash(KubernetesObject kubernetesObject) {
     return getAnnotation(kubernetesObject.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
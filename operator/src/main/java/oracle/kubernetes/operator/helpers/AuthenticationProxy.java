@@ -28,6 +28,11 @@ public class AuthenticationProxy {
    *     explaining why the user couldn't be authenticated
    */
   public V1TokenReviewStatus check(String principal, String token, String namespace) {
+    return AccessReviewCache.getInstance().getTokenReviewStatus(
+        principal, token, namespace, () -> review(principal, token, namespace));
+  }
+
+  private V1TokenReviewStatus review(String principal, String token, String namespace) {
 
     LOGGER.entering(principal); // Don't expose the token since it's a credential
 
@@ -69,6 +69,31 @@ public class AuthorizationProxy {
       String resourceName,
       Scope scope,
       String namespaceName) {
+    return Boolean.TRUE.equals(review(principal, groups, operation, resource, resourceName, scope, namespaceName));
+  }
+
+  /**
+   * Performs a subject access review to determine whether the specified principal is allowed to perform the
+   * specified operation, as {@link #check(String, List, Operation, Resource, String, Scope, String)} does.
+   *
+   * @param principal The user, group or service account.
+   * @param groups The groups that principal is a member of.
+   * @param operation The operation to be authorized.
+   * @param resource The kind of resource on which the operation is to be authorized.
+   * @param resourceName The name of the resource instance on which the operation is to be
+   *     authorized.
+   * @param scope The scope of the operation (cluster or namespace).
+   * @param namespaceName name of the namespace if scope is namespace else null.
+   * @return true if the operation is allowed, false if not, or null if the review failed.
+   */
+  public Boolean review(
+      String principal,
+      final List<String> groups,
+      Operation operation,
+      Resource resource,
+      String resourceName,
+      Scope scope,
+      String namespaceName) {
     LOGGER.entering();
     V1SubjectAccessReview subjectAccessReview =
         prepareSubjectAccessReview(
@@ -77,8 +102,8 @@ public class AuthorizationProxy {
       subjectAccessReview = RequestBuilder.SAR.create(subjectAccessReview);
     } catch (ApiException e) {
       LOGGER.severe(MessageKeys.APIEXCEPTION_FROM_SUBJECT_ACCESS_REVIEW, e);
-      LOGGER.exiting(Boolean.FALSE);
-      return Boolean.FALSE;
+      LOGGER.exiting(null);
+      return null;
     }
     V1SubjectAccessReviewStatus subjectAccessReviewStatus = subjectAccessReview.getStatus();
     Boolean result = Optional.ofNullable(subjectAccessReviewStatus)
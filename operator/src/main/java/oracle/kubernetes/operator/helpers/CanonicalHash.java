@@ -0,0 +1,100 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.openapi.JSON;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Computes a SHA-256 hash of a Kubernetes model object by streaming its canonical JSON form directly into
+ * the digest. As with the YAML form previously hashed, null fields are omitted, while empty lists and maps are
+ * retained. Map entries are written in key order, so that the hash does not depend on the order in which
+ * labels, annotations and similar entries were added.
+ */
+public final class CanonicalHash {
+
+  private static final Gson GSON = new JSON().getGson().newBuilder()
+        .registerTypeAdapterFactory(new SortedMapTypeAdapterFactory())
+        .create();
+
+  private CanonicalHash() {
+    // no-op
+  }
+
+  /**
+   * Returns the hex-encoded SHA-256 hash of the canonical form of the specified object.
+   * @param objectToHash a Kubernetes model object, or a map of its JSON form
+   */
+  public static String sha256Hex(Object objectToHash) {
+    final MessageDigest digest = DigestUtils.getSha256Digest();
+    try (Writer writer = createDigestWriter(digest)) {
+      GSON.toJson(objectToHash, writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Hex.encodeHexString(digest.digest());
+  }
+
+  private static Writer createDigestWriter(MessageDigest digest) {
+    return new OutputStreamWriter(new DigestOutputStream(OutputStream.nullOutputStream(), digest), UTF_8);
+  }
+
+  private static class SortedMapTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+      return Map.class.isAssignableFrom(type.getRawType())
+            ? new SortedMapTypeAdapter<>(gson.getDelegateAdapter(this, type))
+            : null;
+    }
+  }
+
+  private static class SortedMapTypeAdapter<T> extends TypeAdapter<T> {
+    private final TypeAdapter<T> delegate;
+
+    SortedMapTypeAdapter(TypeAdapter<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+      delegate.write(out, isUnsortedStringMap(value) ? toSortedMap(value) : value);
+    }
+
+    private boolean isUnsortedStringMap(T value) {
+      return value instanceof Map<?, ?> map && !(map instanceof SortedMap)
+            && map.keySet().stream().allMatch(String.class::isInstance);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T toSortedMap(T value) {
+      return (T) new TreeMap<>((Map<String, ?>) value);
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+      return delegate.read(in);
+    }
+  }
+}
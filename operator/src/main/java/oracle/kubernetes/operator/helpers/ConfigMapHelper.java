@@ -42,6 +42,7 @@ import oracle.kubernetes.operator.http.rest.ScanCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
@@ -206,6 +207,11 @@ public class ConfigMapHelper {
     void recordCurrentMap(Packet packet, V1ConfigMap configMap) {
       packet.put(ProcessingConstants.SCRIPT_CONFIG_MAP, configMap);
     }
+
+    @Override
+    boolean isServerSideApply() {
+      return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::isServerSideApply).orElse(false);
+    }
   }
 
   static synchronized Map<String, String> loadScriptsFromClasspath(String domainNamespace) {
@@ -313,6 +319,13 @@ public class ConfigMapHelper {
       return RequestBuilder.CM.get(namespace, getName(), new ReadResponseStep(next));
     }
 
+    /**
+     * Returns true if this config map should be created and updated with server-side apply requests.
+     */
+    boolean isServerSideApply() {
+      return false;
+    }
+
     boolean isOutdated(V1ConfigMap existingMap) {
       return COMPARATOR.isOutdated(productVersion, existingMap, getModel());
     }
@@ -351,7 +364,7 @@ public class ConfigMapHelper {
         if (existingMap == null) {
           return doNext(createConfigMap(getNext()), packet);
         } else if (isOutdated(existingMap)) {
-          return doNext(replaceConfigMap(getNext()), packet);
+          return doNext(replaceConfigMap(existingMap, getNext()), packet);
         } else if (mustPatchCurrentMap(existingMap)) {
           return doNext(patchCurrentMap(existingMap, getNext()), packet);
         } else if (mustPatchImageHashInMap(existingMap, packet)) {
@@ -368,7 +381,9 @@ public class ConfigMapHelper {
       }
 
       private Step createConfigMap(Step next) {
-        return RequestBuilder.CM.create(getModel(), createCreateResponseStep(next));
+        return isServerSideApply()
+            ? RequestBuilder.CM.apply(getModel(), createCreateResponseStep(next))
+            : RequestBuilder.CM.create(getModel(), createCreateResponseStep(next));
       }
 
       private void logConfigMapExists() {
@@ -379,8 +394,20 @@ public class ConfigMapHelper {
         return new ReplaceResponseStep(next);
       }
 
-      private Step replaceConfigMap(Step next) {
-        return RequestBuilder.CM.update(model, createReplaceResponseStep(next));
+      // A map which the operator did not apply is deleted and re-created by an apply, as an apply would
+      // not remove the entries which the operator no longer sets.
+      private Step replaceConfigMap(V1ConfigMap existingMap, Step next) {
+        if (!isServerSideApply()) {
+          return RequestBuilder.CM.update(model, createReplaceResponseStep(next));
+        } else if (KubernetesUtils.isAppliedByOperator(existingMap.getMetadata())) {
+          return applyReplacementMap(next);
+        } else {
+          return RequestBuilder.CM.delete(namespace, name, new DefaultResponseStep<>(applyReplacementMap(next)));
+        }
+      }
+
+      private Step applyReplacementMap(Step next) {
+        return RequestBuilder.CM.apply(getModel(), createReplaceResponseStep(next));
       }
 
       private Map<String,String> getAnnotations() {
@@ -541,7 +568,7 @@ public class ConfigMapHelper {
 
     IntrospectionLoader(Packet packet, Step conflictStep) {
       this.packet = packet;
-      this.info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      this.info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       this.conflictStep = conflictStep;
       parseIntrospectorResult();
     }
@@ -582,7 +609,7 @@ public class ConfigMapHelper {
     private void updatePacket() {
       ScanCache.INSTANCE.registerScan(
             info.getNamespace(), info.getDomainUid(), new Scan(wlsDomainConfig, SystemClock.now()));
-      packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, wlsDomainConfig);
+      packet.putValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY, wlsDomainConfig);
 
       copyFileToPacketIfPresent(DOMAINZIP_HASH, DOMAINZIP_HASH);
       copyFileToPacketIfPresent(SECRETS_MD_5, SECRETS_MD_5);
@@ -921,7 +948,7 @@ public class ConfigMapHelper {
                   .orElse(null);
 
       if (domainTopology != null) {
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+        DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
         recordTopology(packet, info, domainTopology);
         recordIntrospectVersionAndGeneration(result, packet);
       }
@@ -958,7 +985,7 @@ public class ConfigMapHelper {
           info.getDomainUid(),
           new Scan(domainTopology.getDomain(), SystemClock.now()));
 
-      packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, domainTopology.getDomain());
+      packet.putValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY, domainTopology.getDomain());
     }
 
     private void copyMapEntryToPacket(V1ConfigMap result, Packet packet, String mapKey) {
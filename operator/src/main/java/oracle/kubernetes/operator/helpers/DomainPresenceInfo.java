@@ -326,7 +326,7 @@ public class DomainPresenceInfo extends ResourcePresenceInfo {
   }
 
   public static Optional<DomainPresenceInfo> fromPacket(Packet packet) {
-    return Optional.ofNullable((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
+    return Optional.ofNullable(packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY));
   }
 
   public String getAdminServerName() {
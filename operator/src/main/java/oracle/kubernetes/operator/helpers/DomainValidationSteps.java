@@ -136,7 +136,7 @@ public class DomainValidationSteps {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       DomainResource domain = info.getDomain();
       List<String> fatalValidationFailures = domain.getFatalValidationFailures();
       DomainResource.ValidationResult validationResult
@@ -177,7 +177,7 @@ public class DomainValidationSteps {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       DomainResource domain = info.getDomain();
       List<String> validationFailures = domain.getAdditionalValidationFailures(podSpec);
 
@@ -255,7 +255,7 @@ public class DomainValidationSteps {
 
     @SuppressWarnings("unchecked")
     private List<ClusterResource> getClusters(Packet packet) {
-      return Optional.ofNullable((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO))
+      return Optional.ofNullable(packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY))
           .map(DomainPresenceInfo::getReferencedClusters)
           .or(() -> Optional.ofNullable((List<ClusterResource>) packet.get(CLUSTERS))).orElse(Collections.emptyList());
     }
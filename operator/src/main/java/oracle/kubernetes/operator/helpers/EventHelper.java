@@ -10,6 +10,7 @@ import javax.annotation.Nonnull;
 import io.kubernetes.client.extended.controller.reconciler.Result;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.CoreV1EventSeries;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ObjectReference;
 import io.kubernetes.client.util.generic.KubernetesApiResponse;
@@ -25,6 +26,7 @@ import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
@@ -112,6 +114,14 @@ public class EventHelper {
     return new CreateEventStep(eventData);
   }
 
+  /**
+   * Discards the limit on event writes held for a namespace which is no longer managed.
+   * @param namespace the namespace
+   */
+  public static void removeNamespace(String namespace) {
+    EventSink.getInstance().removeNamespace(namespace);
+  }
+
   /**
    * Factory for {@link Step} that asynchronously create an event.
    *
@@ -177,7 +187,7 @@ public class EventHelper {
     private static CoreV1Event createEventModel(
         Packet packet,
         EventData eventData) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       EventItem eventItem = eventData.eventItem;
       eventData.domainPresenceInfo(info);
       addAdditionalMessage(eventData, info);
@@ -196,26 +206,67 @@ public class EventHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doNext(createEventAPICall(createEventModel(packet, eventData)), packet);
+      final CoreV1Event event = createEventModel(packet, eventData);
+      if (!canWriteInBackground()) {
+        return doNext(createEventAPICall(event, 1), packet);
+      }
+
+      final CreateEventStep writer = new CreateEventStep(domainNamespaces, eventData, null);
+      EventSink.getInstance().submit(packet.copy(), event, count -> writer.createEventAPICall(event, count));
+      return doNext(packet);
     }
 
-    private Step createEventAPICall(CoreV1Event event) {
+    // namespace management starts only once its event has been written, so that event is written by this fiber
+    private boolean canWriteInBackground() {
+      return NAMESPACE_WATCHING_STARTED != eventData.eventItem && Fiber.getCurrentIfSet() != null;
+    }
+
+    private Step createEventAPICall(CoreV1Event event, int count) {
       CoreV1Event existingEvent = getExistingEvent(event);
-      return existingEvent != null ? createReplaceEventCall(event, existingEvent) : createCreateEventCall(event);
+      return existingEvent != null
+          ? createReplaceEventCall(event, existingEvent, count)
+          : createCreateEventCall(event, count);
     }
 
-    private Step createCreateEventCall(CoreV1Event event) {
+    private Step createCreateEventCall(CoreV1Event event, int count) {
       LOGGER.fine(MessageKeys.CREATING_EVENT, eventData.eventItem);
-      event.firstTimestamp(event.getLastTimestamp());
+      event.firstTimestamp(event.getLastTimestamp()).count(count);
+      if (count > 1) {
+        event.series(createSeries(event));
+      }
       return RequestBuilder.EVENT.create(event, new CreateEventResponseStep(getNext()));
     }
 
-    private Step createReplaceEventCall(CoreV1Event event, @NotNull CoreV1Event existingEvent) {
+    private Step createReplaceEventCall(CoreV1Event event, @NotNull CoreV1Event existingEvent, int count) {
       LOGGER.fine(MessageKeys.REPLACING_EVENT, eventData.eventItem);
-      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + 1).orElse(1));
+      existingEvent.count(Optional.ofNullable(existingEvent.getCount()).map(c -> c + count).orElse(count));
       existingEvent.lastTimestamp(event.getLastTimestamp());
+      if (count > 1) {
+        existingEvent.series(createSeries(existingEvent));
+      }
       return RequestBuilder.EVENT.update(existingEvent,
-          new ReplaceEventResponseStep(this, existingEvent, getNext()));
+          new ReplaceEventResponseStep(new WriteEventStep(event, count, getNext()), existingEvent, count, getNext()));
+    }
+
+    // describes the occurrences of an event which were combined into a single write
+    private static CoreV1EventSeries createSeries(CoreV1Event event) {
+      return new CoreV1EventSeries().count(event.getCount()).lastObservedTime(event.getLastTimestamp());
+    }
+
+    private class WriteEventStep extends Step {
+      private final CoreV1Event event;
+      private final int count;
+
+      WriteEventStep(CoreV1Event event, int count, Step next) {
+        super(next);
+        this.event = event;
+        this.count = count;
+      }
+
+      @Override
+      public @Nonnull Result apply(Packet packet) {
+        return doNext(createEventAPICall(event, count), packet);
+      }
     }
 
     private CoreV1Event getExistingEvent(CoreV1Event event) {
@@ -271,11 +322,13 @@ public class EventHelper {
     private class ReplaceEventResponseStep extends ResponseStep<CoreV1Event> {
       final Step replaceEventStep;
       final CoreV1Event existingEvent;
+      final int count;
 
-      ReplaceEventResponseStep(Step replaceEventStep, CoreV1Event existingEvent, Step next) {
+      ReplaceEventResponseStep(Step replaceEventStep, CoreV1Event existingEvent, int count, Step next) {
         super(next);
         this.existingEvent = existingEvent;
         this.replaceEventStep = replaceEventStep;
+        this.count = count;
       }
 
       @Override
@@ -290,7 +343,8 @@ public class EventHelper {
           return doNext(packet);
         }
         if (isNotFound(callResponse) || hasConflict(callResponse)) {
-          return doNext(Step.chain(createCreateEventCall(createEventModel(packet, eventData)), getNext()), packet);
+          return doNext(
+              Step.chain(createCreateEventCall(createEventModel(packet, eventData), count), getNext()), packet);
         } else if (isUnrecoverable(callResponse)) {
           return onFailureNoRetry(packet, callResponse);
         } else {
@@ -302,7 +356,7 @@ public class EventHelper {
         if (existingEvent == null || existingEvent.getCount() == null) {
           return;
         }
-        existingEvent.count(existingEvent.getCount() - 1);
+        existingEvent.count(existingEvent.getCount() - count);
       }
 
       Step createRetry(CoreV1Event event) {
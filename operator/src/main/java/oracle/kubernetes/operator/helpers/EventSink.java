@@ -0,0 +1,189 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Writes Kubernetes events in fibers of their own, so that the fiber which emits an event need not wait for it.
+ * Writes in each namespace are limited by a token bucket, sized by the "eventWriteBurst" tuning parameter and
+ * refilled at the rate set by "eventWritesPerSecond". An event which is emitted while an identical one is still
+ * waiting to be written is not written separately; instead, the waiting write reports both occurrences.
+ */
+class EventSink {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  // tests may replace this value
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static EventSink instance = new EventSink();
+
+  private final Map<String, TokenBucket> buckets = new HashMap<>();
+  private final Map<EventKey, HeldEvent> heldEvents = new HashMap<>();
+
+  static EventSink getInstance() {
+    return instance;
+  }
+
+  /**
+   * Arranges for the specified event to be written by a new fiber, started on the same executor as the current one.
+   * @param packet the packet for the new fiber
+   * @param event the event to write
+   * @param writer a function which returns the steps to write the event, given the number of occurrences to report
+   */
+  void submit(Packet packet, CoreV1Event event, IntFunction<Step> writer) {
+    final HeldEvent heldEvent = holdEvent(event);
+    if (heldEvent != null) {
+      Fiber.getCurrentIfSet().startDetached(new WriteHeldEventStep(heldEvent, writer), packet, new LogFailure());
+    }
+  }
+
+  // returns a newly held event, or null if the event has been combined with one already held
+  private synchronized HeldEvent holdEvent(CoreV1Event event) {
+    final EventKey key = EventKey.of(event);
+    final HeldEvent heldEvent = heldEvents.get(key);
+    if (heldEvent != null) {
+      heldEvent.addOccurrence(event);
+      return null;
+    }
+
+    final HeldEvent newEvent = new HeldEvent(key, event, reserveWrite(key.namespace()));
+    heldEvents.put(key, newEvent);
+    return newEvent;
+  }
+
+  private synchronized int release(HeldEvent heldEvent) {
+    heldEvents.remove(heldEvent.key);
+    return heldEvent.count;
+  }
+
+  private long reserveWrite(String namespace) {
+    return buckets.computeIfAbsent(Optional.ofNullable(namespace).orElse(""), n -> new TokenBucket()).reserve();
+  }
+
+  /**
+   * Discards the token bucket of a namespace which is no longer managed.
+   * @param namespace the namespace
+   */
+  synchronized void removeNamespace(String namespace) {
+    buckets.remove(namespace);
+  }
+
+  /** Returns the number of events waiting to be written. */
+  synchronized int getNumHeldEvents() {
+    return heldEvents.size();
+  }
+
+  private record EventKey(String namespace, String reason, String message,
+                          String kind, String name, String involvedNamespace) {
+
+    static EventKey of(CoreV1Event event) {
+      final Optional<V1ObjectReference> involvedObject = Optional.ofNullable(event.getInvolvedObject());
+      return new EventKey(
+            Optional.ofNullable(event.getMetadata()).map(V1ObjectMeta::getNamespace).orElse(null),
+            event.getReason(),
+            event.getMessage(),
+            involvedObject.map(V1ObjectReference::getKind).orElse(null),
+            involvedObject.map(V1ObjectReference::getName).orElse(null),
+            involvedObject.map(V1ObjectReference::getNamespace).orElse(null));
+    }
+  }
+
+  private static class HeldEvent {
+    private final EventKey key;
+    private final CoreV1Event event;
+    private final long delayMillis;
+    private int count = 1;
+
+    HeldEvent(EventKey key, CoreV1Event event, long delayMillis) {
+      this.key = key;
+      this.event = event;
+      this.delayMillis = delayMillis;
+    }
+
+    void addOccurrence(CoreV1Event occurrence) {
+      count++;
+      event.lastTimestamp(occurrence.getLastTimestamp());
+    }
+  }
+
+  private class WriteHeldEventStep extends Step {
+    private final HeldEvent heldEvent;
+    private final IntFunction<Step> writer;
+    private boolean delayed;
+
+    WriteHeldEventStep(HeldEvent heldEvent, IntFunction<Step> writer) {
+      this.heldEvent = heldEvent;
+      this.writer = writer;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      if (heldEvent.delayMillis > 0 && !delayed) {
+        delayed = true;
+        return new Result(true, Duration.ofMillis(heldEvent.delayMillis));
+      }
+
+      return doNext(writer.apply(release(heldEvent)), packet);
+    }
+  }
+
+  private static class LogFailure implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no-op
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      LOGGER.warning(MessageKeys.EXCEPTION, throwable);
+    }
+  }
+
+  private static class TokenBucket {
+    private double tokens = getBurst();
+    private long lastRefillMillis = nowMillis();
+
+    // takes a token, returning the number of milliseconds until the bucket will have held it
+    long reserve() {
+      final int rate = Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getEventWritesPerSecond).orElse(0);
+      if (rate <= 0) {
+        return 0;
+      }
+
+      final long now = nowMillis();
+      tokens = Math.min(getBurst(), tokens + (now - lastRefillMillis) * rate / 1000.0) - 1;
+      lastRefillMillis = now;
+      return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * 1000 / rate);
+    }
+
+    private static int getBurst() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getEventWriteBurst).map(burst -> Math.max(1, burst)).orElse(1);
+    }
+
+    private static long nowMillis() {
+      return SystemClock.now().toInstant().toEpochMilli();
+    }
+  }
+}
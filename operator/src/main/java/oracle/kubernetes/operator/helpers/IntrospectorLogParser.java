@@ -0,0 +1,189 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+
+import static oracle.kubernetes.operator.helpers.JobHelper.INTROSPECTOR_LOG_PREFIX;
+import static oracle.kubernetes.operator.tuning.TuningParameters.DEFAULT_INTROSPECTOR_LOG_PARSE_LIMIT;
+
+/**
+ * Copies the log records of an introspector job pod to the operator log. The job log is read incrementally, so that
+ * only the line and record being assembled are held, and no more than a configured number of characters is read.
+ * Each record starts with a line beginning with '@['; any following lines which do not are part of the same
+ * record, and lines before the first record are ignored. The messages of the most recent SEVERE records are
+ * retained, to be reported as the reasons for a failed introspection.
+ */
+final class IntrospectorLogParser {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final String RECORD_START = "@[";
+  static final int MAX_RETAINED_SEVERE_STATUSES = 20;
+  static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final String SEVERE_MARKER = "[SEVERE]";
+  private static final Pattern LOG_LEVEL_PATTERN = Pattern.compile("\\[(SEVERE|ERROR|WARNING|INFO|FINE|FINER|FINEST)]");
+
+  private final long parseLimit;
+  private final Deque<String> severeStatuses = new ArrayDeque<>();
+  private final StringBuilder line = new StringBuilder();
+  private final StringBuilder logMessage = new StringBuilder();
+  private long numCharsRead;
+
+  IntrospectorLogParser(long parseLimit) {
+    this.parseLimit = parseLimit;
+  }
+
+  /**
+   * Copies the records of the specified job log to the operator log.
+   * @param jobLog the log of an introspector job pod
+   * @return the messages of the most recent SEVERE records, in the order in which they were logged
+   */
+  static List<String> logIntrospectorRecords(String jobLog) {
+    try (Reader reader = new StringReader(jobLog)) {
+      return new IntrospectorLogParser(getParseLimit()).parse(reader).getSevereStatuses();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static long getParseLimit() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getIntrospectorLogParseLimit)
+          .orElse(DEFAULT_INTROSPECTOR_LOG_PARSE_LIMIT);
+  }
+
+  /**
+   * Reads the job log from the specified reader, copying its records to the operator log.
+   * @param reader a reader positioned at the start of the job log
+   * @return this parser
+   * @throws IOException if unable to read the log
+   */
+  IntrospectorLogParser parse(Reader reader) throws IOException {
+    final char[] buffer = new char[BUFFER_SIZE];
+    int numRead;
+    while ((numRead = reader.read(buffer, 0, getReadSize(buffer))) > 0) {
+      numCharsRead += numRead;
+      for (int i = 0; i < numRead; i++) {
+        addChar(buffer[i]);
+      }
+    }
+
+    if (numCharsRead >= parseLimit && reader.read() != -1) {
+      LOGGER.fine("Introspector job log exceeds " + parseLimit + " characters; the remainder was not parsed");
+    }
+    if (!line.isEmpty()) {
+      processLine();
+    }
+    logToOperator();
+    return this;
+  }
+
+  private int getReadSize(char[] buffer) {
+    return (int) Math.min(buffer.length, Math.max(0, parseLimit - numCharsRead));
+  }
+
+  // Lines longer than a record may hold are truncated as they are read.
+  private void addChar(char c) {
+    if (c == '\n') {
+      processLine();
+    } else if (line.length() < MAX_RECORD_LENGTH) {
+      line.append(c);
+    }
+  }
+
+  private void processLine() {
+    if (isRecordStart(line)) {
+      logToOperator();
+      logMessage.append(INTROSPECTOR_LOG_PREFIX).append(line.toString().trim());
+    } else if (!logMessage.isEmpty() && logMessage.length() < MAX_RECORD_LENGTH) {
+      logMessage.append(System.lineSeparator()).append(line.toString().trim());
+    }
+    line.setLength(0);
+  }
+
+  private boolean isRecordStart(StringBuilder line) {
+    return line.length() >= RECORD_START.length()
+          && RECORD_START.contentEquals(line.subSequence(0, RECORD_START.length()));
+  }
+
+  /**
+   * Returns the messages of the most recent SEVERE records parsed.
+   */
+  List<String> getSevereStatuses() {
+    return new ArrayList<>(severeStatuses);
+  }
+
+  @SuppressWarnings("fallthrough")
+  private void logToOperator() {
+    if (logMessage.isEmpty()) {
+      return;
+    }
+
+    String logMsg = logMessage.toString();
+    logMessage.setLength(0);
+    switch (getLogLevel(logMsg)) {
+      case "SEVERE":
+        addSevereStatus(logMsg); // fall through
+      case "ERROR":
+        LOGGER.severe(logMsg);
+        break;
+      case "WARNING":
+        LOGGER.warning(logMsg);
+        break;
+      case "INFO":
+        LOGGER.info(logMsg);
+        break;
+      case "FINER":
+        LOGGER.finer(logMsg);
+        break;
+      case "FINEST":
+        LOGGER.finest(logMsg);
+        break;
+      case "FINE":
+      default:
+        LOGGER.fine(logMsg);
+        break;
+    }
+  }
+
+  private void addSevereStatus(String logMsg) {
+    if (severeStatuses.size() == MAX_RETAINED_SEVERE_STATUSES) {
+      severeStatuses.removeFirst();
+    }
+    int index = logMsg.toUpperCase().lastIndexOf(SEVERE_MARKER) + SEVERE_MARKER.length();
+    severeStatuses.addLast(logMsg.substring(index).trim());
+  }
+
+  // Returns the last level marker in the first line of the message, or an empty string if there is none.
+  private String getLogLevel(String logMsg) {
+    final Matcher matcher = LOG_LEVEL_PATTERN.matcher(getFirstLine(logMsg).toUpperCase());
+    String level = "";
+    while (matcher.find()) {
+      level = matcher.group(1);
+    }
+    return level;
+  }
+
+  private String getFirstLine(String logMsg) {
+    final int end = logMsg.indexOf(System.lineSeparator());
+    return end < 0 ? logMsg : logMsg.substring(0, end);
+  }
+}
@@ -83,7 +83,6 @@ public class JobHelper {
   private static final int JOB_DELETE_TIMEOUT_SECONDS = 1;
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   public static final String INTROSPECTOR_LOG_PREFIX = "Introspector Job Log: ";
-  private static final String EOL_PATTERN = "\\r?\\n";
 
   private JobHelper() {
   }
@@ -561,7 +560,6 @@ public class JobHelper {
 
     private static class ReadPodLogResponseStep extends ResponseStep<RequestBuilder.StringObject> {
       public static final String INTROSPECTION_FAILED = "INTROSPECTION_FAILED";
-      private StringBuilder logMessage = new StringBuilder();
       private final List<String> severeStatuses = new ArrayList<>();
 
       ReadPodLogResponseStep(Step nextStep) {
@@ -642,67 +640,8 @@ public class JobHelper {
               .orElse(OffsetDateTime.now());
       }
 
-      // Parse log messages out of a Job Log
-      //  - assumes each job log message starts with '@['
-      //  - assumes any lines that don't start with '@[' are part
-      //    of the previous log message
-      //  - ignores all lines in the log up to the first line that starts with '@['
       private void convertJobLogsToOperatorLogs(String jobLogs) {
-        for (String line : jobLogs.split(EOL_PATTERN)) {
-          if (line.startsWith("@[")) {
-            logToOperator();
-            logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-          } else if (!logMessage.isEmpty()) {
-            logMessage.append(System.lineSeparator()).append(line.trim());
-          }
-        }
-        logToOperator();
-      }
-
-      @SuppressWarnings("fallthrough")
-      private void logToOperator() {
-        if (logMessage.isEmpty()) {
-          return;
-        }
-
-        String logMsg = logMessage.toString();
-        switch (getLogLevel(logMsg)) {
-          case "SEVERE":
-            addSevereStatus(logMsg); // fall through
-          case "ERROR":
-            LOGGER.severe(logMsg);
-            break;
-          case "WARNING":
-            LOGGER.warning(logMsg);
-            break;
-          case "INFO":
-            LOGGER.info(logMsg);
-            break;
-          case "FINER":
-            LOGGER.finer(logMsg);
-            break;
-          case "FINEST":
-            LOGGER.finest(logMsg);
-            break;
-          case "FINE":
-          default:
-            LOGGER.fine(logMsg);
-            break;
-        }
-      }
-
-      private void addSevereStatus(String logMsg) {
-        int index = logMsg.toUpperCase().lastIndexOf("[SEVERE]") + "[SEVERE]".length();
-        severeStatuses.add(logMsg.substring(index).trim());
-      }
-
-      private String getLogLevel(String logMsg) {
-        String regExp = ".*\\[(SEVERE|ERROR|WARNING|INFO|FINE|FINER|FINEST)].*";
-        return getFirstLine(logMsg).toUpperCase().replaceAll(regExp, "$1");
-      }
-
-      private String getFirstLine(String logMsg) {
-        return logMsg.split(EOL_PATTERN)[0];
+        severeStatuses.addAll(IntrospectorLogParser.logIntrospectorRecords(jobLogs));
       }
 
       private String onSeparateLines(List<String> lines) {
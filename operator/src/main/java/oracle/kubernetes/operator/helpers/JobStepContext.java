@@ -107,9 +107,9 @@ public class JobStepContext extends BasePodStepContext {
   private Packet packet;
 
   JobStepContext(Packet packet) {
-    super((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
+    super(packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY));
     this.packet = packet;
-    domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY);
+    domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     init();
   }
 
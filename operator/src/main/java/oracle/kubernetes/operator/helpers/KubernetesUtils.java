@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -17,6 +18,7 @@ import oracle.kubernetes.operator.LabelConstants;
 
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.calls.RequestBuilder.FIELD_MANAGER;
 import static oracle.kubernetes.utils.OperatorUtils.isNullOrEmpty;
 
 public class KubernetesUtils {
@@ -152,6 +154,17 @@ public class KubernetesUtils {
     return Boolean.parseBoolean(getOperatorCreatedLabel(metadata));
   }
 
+  /**
+   * Returns true if the operator manages fields of the specified resource with server-side apply. Only then will
+   * a later apply remove fields which the operator no longer sets; fields set by a create or replace request
+   * belong to a different manager, and remain.
+   * @param metadata the metadata of a resource read from Kubernetes
+   */
+  static boolean isAppliedByOperator(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata.getManagedFields()).orElse(List.of()).stream()
+          .anyMatch(entry -> FIELD_MANAGER.equals(entry.getManager()) && "Apply".equals(entry.getOperation()));
+  }
+
   private static String getOperatorCreatedLabel(V1ObjectMeta metadata) {
     return Optional.ofNullable(metadata.getLabels())
           .map(labels -> labels.get(CREATEDBYOPERATOR_LABEL))
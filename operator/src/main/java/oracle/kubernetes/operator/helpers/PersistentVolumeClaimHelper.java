@@ -66,7 +66,7 @@ public class PersistentVolumeClaimHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       if (info.getDomain().getInitPvDomainPersistentVolumeClaim() != null) {
         return doNext(createContext(packet).readAndCreatePersistentVolumeClaimStep(getNext()), packet);
       }
@@ -82,7 +82,7 @@ public class PersistentVolumeClaimHelper {
     private final Step conflictStep;
 
     PersistentVolumeClaimContext(Step conflictStep, Packet packet) {
-      super((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
+      super(packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY));
       this.conflictStep = conflictStep;
     }
 
@@ -168,7 +168,7 @@ public class PersistentVolumeClaimHelper {
 
       @Override
       public Result onSuccess(Packet packet, KubernetesApiResponse<V1PersistentVolumeClaim> callResponse) {
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+        DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
         V1PersistentVolumeClaim persistentVolumeClaim = callResponse.getObject();
 
         if (persistentVolumeClaim == null) {
@@ -274,7 +274,7 @@ public class PersistentVolumeClaimHelper {
 
     @Override
     public Result apply(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       V1PersistentVolumeClaim domainPvc = info.getPersistentVolumeClaim(pvcName);
 
       if (!isBound(domainPvc)) {
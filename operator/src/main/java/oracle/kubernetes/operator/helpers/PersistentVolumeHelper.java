@@ -63,7 +63,7 @@ public class PersistentVolumeHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       if (info.getDomain().getInitPvDomainPersistentVolume() != null) {
         return doNext(createContext(packet).readAndCreatePersistentVolumeStep(getNext()), packet);
       }
@@ -79,7 +79,7 @@ public class PersistentVolumeHelper {
     private final Step conflictStep;
 
     PersistentVolumeContext(Step conflictStep, Packet packet) {
-      super((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
+      super(packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY));
       this.conflictStep = conflictStep;
     }
 
@@ -154,7 +154,7 @@ public class PersistentVolumeHelper {
 
       @Override
       public Result onSuccess(Packet packet, KubernetesApiResponse<V1PersistentVolume> callResponse) {
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+        DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
         V1PersistentVolume persistentVolume = callResponse.getObject();
         if (persistentVolume == null) {
           return doNext(createNewPersistentVolume(getNext()), packet);
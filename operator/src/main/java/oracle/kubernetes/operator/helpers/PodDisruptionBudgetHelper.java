@@ -82,7 +82,7 @@ public class PodDisruptionBudgetHelper {
     private final String clusterName;
 
     PodDisruptionBudgetContext(Step conflictStep, Packet packet) {
-      super((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
+      super(packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY));
       this.conflictStep = conflictStep;
       this.clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
     }
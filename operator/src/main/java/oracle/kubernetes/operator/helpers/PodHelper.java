@@ -446,7 +446,7 @@ public class PodHelper {
 
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<V1Pod> callResponse) {
-      DomainPresenceInfo info = (DomainPresenceInfo)  packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       V1Pod pod = callResponse.getObject();
       info.setServerPod(getPodServerName(pod), pod);
       return doNext(packet);
@@ -695,9 +695,8 @@ public class PodHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
-      WlsDomainConfig domainTopology =
-              (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
+      WlsDomainConfig domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       V1Pod adminPod = info.getServerPod(domainTopology.getAdminServerName());
 
       if (adminPod == null || !isPodReady(adminPod)) {
@@ -924,7 +923,7 @@ public class PodHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      final DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      final DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       final V1Pod oldPod = info.getServerPod(serverName);
 
       if (oldPod == null || info.getDomain() == null) {
@@ -993,7 +992,7 @@ public class PodHelper {
       return RequestBuilder.POD.delete(namespace, name, deleteOptions,
               new DefaultResponseStep<V1Pod>(conflictStep, next) {
           public Result onSuccess(Packet packet, KubernetesApiResponse<V1Pod> callResponse) {
-            DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+            DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
             if (callResponse.getHttpStatusCode() == HTTP_NOT_FOUND) {
               info.setServerPod(serverName, null);
             } else if (isMustWait) {
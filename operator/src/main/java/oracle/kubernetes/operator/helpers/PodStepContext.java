@@ -142,10 +142,10 @@ public abstract class PodStepContext extends BasePodStepContext {
   private String sha256Hash;
 
   PodStepContext(Step conflictStep, Packet packet) {
-    super((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
+    super(packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY));
     this.conflictStep = conflictStep;
     this.packet = packet;
-    domainTopology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     miiModelSecretsHash = (String)packet.get(IntrospectorConfigMapConstants.SECRETS_MD_5);
     miiDomainZipHash = (String)packet.get(IntrospectorConfigMapConstants.DOMAINZIP_HASH);
     domainRestartVersion = (String)packet.get(IntrospectorConfigMapConstants.DOMAIN_RESTART_VERSION);
@@ -1125,7 +1125,8 @@ public abstract class PodStepContext extends BasePodStepContext {
 
     private boolean mustPatchPod(V1Pod currentPod) {
       return KubernetesUtils.isMissingValues(getLabels(currentPod), getNonHashedPodLabels())
-          || KubernetesUtils.isMissingValues(getAnnotations(currentPod), getPodAnnotations());
+          || KubernetesUtils.isMissingValues(getAnnotations(currentPod), getPodAnnotations())
+          || !hasCurrentPodHash(currentPod);
     }
 
     private void logPodExists() {
@@ -1154,7 +1155,7 @@ public abstract class PodStepContext extends BasePodStepContext {
       V1Pod recipe = createPodRecipe();
       adjustments.forEach(adjustment -> adjustment.right().accept(recipe, currentPod));
 
-      return AnnotationHelper.createHash(recipe);
+      return AnnotationHelper.createLegacyHash(recipe);
     }
 
     private void adjustVolumeMountName(List<V1VolumeMount> convertedVolumeMounts, V1VolumeMount volumeMount) {
@@ -1377,8 +1378,18 @@ public abstract class PodStepContext extends BasePodStepContext {
           .anyMatch(requiredHash::equals);
     }
 
+    private boolean hasCurrentPodHash(V1Pod currentPod) {
+      return AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
+    }
+
+    // A pod created by an earlier operator version carries the hash of the YAML form of its recipe.
+    private boolean hasLegacyPodHash(V1Pod currentPod) {
+      return AnnotationHelper.createLegacyHash(createPodRecipe()).equals(AnnotationHelper.getHash(currentPod));
+    }
+
     private boolean hasCorrectPodHash(V1Pod currentPod) {
-      return AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod))
+      return hasCurrentPodHash(currentPod)
+          || hasLegacyPodHash(currentPod)
           || (isPodFromRecentOperator(currentPod)
             && canAdjustRecentOperatorMajorVersion3HashToMatch(currentPod, AnnotationHelper.getHash(currentPod)));
     }
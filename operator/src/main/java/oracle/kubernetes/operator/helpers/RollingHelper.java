@@ -30,7 +30,7 @@ import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.OperatorUtils;
 
-import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY_KEY;
 
 /**
  * After the {@link PodHelper} identifies servers that are presently running, but that are using an
@@ -105,7 +105,7 @@ public class RollingHelper {
       if (context.hasNoWork()) {
         return doNext(packet);
       } else {
-        return doForkJoin(getNext(), packet, context.getWork());
+        return doConcurrentForkJoin(getNext(), packet, context.getWork());
       }
     }
 
@@ -180,7 +180,7 @@ public class RollingHelper {
       }
 
       private void addWork(Packet packet, Step step) {
-        work.add(new StepAndPacket(step, packet));
+        work.add(new StepAndPacket(step, packet.copy()));
       }
 
       private boolean hasNoWork() {
@@ -199,7 +199,7 @@ public class RollingHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doForkJoin(getNext(), packet, serversThatCanRestartNow);
+      return doConcurrentForkJoin(getNext(), packet, serversThatCanRestartNow);
     }
   }
 
@@ -232,7 +232,7 @@ public class RollingHelper {
     @Override
     public @Nonnull Result apply(Packet packet) {
       StepContext context = new StepContext(packet, clusterName);
-      List<String> readyServers = context.getReadyServers(packet.getValue(DOMAIN_TOPOLOGY));
+      List<String> readyServers = context.getReadyServers(packet.getValue(DOMAIN_TOPOLOGY_KEY));
       if (loggedServersSize != servers.size() || !Objects.equals(loggedReadyServers, readyServers.toString())) {
         LOGGER.info(MessageKeys.ROLLING_SERVERS,
             context.getDomainUid(), getServerNames(servers), readyServers);
@@ -247,7 +247,7 @@ public class RollingHelper {
       }
 
       if (!restarts.isEmpty()) {
-        return doForkJoin(this, packet, restarts);
+        return doConcurrentForkJoin(this, packet, restarts);
       } else if (!servers.isEmpty()) {
         return doDelay(this, packet, DELAY_IN_SECONDS, TimeUnit.SECONDS);
       } else {
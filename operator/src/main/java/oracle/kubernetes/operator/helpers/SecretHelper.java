@@ -61,7 +61,7 @@ public class SecretHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      DomainPresenceInfo dpi = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo dpi = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       V1Secret secret = dpi.getWebLogicCredentialsSecret();
       if (secret != null) {
         insertAuthorizationSource(packet, secret);
@@ -81,7 +81,7 @@ public class SecretHelper {
 
     private void insertAuthorizationSource(Packet packet, V1Secret secret) {
       packet.put(ProcessingConstants.AUTHORIZATION_SOURCE,
-          new SecretContext((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO),
+          new SecretContext(packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY),
               secret, packet.getValue(LoggingFilter.LOGGING_FILTER_PACKET_KEY))
               .createAuthorizationSource());
     }
@@ -105,7 +105,7 @@ public class SecretHelper {
       @Override
       public Result onSuccess(Packet packet, KubernetesApiResponse<V1Secret> callResponse) {
         V1Secret secret = callResponse.getObject();
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+        DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
         info.setWebLogicCredentialsSecret(secret);
         insertAuthorizationSource(packet, secret);
         return doNext(packet);
@@ -32,6 +32,7 @@ import oracle.kubernetes.operator.processing.EffectiveServerSpec;
 import oracle.kubernetes.operator.steps.ActionResponseStep;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.steps.DeleteServiceListStep;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -58,6 +59,7 @@ import static oracle.kubernetes.common.logging.MessageKeys.MANAGED_SERVICE_EXIST
 import static oracle.kubernetes.common.logging.MessageKeys.MANAGED_SERVICE_REPLACED;
 import static oracle.kubernetes.operator.DomainStatusUpdater.createKubernetesFailureSteps;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.LabelConstants.forDomainUidSelector;
 import static oracle.kubernetes.operator.LabelConstants.getCreatedByOperatorSelector;
 import static oracle.kubernetes.operator.LabelConstants.getServiceTypeSelector;
@@ -388,9 +390,9 @@ public class ServiceHelper {
     private final OperatorServiceType serviceType;
 
     ServiceStepContext(Step conflictStep, Packet packet, OperatorServiceType serviceType) {
-      super((DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO));
+      super(packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY));
       this.conflictStep = conflictStep;
-      domainTopology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       this.serviceType = serviceType;
     }
 
@@ -550,8 +552,9 @@ public class ServiceHelper {
 
     protected abstract void removeServiceFromRecord();
 
-    private static boolean canUseCurrentService(V1Service model, V1Service current) {
-      return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current));
+    private boolean canUseCurrentService(V1Service model, V1Service current) {
+      return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current))
+          || AnnotationHelper.createLegacyHash(createRecipe()).equals(AnnotationHelper.getHash(current));
     }
 
     Step verifyService(Step next) {
@@ -561,12 +564,34 @@ public class ServiceHelper {
       } else if (canUseCurrentService(createModel(), service)) {
         logServiceExists();
         return next;
+      } else if (canApplyChanges(service)) {
+        return applyService(getServiceReplaceMessageKey(), next);
       } else {
         removeServiceFromRecord();
         return deleteAndReplaceService(next);
       }
     }
 
+    // Node port services are still deleted and re-created when changed, as their ports may be in use by the
+    // other node port services of the domain. So is a service which the operator created or replaced without
+    // server-side apply, as an apply would not remove the fields it no longer sets; it is re-created by an apply.
+    private boolean canApplyChanges(V1Service service) {
+      return isServerSideApply() && serviceType != EXTERNAL
+          && KubernetesUtils.isAppliedByOperator(service.getMetadata());
+    }
+
+    private boolean isServerSideApply() {
+      return Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::isServerSideApply).orElse(false);
+    }
+
+    private Step applyService(String messageKey, Step next) {
+      return RequestBuilder.SERVICE.apply(createAppliedModel(), new ApplyResponse(messageKey, next));
+    }
+
+    private V1Service createAppliedModel() {
+      return createModel().apiVersion("v1").kind("Service");
+    }
+
     protected abstract void logServiceExists();
 
     private Step createNewService(Step next) {
@@ -605,7 +630,9 @@ public class ServiceHelper {
     protected abstract String getServiceReplaceMessageKey();
 
     private Step createService(String messageKey, Step next) {
-      return RequestBuilder.SERVICE.create(createModel(), new CreateResponse(messageKey, next));
+      return isServerSideApply()
+          ? RequestBuilder.SERVICE.apply(createAppliedModel(), new CreateResponse(messageKey, next))
+          : RequestBuilder.SERVICE.create(createModel(), new CreateResponse(messageKey, next));
     }
 
     private class ConflictStep extends Step {
@@ -684,6 +711,25 @@ public class ServiceHelper {
       }
     }
 
+    // A change to an immutable field, such as the cluster IP of a service, cannot be applied;
+    // such a service is deleted and re-created instead.
+    private class ApplyResponse extends CreateResponse {
+
+      ApplyResponse(String messageKey, Step next) {
+        super(messageKey, next);
+      }
+
+      @Override
+      public Result onFailure(Packet packet, KubernetesApiResponse<V1Service> callResponse) {
+        if (callResponse.getHttpStatusCode() == HTTP_UNPROCESSABLE_ENTITY) {
+          removeServiceFromRecord();
+          return doNext(deleteAndReplaceService(getNext()), packet);
+        } else {
+          return super.onFailure(packet, callResponse);
+        }
+      }
+    }
+
     private class CreateResponse extends ResponseStep<V1Service> {
       private final String messageKey;
 
@@ -724,7 +770,7 @@ public class ServiceHelper {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       return doNext(createActionStep(info), packet);
     }
 
@@ -759,7 +805,7 @@ public class ServiceHelper {
     ClusterStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet, OperatorServiceType.CLUSTER);
       clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
-      config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      config = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     }
 
     @Override
@@ -100,7 +100,7 @@ public class WlsConfigValidator {
 
   WlsConfigValidator(Packet packet) {
     this.info = DomainPresenceInfo.fromPacket(packet).orElseThrow();
-    this.domainConfig = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY);
+    this.domainConfig = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     this.domainUid = info.getDomainUid();
   }
 
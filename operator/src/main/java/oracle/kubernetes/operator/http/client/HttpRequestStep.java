@@ -135,7 +135,7 @@ public class HttpRequestStep extends Step {
   }
 
   private DomainPresenceInfo getDomainPresenceInfo(Packet packet) {
-    return (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    return packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
   }
 
   private int getHttpRequestFailureThreshold() {
@@ -0,0 +1,232 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/**
+ * The metrics which describe the operator's own work. They are registered with the default Prometheus registry,
+ * and so are served by the {@link MetricsServer} along with the JVM metrics.
+ */
+public class OperatorMetrics {
+
+  public static final String SUCCESS = "success";
+  public static final String RETRY = "retry";
+  public static final String FAILURE = "failure";
+
+  private static final String PREFIX = "weblogic_operator_";
+
+  private static final Histogram API_REQUEST_SECONDS = Histogram.build()
+        .name(PREFIX + "kubernetes_request_duration_seconds")
+        .help("Duration of Kubernetes API requests, by verb, resource and response status code.")
+        .labelNames("verb", "resource", "code")
+        .buckets(0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30)
+        .register();
+
+  private static final Counter API_RETRIES = Counter.build()
+        .name(PREFIX + "kubernetes_request_retries_total")
+        .help("Kubernetes API requests retried after a failure, by response status code.")
+        .labelNames("code")
+        .register();
+
+  private static final Counter API_CONFLICTS = Counter.build()
+        .name(PREFIX + "kubernetes_request_conflicts_total")
+        .help("Kubernetes API requests rebuilt and retried after a conflict.")
+        .register();
+
+  private static final Histogram MAKE_RIGHT_SECONDS = Histogram.build()
+        .name(PREFIX + "make_right_duration_seconds")
+        .help("Duration of domain make-right operations, by namespace, domain and outcome.")
+        .labelNames("namespace", "domain_uid", "outcome")
+        .buckets(0.1, 0.5, 1, 5, 10, 30, 60, 120, 300, 600, 1800)
+        .register();
+
+  private static final Gauge FIBERS_IN_FLIGHT = Gauge.build()
+        .name(PREFIX + "fibers_in_flight")
+        .help("Fibers currently running, by the kind of gate which started them.")
+        .labelNames("gate")
+        .register();
+
+  private static final Counter WATCH_EVENTS = Counter.build()
+        .name(PREFIX + "watch_events_total")
+        .help("Watch events received, by watcher and event type.")
+        .labelNames("watcher", "type")
+        .register();
+
+  private static final Counter MAKE_RIGHT_TRIGGERS = Counter.build()
+        .name(PREFIX + "make_right_triggers_total")
+        .help("Make-right requests received from pod watch events, by namespace.")
+        .labelNames("namespace")
+        .register();
+
+  private static final Counter MAKE_RIGHT_TRIGGERED_STARTS = Counter.build()
+        .name(PREFIX + "make_right_triggered_starts_total")
+        .help("Make-rights started to satisfy the requests received from pod watch events, by namespace.")
+        .labelNames("namespace")
+        .register();
+
+  private static final Gauge MAKE_RIGHT_QUEUE_DEPTH = Gauge.build()
+        .name(PREFIX + "make_right_queue_depth")
+        .help("Make-rights waiting to start because the concurrency limit has been reached, by priority.")
+        .labelNames("priority")
+        .register();
+
+  private static final Histogram MAKE_RIGHT_QUEUE_WAIT_SECONDS = Histogram.build()
+        .name(PREFIX + "make_right_queue_wait_seconds")
+        .help("Time make-rights waited in the queue before starting, by priority.")
+        .labelNames("priority")
+        .buckets(0.1, 0.5, 1, 5, 10, 30, 60, 120, 300, 600)
+        .register();
+
+  private static final Histogram STATUS_UPDATE_LAG_SECONDS = Histogram.build()
+        .name(PREFIX + "status_update_lag_seconds")
+        .help("Delay between the time a domain status update was scheduled to run and the time it ran.")
+        .buckets(0.001, 0.01, 0.1, 0.5, 1, 2.5, 5, 10, 30)
+        .register();
+
+  private static final Counter ACCESS_REVIEW_CACHE_LOOKUPS = Counter.build()
+        .name(PREFIX + "access_review_cache_lookups_total")
+        .help("Token and subject access reviews looked up in the cache, by result.")
+        .labelNames("result")
+        .register();
+
+  private OperatorMetrics() {
+    // no-op
+  }
+
+  /**
+   * Records a completed Kubernetes API request.
+   * @param verb the operation performed, such as "list" or "patch"
+   * @param resource the plural name of the resource
+   * @param code the HTTP status code of the response, or zero if there was none
+   * @param startNanos the value of {@link System#nanoTime()} when the request was sent
+   */
+  public static void recordApiRequest(String verb, String resource, int code, long startNanos) {
+    API_REQUEST_SECONDS.labels(verb, resource, Integer.toString(code)).observe(secondsSince(startNanos));
+  }
+
+  /**
+   * Records the retry of a failed Kubernetes API request.
+   * @param code the HTTP status code of the failed response, or zero if there was none
+   */
+  public static void recordApiRetry(int code) {
+    API_RETRIES.labels(Integer.toString(code)).inc();
+  }
+
+  /**
+   * Records the retry of a Kubernetes API request which failed with a conflict.
+   */
+  public static void recordApiConflict() {
+    API_CONFLICTS.inc();
+  }
+
+  /**
+   * Records a completed make-right of a domain.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   * @param outcome one of {@link #SUCCESS}, {@link #RETRY} or {@link #FAILURE}
+   * @param startNanos the value of {@link System#nanoTime()} when the make-right started
+   */
+  public static void recordMakeRight(String namespace, String domainUid, String outcome, long startNanos) {
+    MAKE_RIGHT_SECONDS.labels(namespace, domainUid, outcome).observe(secondsSince(startNanos));
+  }
+
+  /**
+   * Removes the make-right durations recorded for a domain, once it has been deleted.
+   * @param namespace the namespace of the domain
+   * @param domainUid the UID of the domain
+   */
+  public static void removeMakeRights(String namespace, String domainUid) {
+    for (String outcome : new String[] {SUCCESS, RETRY, FAILURE}) {
+      MAKE_RIGHT_SECONDS.remove(namespace, domainUid, outcome);
+    }
+  }
+
+  /**
+   * Sets the source of the number of running fibers started by one kind of fiber gate.
+   * @param gate a name for the kind of gate
+   * @param fiberCount a function which returns the number of running fibers
+   */
+  public static void setFiberCountSource(String gate, DoubleSupplier fiberCount) {
+    FIBERS_IN_FLIGHT.setChild(new Gauge.Child() {
+      @Override
+      public double get() {
+        return fiberCount.getAsDouble();
+      }
+    }, gate);
+  }
+
+  /**
+   * Records a watch event.
+   * @param watcher the name of the watcher which received the event
+   * @param type the type of the event
+   */
+  public static void recordWatchEvent(String watcher, String type) {
+    WATCH_EVENTS.labels(watcher, type).inc();
+  }
+
+  /**
+   * Records a request for a make-right, received from a pod watch event.
+   * @param namespace the namespace of the domain
+   */
+  public static void recordMakeRightTrigger(String namespace) {
+    MAKE_RIGHT_TRIGGERS.labels(namespace).inc();
+  }
+
+  /**
+   * Records the start of a make-right which satisfies all requests from pod watch events held for its domain.
+   * @param namespace the namespace of the domain
+   */
+  public static void recordTriggeredMakeRightStart(String namespace) {
+    MAKE_RIGHT_TRIGGERED_STARTS.labels(namespace).inc();
+  }
+
+  /**
+   * Sets the source of the number of make-rights waiting in the queue with one priority.
+   * @param priority the name of the priority
+   * @param depth a function which returns the number of waiting make-rights
+   */
+  public static void setMakeRightQueueDepthSource(String priority, DoubleSupplier depth) {
+    MAKE_RIGHT_QUEUE_DEPTH.setChild(new Gauge.Child() {
+      @Override
+      public double get() {
+        return depth.getAsDouble();
+      }
+    }, priority);
+  }
+
+  /**
+   * Records the start of a make-right which waited in the queue.
+   * @param priority the name of the priority with which it waited
+   * @param queuedNanos the value of {@link System#nanoTime()} when it was queued
+   */
+  public static void recordMakeRightQueueWait(String priority, long queuedNanos) {
+    MAKE_RIGHT_QUEUE_WAIT_SECONDS.labels(priority).observe(secondsSince(queuedNanos));
+  }
+
+  /**
+   * Records the start of a scheduled status update.
+   * @param scheduledNanos the value of {@link System#nanoTime()} at which the update was due to start
+   */
+  public static void recordStatusUpdateLag(long scheduledNanos) {
+    STATUS_UPDATE_LAG_SECONDS.observe(Math.max(0, secondsSince(scheduledNanos)));
+  }
+
+  /**
+   * Records the lookup of an access review in the cache.
+   * @param result "hit" if the lookup was answered from the cache, or "miss" if it performed the review
+   */
+  public static void recordAccessReviewCacheLookup(String result) {
+    ACCESS_REVIEW_CACHE_LOOKUPS.labels(result).inc();
+  }
+
+  private static double secondsSince(long startNanos) {
+    return (double) (System.nanoTime() - startNanos) / TimeUnit.SECONDS.toNanos(1);
+  }
+}
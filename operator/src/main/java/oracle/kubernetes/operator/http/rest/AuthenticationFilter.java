@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest;
@@ -42,6 +42,7 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
 
   public static final String REST_BACKEND_PROPERTY = "RestBackend";
   public static final String ACCESS_TOKEN_PREFIX = "Bearer ";
+  public static final String CONSISTENT_QUERY_PARAMETER = "consistent";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   @Context private Application application;
 
@@ -58,6 +59,9 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
       RestConfig r = (RestConfig) rc.getProperty(RestConfig.REST_CONFIG_PROPERTY);
       String t = getAccessToken(req);
       RestBackend be = r.getBackend(t);
+      if (isConsistentReadRequested(req)) {
+        be.useConsistentReads();
+      }
       req.setProperty(REST_BACKEND_PROPERTY, be);
     } catch (RuntimeException | Error re) {
       authenticationFailure(re);
@@ -66,6 +70,10 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
     LOGGER.exiting();
   }
 
+  private boolean isConsistentReadRequested(ContainerRequestContext req) {
+    return Boolean.parseBoolean(req.getUriInfo().getQueryParameters().getFirst(CONSISTENT_QUERY_PARAMETER));
+  }
+
   private String getAccessToken(ContainerRequestContext req) {
     LOGGER.entering();
     String atz = req.getHeaderString(HttpHeaders.AUTHORIZATION);
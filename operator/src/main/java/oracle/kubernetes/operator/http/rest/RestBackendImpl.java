@@ -21,6 +21,7 @@ import javax.annotation.Nonnull;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
@@ -46,6 +47,8 @@ import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.OperatorMain;
 import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResourceCache;
+import oracle.kubernetes.operator.helpers.AccessReviewCache;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
@@ -59,6 +62,7 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.utils.SystemClock;
 import oracle.kubernetes.weblogic.domain.model.ClusterList;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
@@ -94,6 +98,7 @@ public class RestBackendImpl implements RestBackend {
   private V1UserInfo userInfo;
   private Gson gson;
   private UnaryOperator<ApiClient> clientSupplier;
+  private boolean consistentReads;
 
   /**
    * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
@@ -127,7 +132,8 @@ public class RestBackendImpl implements RestBackend {
     boolean authorized;
     if (domainUid == null) {
       authorized =
-          atz.check(
+          AccessReviewCache.getInstance().check(
+              atz,
               userInfo.getUsername(),
               userInfo.getGroups(),
               operation,
@@ -137,7 +143,8 @@ public class RestBackendImpl implements RestBackend {
               null);
     } else {
       authorized =
-          atz.check(
+          AccessReviewCache.getInstance().check(
+              atz,
               userInfo.getUsername(),
               userInfo.getGroups(),
               operation,
@@ -205,7 +212,29 @@ public class RestBackendImpl implements RestBackend {
     return domainNamespaces.get().stream().map(this::getClusterResources).flatMap(Collection::stream);
   }
 
+  @Override
+  public void useConsistentReads() {
+    consistentReads = true;
+  }
+
   private List<DomainResource> getDomains(String ns) {
+    return Optional.ofNullable(getCachedResources(DomainResource.class, ns)).orElseGet(() -> listDomains(ns));
+  }
+
+  private List<ClusterResource> getClusterResources(String ns) {
+    return Optional.ofNullable(getCachedResources(ClusterResource.class, ns)).orElseGet(() -> listClusterResources(ns));
+  }
+
+  // Returns null if the cached resources may not be used, so that they must be listed.
+  private <T extends KubernetesObject> List<T> getCachedResources(Class<T> kind, String ns) {
+    final int maxAgeSeconds = TuningParameters.getInstance().getRestCacheMaxAgeSeconds();
+    if (consistentReads || maxAgeSeconds <= 0) {
+      return null;
+    }
+    return ResourceCache.getInstance().list(kind, ns, SystemClock.now().minusSeconds(maxAgeSeconds));
+  }
+
+  private List<DomainResource> listDomains(String ns) {
     try {
       return RequestBuilder.DOMAIN.list(ns, new ListOptions(), clientSupplier).getItems();
     } catch (ApiException e) {
@@ -213,7 +242,7 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
-  private List<ClusterResource> getClusterResources(String ns) {
+  private List<ClusterResource> listClusterResources(String ns) {
     try {
       return RequestBuilder.CLUSTER.list(ns, new ListOptions(), clientSupplier).getItems();
     } catch (ApiException e) {
@@ -1,4 +1,4 @@
-// Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2017, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.http.rest.backend;
@@ -16,6 +16,14 @@ import oracle.kubernetes.operator.http.rest.model.DomainAction;
  */
 public interface RestBackend {
 
+  /**
+   * Requires this backend to read domains and clusters from Kubernetes, rather than from the operator's cache
+   * of the resources it watches. Used when the client requests a consistent read.
+   */
+  default void useConsistentReads() {
+    // no-op unless the backend caches reads
+  }
+
   /**
    * Get the unique identifiers of all the WebLogic domains that have been registered with the
    * WebLogic operator.
@@ -54,7 +54,7 @@ public class OperatorLoggingFormatter extends BaseLoggingFormatter<Fiber> {
   }
 
   private DomainPresenceInfo getDomainPresenceInfo(Packet packet) {
-    return (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    return packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
   }
 
   /**
@@ -195,7 +195,7 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
   public Packet createPacket() {
     Packet packet = new Packet();
     packet.put(ProcessingConstants.DELEGATE_COMPONENT_NAME, delegate);
-    packet.put(ProcessingConstants.DOMAIN_PRESENCE_INFO, liveInfo);
+    packet.putValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY, liveInfo);
     packet.put(ProcessingConstants.MAKE_RIGHT_DOMAIN_OPERATION, this);
     packet.put(ProcessingConstants.DOMAIN_COMPONENT_NAME, delegate.getKubernetesVersion());
     return packet;
@@ -246,7 +246,7 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
 
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<ClusterList> callResponse) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       callResponse.getObject().getItems().stream().filter(c -> isForDomain(c, info))
           .forEach(info::addClusterResource);
 
@@ -365,7 +365,7 @@ public class MakeRightDomainOperationImpl extends MakeRightOperationImpl<DomainP
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       return doNext(
           RequestBuilder.DOMAIN.get(info.getNamespace(), info.getDomainName(), new ReadDomainResponseStep(getNext())),
           packet);
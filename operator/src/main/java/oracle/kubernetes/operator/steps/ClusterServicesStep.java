@@ -29,7 +29,7 @@ public class ClusterServicesStep extends Step {
     Collection<Fiber.StepAndPacket> startDetails = new ArrayList<>();
 
     // Add cluster services
-    WlsDomainConfig config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    WlsDomainConfig config = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     if (config != null) {
       for (Map.Entry<String, WlsClusterConfig> entry : config.getClusterConfigs().entrySet()) {
         Packet p = packet.copy();
@@ -21,7 +21,7 @@ class DomainPresenceInfoUpdateStep extends Step {
 
   @Override
   public @Nonnull Result apply(Packet packet) {
-    DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
     info.setServerPod(serverName, null);
     return doNext(packet);
   }
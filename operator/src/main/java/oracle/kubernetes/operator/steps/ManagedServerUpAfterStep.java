@@ -55,7 +55,7 @@ public class ManagedServerUpAfterStep extends Step {
   }
 
   private String getDomainUid(Packet packet) {
-    DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
     return info.getDomainUid();
   }
 
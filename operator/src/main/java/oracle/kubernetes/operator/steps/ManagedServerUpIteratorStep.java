@@ -32,7 +32,7 @@ import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
-import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY_KEY;
 
 /**
  * A step which will bring up the specified managed servers in parallel.
@@ -83,7 +83,7 @@ public class ManagedServerUpIteratorStep extends Step {
     if (!startDetails.isEmpty()) {
       work.add(
               new Fiber.StepAndPacket(
-                      new StartManagedServersStep(null, 0, startDetails, null), packet));
+                      new StartManagedServersStep(null, 0, startDetails, null), packet.copy()));
     }
 
     for (Map.Entry<String, StartClusteredServersStepFactory> entry
@@ -100,7 +100,7 @@ public class ManagedServerUpIteratorStep extends Step {
     work.addAll(startupWaiters);
 
     if (!work.isEmpty()) {
-      return doForkJoin(DomainStatusUpdater.createStatusUpdateStep(
+      return doConcurrentForkJoin(DomainStatusUpdater.createStatusUpdateStep(
               new ManagedServerUpAfterStep(getNext())), packet, work);
     }
 
@@ -116,7 +116,7 @@ public class ManagedServerUpIteratorStep extends Step {
 
 
   private String getDomainUid(Packet packet) {
-    DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
     return info.getDomain().getDomainUid();
   }
 
@@ -144,9 +144,8 @@ public class ManagedServerUpIteratorStep extends Step {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
-      WlsDomainConfig domainTopology =
-              (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
+      WlsDomainConfig domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       V1Pod managedPod = info.getServerPod(serverName);
       boolean isWaitingToRoll = PodHelper.isWaitingToRoll(managedPod);
       if (managedPod == null || (!isPodReady(managedPod) && !isPodMarkedForShutdown(managedPod)
@@ -174,7 +173,7 @@ public class ManagedServerUpIteratorStep extends Step {
   private Map<String, StartClusteredServersStepFactory> getStartClusteredServersStepFactories(
       Collection<ServerStartupInfo> startupInfos,
       Packet packet) {
-    DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
 
     Map<String, StartClusteredServersStepFactory> factories = new HashMap<>();
     startupInfos.stream()
@@ -223,8 +222,8 @@ public class ManagedServerUpIteratorStep extends Step {
     }
 
     private boolean hasServerAvailableToStart(Packet packet) {
-      DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
-      String adminServerName = ((WlsDomainConfig) packet.get(DOMAIN_TOPOLOGY)).getAdminServerName();
+      DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
+      String adminServerName = packet.getValue(DOMAIN_TOPOLOGY_KEY).getAdminServerName();
       return (getNumServersStarted() <= info.getNumScheduledManagedServers(clusterName, adminServerName)
               && (canStartConcurrently(info.getNumReadyManagedServers(clusterName, adminServerName))));
     }
@@ -115,8 +115,8 @@ public class ManagedServersUpStep extends Step {
   @Override
   public @Nonnull Result apply(Packet packet) {
     LOGGER.entering();
-    DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
-    WlsDomainConfig config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
+    WlsDomainConfig config = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
 
     ServersUpStepFactory factory = new ServersUpStepFactory(config, info);
 
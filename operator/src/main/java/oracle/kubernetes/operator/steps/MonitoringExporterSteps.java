@@ -243,7 +243,7 @@ public class MonitoringExporterSteps {
 
     ExporterRequestProcessing(Packet packet) {
       super(packet, getServerService(packet), getServerPod(packet));
-      info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
     }
 
     private static V1Service getServerService(Packet packet) {
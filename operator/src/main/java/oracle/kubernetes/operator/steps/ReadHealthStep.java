@@ -58,8 +58,17 @@ public class ReadHealthStep extends Step {
       OVERALL_HEALTH_NOT_AVAILABLE + " (possibly overloaded)";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  private final Step fallback;
+  private final long timeoutSeconds;
+
   private ReadHealthStep(Step next) {
+    this(null, HttpRequestProcessing.HTTP_TIMEOUT_SECONDS, next);
+  }
+
+  private ReadHealthStep(Step fallback, long timeoutSeconds, Step next) {
     super(next);
+    this.fallback = fallback;
+    this.timeoutSeconds = timeoutSeconds;
   }
 
   /**
@@ -72,20 +81,38 @@ public class ReadHealthStep extends Step {
     return new ReadHealthStep(next);
   }
 
+  /**
+   * Creates asynchronous {@link Step} to read the state and health of a server instance whose pod is not yet ready.
+   * The server may not yet be listening, so if the request cannot be made or fails, no failure is recorded,
+   * and processing continues with the fallback step, rather than the next step.
+   *
+   * @param timeoutSeconds the maximum time to wait for a response
+   * @param fallback the step to run if the state cannot be read
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadStateStep(long timeoutSeconds, Step fallback, Step next) {
+    return new ReadHealthStep(fallback, timeoutSeconds, next);
+  }
+
+  private Step getFallbackOrNext() {
+    return Optional.ofNullable(fallback).orElse(getNext());
+  }
+
   // overallHealthState, healthState
 
   @Override
   public @Nonnull Result apply(Packet packet) {
     String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
-    DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
     V1Service service = info.getServerService(serverName);
     if (service == null) {
-      return doNext(packet);
+      return doNext(getFallbackOrNext(), packet);
     } else {
       return doNext(
             Step.chain(
                 SecretHelper.createAuthorizationSourceStep(),
-                new ReadHealthWithHttpStep(service, info.getServerPod(serverName), getNext())),
+                new ReadHealthWithHttpStep(service, info.getServerPod(serverName), this)),
             packet);
     }
   }
@@ -104,9 +131,9 @@ public class ReadHealthStep extends Step {
       return "{ fields: [ 'state', 'overallHealthState', 'activationTime' ], links: [] }";
     }
 
-    private HttpRequest createRequest() {
+    private HttpRequest createRequest(long timeoutSeconds) {
       LOGGER.finer("Create REST request to service URL: " + getRequestUrl());
-      return createRequestBuilder(getRequestUrl(), HTTP_TIMEOUT_SECONDS)
+      return createRequestBuilder(getRequestUrl(), timeoutSeconds)
             .POST(HttpRequest.BodyPublishers.ofString(getRetrieveHealthSearchPayload()))
             .build();
     }
@@ -160,9 +187,8 @@ public class ReadHealthStep extends Step {
     }
 
     private WlsDomainConfig getWlsDomainConfig() {
-      DomainPresenceInfo info = (DomainPresenceInfo) getPacket().get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
-      WlsDomainConfig domainConfig =
-          (WlsDomainConfig) getPacket().get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      DomainPresenceInfo info = getPacket().getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
+      WlsDomainConfig domainConfig = getPacket().getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       if (domainConfig == null) {
         Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
         domainConfig = scan.getWlsDomainConfig();
@@ -181,20 +207,23 @@ public class ReadHealthStep extends Step {
     @Nonnull
     private final V1Service service;
     private final V1Pod pod;
+    private final ReadHealthStep readHealthStep;
 
-    ReadHealthWithHttpStep(@Nonnull V1Service service, V1Pod pod, Step next) {
-      super(next);
+    ReadHealthWithHttpStep(@Nonnull V1Service service, V1Pod pod, ReadHealthStep readHealthStep) {
+      super(readHealthStep.getNext());
       this.service = service;
       this.pod = pod;
+      this.readHealthStep = readHealthStep;
     }
 
     @Override
     public @Nonnull Result apply(Packet packet) {
       ReadHealthProcessing processing = new ReadHealthProcessing(packet, service, pod);
       if (processing.getWlsServerConfig() == null) {
-        return doNext(packet);
+        return doNext(readHealthStep.getFallbackOrNext(), packet);
       }
-      return doNext(createRequestStep(processing.createRequest(), new RecordHealthStep(getNext())), packet);
+      return doNext(createRequestStep(processing.createRequest(readHealthStep.timeoutSeconds),
+            new RecordHealthStep(readHealthStep.fallback, getNext())), packet);
     }
 
   }
@@ -209,9 +238,15 @@ public class ReadHealthStep extends Step {
    *  (spi) HttpResponse.class          the response from the server
    */
   static final class RecordHealthStep extends HttpResponseStep {
+    private final Step fallback;
 
     RecordHealthStep(Step next) {
+      this(null, next);
+    }
+
+    RecordHealthStep(Step fallback, Step next) {
       super(next);
+      this.fallback = fallback;
     }
 
     @Override
@@ -224,6 +259,9 @@ public class ReadHealthStep extends Step {
 
         return doNext(packet);
       } catch (Throwable t) {
+        if (fallback != null) {
+          return doNext(fallback, packet);
+        }
         // do not retry for health check
         logReadFailure(packet);
         return doNext(packet);
@@ -244,6 +282,9 @@ public class ReadHealthStep extends Step {
 
     @Override
     public Result onFailure(Packet packet, HttpResponse<String> response) {
+      if (fallback != null) {
+        return doNext(fallback, packet);
+      }
       new HealthResponseProcessing(packet, response).recordFailedStateAndHealth();
       return doNext(packet);
     }
@@ -379,7 +420,7 @@ public class ReadHealthStep extends Step {
       }
 
       private DomainPresenceInfo getDomainPresenceInfo() {
-        return (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+        return packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
       }
 
       Packet getPacket() {
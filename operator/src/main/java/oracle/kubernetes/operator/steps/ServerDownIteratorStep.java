@@ -53,7 +53,7 @@ public class ServerDownIteratorStep extends Step {
     public IteratorContext(Packet packet, List<ServerShutdownInfo> serverShutdownInfos) {
       this.packet = packet;
       this.serverShutdownInfos = Collections.unmodifiableList(serverShutdownInfos);
-      this.info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+      this.info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
     }
 
     private Step createNextSteps() {
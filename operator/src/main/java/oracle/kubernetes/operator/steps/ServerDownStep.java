@@ -30,7 +30,7 @@ public class ServerDownStep extends Step {
 
   @Override
   public @Nonnull Result apply(Packet packet) {
-    DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
     V1Pod oldPod = info.getServerPod(serverName);
 
     Step next;
@@ -295,8 +295,7 @@ public class ShutdownManagedServerStep extends Step {
 
     private WlsDomainConfig getWlsDomainConfig() {
       DomainPresenceInfo info = getDomainPresenceInfo(getPacket());
-      WlsDomainConfig domainConfig =
-          (WlsDomainConfig) getPacket().get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      WlsDomainConfig domainConfig = getPacket().getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       if (domainConfig == null) {
         Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
         domainConfig = scan.getWlsDomainConfig();
@@ -337,7 +336,7 @@ public class ShutdownManagedServerStep extends Step {
   }
 
   private static DomainPresenceInfo getDomainPresenceInfo(Packet packet) {
-    return (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+    return packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
   }
 
   static final class ShutdownManagedServerResponseStep extends HttpResponseStep {
@@ -439,7 +438,7 @@ public class ShutdownManagedServerStep extends Step {
     @Override
     public Result onSuccess(Packet packet, KubernetesApiResponse<DomainResource> callResponse) {
       if (callResponse.getObject() != null) {
-        DomainPresenceInfo info = (DomainPresenceInfo) packet.get(ProcessingConstants.DOMAIN_PRESENCE_INFO);
+        DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
         info.setDomain(callResponse.getObject());
       }
       return doNext(packet);
@@ -13,4 +13,13 @@ public interface CallBuilderTuning {
   int getCallMaxRetryCount();
 
   int getCallTimeoutSeconds();
+
+  /** The maximum number of Kubernetes calls in progress at one time. Zero removes the limit. */
+  int getCallConcurrencyLimit();
+
+  /** The sustained rate at which Kubernetes calls may be started. Zero removes the limit. */
+  int getCallsPerSecond();
+
+  /** The number of Kubernetes calls which may be started in a burst, before the sustained rate applies. */
+  int getCallBurst();
 }
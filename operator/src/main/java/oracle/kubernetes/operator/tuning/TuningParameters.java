@@ -41,10 +41,14 @@ public class TuningParameters {
   public static final String WATCH_MINIMUM_DELAY = "watchMinimumDelay";
   public static final String WATCH_BACKSTOP_RECHECK_COUNT = "watchBackstopRecheckCount";
   public static final String WATCH_BACKSTOP_RECHECK_DELAY_SECONDS = "watchBackstopRecheckDelaySeconds";
+  public static final String CLUSTER_SCOPED_WATCH = "clusterScopedWatch";
 
   public static final String CALL_REQUEST_LIMIT = "callRequestLimit";
   public static final String CALL_MAX_RETRY_COUNT = "callMaxRetryCount";
   public static final String CALL_TIMEOUT_SECONDS = "callTimeoutSeconds";
+  public static final String CALL_CONCURRENCY_LIMIT = "callConcurrencyLimit";
+  public static final String CALLS_PER_SECOND = "callsPerSecond";
+  public static final String CALL_BURST = "callBurst";
 
   public static final String READINESS_INITIAL_DELAY_SECONDS = "readinessProbeInitialDelaySeconds";
   public static final String READINESS_TIMEOUT_SECONDS = "readinessProbeTimeoutSeconds";
@@ -65,23 +69,42 @@ public class TuningParameters {
   public static final String STATUS_UPDATE_TIMEOUT_SECONDS = "statusUpdateTimeoutSeconds";
   public static final String STATUS_UPDATE_INITIAL_SHORT_DELAY = "statusUpdateInitialShortDelay";
   public static final String STATUS_UPDATE_EVENTUAL_LONG_DELAY = "statusUpdateEventualLongDelay";
+  public static final String STATUS_UPDATE_CONCURRENCY_LIMIT = "statusUpdateConcurrencyLimit";
   public static final String SECRET_REREAD_INTERVAL_SECONDS = "weblogicCredentialsSecretRereadIntervalSeconds";
   public static final String MAX_READY_WAIT_TIME_SECONDS = "maxReadyWaitTimeSeconds";
   public static final String MAX_PENDING_WAIT_TIME_SECONDS = "maxPendingWaitTimeSeconds";
   public static final String RESTART_EVICTED_PODS = "restartEvictedPods";
+  public static final String LEGACY_RECIPE_HASH = "legacyRecipeHash";
+  public static final String SERVER_SIDE_APPLY = "serverSideApply";
+  public static final String REST_CACHE_MAX_AGE_SECONDS = "restCacheMaxAgeSeconds";
+  public static final String ACCESS_REVIEW_CACHE_SECONDS = "accessReviewCacheSeconds";
+  public static final String ACCESS_REVIEW_NEGATIVE_CACHE_SECONDS = "accessReviewNegativeCacheSeconds";
+  public static final String EVENT_WRITES_PER_SECOND = "eventWritesPerSecond";
+  public static final String EVENT_WRITE_BURST = "eventWriteBurst";
+  public static final String MAKE_RIGHT_DEBOUNCE_MILLIS = "makeRightDebounceMillis";
+  public static final String MAKE_RIGHT_MAX_DEBOUNCE_SECONDS = "makeRightMaxDebounceSeconds";
+  public static final String MAKE_RIGHT_CONCURRENCY_LIMIT = "makeRightConcurrencyLimit";
+  public static final String NAMESPACE_SHARDING_ENABLED = "namespaceShardingEnabled";
+  public static final String NAMESPACE_SHARD_LEASE_DURATION_SECONDS = "namespaceShardLeaseDurationSeconds";
+  public static final String NAMESPACE_SHARD_RENEW_INTERVAL_SECONDS = "namespaceShardRenewIntervalSeconds";
   public static final String INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS = "introspectorJobActiveDeadlineSeconds";
   public static final String INTROSPECTOR_JOB_DEADLINE_INCREMENT_SECONDS = "introspectorJobDeadlineIncrementSeconds";
   public static final String INTROSPECTOR_JOB_MAX_NUM_INCREMENTS = "introspectorJobMaxNumIncrements";
+  public static final String INTROSPECTOR_LOG_PARSE_LIMIT = "introspectorLogParseLimit";
   public static final String KUBERNETES_PLATFORM_NAME = "kubernetesPlatform";
   public static final String FEATURE_GATES = "featureGates";
   public static final String SERVICE_ACCOUNT_NAME = "serviceaccount";
   public static final String CRD_PRESENCE_FAILURE_RETRY_MAX_COUNT = "crdPresenceFailureRetryMaxCount";
   public static final String HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = "httpRequestFailureCountThreshold";
   public static final String SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = "shutdownWithHttpPollingInterval";
+  public static final String FORK_JOIN_CONCURRENCY_LIMIT = "forkJoinConcurrencyLimit";
   public static final int DEFAULT_HTTP_REQUEST_FAILURE_COUNT_THRESHOLD = 10;
   public static final int DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL = 3;
+  public static final int DEFAULT_FORK_JOIN_CONCURRENCY_LIMIT = 32;
+  public static final int DEFAULT_STATUS_UPDATE_CONCURRENCY_LIMIT = 20;
 
   public static final long DEFAULT_ACTIVE_DEADLINE_INCREMENT_SECONDS = 60L;
+  public static final long DEFAULT_INTROSPECTOR_LOG_PARSE_LIMIT = 16L * 1024 * 1024;
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
@@ -174,7 +197,7 @@ public class TuningParameters {
   }
 
   public int getStuckPodRecheckSeconds() {
-    return getParameter(STUCK_POD_RECHECK_SECONDS, 30);
+    return getParameter(STUCK_POD_RECHECK_SECONDS, 300);
   }
 
   public int getStatusUpdateTimeoutSeconds() {
@@ -192,6 +215,13 @@ public class TuningParameters {
   public int getEventualLongDelay() {
     return getParameter(STATUS_UPDATE_EVENTUAL_LONG_DELAY, 30);
   }
+
+  /**
+   * Returns the maximum number of domains whose status updates may run at the same time.
+   */
+  public int getStatusUpdateConcurrencyLimit() {
+    return getParameter(STATUS_UPDATE_CONCURRENCY_LIMIT, DEFAULT_STATUS_UPDATE_CONCURRENCY_LIMIT);
+  }
   
   public int getCredentialsSecretRereadIntervalSeconds() {
     return getParameter(SECRET_REREAD_INTERVAL_SECONDS, 120);
@@ -209,6 +239,120 @@ public class TuningParameters {
     return getParameter(RESTART_EVICTED_PODS, true);
   }
 
+  /**
+   * Returns true if the hashes of resource recipes should be computed from their YAML form, as in earlier
+   * versions of the operator, rather than from their canonical form.
+   */
+  public boolean isLegacyRecipeHash() {
+    return getParameter(LEGACY_RECIPE_HASH, false);
+  }
+
+  /**
+   * Returns true if services and the scripts config map should be reconciled with server-side apply requests,
+   * rather than by deleting and re-creating or replacing them.
+   */
+  public boolean isServerSideApply() {
+    return getParameter(SERVER_SIDE_APPLY, false);
+  }
+
+  /**
+   * Returns the longest time since the last list of a namespace for which the operator REST api will answer reads
+   * of its domains and clusters from the operator's cache, rather than by listing them. Zero disables the cache.
+   * @return a value in seconds
+   */
+  public int getRestCacheMaxAgeSeconds() {
+    return getParameter(REST_CACHE_MAX_AGE_SECONDS, 300);
+  }
+
+  /**
+   * Returns the time for which the operator REST api will reuse a token review which authenticated a token,
+   * or a subject access review which allowed an operation. Zero disables the reuse.
+   * @return a value in seconds
+   */
+  public int getAccessReviewCacheSeconds() {
+    return getParameter(ACCESS_REVIEW_CACHE_SECONDS, 60);
+  }
+
+  /**
+   * Returns the time for which the operator REST api will reuse a token review which rejected a token,
+   * or a subject access review which denied an operation. Zero disables the reuse.
+   * @return a value in seconds
+   */
+  public int getAccessReviewNegativeCacheSeconds() {
+    return getParameter(ACCESS_REVIEW_NEGATIVE_CACHE_SECONDS, 5);
+  }
+
+  /**
+   * Returns the sustained rate at which the operator will write Kubernetes events in each namespace. Events emitted
+   * faster than this are held, and identical events are combined into a single write. Zero removes the limit.
+   * @return a number of writes per second
+   */
+  public int getEventWritesPerSecond() {
+    return getParameter(EVENT_WRITES_PER_SECOND, 10);
+  }
+
+  /**
+   * Returns the number of Kubernetes events which the operator may write in a namespace in a burst, before
+   * the rate set by {@link #getEventWritesPerSecond()} applies.
+   * @return a number of writes
+   */
+  public int getEventWriteBurst() {
+    return getParameter(EVENT_WRITE_BURST, 50);
+  }
+
+  /**
+   * Returns the time for which a make-right requested by a pod watch event is held, waiting for further requests
+   * for the same domain with which it may be combined. Zero starts each such make-right at once.
+   * @return a number of milliseconds
+   */
+  public int getMakeRightDebounceMillis() {
+    return getParameter(MAKE_RIGHT_DEBOUNCE_MILLIS, 500);
+  }
+
+  /**
+   * Returns the longest time for which a make-right requested by a pod watch event may be held, whether waiting
+   * for further requests or for a make-right of the same domain which is already running. Once it has been held
+   * this long, it starts, replacing any running make-right.
+   * @return a number of seconds
+   */
+  public int getMakeRightMaxDebounceSeconds() {
+    return getParameter(MAKE_RIGHT_MAX_DEBOUNCE_SECONDS, 30);
+  }
+
+  /**
+   * Returns the maximum number of domain and cluster make-rights which may run at the same time. Further
+   * make-rights wait in a queue until a running one finishes. Zero or less means no limit.
+   * @return a number of make-rights
+   */
+  public int getMakeRightConcurrencyLimit() {
+    return getParameter(MAKE_RIGHT_CONCURRENCY_LIMIT, 50);
+  }
+
+  /**
+   * Returns true if several replicas of the operator share the domain namespaces, each managing only the
+   * namespaces assigned to it.
+   */
+  public boolean isNamespaceShardingEnabled() {
+    return getParameter(NAMESPACE_SHARDING_ENABLED, false);
+  }
+
+  /**
+   * Returns the time after its last renewal that an operator replica's shard lease expires. Once it has expired,
+   * the other replicas take over the namespaces of that replica.
+   * @return a number of seconds
+   */
+  public int getNamespaceShardLeaseDurationSeconds() {
+    return getParameter(NAMESPACE_SHARD_LEASE_DURATION_SECONDS, 30);
+  }
+
+  /**
+   * Returns the interval at which an operator replica renews its shard lease and reads those of the others.
+   * @return a number of seconds
+   */
+  public int getNamespaceShardRenewIntervalSeconds() {
+    return getParameter(NAMESPACE_SHARD_RENEW_INTERVAL_SECONDS, 10);
+  }
+
   /**
    * Returns the value of introspector job active deadline seconds with default value depending on the context.
    */
@@ -234,6 +378,13 @@ public class TuningParameters {
     return getParameter(INTROSPECTOR_JOB_MAX_NUM_INCREMENTS, 5);
   }
 
+  /**
+   * Returns the maximum number of characters of an introspector job log which will be parsed for log records.
+   */
+  public long getIntrospectorLogParseLimit() {
+    return getParameter(INTROSPECTOR_LOG_PARSE_LIMIT, DEFAULT_INTROSPECTOR_LOG_PARSE_LIMIT);
+  }
+
   public int getCrdPresenceFailureRetryMaxCount() {
     return getParameter(CRD_PRESENCE_FAILURE_RETRY_MAX_COUNT, 3);
   }
@@ -246,6 +397,14 @@ public class TuningParameters {
     return getParameter(SHUTDOWN_WITH_HTTP_POLLING_INTERVAL, DEFAULT_SHUTDOWN_WITH_HTTP_POLLING_INTERVAL);
   }
 
+  /**
+   * Returns the maximum number of child fibers that a single fork-join may run at the same time.
+   * A value of one or less causes the forked steps to run one after another on the parent fiber.
+   */
+  public int getForkJoinConcurrencyLimit() {
+    return getParameter(FORK_JOIN_CONCURRENCY_LIMIT, DEFAULT_FORK_JOIN_CONCURRENCY_LIMIT);
+  }
+
   /**
    * Returns the name of the kubernetes platform on which the operator is running. May be null (the default).
    */
@@ -353,6 +512,11 @@ public class TuningParameters {
     public int getWatchBackstopRecheckCount() {
       return getParameter(WATCH_BACKSTOP_RECHECK_COUNT, DEFAULT_RECHECK_COUNT);
     }
+
+    @Override
+    public boolean isClusterScopedWatch() {
+      return getParameter(CLUSTER_SCOPED_WATCH, false);
+    }
   }
 
   private class CallBuilderTuningImpl implements CallBuilderTuning {
@@ -371,6 +535,21 @@ public class TuningParameters {
     public int getCallTimeoutSeconds() {
       return getParameter(CALL_TIMEOUT_SECONDS, 10);
     }
+
+    @Override
+    public int getCallConcurrencyLimit() {
+      return getParameter(CALL_CONCURRENCY_LIMIT, 0);
+    }
+
+    @Override
+    public int getCallsPerSecond() {
+      return getParameter(CALLS_PER_SECOND, 0);
+    }
+
+    @Override
+    public int getCallBurst() {
+      return getParameter(CALL_BURST, 100);
+    }
   }
 
   private class PodTuningImpl implements PodTuning {
@@ -64,6 +64,11 @@ public class ClusterWatcher extends Watcher<ClusterResource> {
     return ns;
   }
 
+  @Override
+  protected Class<ClusterResource> getCachedKind() {
+    return ClusterResource.class;
+  }
+
   @Override
   public String getDomainUid(Response<ClusterResource> item) {
     return null;
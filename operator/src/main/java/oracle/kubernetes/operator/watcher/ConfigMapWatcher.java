@@ -67,6 +67,11 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
     return ns;
   }
 
+  @Override
+  protected Class<V1ConfigMap> getCachedKind() {
+    return V1ConfigMap.class;
+  }
+
   @Override
   public String getDomainUid(Response<V1ConfigMap> item) {
     return KubernetesUtils.getDomainUidLabel(
@@ -65,6 +65,11 @@ public class DomainWatcher extends Watcher<DomainResource> {
     return ns;
   }
 
+  @Override
+  protected Class<DomainResource> getCachedKind() {
+    return DomainResource.class;
+  }
+
   @Override
   public String getDomainUid(Response<DomainResource> item) {
     return Optional.ofNullable(item.object).map(DomainResource::getDomainUid).orElse(null);
@@ -95,6 +95,11 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
     return namespace;
   }
 
+  @Override
+  protected Class<V1Pod> getCachedKind() {
+    return V1Pod.class;
+  }
+
   @Override
   public String getDomainUid(Watch.Response<V1Pod> item) {
     return KubernetesUtils.getDomainUidLabel(
@@ -68,6 +68,11 @@ public class ServiceWatcher extends Watcher<V1Service> {
     return ns;
   }
 
+  @Override
+  protected Class<V1Service> getCachedKind() {
+    return V1Service.class;
+  }
+
   @Override
   public String getDomainUid(Response<V1Service> item) {
     return KubernetesUtils.getDomainUidLabel(
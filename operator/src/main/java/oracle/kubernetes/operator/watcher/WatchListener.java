@@ -19,4 +19,12 @@ public interface WatchListener<T> {
    * @param response Watch response consisting of type and object
    */
   void receivedResponse(Watch.Response<T> response);
+
+  /**
+   * Call back for an error reported by the watch, after which the watch restarts and events may have been missed.
+   *
+   * @param response Watch response describing the error
+   */
+  default void receivedError(Watch.Response<T> response) {
+  }
 }
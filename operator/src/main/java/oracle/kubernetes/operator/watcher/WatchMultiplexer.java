@@ -0,0 +1,132 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
+/**
+ * Demultiplexes the events of a single cluster-scoped watch of one kind of resource to the watchers for that kind
+ * in each managed namespace. The namespace watchers do not open watches of their own, but otherwise behave as they
+ * would when watching their namespaces directly, so that their listeners are unaware of the difference. If the
+ * operator is forbidden to watch the kind across all namespaces, the multiplexer is unregistered, and the namespace
+ * watchers open watches of their own.
+ *
+ * @param <T> the type of the watched resource
+ */
+public class WatchMultiplexer<T extends KubernetesObject> implements WatchListener<T> {
+
+  // the active multiplexers, keyed by the class of the namespace watchers which they feed
+  private static final Map<Class<?>, WatchMultiplexer<?>> multiplexers = new ConcurrentHashMap<>();
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final Map<String, Watcher<T>> namespaceWatchers = new ConcurrentHashMap<>();
+  private Watcher<T> clusterWatcher;
+  private boolean forbidden;
+
+  private WatchMultiplexer() {
+  }
+
+  /**
+   * Creates and registers a multiplexer for the specified class of watcher, and starts its cluster-scoped watch.
+   * Watchers of the class which are subsequently started for a namespace will receive their events from it.
+   * @param watcherClass the class of the namespace watchers
+   * @param clusterWatcherFactory a function which creates and starts a watcher of the class for all namespaces,
+   *                              given the listener to which it should send its events
+   * @param <T> the type of the watched resource
+   * @param <W> the type of the watcher
+   * @return the new multiplexer
+   */
+  public static <T extends KubernetesObject, W extends Watcher<T>> WatchMultiplexer<T> start(
+        Class<W> watcherClass, Function<WatchListener<T>, W> clusterWatcherFactory) {
+    final WatchMultiplexer<T> multiplexer = new WatchMultiplexer<>();
+    multiplexers.put(watcherClass, multiplexer);
+    multiplexer.clusterWatcher = clusterWatcherFactory.apply(multiplexer);
+    multiplexer.clusterWatcher.setListener(multiplexer);
+    return multiplexer;
+  }
+
+  /**
+   * Returns the multiplexer which should feed the specified watcher, or null if it should open its own watch.
+   * @param watcher a newly-created watcher
+   * @param <T> the type of the watched resource
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends KubernetesObject> WatchMultiplexer<T> getMultiplexer(Watcher<T> watcher) {
+    return watcher.getNamespace() == null ? null : (WatchMultiplexer<T>) multiplexers.get(watcher.getClass());
+  }
+
+  /**
+   * Unregisters all multiplexers. Their cluster-scoped watchers will stop once their stopping flags are set.
+   */
+  public static void clearAll() {
+    multiplexers.clear();
+  }
+
+  synchronized void addNamespaceWatcher(Watcher<T> watcher) {
+    if (forbidden) {
+      watcher.startOwnWatch();
+    } else {
+      namespaceWatchers.put(watcher.getNamespace(), watcher);
+      catchUp(watcher.getResourceVersion());
+    }
+  }
+
+  /**
+   * Ensures that a namespace watcher receives all events after the specified resource version. A namespace may have
+   * been listed at a version which the cluster-scoped watch has already passed, either because the namespace started
+   * after the watch, or because the watch started from the later list of another namespace. The watch then restarts
+   * from the older version; namespace watchers discard the events which they have already seen.
+   * @param resourceVersion the version of a namespace watcher's list
+   */
+  void catchUp(String resourceVersion) {
+    Optional.ofNullable(clusterWatcher).ifPresent(w -> w.restartFrom(resourceVersion));
+  }
+
+  /**
+   * Unregisters this multiplexer, and has each of its namespace watchers open a watch of its own namespace.
+   * @param watcherName the name of the cluster-scoped watcher which was forbidden
+   */
+  synchronized void clusterWatchForbidden(String watcherName) {
+    LOGGER.warning(MessageKeys.CLUSTER_WATCH_FORBIDDEN, watcherName);
+    forbidden = true;
+    multiplexers.values().remove(this);
+    namespaceWatchers.values().forEach(Watcher::startOwnWatch);
+    namespaceWatchers.clear();
+  }
+
+  /**
+   * Stops passing events to the watcher for the specified namespace.
+   * @param namespace a namespace which is no longer managed
+   */
+  public void removeNamespace(String namespace) {
+    namespaceWatchers.remove(namespace);
+  }
+
+  // for test
+  Watcher<T> getClusterWatcher() {
+    return clusterWatcher;
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> item) {
+    Optional.ofNullable(getNamespace(item)).map(namespaceWatchers::get).ifPresent(w -> w.receiveMultiplexedEvent(item));
+  }
+
+  // bookmark and error events carry no namespace, and are handled by the cluster-scoped watcher itself
+  private String getNamespace(Watch.Response<T> item) {
+    return Optional.ofNullable(item.object)
+          .map(KubernetesObject::getMetadata).map(V1ObjectMeta::getNamespace).orElse(null);
+  }
+}
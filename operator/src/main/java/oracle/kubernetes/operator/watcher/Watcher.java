@@ -3,13 +3,17 @@
 
 package oracle.kubernetes.operator.watcher;
 
-import java.lang.reflect.Method;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Status;
@@ -18,10 +22,13 @@ import io.kubernetes.client.util.Watchable;
 import io.kubernetes.client.util.generic.options.ListOptions;
 import oracle.kubernetes.common.logging.MessageKeys;
 import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.calls.ResourceCache;
+import oracle.kubernetes.operator.http.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.ThreadLoggingContext;
 
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_FORBIDDEN;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
 
 /**
@@ -30,11 +37,12 @@ import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
  *
  * @param <T> The type of the object to be watched.
  */
-public abstract class Watcher<T> {
+public abstract class Watcher<T extends KubernetesObject> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED = "0";
   private static final Pattern RESOURCE_VERSION_PATTERN = Pattern.compile("\\((\\d+)\\)");
+  static final int MAX_PAUSED_EVENTS = 1000;
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
   private final WatchTuning tuning;
@@ -46,7 +54,14 @@ public abstract class Watcher<T> {
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
   private Thread thread = null;
+  private WatchMultiplexer<T> multiplexer;
+  private final List<Watch.Response<T>> pausedEvents = new ArrayList<>();
+  private boolean pausedEventsDropped;
+  private final AtomicReference<String> restartVersion = new AtomicReference<>();
+  private volatile Watchable<T> currentWatch;
   private long lastInitialize = 0;
+  private ThreadFactory threadFactory;
+  private volatile boolean abandoned;
 
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
@@ -90,9 +105,9 @@ public abstract class Watcher<T> {
     }
   }
 
-  // for test
+  // the version from which the watch continues, allowing for any requested restart
   String getResourceVersion() {
-    return resourceVersion;
+    return Optional.ofNullable(restartVersion.get()).orElse(resourceVersion);
   }
 
   public Watcher<T> withResourceVersion(String resourceVersion) {
@@ -109,9 +124,37 @@ public abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Kick off the watcher processing that runs in a separate thread. */
+  /**
+   * Kick off the watcher processing that runs in a separate thread. If a multiplexer has been registered for
+   * this kind of watcher, a namespace watcher instead receives its events from the multiplexer.
+   */
   protected void start(ThreadFactory factory) {
-    thread = starter.startWatcher(factory, this::doWatch);
+    threadFactory = factory;
+    multiplexer = WatchMultiplexer.getMultiplexer(this);
+    if (multiplexer != null) {
+      multiplexer.addNamespaceWatcher(this);
+    } else {
+      thread = starter.startWatcher(factory, this::doWatch);
+    }
+  }
+
+  /**
+   * Stops receiving events from the multiplexer and opens a watch of this watcher's own namespace, continuing
+   * from the last version it dispatched. Any events held while paused are discarded, as the new watch will
+   * send them again.
+   */
+  synchronized void startOwnWatch() {
+    multiplexer = null;
+    pausedEvents.clear();
+    pausedEventsDropped = false;
+    thread = starter.startWatcher(threadFactory, this::doWatch);
+  }
+
+  /**
+   * Returns true if this watcher receives its events from a multiplexer rather than from its own watch.
+   */
+  public boolean isMultiplexed() {
+    return multiplexer != null;
   }
 
   /**
@@ -129,7 +172,7 @@ public abstract class Watcher<T> {
   private void doWatch() {
     setIsDraining(false);
 
-    while (!isDraining()) {
+    while (!isDraining() && !abandoned) {
       if (isStopping()) {
         setIsDraining(true);
       } else {
@@ -158,12 +201,58 @@ public abstract class Watcher<T> {
     this.stopping.set(true);
   }
 
-  // Set the stopping state to false to resume watches.
+  /**
+   * Sets the stopping state to false to resume watches. A multiplexed watcher then dispatches any events
+   * which it received while paused. If it received too many to hold, it instead has the cluster-scoped watch
+   * send them again, starting from the version with which it resumes.
+   */
   public void resume() {
     this.stopping.set(false);
+    if (isMultiplexed()) {
+      resumeMultiplexed();
+    }
+  }
+
+  private synchronized void resumeMultiplexed() {
+    if (pausedEventsDropped) {
+      pausedEventsDropped = false;
+      pausedEvents.clear();
+      multiplexer.catchUp(resourceVersion);
+    } else {
+      dispatchPausedEvents();
+    }
+  }
+
+  /**
+   * Restarts the watch from the specified resource version if it has already passed that version, so that the
+   * events since then are received again. A watch restarted more than once before it resumes starts from the
+   * oldest of the requested versions.
+   * @param version the resource version from which events are required
+   */
+  synchronized void restartFrom(String version) {
+    if (isOlder(version, getResourceVersion())) {
+      restartVersion.accumulateAndGet(version, Watcher::getOlder);
+      Optional.ofNullable(currentWatch).ifPresent(this::closeWatch);
+    }
+  }
+
+  private static String getOlder(String current, String requested) {
+    return current == null || isOlder(requested, current) ? requested : current;
+  }
+
+  private static boolean isOlder(String version, String other) {
+    return other != null
+          && Optional.ofNullable(ResourceCache.compareVersions(version, other)).map(c -> c < 0).orElse(false);
+  }
+
+  private void closeWatch(Watchable<T> watch) {
+    try {
+      watch.close();
+    } catch (IOException e) {
+      LOGGER.finer("Unable to close watch: {0}", e);
+    }
   }
 
-  @SuppressWarnings("try")
   private void watchForEvents() {
     long now = System.currentTimeMillis();
     long delay = (getWatchMinimumDelay() * 1000L) - (now - lastInitialize);
@@ -178,29 +267,93 @@ public abstract class Watcher<T> {
     } else {
       lastInitialize = now;
     }
+    Optional.ofNullable(restartVersion.getAndSet(null)).ifPresent(v -> resourceVersion = v);
     try (Watchable<T> watch =
         initiateWatch(
             new ListOptions()
                 .resourceVersion(resourceVersion)
                 .timeoutSeconds(getWatchLifetime()))) {
-      while (hasNext(watch)) {
-        Watch.Response<T> item = watch.next();
-        setIsDraining(isStopping());
-        if (isDraining()) {
-          continue;
-        }
-
-        try (ThreadLoggingContext ignored =
-                 ThreadLoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
-          if (isError(item)) {
-            handleErrorResponse(item);
-          } else {
-            handleRegularUpdate(item);
-          }
-        }
+      currentWatch = watch;
+      while (restartVersion.get() == null && !abandoned && hasNext(watch)) {
+        receiveEvent(watch.next());
+      }
+    } catch (ApiException ex) {
+      if (!abandonIfForbidden(ex.getCode())) {
+        LOGGER.warning(MessageKeys.EXCEPTION, ex);
       }
     } catch (Throwable ex) {
       LOGGER.warning(MessageKeys.EXCEPTION, ex);
+    } finally {
+      currentWatch = null;
+    }
+  }
+
+  private void receiveEvent(Watch.Response<T> item) {
+    recordWatchEvent(item);
+    updateResourceCache(item);
+    dispatchEvent(item);
+  }
+
+  /**
+   * Processes a watch event passed to this watcher by the multiplexer for its kind of resource. While the watcher
+   * is paused, events are held, and those which are no newer than the resource version with which it is
+   * resumed are discarded, just as a watcher with its own watch would restart that watch from the resumed version.
+   * No more than {@value #MAX_PAUSED_EVENTS} events are held; beyond that, all are dropped and are sent again
+   * when the watcher resumes.
+   * @param item the watch event
+   */
+  synchronized void receiveMultiplexedEvent(Watch.Response<T> item) {
+    recordWatchEvent(item);
+    updateResourceCache(item);
+    if (isStopping()) {
+      holdPausedEvent(item);
+    } else {
+      resumeMultiplexed();
+      dispatchIfNewer(item);
+    }
+  }
+
+  private void holdPausedEvent(Watch.Response<T> item) {
+    if (!pausedEventsDropped && pausedEvents.size() < MAX_PAUSED_EVENTS) {
+      pausedEvents.add(item);
+    } else {
+      pausedEvents.clear();
+      pausedEventsDropped = true;
+    }
+  }
+
+  private synchronized void dispatchPausedEvents() {
+    final List<Watch.Response<T>> events = new ArrayList<>(pausedEvents);
+    pausedEvents.clear();
+    events.forEach(this::dispatchIfNewer);
+  }
+
+  private void dispatchIfNewer(Watch.Response<T> item) {
+    if (!isNoNewerThanResourceVersion(item.object)) {
+      dispatchEvent(item);
+    }
+  }
+
+  private boolean isNoNewerThanResourceVersion(T object) {
+    return Optional.ofNullable(ResourceCache.compareVersions(getResourceVersionFromMetadata(object), resourceVersion))
+          .map(c -> c <= 0)
+          .orElse(false);
+  }
+
+  @SuppressWarnings("try")
+  private void dispatchEvent(Watch.Response<T> item) {
+    setIsDraining(isStopping());
+    if (isDraining()) {
+      return;
+    }
+
+    try (ThreadLoggingContext ignored =
+             ThreadLoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+      if (isError(item)) {
+        handleErrorResponse(item);
+      } else {
+        handleRegularUpdate(item);
+      }
     }
   }
 
@@ -244,6 +397,34 @@ public abstract class Watcher<T> {
    */
   public abstract String getDomainUid(Watch.Response<T> item);
 
+  /**
+   * Returns the kind of resource which this watcher keeps current in the shared resource cache.
+   *
+   * @return the resource class, or null if the watched resources are not cached
+   */
+  protected Class<T> getCachedKind() {
+    return null;
+  }
+
+  private void recordWatchEvent(Watch.Response<T> item) {
+    OperatorMetrics.recordWatchEvent(getClass().getSimpleName(), String.valueOf(item.type));
+  }
+
+  // Keeps the resource cache current even while the watcher is paused, so that reads never miss events.
+  // A cluster-scoped watcher only reports errors; its events are recorded by the namespace watchers
+  // to which they are passed, so that resources in unmanaged namespaces are not cached.
+  private void updateResourceCache(Watch.Response<T> item) {
+    if (getCachedKind() == null) {
+      return;
+    }
+
+    if (isError(item)) {
+      ResourceCache.getInstance().invalidate(getCachedKind(), getNamespace());
+    } else if (getNamespace() != null && item.object != null) {
+      ResourceCache.getInstance().recordWatchEvent(item.type, item.object);
+    }
+  }
+
   private boolean isError(Watch.Response<T> item) {
     return item.type.equalsIgnoreCase("ERROR");
   }
@@ -257,11 +438,28 @@ public abstract class Watcher<T> {
   }
 
   private void handleErrorResponse(Watch.Response<T> item) {
+    if (abandonIfForbidden(Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0))) {
+      return;
+    }
     if (Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) != HTTP_GONE) {
       resourceVersion = IGNORED;
     } else {
       resourceVersion = Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED);
     }
+    if (listener != null) {
+      listener.receivedError(item);
+    }
+  }
+
+  // A forbidden cluster-scoped watch would fail in the same way if retried, so the watcher stops, and its
+  // multiplexer has the namespace watchers watch their own namespaces instead.
+  private boolean abandonIfForbidden(int code) {
+    if (code != HTTP_FORBIDDEN || !(listener instanceof WatchMultiplexer<T> forbiddenMultiplexer)) {
+      return false;
+    }
+    abandoned = true;
+    forbiddenMultiplexer.clusterWatchForbidden(getClass().getSimpleName());
+    return true;
   }
 
   private String resourceVersion(String message) {
@@ -270,24 +468,17 @@ public abstract class Watcher<T> {
   }
 
   /**
-   * Track resourceVersion and keep the latest one for next watch iteration. The resourceVersion is
-   * extracted from the metadata in the class by a getter written to return that information. If the
-   * getter is not defined then the user will get all watches repeatedly.
+   * Track resourceVersion and keep the latest one for next watch iteration. If the object has no
+   * resourceVersion then the user will get all watches repeatedly.
    *
    * @param object the object that is returned
    */
-  private void trackResourceVersion(Object object) {
+  private void trackResourceVersion(T object) {
     resourceVersion = getResourceVersionFromMetadata(object);
   }
 
-  private String getResourceVersionFromMetadata(Object object) {
-    try {
-      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
-    } catch (Exception e) {
-      LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED;
-    }
+  private String getResourceVersionFromMetadata(T object) {
+    return Optional.ofNullable(object).map(KubernetesObject::getMetadata)
+            .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
   }
 }
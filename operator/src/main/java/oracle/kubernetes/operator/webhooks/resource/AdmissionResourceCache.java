@@ -0,0 +1,237 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.resource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.common.logging.MessageKeys;
+import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResourceCache;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.watcher.ClusterWatcher;
+import oracle.kubernetes.operator.watcher.DomainWatcher;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.weblogic.domain.model.ClusterList;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+
+/**
+ * A store of the domain and cluster resources in all namespaces, used by the admission checks to find the resources
+ * related to a proposed change without listing them from the API server during each review. The store is loaded by
+ * a list of all namespaces and kept current by cluster-scoped watches. A watch which reports an error, after which it
+ * may have missed events, has its kind listed again. Until a load has succeeded, and after a reload fails, the
+ * admission checks list the resources directly, as they would without the store.
+ *
+ * <p>When the webhook may only read resources in its own namespace, the store may be restricted to that namespace,
+ * which is then listed and watched in place of all namespaces; reviews in other namespaces list their resources.
+ *
+ * <p>The resources returned are shared, and must not be modified.
+ */
+public class AdmissionResourceCache {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Webhook", "Operator");
+
+  // tests may replace this value
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static AdmissionResourceCache instance = new AdmissionResourceCache();
+
+  private final KindStore<DomainResource, DomainList> domains = new KindStore<>(RequestBuilder.DOMAIN);
+  private final KindStore<ClusterResource, ClusterList> clusters = new KindStore<>(RequestBuilder.CLUSTER);
+
+  public static AdmissionResourceCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Loads the store and starts the watches which keep it current.
+   * @param factory the factory for the watch threads
+   * @param tuning the watch tuning parameters
+   * @param isStopping a flag which stops the watches when set
+   * @param namespace the namespace to which the store is restricted, or null to hold all namespaces
+   */
+  public void start(ThreadFactory factory, WatchTuning tuning, AtomicBoolean isStopping, @Nullable String namespace) {
+    restrictTo(namespace);
+    DomainWatcher.create(factory, namespace, domains.load(), tuning, domains, isStopping);
+    ClusterWatcher.create(factory, namespace, clusters.load(), tuning, clusters, isStopping);
+  }
+
+  void restrictTo(@Nullable String namespace) {
+    domains.namespace = namespace;
+    clusters.namespace = namespace;
+  }
+
+  /**
+   * Merges a new list of all namespaces into the store.
+   */
+  void reload() {
+    domains.load();
+    clusters.load();
+  }
+
+  /**
+   * Lists again each kind of resource whose last load failed.
+   */
+  public void retryFailedLoads() {
+    domains.loadIfFailed();
+    clusters.loadIfFailed();
+  }
+
+  /**
+   * Returns the domain resources in the specified namespace.
+   * @param namespace the namespace
+   * @throws ApiException if the store is not loaded, and the domains cannot be listed
+   */
+  List<DomainResource> getDomains(String namespace) throws ApiException {
+    return domains.get(namespace);
+  }
+
+  /**
+   * Returns the cluster resources in the specified namespace.
+   * @param namespace the namespace
+   * @throws ApiException if the store is not loaded, and the clusters cannot be listed
+   */
+  List<ClusterResource> getClusters(String namespace) throws ApiException {
+    return clusters.get(namespace);
+  }
+
+  // for test
+  WatchListener<DomainResource> getDomainListener() {
+    return domains;
+  }
+
+  // for test
+  WatchListener<ClusterResource> getClusterListener() {
+    return clusters;
+  }
+
+  /** The resources of a single kind, indexed by namespace and name. */
+  private static class KindStore<T extends KubernetesObject, L extends KubernetesListObject>
+        implements WatchListener<T> {
+    private final RequestBuilder<T, L> requestBuilder;
+    private final Map<String, Map<String, T>> namespaces = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private volatile String namespace;
+
+    KindStore(RequestBuilder<T, L> requestBuilder) {
+      this.requestBuilder = requestBuilder;
+    }
+
+    // Returns the resource version of the list, from which a watch should start, or null if the list failed.
+    // The list may be older than watch events already received, so it is merged into the store rather than
+    // replacing it.
+    synchronized String load() {
+      try {
+        final L list = namespace == null ? requestBuilder.list() : requestBuilder.list(namespace);
+        final String listVersion = Optional.ofNullable(list).map(KubernetesListObject::getMetadata)
+              .map(V1ListMeta::getResourceVersion).orElse(null);
+        final List<T> items = getItems(list);
+        items.forEach(this::put);
+        removeUnlisted(items, listVersion);
+        loaded = true;
+        return listVersion;
+      } catch (ApiException e) {
+        loaded = false;
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+        return null;
+      }
+    }
+
+    synchronized void loadIfFailed() {
+      if (!loaded) {
+        load();
+      }
+    }
+
+    List<T> get(String namespace) throws ApiException {
+      if (!loaded || !isInScope(namespace)) {
+        return getItems(requestBuilder.list(namespace));
+      }
+      return new ArrayList<>(namespaces.getOrDefault(namespace, Collections.emptyMap()).values());
+    }
+
+    private boolean isInScope(String namespace) {
+      return this.namespace == null || this.namespace.equals(namespace);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> getItems(L list) {
+      return Optional.ofNullable(list).map(l -> (List<T>) l.getItems()).orElse(Collections.emptyList());
+    }
+
+    @Override
+    public synchronized void receivedResponse(Watch.Response<T> item) {
+      if (item.object == null || item.object.getMetadata() == null) {
+        return;
+      }
+
+      switch (item.type) {
+        case "ADDED", "MODIFIED" -> put(item.object);
+        case "DELETED" -> remove(item.object.getMetadata());
+        default -> { }
+      }
+    }
+
+    @Override
+    public synchronized void receivedError(Watch.Response<T> item) {
+      load();
+    }
+
+    // A watch event may be older than a list performed since it was sent, and a list older than a watch event.
+    private void put(T object) {
+      final V1ObjectMeta metadata = object.getMetadata();
+      namespaces.computeIfAbsent(metadata.getNamespace(), n -> new ConcurrentHashMap<>())
+            .merge(metadata.getName(), object, (current, candidate) -> newer(current, candidate));
+    }
+
+    // A resource absent from a list was deleted before the list was taken, unless a watch event added it since.
+    private void removeUnlisted(List<T> items, String listVersion) {
+      final Set<String> listed = items.stream().map(KubernetesObject::getMetadata).map(this::getKey)
+            .collect(Collectors.toSet());
+      namespaces.values().forEach(resources -> resources.values().removeIf(
+            object -> !listed.contains(getKey(object.getMetadata())) && !isNewerThan(object, listVersion)));
+    }
+
+    private String getKey(V1ObjectMeta metadata) {
+      return metadata.getNamespace() + "/" + metadata.getName();
+    }
+
+    private boolean isNewerThan(T object, String version) {
+      return Optional.ofNullable(ResourceCache.compareVersions(getResourceVersion(object), version))
+            .map(c -> c > 0).orElse(false);
+    }
+
+    // If the versions cannot be compared, the later arrival is taken to be newer.
+    private T newer(T current, T candidate) {
+      final Integer comparison
+            = ResourceCache.compareVersions(getResourceVersion(candidate), getResourceVersion(current));
+      return comparison == null || comparison >= 0 ? candidate : current;
+    }
+
+    private String getResourceVersion(T object) {
+      return object.getMetadata().getResourceVersion();
+    }
+
+    private void remove(V1ObjectMeta metadata) {
+      Optional.ofNullable(namespaces.get(metadata.getNamespace())).ifPresent(m -> m.remove(metadata.getName()));
+    }
+  }
+}
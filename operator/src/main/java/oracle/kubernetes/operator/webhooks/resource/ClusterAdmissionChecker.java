@@ -3,7 +3,6 @@
 
 package oracle.kubernetes.operator.webhooks.resource;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -11,7 +10,6 @@ import java.util.Optional;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1LocalObjectReference;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
-import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.webhooks.model.AdmissionResponse;
@@ -19,7 +17,6 @@ import oracle.kubernetes.operator.webhooks.model.AdmissionResponseStatus;
 import oracle.kubernetes.weblogic.domain.model.ClusterResource;
 import oracle.kubernetes.weblogic.domain.model.ClusterSpec;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
-import oracle.kubernetes.weblogic.domain.model.DomainList;
 import oracle.kubernetes.weblogic.domain.model.DomainResource;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
@@ -87,15 +84,13 @@ public abstract class ClusterAdmissionChecker extends AdmissionChecker {
   }
 
   List<DomainResource> getDomainResources(ClusterResource clusterResource) throws ApiException {
-    return referencingDomains(clusterResource, RequestBuilder.DOMAIN.list(getNamespace(clusterResource)));
+    return referencingDomains(clusterResource,
+        AdmissionResourceCache.getInstance().getDomains(getNamespace(clusterResource)));
   }
 
-  private List<DomainResource> referencingDomains(ClusterResource clusterResource, DomainList domains) {
+  private List<DomainResource> referencingDomains(ClusterResource clusterResource, List<DomainResource> domains) {
     String name = clusterResource.getMetadata().getName();
-    List<DomainResource> referencingDomains = new ArrayList<>();
-    Optional.ofNullable(domains).map(DomainList::getItems).ifPresent(list -> list.stream()
-        .filter(item -> referencesCluster(name, item)).forEach(referencingDomains::add));
-    return referencingDomains;
+    return domains.stream().filter(item -> referencesCluster(name, item)).toList();
   }
 
   private boolean referencesCluster(String name, DomainResource domain) {
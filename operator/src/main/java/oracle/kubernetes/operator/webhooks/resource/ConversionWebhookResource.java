@@ -1,11 +1,10 @@
-// Copyright (c) 2022, 2023, Oracle and/or its affiliates.
+// Copyright (c) 2022, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.webhooks.resource;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import jakarta.ws.rs.Consumes;
@@ -118,18 +117,10 @@ public class ConversionWebhookResource extends BaseResource {
    * @param be REST backend
    * @return ConversionResponse The response to the conversion request.
    */
-  @SuppressWarnings("unchecked")
   private ConversionResponse createConversionResponse(ConversionRequest conversionRequest,
                                                       RestBackend be) {
-    SchemaConversionUtils schemaConversionUtils = new SchemaConversionUtils(conversionRequest.getDesiredAPIVersion());
-
-    List<SchemaConversionUtils.Resources> convertedResources = conversionRequest.getDomains().stream()
-          .map(d -> schemaConversionUtils.convertDomainSchema(d, () -> {
-            String namespace = Optional.ofNullable((Map<String, Object>) d.get("metadata"))
-                .map(m -> (String) m.get("namespace")).orElse("default");
-            return be.listClusters(namespace);
-          }))
-          .toList();
+    List<SchemaConversionUtils.Resources> convertedResources = DomainConverter.getInstance()
+          .convert(conversionRequest.getDomains(), conversionRequest.getDesiredAPIVersion(), be);
 
     List<Object> convertedDomains = new ArrayList<>();
     for (SchemaConversionUtils.Resources cr : convertedResources) {
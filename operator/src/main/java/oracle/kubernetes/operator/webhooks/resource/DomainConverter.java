@@ -0,0 +1,190 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.resource;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import oracle.kubernetes.common.utils.SchemaConversionUtils;
+import oracle.kubernetes.common.utils.SchemaConversionUtils.Resources;
+import oracle.kubernetes.operator.helpers.CanonicalHash;
+import oracle.kubernetes.operator.http.rest.backend.RestBackend;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+
+import static oracle.kubernetes.common.CommonConstants.API_VERSION_V8;
+
+/**
+ * Converts the domains of a conversion review to the desired API version. A single converter is shared by all
+ * conversions to each version. The domains of a review are converted concurrently, limited by a pool shared across
+ * reviews, and the result of each conversion is remembered, so that a domain whose content was converted recently
+ * need not be converted again. Results are keyed by a hash of the whole domain, rather than by its resourceVersion,
+ * as an update or dry run carries the stored resourceVersion together with new content. A conversion to v8
+ * integrates the domain's cluster resources, so its result is reused only while those clusters are unchanged.
+ *
+ * <p>The domains passed in are modified by the conversion, as they were by {@link SchemaConversionUtils}.
+ */
+class DomainConverter {
+
+  static final int MAX_PARALLELISM = 8;
+  static final int MAX_REMEMBERED_CONVERSIONS = 1000;
+
+  private static final String METADATA = "metadata";
+  private static final String SPEC = "spec";
+
+  // tests may replace this value
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
+  private static DomainConverter instance = new DomainConverter();
+
+  private final Map<String, SchemaConversionUtils> converters = new ConcurrentHashMap<>();
+  private final Map<Key, Resources> conversions = Collections.synchronizedMap(new RecentConversions());
+  private final ExecutorService executor = Executors.newFixedThreadPool(
+      Math.min(MAX_PARALLELISM, Runtime.getRuntime().availableProcessors()), ThreadFactorySingleton.getInstance());
+
+  static DomainConverter getInstance() {
+    return instance;
+  }
+
+  /**
+   * Converts the specified domains.
+   * @param domains the domains to convert
+   * @param targetVersion the desired API version
+   * @param backend the backend used to list the clusters of a domain
+   * @return the converted domains and any cluster resources generated from them, in the order of the domains
+   */
+  List<Resources> convert(List<Map<String, Object>> domains, String targetVersion, RestBackend backend) {
+    final Conversion conversion = new Conversion(targetVersion, backend);
+    if (domains.size() <= 1) {
+      return domains.stream().map(conversion::convert).toList();
+    }
+
+    final List<CompletableFuture<Resources>> futures = domains.stream()
+        .map(d -> CompletableFuture.supplyAsync(() -> conversion.convert(d), executor))
+        .toList();
+    try {
+      return futures.stream().map(CompletableFuture::join).toList();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+  }
+
+  private SchemaConversionUtils getConverter(String targetVersion) {
+    return Optional.ofNullable(targetVersion).map(v -> converters.computeIfAbsent(v, SchemaConversionUtils::create))
+        .orElseGet(() -> SchemaConversionUtils.create(null));
+  }
+
+  // The identity of a conversion result. The cluster versions are only needed when the result integrates clusters.
+  private record Key(String contentHash, String targetVersion, String clusterVersions) {
+  }
+
+  private static class RecentConversions extends LinkedHashMap<Key, Resources> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    RecentConversions() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, Resources> eldest) {
+      return size() > MAX_REMEMBERED_CONVERSIONS;
+    }
+  }
+
+  // The conversion of the domains in a single review, which lists the clusters of each namespace at most once.
+  private class Conversion {
+    private final String targetVersion;
+    private final SchemaConversionUtils converter;
+    private final RestBackend backend;
+    private final Map<String, List<Map<String, Object>>> clusters = new ConcurrentHashMap<>();
+
+    Conversion(String targetVersion, RestBackend backend) {
+      this.targetVersion = targetVersion;
+      this.converter = getConverter(targetVersion);
+      this.backend = backend;
+    }
+
+    Resources convert(Map<String, Object> domain) {
+      final Key key = createKey(domain);
+      final Resources remembered = conversions.get(key);
+      if (remembered != null) {
+        return copy(remembered);
+      }
+
+      final Resources result = converter.convertDomainSchema(domain, () -> listClusters(getNamespace(domain)));
+      conversions.put(key, copy(result));
+      return result;
+    }
+
+    // The key is computed before conversion, which modifies the domain.
+    private Key createKey(Map<String, Object> domain) {
+      return new Key(CanonicalHash.sha256Hex(domain), targetVersion, getClusterVersions(domain));
+    }
+
+    private String getClusterVersions(Map<String, Object> domain) {
+      if (!API_VERSION_V8.equals(targetVersion) || !hasClusterReferences(domain)) {
+        return "";
+      }
+      return listClusters(getNamespace(domain)).stream()
+          .map(this::getMetadata)
+          .map(m -> m.get("name") + ":" + m.get("resourceVersion"))
+          .sorted()
+          .collect(Collectors.joining(","));
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean hasClusterReferences(Map<String, Object> domain) {
+      return Optional.ofNullable((Map<String, Object>) domain.get(SPEC)).map(s -> s.get("clusters")).isPresent();
+    }
+
+    private List<Map<String, Object>> listClusters(String namespace) {
+      return clusters.computeIfAbsent(namespace,
+          n -> Optional.ofNullable(backend.listClusters(n)).orElse(Collections.emptyList()));
+    }
+
+    private String getNamespace(Map<String, Object> domain) {
+      return (String) Optional.ofNullable(getMetadata(domain).get("namespace")).orElse("default");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getMetadata(Map<String, Object> resource) {
+      return Optional.ofNullable((Map<String, Object>) resource.get(METADATA)).orElse(Collections.emptyMap());
+    }
+  }
+
+  // A remembered result is copied, as the webhook modifies the clusters it creates or replaces.
+  private static Resources copy(Resources resources) {
+    return new Resources(copyMap(resources.domain()), resources.clusters().stream().map(DomainConverter::copyMap)
+        .toList());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> copyMap(Map<String, Object> map) {
+    return (Map<String, Object>) copyValue(map);
+  }
+
+  private static Object copyValue(Object value) {
+    if (value instanceof Map<?, ?> map) {
+      final Map<String, Object> copy = new LinkedHashMap<>();
+      map.forEach((k, v) -> copy.put((String) k, copyValue(v)));
+      return copy;
+    } else if (value instanceof List<?> list) {
+      final List<Object> copy = new ArrayList<>(list.size());
+      list.forEach(v -> copy.add(copyValue(v)));
+      return copy;
+    } else {
+      return value;
+    }
+  }
+}
@@ -22,60 +22,63 @@ import oracle.kubernetes.weblogic.domain.model.DomainResource;
 
 public class GsonBuilderUtils {
 
+  // A Gson instance is thread-safe, and is expensive to build, so a single one serves every request.
+  private static final Gson GSON = createGson();
+
   private GsonBuilderUtils() {
     // no-op
   }
 
   public static ConversionReviewModel readConversionReview(String resourceName) {
-    return getGsonBuilder().fromJson(resourceName, ConversionReviewModel.class);
+    return GSON.fromJson(resourceName, ConversionReviewModel.class);
   }
 
   public static String writeConversionReview(ConversionReviewModel conversionReviewModel) {
-    return getGsonBuilder().toJson(conversionReviewModel, ConversionReviewModel.class);
+    return GSON.toJson(conversionReviewModel, ConversionReviewModel.class);
   }
 
   public static AdmissionReview readAdmissionReview(String resourceName) {
-    return getGsonBuilder().fromJson(resourceName, AdmissionReview.class);
+    return GSON.fromJson(resourceName, AdmissionReview.class);
   }
 
   public static String writeAdmissionReview(AdmissionReview admissionReview) {
-    return getGsonBuilder().toJson(admissionReview, AdmissionReview.class);
+    return GSON.toJson(admissionReview, AdmissionReview.class);
   }
 
   public static DomainResource readDomain(String resourceName) {
-    return getGsonBuilder().fromJson(resourceName, DomainResource.class);
+    return GSON.fromJson(resourceName, DomainResource.class);
   }
 
   public static Map<String, Object> writeDomainToMap(DomainResource domain) {
-    return readMap(getGsonBuilder().toJson(domain, DomainResource.class));
+    return readMap(GSON.toJson(domain, DomainResource.class));
   }
 
   public static ClusterResource readCluster(String resourceName) {
-    return getGsonBuilder().fromJson(resourceName, ClusterResource.class);
+    return GSON.fromJson(resourceName, ClusterResource.class);
   }
 
   public static Map<String, Object> writeClusterToMap(ClusterResource cluster) {
-    return readMap(getGsonBuilder().toJson(cluster, ClusterResource.class));
+    return readMap(GSON.toJson(cluster, ClusterResource.class));
   }
 
   public static Scale readScale(String resourceName) {
-    return getGsonBuilder().fromJson(resourceName, Scale.class);
+    return GSON.fromJson(resourceName, Scale.class);
   }
 
   public static Map<String, Object> writeScaleToMap(Scale scale) {
-    return readMap(getGsonBuilder().toJson(scale, Scale.class));
+    return readMap(GSON.toJson(scale, Scale.class));
   }
 
   public static String writeMap(Map<String, Object> map) {
-    return getGsonBuilder().toJson(map, Map.class);
+    return GSON.toJson(map, Map.class);
   }
 
   @SuppressWarnings("unchecked")
   public static Map<String, Object> readMap(String map) {
-    return getGsonBuilder().fromJson(map, Map.class);
+    return GSON.fromJson(map, Map.class);
   }
 
-  private static Gson getGsonBuilder() {
+  private static Gson createGson() {
     GsonBuilder gsonBuilder = new GsonBuilder();
     gsonBuilder.setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE);
     gsonBuilder.registerTypeAdapter(Double.class, new SimpleNumberTypeAdapter());
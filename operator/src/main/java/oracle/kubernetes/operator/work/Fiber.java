@@ -5,11 +5,16 @@ package oracle.kubernetes.operator.work;
 
 import java.io.Serial;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -34,10 +39,12 @@ public final class Fiber implements Runnable {
   private Integer id = null;
   private final FiberExecutor fiberExecutor;
   private final CompletionCallback completionCallback;
+  private final Fiber parent;
   private final Step stepline;
   private final Packet packet;
   private final AtomicBoolean isCancelled = new AtomicBoolean(false);
   private final Queue<String> breadcrumbs = new ConcurrentLinkedQueue<>();
+  private FiberEvents.StepRun stepEvent;
 
   public Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet) {
     this(fiberExecutor, stepline, packet, null);
@@ -58,16 +65,27 @@ public final class Fiber implements Runnable {
    *     final packet is available.
    */
   public Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet, CompletionCallback completionCallback) {
-    this.fiberExecutor = fiberExecutor;
-    this.stepline = stepline;
-    this.packet = packet;
-    this.completionCallback = completionCallback;
+    this(fiberExecutor, stepline, packet, completionCallback, null);
   }
 
   private Fiber(Fiber fiber, Step stepline, Packet packet) {
     this(fiber.fiberExecutor, stepline, packet, fiber.completionCallback);
   }
 
+  // creates a child fiber, which reports its result to the parent rather than to a completion callback
+  private Fiber(Fiber parent, StepAndPacket stepAndPacket) {
+    this(parent.fiberExecutor, stepAndPacket.step(), stepAndPacket.packet(), null, parent);
+  }
+
+  private Fiber(FiberExecutor fiberExecutor, Step stepline, Packet packet,
+                CompletionCallback completionCallback, Fiber parent) {
+    this.fiberExecutor = fiberExecutor;
+    this.stepline = stepline;
+    this.packet = packet;
+    this.completionCallback = completionCallback;
+    this.parent = parent;
+  }
+
   /**
    * Gets the current fiber that's running, if set.
    *
@@ -87,6 +105,19 @@ public final class Fiber implements Runnable {
     }
   }
 
+  // records the end of the step this fiber was running, if any, and the start of the specified step
+  void traceStep(Step step, Packet packet) {
+    endStepEvent();
+    stepEvent = FiberEvents.StepRun.start(step, packet);
+  }
+
+  private void endStepEvent() {
+    if (stepEvent != null) {
+      stepEvent.commit();
+      stepEvent = null;
+    }
+  }
+
   /**
    * Starts the execution of this fiber asynchronously.
    */
@@ -94,11 +125,25 @@ public final class Fiber implements Runnable {
     fiberExecutor.execute(this);
   }
 
+  /**
+   * Starts a new fiber on the executor which runs this one. The new fiber runs independently of this one,
+   * which neither waits for it nor is cancelled with it, and is not subject to any gate which governs this one.
+   * @param stepline the steps for the new fiber to run
+   * @param packet the packet for the new fiber
+   * @param completionCallback the callback to be invoked when the new fiber finishes
+   */
+  public void startDetached(Step stepline, Packet packet, CompletionCallback completionCallback) {
+    new Fiber(fiberExecutor.getDetachedExecutor(), stepline, packet, completionCallback).start();
+  }
+
   private boolean invokeAndPotentiallyRequeue(Step stepline, Packet packet) {
     Result result = stepline.apply(packet);
 
     if (result == null || result.isRequeue()) {
-      addBreadcrumb("[" + result.getRequeueAfter() + "]");
+      if (LOGGER.isFinerEnabled()) {
+        addBreadcrumb("[" + result.getRequeueAfter() + "]");
+      }
+      FiberEvents.FiberDelay.recordRequeue(stepline, packet, result.getRequeueAfter().toMillis());
       fiberExecutor.schedule(this, result.getRequeueAfter());
       return false;
     }
@@ -117,25 +162,35 @@ public final class Fiber implements Runnable {
 
       final Fiber oldFiber = CURRENT_FIBER.get();
       CURRENT_FIBER.set(this);
+      final FiberEvents.FiberRun runEvent = new FiberEvents.FiberRun();
+      runEvent.begin();
       try {
         try {
-          if ((stepline == null || invokeAndPotentiallyRequeue(adapt(this, stepline, packet), packet))
-                  && !isCancelled()
-                  && completionCallback != null) {
+          if (stepline != null && !invokeAndPotentiallyRequeue(adapt(this, stepline, packet), packet)) {
+            runEvent.outcome = FiberEvents.REQUEUED;
+          } else if (isCancelled()) {
+            runEvent.outcome = FiberEvents.CANCELLED;
+          } else if (completionCallback != null) {
             Throwable t = (Throwable) packet.remove(THROWABLE);
             if (t != null) {
+              runEvent.outcome = FiberEvents.FAILED;
               completionCallback.onThrowable(packet, t);
             } else {
               completionCallback.onCompletion(packet);
             }
+          } else if (packet.containsKey(THROWABLE)) {
+            runEvent.outcome = FiberEvents.FAILED;
           }
         } catch (Throwable t) {
+          runEvent.outcome = FiberEvents.FAILED;
           addBreadcrumb("[throw= " + t.getMessage() + "]");
           if (completionCallback != null) {
             completionCallback.onThrowable(packet, t);
           }
         }
       } finally {
+        endStepEvent();
+        runEvent.end(parent, packet);
 
         if (LOGGER.isFinerEnabled()) {
           LOGGER.finer("Fiber breadcrumbs: " + breadcrumbs);
@@ -151,7 +206,80 @@ public final class Fiber implements Runnable {
   }
 
   public boolean isCancelled() {
-    return isCancelled.get();
+    return isCancelled.get() || (parent != null && parent.isCancelled());
+  }
+
+  /**
+   * Returns true if this fiber can run the steps of a fork-join as concurrent child fibers.
+   */
+  boolean canRunChildFibers() {
+    return fiberExecutor.getChildExecutor() != null;
+  }
+
+  /**
+   * Runs each of the specified step and packet pairs in its own child fiber, with no more than the specified
+   * number of children running at any one time, and waits for all of them to complete. Once any child
+   * reports a throwable, no further children are started and those still running are cancelled.
+   *
+   * @param startDetails Pairs of step and packet to use when starting the children
+   * @param concurrencyLimit the maximum number of children to run at the same time
+   * @param results an object to accumulate the results of the children
+   */
+  void runChildFibers(Collection<StepAndPacket> startDetails, int concurrencyLimit, Step.ForkJoinResults results) {
+    final Executor executor = fiberExecutor.getChildExecutor();
+    final Semaphore permits = new Semaphore(concurrencyLimit);
+    final Queue<Fiber> children = new ConcurrentLinkedQueue<>();
+    final List<CompletableFuture<Void>> completions = new ArrayList<>();
+
+    try {
+      for (StepAndPacket startDetail : startDetails) {
+        permits.acquire();
+        if (results.isFailed() || isCancelled()) {
+          permits.release();
+          break;
+        }
+
+        Fiber child = new Fiber(this, startDetail);
+        children.add(child);
+        completions.add(CompletableFuture.runAsync(() -> child.runAsChild(results), executor)
+              .whenComplete((r, t) -> {
+                permits.release();
+                if (results.isFailed()) {
+                  children.forEach(Fiber::cancel);
+                }
+              }));
+      }
+      CompletableFuture.allOf(completions.toArray(new CompletableFuture<?>[0])).join();
+    } catch (InterruptedException e) {
+      children.forEach(Fiber::cancel);
+      results.addThrowable(e);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void runAsChild(Step.ForkJoinResults results) {
+    LOGGER.finer("{0} running as child of {1}", getName(), parent.getName());
+    CURRENT_FIBER.set(this);
+    final FiberEvents.FiberRun runEvent = new FiberEvents.FiberRun();
+    runEvent.begin();
+    try {
+      if (isCancelled()) {
+        runEvent.outcome = FiberEvents.CANCELLED;
+      } else {
+        results.addResult(stepline.doStepNext(packet), packet);
+      }
+    } catch (Throwable t) {
+      runEvent.outcome = FiberEvents.FAILED;
+      addBreadcrumb("[throw= " + t.getMessage() + "]");
+      results.addThrowable(t);
+    } finally {
+      endStepEvent();
+      runEvent.end(parent, packet);
+      if (LOGGER.isFinerEnabled()) {
+        LOGGER.finer("Fiber breadcrumbs: " + breadcrumbs);
+      }
+      CURRENT_FIBER.remove();
+    }
   }
 
   @SuppressWarnings("ResultOfMethodCallIgnored")
@@ -251,10 +379,36 @@ public final class Fiber implements Runnable {
     void execute(Fiber fiber);
 
     Cancellable schedule(Fiber fiber, Duration duration);
+
+    /**
+     * Returns an executor on which child fibers may run while their parent waits for them, or null if child
+     * fibers are not supported. Since the parent blocks its thread until all children complete, only an executor
+     * which starts a new thread for each task may be used.
+     */
+    default Executor getChildExecutor() {
+      return null;
+    }
+
+    /**
+     * Returns an executor for fibers started detached from those run by this one. Starting a fiber on it
+     * must not affect the fiber which started it.
+     */
+    default FiberExecutor getDetachedExecutor() {
+      return this;
+    }
+  }
+
+  static Executor getChildExecutor(ScheduledExecutorService scheduledExecutorService) {
+    return scheduledExecutorService instanceof VirtualScheduledExecutorService ? scheduledExecutorService : null;
   }
 
-  private static FiberExecutor fromScheduled(ScheduledExecutorService scheduledExecutorService) {
+  static FiberExecutor fromScheduled(ScheduledExecutorService scheduledExecutorService) {
     return new FiberExecutor() {
+      @Override
+      public Executor getChildExecutor() {
+        return Fiber.getChildExecutor(scheduledExecutorService);
+      }
+
       @Override
       public Cancellable schedule(Fiber fiber, Duration duration) {
         ScheduledFuture<?> future = scheduledExecutorService.schedule(fiber,
@@ -0,0 +1,184 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Optional;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.logging.LoggingContext;
+
+/**
+ * JDK Flight Recorder events which trace the work of fibers. Like any other Flight Recorder events, they are
+ * recorded only while a recording which enables them is running, which may be started and stopped at any time,
+ * for example with {@code jcmd <pid> JFR.start}. Step events are the most numerous, and so are disabled unless a
+ * recording's settings enable them explicitly. While an event is not enabled, the cost of reporting it is a check
+ * of a flag.
+ */
+public final class FiberEvents {
+
+  public static final String CATEGORY = "WebLogic Kubernetes Operator";
+  public static final String EVENT_NAME_PREFIX = "oracle.kubernetes.operator.";
+
+  static final String COMPLETED = "completed";
+  static final String FAILED = "failed";
+  static final String REQUEUED = "requeued";
+  static final String CANCELLED = "cancelled";
+
+  private FiberEvents() {
+    // no-op
+  }
+
+  /** An event which records work done by a fiber, identifying the fiber and the domain on which it works. */
+  @Category({CATEGORY, "Fibers"})
+  @StackTrace(false)
+  public abstract static class FiberWorkEvent extends Event {
+    @Label("Fiber")
+    String fiber;
+
+    @Label("Namespace")
+    String namespace;
+
+    @Label("Domain UID")
+    String domainUid;
+
+    /**
+     * Sets the fields which identify the current fiber, and the domain or namespace on which it works.
+     * @param packet the packet of the fiber
+     */
+    public void identify(Packet packet) {
+      fiber = Optional.ofNullable(Fiber.getCurrentIfSet()).map(Fiber::toString).orElse(null);
+      final DomainPresenceInfo info = packet.getValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY);
+      if (info != null) {
+        namespace = info.getNamespace();
+        domainUid = info.getDomainUid();
+      } else {
+        LoggingContext.fromPacket(packet).ifPresent(context -> {
+          namespace = context.namespace();
+          domainUid = context.domainUid();
+        });
+      }
+    }
+  }
+
+  @Name(EVENT_NAME_PREFIX + "FiberRun")
+  @Label("Fiber Run")
+  @Description("A fiber running its steps, until it completes, fails, is cancelled or asks to run again later")
+  static class FiberRun extends FiberWorkEvent {
+    @Label("Parent Fiber")
+    String parentFiber;
+
+    @Label("Outcome")
+    String outcome = COMPLETED;
+
+    void end(Fiber parent, Packet packet) {
+      if (shouldCommit()) {
+        identify(packet);
+        parentFiber = Optional.ofNullable(parent).map(Fiber::toString).orElse(null);
+        commit();
+      }
+    }
+  }
+
+  @Name(EVENT_NAME_PREFIX + "Step")
+  @Label("Step")
+  @Description("A step, from when a fiber starts it until the fiber starts another step or stops running")
+  @Enabled(false)
+  static class StepRun extends FiberWorkEvent {
+    @Label("Step Class")
+    String stepClass;
+
+    @Label("Step")
+    String step;
+
+    static StepRun start(Step step, Packet packet) {
+      final StepRun event = new StepRun();
+      if (!event.isEnabled()) {
+        return null;
+      }
+
+      event.begin();
+      event.identify(packet);
+      event.stepClass = step.getClass().getName();
+      event.step = step.getResourceName();
+      return event;
+    }
+  }
+
+  @Name(EVENT_NAME_PREFIX + "FiberDelay")
+  @Label("Fiber Delay")
+  @Description("A fiber waiting before it continues. A delay lasts while the fiber sleeps; "
+        + "a requeue is recorded when the fiber asks to run again later, and lasts no time")
+  static class FiberDelay extends FiberWorkEvent {
+    @Label("Kind")
+    String kind;
+
+    @Label("Step Class")
+    String stepClass;
+
+    @Label("Requested Delay")
+    @Timespan(Timespan.MILLISECONDS)
+    long requestedMillis;
+
+    static void recordRequeue(Step step, Packet packet, long requestedMillis) {
+      final FiberDelay event = new FiberDelay();
+      if (event.shouldCommit()) {
+        event.fill("requeue", step, packet, requestedMillis);
+        event.commit();
+      }
+    }
+
+    static FiberDelay startDelay(Step step, Packet packet, long requestedMillis) {
+      final FiberDelay event = new FiberDelay();
+      if (event.isEnabled()) {
+        event.begin();
+        event.fill("delay", step, packet, requestedMillis);
+      }
+      return event;
+    }
+
+    private void fill(String kind, Step step, Packet packet, long requestedMillis) {
+      identify(packet);
+      this.kind = kind;
+      this.stepClass = step.getClass().getName();
+      this.requestedMillis = requestedMillis;
+    }
+  }
+
+  @Name(EVENT_NAME_PREFIX + "ForkJoin")
+  @Label("Fork-Join")
+  @Description("A step running a set of branches, each with its own packet, and waiting for all of them")
+  static class ForkJoin extends FiberWorkEvent {
+    @Label("Step Class")
+    String stepClass;
+
+    @Label("Branches")
+    int numBranches;
+
+    @Label("Concurrency Limit")
+    int concurrencyLimit;
+
+    @Label("Outcome")
+    String outcome;
+
+    void end(Step step, Packet packet, int numBranches, int concurrencyLimit, String outcome) {
+      if (shouldCommit()) {
+        identify(packet);
+        this.stepClass = step.getClass().getName();
+        this.numBranches = numBranches;
+        this.concurrencyLimit = concurrencyLimit;
+        this.outcome = outcome;
+        commit();
+      }
+    }
+  }
+}
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -92,6 +93,16 @@ public class FiberGate {
     }
 
     private class FiberExecutorImpl implements FiberExecutor {
+      @Override
+      public Executor getChildExecutor() {
+        return Fiber.getChildExecutor(scheduledExecutorService);
+      }
+
+      @Override
+      public FiberExecutor getDetachedExecutor() {
+        return Fiber.fromScheduled(scheduledExecutorService);
+      }
+
       @Override
       public Cancellable schedule(Fiber fiber, Duration duration) {
         ScheduledFuture<?> future = scheduledExecutorService.schedule(
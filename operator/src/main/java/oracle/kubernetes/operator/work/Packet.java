@@ -4,19 +4,36 @@
 package oracle.kubernetes.operator.work;
 
 import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
-/** Context of a single processing flow. */
+/**
+ * Context of a single processing flow. The values of a packet are held in two layers: an immutable layer,
+ * which may be shared with other packets, and a layer of the changes made since the packet was created or last
+ * copied. Copying a packet moves its changes into a new shared layer, which both packets then use, so that the
+ * many copies made when processing fans out over the servers of a domain need not each copy every value.
+ */
 public class Packet extends AbstractMap<String, Object> {
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<>();
+
+  // marks a value, present in the shared layer, which has since been removed
+  private static final Object REMOVED = new Object();
+
+  private volatile Map<String, Object> shared;
+  private final ConcurrentMap<String, Object> changes = new ConcurrentHashMap<>();
 
   public Packet() {
+    this(Collections.emptyMap());
   }
 
-  private Packet(Packet that) {
-    delegate.putAll(that.delegate);
+  private Packet(Map<String, Object> shared) {
+    this.shared = shared;
   }
 
   /**
@@ -25,17 +42,86 @@ public class Packet extends AbstractMap<String, Object> {
    * @return Cloned packet
    */
   public Packet copy() {
-    return new Packet(this);
+    return new Packet(getShared());
+  }
+
+  // moves any changes into a new shared layer, and returns that layer
+  private synchronized Map<String, Object> getShared() {
+    if (!changes.isEmpty()) {
+      final Map<String, Object> merged = new HashMap<>(shared);
+      changes.forEach((key, value) -> {
+        if (value == REMOVED) {
+          merged.remove(key);
+        } else {
+          merged.put(key, value);
+        }
+      });
+      shared = Collections.unmodifiableMap(merged);
+      changes.clear();
+    }
+    return shared;
   }
 
   @Override
   public Set<Entry<String, Object>> entrySet() {
-    return delegate.entrySet();
+    return new EntrySet();
   }
 
   @Override
-  public Object put(String key, Object value) {
-    return value != null ? delegate.put(key, value) : delegate.remove(key);
+  public Object get(Object key) {
+    final Object value = changes.get(key);
+    if (value == null) {
+      return shared.get(key);
+    }
+    return value == REMOVED ? null : value;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public synchronized Object put(String key, Object value) {
+    if (value == null) {
+      return remove(key);
+    }
+
+    final Object oldValue = get(key);
+    changes.put(key, value);
+    return oldValue;
+  }
+
+  @Override
+  public synchronized Object remove(Object key) {
+    final Object oldValue = get(key);
+    if (shared.containsKey(key)) {
+      changes.put((String) key, REMOVED);
+    } else {
+      changes.remove(key);
+    }
+    return oldValue;
+  }
+
+  @Override
+  public synchronized Object putIfAbsent(String key, Object value) {
+    final Object oldValue = get(key);
+    if (oldValue == null) {
+      put(key, value);
+    }
+    return oldValue;
+  }
+
+  @Override
+  public synchronized Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+    final Object value = get(key);
+    if (value != null) {
+      return value;
+    }
+
+    final Object newValue = mappingFunction.apply(key);
+    put(key, newValue);
+    return newValue;
   }
 
   @SuppressWarnings("unchecked")
@@ -43,7 +129,78 @@ public class Packet extends AbstractMap<String, Object> {
     return (T) get(key);
   }
 
+  /**
+   * Returns the value for the specified typed key.
+   * @param key the key
+   * @param <T> the type of value
+   * @return the value, or null if there is none
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getValue(Key<T> key) {
+    return (T) get(key.name());
+  }
+
+  /**
+   * Sets the value for the specified typed key.
+   * @param key the key
+   * @param value the new value, or null to remove the value
+   * @param <T> the type of value
+   */
+  public <T> void putValue(Key<T> key, T value) {
+    put(key.name(), value);
+  }
+
   public Fiber getFiber() {
     return Fiber.getCurrentIfSet();
   }
+
+  /**
+   * A key for values of a single type. The value for a typed key is also available using the key's name.
+   * @param name the name of the key
+   * @param <T> the type of value
+   */
+  public record Key<T>(String name) {
+
+    public static <T> Key<T> of(String name) {
+      return new Key<>(name);
+    }
+  }
+
+  // A view of the values of this packet. Its iterators work on the values at the time they are created.
+  private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      final Iterator<Entry<String, Object>> entries = getShared().entrySet().iterator();
+      return new Iterator<>() {
+        private String lastKey;
+
+        @Override
+        public boolean hasNext() {
+          return entries.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+          final Entry<String, Object> entry = entries.next();
+          lastKey = entry.getKey();
+          return entry;
+        }
+
+        @Override
+        public void remove() {
+          if (lastKey == null) {
+            throw new IllegalStateException();
+          }
+          Packet.this.remove(lastKey);
+          lastKey = null;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return getShared().size();
+    }
+  }
 }
@@ -181,7 +181,11 @@ public abstract class Step {
     if (fiber != null && fiber.isCancelled()) {
       return null;
     }
-    return adapter.adapt(fiber, step, packet);
+    final Step adapted = adapter.adapt(fiber, step, packet);
+    if (fiber != null && adapted != null) {
+      fiber.traceStep(adapted, packet);
+    }
+    return adapted;
   }
 
   /**
@@ -246,7 +250,7 @@ public abstract class Step {
    */
   protected static final Result doTerminate(Throwable throwable, Packet packet) {
     Fiber fiber = Fiber.getCurrentIfSet();
-    if (fiber != null) {
+    if (LOGGER.isFinerEnabled() && fiber != null) {
       fiber.addBreadcrumb("[throw= " + throwable.getMessage() + "]");
     }
     packet.put(THROWABLE, throwable);
@@ -274,14 +278,17 @@ public abstract class Step {
    * @param unit Delay time unit
    */
   protected static final Result doDelay(Step step, Packet packet, long delay, TimeUnit unit) {
+    final FiberEvents.FiberDelay delayEvent = FiberEvents.FiberDelay.startDelay(step, packet, unit.toMillis(delay));
     try {
       Fiber fiber = Fiber.getCurrentIfSet();
-      if (fiber != null) {
+      if (LOGGER.isFinerEnabled() && fiber != null) {
         fiber.addBreadcrumb(("[delay: " + unit.toMillis(delay) + "ms]"));
       }
       unit.sleep(delay);
     } catch (InterruptedException e) {
       return doTerminate(e, packet);
+    } finally {
+      delayEvent.commit();
     }
     return step.doStepNext(packet);
   }
@@ -296,42 +303,58 @@ public abstract class Step {
    * shortest duration. Otherwise, if none of the steps request a requeue then the result of invoking the
    * conditional step is returned.
    *
+   * <p>The steps are run one after another on the current fiber.
+   *
    * @param step Step to invoke conditionally after the set of steps are invoked
    * @param packet Resume packet
    * @param startDetails Pairs of step and packet to use when starting
    */
   protected final Result doForkJoin(
       Step step, Packet packet, Collection<Fiber.StepAndPacket> startDetails) {
-    boolean requeue = false;
-    Duration duration = null;
+    return forkJoin(step, packet, startDetails, false);
+  }
+
+  /**
+   * Invokes a set of steps as {@link #doForkJoin(Step, Packet, Collection)} does, but when the current fiber
+   * supports it, runs each of the steps in its own child fiber, with the number running at the same time bounded
+   * by the fork-join concurrency limit tuning parameter. Callers must ensure that the steps share no state which
+   * is not safe for concurrent use; in particular, each should normally be given its own packet.
+   *
+   * @param step Step to invoke conditionally after the set of steps are invoked
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting
+   */
+  protected final Result doConcurrentForkJoin(
+      Step step, Packet packet, Collection<Fiber.StepAndPacket> startDetails) {
+    return forkJoin(step, packet, startDetails, true);
+  }
 
+  private Result forkJoin(Step step, Packet packet, Collection<Fiber.StepAndPacket> startDetails, boolean concurrent) {
     Fiber fiber = Fiber.getCurrentIfSet();
-    int count = 0;
     if (LOGGER.isFinerEnabled() && fiber != null) {
       fiber.addBreadcrumb("[forkJoin]");
     }
-    for (Fiber.StepAndPacket sap : startDetails) {
-      if (LOGGER.isFinerEnabled() && fiber != null) {
-        fiber.addBreadcrumb("[" + ++count + "of" + startDetails.size() + "]");
-      }
 
-      Packet sapPacket = sap.packet();
-      Result r = sap.step().doStepNext(sapPacket);
-      Throwable t = Optional.ofNullable(sapPacket).map(p -> (Throwable) p.getValue(THROWABLE)).orElse(null);
-      if (t != null) {
-        return doTerminate(t, packet);
-      }
-      if (r != null && r.isRequeue()) {
-        requeue = true;
-        duration = minDuration(duration, r.getRequeueAfter());
-      }
+    final FiberEvents.ForkJoin forkJoinEvent = new FiberEvents.ForkJoin();
+    forkJoinEvent.begin();
+    ForkJoinResults results = new ForkJoinResults();
+    int concurrencyLimit = concurrent ? getForkJoinConcurrencyLimit(fiber, startDetails) : 1;
+    if (concurrencyLimit > 1) {
+      fiber.runChildFibers(startDetails, concurrencyLimit, results);
+    } else {
+      runSequentially(fiber, startDetails, results);
     }
+    forkJoinEvent.end(this, packet, startDetails.size(), concurrencyLimit, results.getOutcome());
 
-    if (requeue) {
+    if (results.throwable != null) {
+      return doTerminate(results.throwable, packet);
+    }
+
+    if (results.requeue) {
       if (LOGGER.isFinerEnabled() && fiber != null) {
-        fiber.addBreadcrumb("[forkJoin-requeue: " + duration + "]");
+        fiber.addBreadcrumb("[forkJoin-requeue: " + results.duration + "]");
       }
-      return new Result(true, duration);
+      return new Result(true, results.duration);
     }
 
     if (step == null) {
@@ -346,13 +369,74 @@ public abstract class Step {
     return step.doStepNext(packet);
   }
 
-  private Duration minDuration(Duration one, Duration two) {
-    if (one == null) {
-      return two;
+  private int getForkJoinConcurrencyLimit(Fiber fiber, Collection<Fiber.StepAndPacket> startDetails) {
+    if (fiber == null || startDetails.size() < 2 || !fiber.canRunChildFibers()) {
+      return 1;
+    }
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getForkJoinConcurrencyLimit)
+          .orElse(TuningParameters.DEFAULT_FORK_JOIN_CONCURRENCY_LIMIT);
+  }
+
+  private void runSequentially(Fiber fiber, Collection<Fiber.StepAndPacket> startDetails, ForkJoinResults results) {
+    int count = 0;
+    for (Fiber.StepAndPacket sap : startDetails) {
+      if (LOGGER.isFinerEnabled() && fiber != null) {
+        fiber.addBreadcrumb("[" + ++count + "of" + startDetails.size() + "]");
+      }
+
+      Packet sapPacket = sap.packet();
+      results.addResult(sap.step().doStepNext(sapPacket), sapPacket);
+      if (results.isFailed()) {
+        return;
+      }
     }
-    if (two == null) {
-      return one;
+  }
+
+  /**
+   * Accumulates the results of the steps run by a fork-join. The first throwable reported wins;
+   * otherwise, the shortest requested requeue delay wins.
+   */
+  static class ForkJoinResults {
+    private boolean requeue;
+    private Duration duration;
+    private Throwable throwable;
+
+    synchronized void addResult(Result result, Packet packet) {
+      Throwable t = Optional.ofNullable(packet).map(p -> (Throwable) p.getValue(THROWABLE)).orElse(null);
+      if (t != null) {
+        addThrowable(t);
+      } else if (result != null && result.isRequeue()) {
+        requeue = true;
+        duration = minDuration(duration, result.getRequeueAfter());
+      }
+    }
+
+    synchronized void addThrowable(Throwable t) {
+      if (throwable == null) {
+        throwable = t;
+      }
+    }
+
+    synchronized boolean isFailed() {
+      return throwable != null;
+    }
+
+    synchronized String getOutcome() {
+      if (throwable != null) {
+        return FiberEvents.FAILED;
+      }
+      return requeue ? FiberEvents.REQUEUED : FiberEvents.COMPLETED;
+    }
+
+    private static Duration minDuration(Duration one, Duration two) {
+      if (one == null) {
+        return two;
+      }
+      if (two == null) {
+        return one;
+      }
+      return one.compareTo(two) <= 0 ? one : two;
     }
-    return one.compareTo(two) <= 0 ? one : two;
   }
 }
@@ -268,6 +268,7 @@ public class ClusterStatus implements Comparable<ClusterStatus>, PatchableCompon
   private static final ObjectPatch<ClusterStatus> clusterPatch =
       createObjectPatch(ClusterStatus.class)
           .withStringField("clusterName", ClusterStatus::getClusterName)
+          .withStringField("labelSelector", ClusterStatus::getLabelSelector)
           .withIntegerField("maximumReplicas", ClusterStatus::getMaximumReplicas)
           .withIntegerField("minimumReplicas", ClusterStatus::getMinimumReplicas)
           .withIntegerField("observedGeneration", ClusterStatus::getObservedGenerationAsInteger)
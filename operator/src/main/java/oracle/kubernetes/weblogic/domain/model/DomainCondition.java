@@ -318,6 +318,7 @@ public class DomainCondition implements Comparable<DomainCondition>, PatchableCo
   }
 
   private static final ObjectPatch<DomainCondition> conditionPatch = createObjectPatch(DomainCondition.class)
+        .withDateTimeField("lastTransitionTime", DomainCondition::getLastTransitionTime)
         .withStringField("message", DomainCondition::getMessage)
         .withStringField("status", DomainCondition::getStatus)
         .withEnumField("reason", DomainCondition::getReason)
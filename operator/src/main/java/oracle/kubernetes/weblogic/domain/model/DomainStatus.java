@@ -719,6 +719,10 @@ public class DomainStatus {
         .withBooleanField("rolling", DomainStatus::isRolling)
         .withStringField("failedIntrospectionUid", DomainStatus::getFailedIntrospectionUid)
         .withIntegerField("replicas", DomainStatus::getReplicas)
+        .withLongField("observedGeneration", DomainStatus::getObservedGeneration)
+        .withDateTimeField("startTime", DomainStatus::getStartTime)
+        .withDateTimeField("initialFailureTime", DomainStatus::getInitialFailureTime)
+        .withDateTimeField("lastFailureTime", DomainStatus::getLastFailureTime)
         .withListField("conditions", DomainCondition.getObjectPatch(), DomainStatus::getConditions)
         .withListField("clusters", ClusterStatus.getObjectPatch(), DomainStatus::getClusters)
         .withListField("servers", ServerStatus.getObjectPatch(), DomainStatus::getServers);
@@ -49,6 +49,11 @@ class ObjectPatch<T> {
     return this;
   }
 
+  ObjectPatch<T> withLongField(String fieldName, Function<T,Long> getter) {
+    fields.add(new LongField<>(fieldName, getter));
+    return this;
+  }
+
   ObjectPatch<T> withBooleanField(String fieldName, Function<T,Boolean> getter) {
     fields.add(new BooleanField<>(fieldName, getter));
     return this;
@@ -203,6 +208,28 @@ class ObjectPatch<T> {
     }
   }
 
+  static class LongField<T> extends ScalarFieldPatch<T,Long> {
+
+    LongField(String name, Function<T, Long> getter) {
+      super(name, getter);
+    }
+
+    @Override
+    void addToObject(JsonObjectBuilder builder, String name, Long value) {
+      builder.add(name, value);
+    }
+
+    @Override
+    void replaceField(JsonPatchBuilder builder, String path, Long oldValue, Long newValue) {
+      builder.replace(path, Json.createValue(newValue));
+    }
+
+    @Override
+    void addField(JsonPatchBuilder builder, String path, Long newValue) {
+      builder.add(path, Json.createValue(newValue));
+    }
+  }
+
   static class BooleanField<T> extends ScalarFieldPatch<T,Boolean> {
 
     BooleanField(String name, Function<T, Boolean> getter) {
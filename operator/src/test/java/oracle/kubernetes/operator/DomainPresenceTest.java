@@ -30,6 +30,7 @@ import oracle.kubernetes.operator.helpers.EventHelper.EventData;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.OperatorServiceType;
+import oracle.kubernetes.operator.tuning.TuningParameters;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
 import oracle.kubernetes.operator.work.Fiber;
@@ -572,6 +573,32 @@ class DomainPresenceTest extends ThreadFactoryTestBase {
     assertThat(dp.isEstablishingDomain("UID" + LAST_DOMAIN_NUM), is(true));
   }
 
+  @Test
+  void whenDomainsListedInSeveralPages_dontTreatDomainsFromEarlierPagesAsDeleted() {
+    TuningParametersStub.setParameter(TuningParameters.CALL_REQUEST_LIMIT, Integer.toString(CALL_REQUEST_LIMIT));
+    createDomains(LAST_DOMAIN_NUM);
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(dp.isDeletingStrandedResources("UID1"), is(false));
+    assertThat(dp.isEstablishingDomain("UID1"), is(true));
+    assertThat(dp.isEstablishingDomain("UID" + LAST_DOMAIN_NUM), is(true));
+  }
+
+  @Test
+  void whenPodsListedInSeveralPages_recordPodsFromAllPages() {
+    TuningParametersStub.setParameter(TuningParameters.CALL_REQUEST_LIMIT, Integer.toString(CALL_REQUEST_LIMIT));
+    addDomainResource(UID1, NS);
+    createPodResources(UID1, NS, LAST_DOMAIN_NUM);
+    dp.domains.computeIfAbsent(NS, k -> new ConcurrentHashMap<>()).put(UID1, info);
+
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_PROCESSOR, dp);
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, dp));
+
+    assertThat(getDomainPresenceInfo(dp, UID1).getServerPod("managed-server1"), notNullValue());
+    assertThat(getDomainPresenceInfo(dp, UID1).getServerPod("managed-server" + LAST_DOMAIN_NUM), notNullValue());
+  }
+
   @Test
   void whenK8sHasDomainWithFailedIntrospectionPod_updateDomainStatus() {
     addDomainResource(UID1, NS);
@@ -85,6 +85,7 @@ import static oracle.kubernetes.operator.EventConstants.DOMAIN_FAILED_EVENT;
 import static oracle.kubernetes.operator.EventConstants.DOMAIN_ROLL_COMPLETED_EVENT;
 import static oracle.kubernetes.operator.EventMatcher.hasEvent;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.MAKE_RIGHT_DOMAIN_OPERATION;
@@ -110,6 +111,7 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.FAILED
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.ROLLING;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.SERVER_POD;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
@@ -1910,7 +1912,7 @@ abstract class DomainStatusUpdateTestBase {
     testSupport.getPacket().put(MAKE_RIGHT_DOMAIN_OPERATION, createDummyMakeRightOperation());
 
     info.getDomain().getMetadata().setGeneration(2L);
-    testSupport.failOnReplaceStatus(DOMAIN, info.getDomainUid(), info.getNamespace(), HTTP_NOT_FOUND);
+    testSupport.failOnPatchStatus(DOMAIN, info.getDomainUid(), info.getNamespace(), HTTP_NOT_FOUND);
     retryStrategy.setNumRetriesLeft(1);
     testSupport.addRetryStrategy(retryStrategy);
     updateDomainStatusInEndOfProcessing();
@@ -1918,6 +1920,51 @@ abstract class DomainStatusUpdateTestBase {
     assertThat(getRecordedDomain().getStatus().getObservedGeneration(), not(equalTo(2L)));
   }
 
+  @Test
+  void whenStatusChanged_patchIt() {
+    final List<String> calls = new ArrayList<>();
+    testSupport.doAfterCall(DOMAIN, "patchStatus", () -> calls.add("patchStatus"));
+    domain.getStatus().setMessage("old message");
+
+    updateDomainStatus();
+
+    assertThat(calls, contains("patchStatus"));
+    assertThat(getRecordedDomain().getStatus().getMessage(), nullValue());
+  }
+
+  @Test
+  void whenStatusPatchRejected_replaceStatus() {
+    final List<String> calls = new ArrayList<>();
+    testSupport.doAfterCall(DOMAIN, "replaceStatus", () -> calls.add("replaceStatus"));
+    testSupport.failOnPatchStatus(DOMAIN, NAME, NS, HTTP_UNPROCESSABLE_ENTITY);
+    domain.getStatus().setMessage("old message");
+
+    updateDomainStatus();
+
+    assertThat(calls, contains("replaceStatus"));
+    assertThat(getRecordedDomain().getStatus().getMessage(), nullValue());
+  }
+
+  @Test
+  void whenDomainChangedSinceRead_statusPatchRejected() {
+    final List<String> calls = new ArrayList<>();
+    testSupport.doAfterCall(DOMAIN, "replaceStatus", () -> calls.add("replaceStatus"));
+    domain.getMetadata().setResourceVersion("3");
+    testSupport.deleteResources(domain);
+    testSupport.defineResources(createDomainWithResourceVersion("4"));
+    domain.getStatus().setMessage("old message");
+
+    updateDomainStatus();
+
+    assertThat(calls, contains("replaceStatus"));
+  }
+
+  private DomainResource createDomainWithResourceVersion(String resourceVersion) {
+    return new DomainResource()
+        .withMetadata(new V1ObjectMeta().namespace(NS).name(NAME).resourceVersion(resourceVersion))
+        .withSpec(domain.getSpec()).withStatus(new DomainStatus(domain.getStatus()));
+  }
+
   @Nullable
   private MakeRightOperation<DomainPresenceInfo> createDummyMakeRightOperation() {
     return new MakeRightDomainOperation() {
@@ -0,0 +1,169 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAKE_RIGHT_DEBOUNCE_MILLIS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAKE_RIGHT_MAX_DEBOUNCE_SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+class MakeRightDebouncerTest {
+
+  private static final int DEBOUNCE_MILLIS = 500;
+  private static final int MAX_DEBOUNCE_SECONDS = 10;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final DomainProcessorDelegateStub delegate = DomainProcessorDelegateStub.createDelegate(testSupport);
+  private final List<DomainPresenceInfo> startedMakeRights = new ArrayList<>();
+  private final DomainPresenceInfo info1 = new DomainPresenceInfo("ns1", "domain1");
+  private final DomainPresenceInfo info2 = new DomainPresenceInfo("ns1", "domain2");
+  private boolean makeRightRunning;
+  private final MakeRightDebouncer debouncer
+        = new MakeRightDebouncer(delegate, info -> makeRightRunning, startedMakeRights::add);
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    TuningParametersStub.setParameter(MAKE_RIGHT_DEBOUNCE_MILLIS, Integer.toString(DEBOUNCE_MILLIS));
+    TuningParametersStub.setParameter(MAKE_RIGHT_MAX_DEBOUNCE_SECONDS, Integer.toString(MAX_DEBOUNCE_SECONDS));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void whenDebounceDisabled_startMakeRightImmediately() {
+    TuningParametersStub.setParameter(MAKE_RIGHT_DEBOUNCE_MILLIS, "0");
+
+    debouncer.request(info1);
+
+    assertThat(startedMakeRights, contains(sameInstance(info1)));
+  }
+
+  @Test
+  void afterRequest_startMakeRightWhenDebounceWindowEnds() {
+    debouncer.request(info1);
+
+    testSupport.setTime(DEBOUNCE_MILLIS - 1, MILLISECONDS);
+    assertThat(startedMakeRights, empty());
+
+    testSupport.setTime(DEBOUNCE_MILLIS, MILLISECONDS);
+    assertThat(startedMakeRights, contains(sameInstance(info1)));
+  }
+
+  @Test
+  void whenRequestsArriveWithinDebounceWindow_startOneMakeRightAfterLastRequest() {
+    debouncer.request(info1);
+    testSupport.setTime(300, MILLISECONDS);
+    debouncer.request(info1);
+    testSupport.setTime(600, MILLISECONDS);
+    debouncer.request(info1);
+
+    testSupport.setTime(600 + DEBOUNCE_MILLIS - 1, MILLISECONDS);
+    assertThat(startedMakeRights, empty());
+
+    testSupport.setTime(600 + DEBOUNCE_MILLIS, MILLISECONDS);
+    assertThat(startedMakeRights, contains(sameInstance(info1)));
+  }
+
+  @Test
+  void requestsForDifferentDomains_areNotCombined() {
+    debouncer.request(info1);
+    debouncer.request(info2);
+
+    testSupport.setTime(DEBOUNCE_MILLIS, MILLISECONDS);
+
+    assertThat(startedMakeRights, contains(sameInstance(info1), sameInstance(info2)));
+  }
+
+  @Test
+  void whenNamespaceDiscarded_dontStartItsHeldMakeRights() {
+    final DomainPresenceInfo otherNamespaceInfo = new DomainPresenceInfo("ns2", "domain1");
+    debouncer.request(info1);
+    debouncer.request(otherNamespaceInfo);
+
+    debouncer.discardNamespace("ns1");
+    testSupport.setTime(DEBOUNCE_MILLIS, MILLISECONDS);
+
+    assertThat(startedMakeRights, contains(sameInstance(otherNamespaceInfo)));
+  }
+
+  @Test
+  void whileMakeRightRunning_dontStartAnother() {
+    makeRightRunning = true;
+    debouncer.request(info1);
+
+    testSupport.setTime(5, SECONDS);
+
+    assertThat(startedMakeRights, empty());
+  }
+
+  @Test
+  void afterRunningMakeRightFinishes_startHeldMakeRight() {
+    makeRightRunning = true;
+    debouncer.request(info1);
+    testSupport.setTime(5, SECONDS);
+
+    makeRightRunning = false;
+    testSupport.setTime(6, SECONDS);
+
+    assertThat(startedMakeRights, contains(sameInstance(info1)));
+  }
+
+  @Test
+  void whenRequestsKeepArriving_startMakeRightAtMaximumWait() {
+    for (int millis = 0; millis < MAX_DEBOUNCE_SECONDS * 1000; millis += DEBOUNCE_MILLIS / 2) {
+      testSupport.setTime(millis, MILLISECONDS);
+      debouncer.request(info1);
+    }
+
+    testSupport.setTime(MAX_DEBOUNCE_SECONDS, SECONDS);
+
+    assertThat(startedMakeRights, contains(sameInstance(info1)));
+  }
+
+  @Test
+  void whenRunningMakeRightDoesNotFinish_startHeldMakeRightAtMaximumWait() {
+    makeRightRunning = true;
+    debouncer.request(info1);
+
+    testSupport.setTime(MAX_DEBOUNCE_SECONDS, SECONDS);
+
+    assertThat(startedMakeRights, contains(sameInstance(info1)));
+  }
+
+  @Test
+  void countRequestsAndStartedMakeRights() {
+    debouncer.request(info1);
+    debouncer.request(info1);
+    debouncer.request(info1);
+    testSupport.setTime(DEBOUNCE_MILLIS, MILLISECONDS);
+
+    assertThat(debouncer.getNumRequests(), equalTo(3L));
+    assertThat(debouncer.getNumStarts(), equalTo(1L));
+    assertThat(debouncer.getNumHeldRequests(), equalTo(0));
+  }
+}
@@ -0,0 +1,176 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.MakeRightQueue.Priority.RECHECK;
+import static oracle.kubernetes.operator.MakeRightQueue.Priority.SPEC_CHANGE;
+import static oracle.kubernetes.operator.MakeRightQueue.Priority.WATCH_EVENT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.MAKE_RIGHT_CONCURRENCY_LIMIT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+class MakeRightQueueTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final MakeRightQueue queue = new MakeRightQueue();
+  private final List<String> started = new ArrayList<>();
+  private final Map<String, Runnable> releases = new HashMap<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter(MAKE_RIGHT_CONCURRENCY_LIMIT, "2");
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void submit(String namespace, String name, MakeRightQueue.Priority priority) {
+    final String key = namespace + "/" + name;
+    queue.submit(namespace, name, priority, release -> {
+      started.add(key);
+      releases.put(key, release);
+    });
+  }
+
+  private void complete(String key) {
+    releases.remove(key).run();
+  }
+
+  @Test
+  void whenBelowLimit_startMakeRightsImmediately() {
+    submit("ns1", "domain1", RECHECK);
+    submit("ns1", "domain2", RECHECK);
+
+    assertThat(started, contains("ns1/domain1", "ns1/domain2"));
+  }
+
+  @Test
+  void whenAtLimit_holdFurtherMakeRights() {
+    submit("ns1", "domain1", RECHECK);
+    submit("ns1", "domain2", RECHECK);
+    submit("ns1", "domain3", RECHECK);
+
+    assertThat(started, contains("ns1/domain1", "ns1/domain2"));
+    assertThat(queue.getNumRunning(), equalTo(2));
+    assertThat(queue.getNumWaiting(RECHECK), equalTo(1));
+  }
+
+  @Test
+  void whenLimitNotPositive_dontHoldMakeRights() {
+    TuningParametersStub.setParameter(MAKE_RIGHT_CONCURRENCY_LIMIT, "0");
+
+    submit("ns1", "domain1", RECHECK);
+    submit("ns1", "domain2", RECHECK);
+    submit("ns1", "domain3", RECHECK);
+
+    assertThat(started, contains("ns1/domain1", "ns1/domain2", "ns1/domain3"));
+  }
+
+  @Test
+  void whenMakeRightCompletes_startWaitingMakeRight() {
+    submit("ns1", "domain1", RECHECK);
+    submit("ns1", "domain2", RECHECK);
+    submit("ns1", "domain3", RECHECK);
+
+    complete("ns1/domain1");
+
+    assertThat(started, contains("ns1/domain1", "ns1/domain2", "ns1/domain3"));
+    assertThat(queue.getNumWaiting(RECHECK), equalTo(0));
+  }
+
+  @Test
+  void whenMakeRightForRunningResourceSubmitted_startItImmediately() {
+    submit("ns1", "domain1", RECHECK);
+    submit("ns1", "domain2", RECHECK);
+
+    submit("ns1", "domain1", WATCH_EVENT);
+
+    assertThat(started, contains("ns1/domain1", "ns1/domain2", "ns1/domain1"));
+    assertThat(queue.getNumRunning(), equalTo(2));
+  }
+
+  @Test
+  void whenReplacedMakeRightReleasesLate_dontFreeSlotOfItsReplacement() {
+    submit("ns1", "domain1", RECHECK);
+    final Runnable replacedRelease = releases.get("ns1/domain1");
+    submit("ns1", "domain1", RECHECK);
+    submit("ns1", "domain2", RECHECK);
+    submit("ns1", "domain3", RECHECK);
+
+    replacedRelease.run();
+
+    assertThat(queue.getNumRunning(), equalTo(2));
+    assertThat(queue.getNumWaiting(RECHECK), equalTo(1));
+  }
+
+  @Test
+  void whenMakeRightsWaiting_startHigherPriorityFirst() {
+    submit("ns1", "domain1", RECHECK);
+    submit("ns1", "domain2", RECHECK);
+    submit("ns1", "domain3", RECHECK);
+    submit("ns1", "domain4", WATCH_EVENT);
+    submit("ns1", "domain5", SPEC_CHANGE);
+
+    complete("ns1/domain1");
+    complete("ns1/domain2");
+
+    assertThat(started.subList(2, 4), contains("ns1/domain5", "ns1/domain4"));
+  }
+
+  @Test
+  void whenMakeRightsWaiting_namespacesTakeTurns() {
+    submit("ns1", "domain1", RECHECK);
+    submit("ns1", "domain2", RECHECK);
+    submit("ns1", "domain3", RECHECK);
+    submit("ns1", "domain4", RECHECK);
+    submit("ns1", "domain5", RECHECK);
+    submit("ns2", "domain1", RECHECK);
+
+    complete("ns1/domain1");
+    complete("ns1/domain2");
+    complete("ns1/domain3");
+
+    assertThat(started.subList(2, 5), contains("ns1/domain3", "ns2/domain1", "ns1/domain4"));
+  }
+
+  @Test
+  void whenWaitingMakeRightReplaced_keepOneEntry() {
+    submit("ns1", "domain1", RECHECK);
+    submit("ns1", "domain2", RECHECK);
+    submit("ns1", "domain3", RECHECK);
+    submit("ns1", "domain3", RECHECK);
+
+    assertThat(queue.getNumWaiting(RECHECK), equalTo(1));
+  }
+
+  @Test
+  void whenWaitingMakeRightReplacedWithHigherPriority_moveIt() {
+    submit("ns1", "domain1", RECHECK);
+    submit("ns1", "domain2", RECHECK);
+    submit("ns1", "domain3", RECHECK);
+    submit("ns1", "domain4", RECHECK);
+    submit("ns1", "domain4", SPEC_CHANGE);
+
+    complete("ns1/domain1");
+
+    assertThat(queue.getNumWaiting(RECHECK), equalTo(1));
+    assertThat(queue.getNumWaiting(SPEC_CHANGE), equalTo(0));
+    assertThat(started.get(2), equalTo("ns1/domain4"));
+  }
+}
@@ -0,0 +1,430 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import oracle.kubernetes.operator.helpers.HelmAccessStub;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.common.logging.MessageKeys.SHARD_MEMBERS_CHANGED;
+import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
+import static oracle.kubernetes.operator.KubernetesConstants.OPERATOR_POD_NAME_ENV;
+import static oracle.kubernetes.operator.KubernetesConstants.OPERATOR_POD_UID_ENV;
+import static oracle.kubernetes.operator.LabelConstants.OPERATOR_SHARD_LABEL;
+import static oracle.kubernetes.operator.NamespaceShards.CLAIMED_NAMESPACES_ANNOTATION;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.tuning.TuningParameters.NAMESPACE_SHARDING_ENABLED;
+import static oracle.kubernetes.operator.tuning.TuningParameters.NAMESPACE_SHARD_LEASE_DURATION_SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class NamespaceShardsTest {
+
+  private static final String IDENTITY = "replica1";
+  private static final String OTHER_IDENTITY = "replica2";
+  private static final String OTHER_LEASE_NAME = NamespaceShards.LEASE_NAME_PREFIX + OTHER_IDENTITY;
+  private static final int LEASE_DURATION_SECONDS = 30;
+  private static final String OPERATOR_POD_UID = "0a1b2c3d";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleControl;
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final NamespaceShards shards = new NamespaceShards(IDENTITY);
+  private final ShardRing twoMemberRing = new ShardRing(List.of(IDENTITY, OTHER_IDENTITY));
+  private final AtomicInteger numChanges = new AtomicInteger();
+  private Collection<String> claimedNamespaces = List.of();
+  private int otherLeaseVersion;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    consoleControl = TestUtils.silenceOperatorLogger().collectLogMessages(logRecords);
+    mementos.add(consoleControl);
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(HelmAccessStub.install());
+
+    TuningParametersStub.setParameter(NAMESPACE_SHARDING_ENABLED, "true");
+    TuningParametersStub.setParameter(NAMESPACE_SHARD_LEASE_DURATION_SECONDS, Integer.toString(LEASE_DURATION_SECONDS));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void renew() {
+    testSupport.runSteps(shards.createRenewSteps(() -> claimedNamespaces, numChanges::incrementAndGet));
+  }
+
+  // defines the lease of another replica; each definition is a new version of the lease
+  private void defineOtherLease(long secondsSinceRenewal, String... claimedNamespaces) {
+    Optional.ofNullable(testSupport.<V1Lease>getResourceWithName(LEASE, OTHER_LEASE_NAME))
+        .ifPresent(testSupport::deleteResources);
+    testSupport.defineResources(new V1Lease()
+        .metadata(new V1ObjectMeta()
+            .namespace(getOperatorNamespace())
+            .name(OTHER_LEASE_NAME)
+            .resourceVersion(Integer.toString(++otherLeaseVersion))
+            .putLabelsItem(OPERATOR_SHARD_LABEL, "true")
+            .putAnnotationsItem(CLAIMED_NAMESPACES_ANNOTATION, String.join(",", claimedNamespaces)))
+        .spec(new V1LeaseSpec()
+            .holderIdentity(OTHER_IDENTITY)
+            .leaseDurationSeconds(LEASE_DURATION_SECONDS)
+            .renewTime(SystemClock.now().minusSeconds(secondsSinceRenewal))));
+  }
+
+  private V1Lease getOwnLease() {
+    return testSupport.getResourceWithName(LEASE, shards.getLeaseName());
+  }
+
+  private String getOwnClaims() {
+    return getOwnLease().getMetadata().getAnnotations().get(CLAIMED_NAMESPACES_ANNOTATION);
+  }
+
+  // returns a namespace which the two-member ring assigns to the specified member
+  private String getNamespaceOwnedBy(String member) {
+    for (int i = 0; ; i++) {
+      if (member.equals(twoMemberRing.getOwner("ns" + i))) {
+        return "ns" + i;
+      }
+    }
+  }
+
+  // asks for the namespace, then renews the lease twice: once to claim it, and once to confirm the claim
+  private void claimAndConfirm(String namespace) {
+    shards.mayManage(namespace);
+    renew();
+    renew();
+  }
+
+  @Test
+  void whenShardingDisabled_everyNamespaceMayBeManaged() {
+    TuningParametersStub.setParameter(NAMESPACE_SHARDING_ENABLED, "false");
+
+    assertThat(shards.isAssigned("ns1"), is(true));
+    assertThat(shards.mayManage("ns1"), is(true));
+    assertThat(shards.isManaging("ns1"), is(true));
+  }
+
+  @Test
+  void beforeLeaseRenewed_noNamespaceIsAssigned() {
+    assertThat(shards.isAssigned("ns1"), is(false));
+  }
+
+  @Test
+  void afterRenew_ownLeaseExists() {
+    renew();
+
+    assertThat(getOwnLease(), notNullValue());
+    assertThat(getOwnLease().getSpec().getHolderIdentity(), equalTo(IDENTITY));
+    assertThat(getOwnLease().getSpec().getRenewTime(), equalTo(SystemClock.now()));
+  }
+
+  @Test
+  void afterRenew_ownLeaseIsOwnedByOperatorPod() {
+    HelmAccessStub.defineVariable(OPERATOR_POD_NAME_ENV, IDENTITY);
+    HelmAccessStub.defineVariable(OPERATOR_POD_UID_ENV, OPERATOR_POD_UID);
+
+    renew();
+
+    assertThat(getOwnLease().getMetadata().getOwnerReferences(),
+        contains(new V1OwnerReference().apiVersion("v1").kind("Pod").name(IDENTITY).uid(OPERATOR_POD_UID)));
+  }
+
+  @Test
+  void whenOperatorPodUidUnknown_ownLeaseHasNoOwner() {
+    renew();
+
+    assertThat(getOwnLease().getMetadata().getOwnerReferences(), nullValue());
+  }
+
+  @Test
+  void ownLease_listsClaimedNamespaces() {
+    claimedNamespaces = List.of("ns2", "ns1");
+
+    renew();
+
+    assertThat(getOwnClaims(), equalTo("ns1,ns2"));
+  }
+
+  @Test
+  void whenLeaseRenewedAgain_updateRenewTimeAndClaims() {
+    renew();
+    SystemClockTestSupport.increment(10);
+    claimedNamespaces = List.of("ns1");
+
+    renew();
+
+    assertThat(getOwnLease().getSpec().getRenewTime(), equalTo(SystemClock.now()));
+    assertThat(getOwnClaims(), equalTo("ns1"));
+  }
+
+  @Test
+  void whenNoOtherReplicas_everyNamespaceIsAssigned() {
+    renew();
+
+    assertThat(shards.getMembers(), contains(IDENTITY));
+    assertThat(shards.isAssigned("ns1"), is(true));
+  }
+
+  @Test
+  void whenMembersChange_logMembers() {
+    consoleControl.trackMessage(SHARD_MEMBERS_CHANGED);
+    renew();
+
+    assertThat(logRecords, containsInfo(SHARD_MEMBERS_CHANGED));
+  }
+
+  @Test
+  void whenOtherReplicaHasLiveLease_shareNamespacesWithIt() {
+    defineOtherLease(5);
+
+    renew();
+
+    assertThat(shards.getMembers(), contains(IDENTITY, OTHER_IDENTITY));
+    assertThat(shards.isAssigned(getNamespaceOwnedBy(IDENTITY)), is(true));
+    assertThat(shards.isAssigned(getNamespaceOwnedBy(OTHER_IDENTITY)), is(false));
+  }
+
+  @Test
+  void whenOtherLeaseFirstSeen_treatAsLiveRegardlessOfItsRenewTime() {
+    defineOtherLease(LEASE_DURATION_SECONDS * 10L);
+
+    renew();
+
+    assertThat(shards.getMembers(), contains(IDENTITY, OTHER_IDENTITY));
+  }
+
+  @Test
+  void whenOtherLeaseUnchangedForLeaseDuration_ignoreIt() {
+    defineOtherLease(0);
+    renew();
+
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS);
+    renew();
+
+    assertThat(shards.getMembers(), contains(IDENTITY));
+  }
+
+  @Test
+  void whileOtherLeaseKeepsChanging_treatAsLive() {
+    defineOtherLease(0);
+    renew();
+
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS - 1);
+    defineOtherLease(LEASE_DURATION_SECONDS * 10L);
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS - 1);
+    renew();
+
+    assertThat(shards.getMembers(), contains(IDENTITY, OTHER_IDENTITY));
+  }
+
+  @Test
+  void whenOwnLeaseNotRenewedWithinDuration_fenceReplica() {
+    renew();
+
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS);
+
+    assertThat(shards.isFenced(), is(true));
+    assertThat(shards.isAssigned("ns1"), is(false));
+  }
+
+  @Test
+  void whenOwnLeaseRenewedWithinDuration_dontFenceReplica() {
+    renew();
+
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS - 1);
+
+    assertThat(shards.isFenced(), is(false));
+  }
+
+  @Test
+  void whenFenced_stopManagingConfirmedNamespaces() {
+    renew();
+    claimAndConfirm("ns1");
+
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS);
+
+    assertThat(shards.isManaging("ns1"), is(false));
+  }
+
+  @Test
+  void whenNamespaceFirstAskedFor_mayNotManageItYet() {
+    renew();
+
+    assertThat(shards.mayManage("ns1"), is(false));
+  }
+
+  @Test
+  void whenNamespaceAskedFor_claimItAtNextRenewal() {
+    renew();
+    shards.mayManage("ns1");
+
+    renew();
+
+    assertThat(getOwnClaims(), equalTo("ns1"));
+    assertThat(shards.mayManage("ns1"), is(false));
+  }
+
+  @Test
+  void afterClaimConfirmedByLaterRenewal_mayManageNamespace() {
+    renew();
+
+    claimAndConfirm("ns1");
+
+    assertThat(shards.mayManage("ns1"), is(true));
+    assertThat(shards.isManaging("ns1"), is(true));
+  }
+
+  @Test
+  void whenClaimConfirmed_runChangeAction() {
+    renew();
+    numChanges.set(0);
+
+    claimAndConfirm("ns1");
+
+    assertThat(numChanges.get(), equalTo(1));
+  }
+
+  @Test
+  void whenNamespaceNotAssigned_dontClaimIt() {
+    final String namespace = getNamespaceOwnedBy(OTHER_IDENTITY);
+    defineOtherLease(0);
+    renew();
+
+    claimAndConfirm(namespace);
+
+    assertThat(getOwnClaims(), equalTo(""));
+    assertThat(shards.mayManage(namespace), is(false));
+  }
+
+  @Test
+  void whenAssignedNamespaceClaimedByOtherReplica_dontClaimIt() {
+    final String namespace = getNamespaceOwnedBy(IDENTITY);
+    defineOtherLease(0, namespace);
+    renew();
+
+    claimAndConfirm(namespace);
+
+    assertThat(getOwnClaims(), equalTo(""));
+    assertThat(shards.mayManage(namespace), is(false));
+  }
+
+  @Test
+  void whenOtherReplicaClaimsNamespaceBeforeConfirmation_dontConfirmClaim() {
+    final String namespace = getNamespaceOwnedBy(IDENTITY);
+    defineOtherLease(0);
+    renew();
+    shards.mayManage(namespace);
+    renew();
+
+    defineOtherLease(0, namespace);
+    renew();
+
+    assertThat(shards.mayManage(namespace), is(false));
+  }
+
+  @Test
+  void whenOtherReplicaReleasesClaim_mayManageNamespace() {
+    final String namespace = getNamespaceOwnedBy(IDENTITY);
+    defineOtherLease(0, namespace);
+    renew();
+    shards.mayManage(namespace);
+
+    defineOtherLease(0);
+    claimAndConfirm(namespace);
+
+    assertThat(shards.mayManage(namespace), is(true));
+  }
+
+  @Test
+  void afterClaimConfirmed_keepItWhenOtherReplicaAlsoClaimsNamespace() {
+    final String namespace = getNamespaceOwnedBy(IDENTITY);
+    defineOtherLease(0);
+    renew();
+    claimAndConfirm(namespace);
+
+    defineOtherLease(0, namespace);
+    renew();
+    renew();
+
+    assertThat(shards.mayManage(namespace), is(true));
+  }
+
+  @Test
+  void whenNamespaceNoLongerAskedFor_releaseClaim() {
+    renew();
+    claimAndConfirm("ns1");
+
+    SystemClockTestSupport.increment(2L * LEASE_DURATION_SECONDS);
+    renew();
+
+    assertThat(getOwnClaims(), equalTo(""));
+  }
+
+  @Test
+  void whenMembershipChanges_runChangeAction() {
+    renew();
+    defineOtherLease(5);
+
+    renew();
+
+    assertThat(numChanges.get(), equalTo(2));
+  }
+
+  @Test
+  void whenMembershipAndClaimsUnchanged_dontRunChangeAction() {
+    defineOtherLease(5, "ns1");
+    renew();
+
+    renew();
+
+    assertThat(numChanges.get(), equalTo(1));
+  }
+
+  @Test
+  void whenClaimsChange_runChangeAction() {
+    defineOtherLease(5, "ns1");
+    renew();
+
+    defineOtherLease(5, "ns1", "ns2");
+    renew();
+
+    assertThat(numChanges.get(), equalTo(2));
+  }
+
+  @Test
+  void claimedNamespacesAreParsedFromAnnotation() {
+    defineOtherLease(5, "ns1", "ns2");
+
+    renew();
+
+    assertThat(shards.isClaimedByOther("ns1") && shards.isClaimedByOther("ns2"), is(true));
+  }
+}
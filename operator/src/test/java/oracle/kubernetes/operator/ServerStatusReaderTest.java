@@ -22,6 +22,7 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
@@ -40,10 +41,12 @@ import org.junit.jupiter.api.Test;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.ServerStatusReader.READ_STATE_HTTP_TIMEOUT_SECONDS;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.STARTING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.UNKNOWN_STATE;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -53,6 +56,7 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
+  private final ReadStateStepFactoryFake readStateStepFactory = new ReadStateStepFactoryFake();
   private final FiberTestSupport testSupport = new FiberTestSupport();
   private final List<Memento> mementos = new ArrayList<>();
   private final DomainResource domain =
@@ -64,6 +68,7 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(execFactory.install());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "stepFactory", stepFactory));
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "readStateStepFactory", readStateStepFactory));
     mementos.add(TuningParametersStub.install());
 
     testSupport.addDomainPresenceInfo(info);
@@ -217,6 +222,111 @@ class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  void whenPodNotReadyAndHasService_readStateWithHttp() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerService("server1", new V1Service());
+    readStateStepFactory.state = "STARTING";
+    execFactory.defineResponse("server1", "ADMIN");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(readStateStepFactory.serverNames, contains("server1"));
+    assertThat(getServerStates(packet), hasEntry("server1", "STARTING"));
+  }
+
+  @Test
+  void whenReadingStateWithHttp_limitItsTimeout() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerService("server1", new V1Service());
+    readStateStepFactory.state = "STARTING";
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 60, endStep));
+
+    assertThat(readStateStepFactory.timeouts, contains(READ_STATE_HTTP_TIMEOUT_SECONDS));
+  }
+
+  @Test
+  void whenOverallTimeoutIsShort_giveHttpReadHalfOfIt() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerService("server1", new V1Service());
+    readStateStepFactory.state = "STARTING";
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 4, endStep));
+
+    assertThat(readStateStepFactory.timeouts, contains(2L));
+  }
+
+  @Test
+  void whenHttpReadOfStateFails_readStateWithExec() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerService("server1", new V1Service());
+    execFactory.defineResponse("server1", "ADMIN");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(readStateStepFactory.serverNames, contains("server1"));
+    assertThat(getServerStates(packet), hasEntry("server1", "ADMIN"));
+  }
+
+  @Test
+  void whenPodNotReadyAndHasNoService_readStateWithExec() {
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "ADMIN");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(readStateStepFactory.serverNames, empty());
+    assertThat(getServerStates(packet), hasEntry("server1", "ADMIN"));
+  }
+
+  @Test
+  void whenPodBeingDeleted_readStateWithExec() {
+    info.setServerPod("server1", createPodWithDeletionTimestamp("server1"));
+    info.setServerService("server1", new V1Service());
+    readStateStepFactory.state = "STARTING";
+    execFactory.defineResponse("server1", "SHUTTING_DOWN");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(readStateStepFactory.serverNames, empty());
+    assertThat(getServerStates(packet), hasEntry("server1", "SHUTTING_DOWN"));
+  }
+
+  // reads the configured state, if any, and otherwise runs the fallback step
+  static class ReadStateStepFactoryFake implements ServerStatusReader.ReadStateStepFactory {
+    final List<String> serverNames = new ArrayList<>();
+    final List<Long> timeouts = new ArrayList<>();
+    String state;
+
+    @Override
+    public Step createReadStateStep(long timeoutSeconds, Step fallback, Step next) {
+      timeouts.add(timeoutSeconds);
+      return new Step(next) {
+        @Override
+        public @Nonnull Result apply(Packet packet) {
+          final String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+          serverNames.add(serverName);
+          if (state == null) {
+            return doNext(fallback, packet);
+          }
+
+          getServerStates(packet).put(serverName, state);
+          return doNext(packet);
+        }
+      };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getServerStates(Packet packet) {
+      return (Map<String, String>) packet.get(SERVER_STATE_MAP);
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     final List<String> serverNames = new ArrayList<>();
 
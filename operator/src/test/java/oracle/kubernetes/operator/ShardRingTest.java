@@ -0,0 +1,68 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+
+class ShardRingTest {
+
+  private static final List<String> NAMESPACES
+      = IntStream.range(0, 300).mapToObj(i -> "ns" + i).toList();
+
+  private static Map<String, String> getOwners(ShardRing ring) {
+    return NAMESPACES.stream().collect(Collectors.toMap(Function.identity(), ring::getOwner));
+  }
+
+  @Test
+  void whenRingEmpty_namespacesHaveNoOwner() {
+    assertThat(new ShardRing(List.of()).getOwner("ns1"), nullValue());
+  }
+
+  @Test
+  void whenRingHasOneMember_itOwnsEveryNamespace() {
+    ShardRing ring = new ShardRing(List.of("replica1"));
+
+    assertThat(getOwners(ring).values().stream().distinct().toList(), equalTo(List.of("replica1")));
+  }
+
+  @Test
+  void namespacesAreSpreadAcrossMembers() {
+    Map<String, Long> counts = getOwners(new ShardRing(List.of("replica1", "replica2", "replica3")))
+        .values().stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+    assertThat(counts.get("replica1"), greaterThan(50L));
+    assertThat(counts.get("replica2"), greaterThan(50L));
+    assertThat(counts.get("replica3"), greaterThan(50L));
+  }
+
+  @Test
+  void whenMemberJoins_namespacesMoveOnlyToIt() {
+    Map<String, String> before = getOwners(new ShardRing(List.of("replica1", "replica2", "replica3")));
+    Map<String, String> after = getOwners(new ShardRing(List.of("replica1", "replica2", "replica3", "replica4")));
+
+    NAMESPACES.forEach(ns -> assertThat(after.get(ns), anyOf(equalTo(before.get(ns)), equalTo("replica4"))));
+  }
+
+  @Test
+  void whenMemberLeaves_onlyItsNamespacesMove() {
+    Map<String, String> before = getOwners(new ShardRing(List.of("replica1", "replica2", "replica3")));
+    Map<String, String> after = getOwners(new ShardRing(List.of("replica1", "replica3")));
+
+    NAMESPACES.stream()
+        .filter(ns -> !before.get(ns).equals("replica2"))
+        .forEach(ns -> assertThat(after.get(ns), equalTo(before.get(ns))));
+  }
+}
@@ -0,0 +1,212 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.Packet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
+import static oracle.kubernetes.operator.tuning.TuningParameters.STATUS_UPDATE_CONCURRENCY_LIMIT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.STATUS_UPDATE_EVENTUAL_LONG_DELAY;
+import static oracle.kubernetes.operator.tuning.TuningParameters.STATUS_UPDATE_INITIAL_SHORT_DELAY;
+import static oracle.kubernetes.operator.tuning.TuningParameters.UNCHANGED_COUNT_TO_DELAY_STATUS_RECHECK;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class StatusUpdateScheduleTest {
+
+  private static final int SHORT_DELAY = 5;
+  private static final int LONG_DELAY = 30;
+  private static final int UNCHANGED_COUNT = 2;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final DomainProcessorDelegateStub delegate = DomainProcessorDelegateStub.createDelegate(testSupport);
+  private final StatusUpdateSchedule.Budget budget = new StatusUpdateSchedule.Budget();
+  private final UpdaterStub updater = new UpdaterStub();
+  private final StatusUpdateSchedule schedule = new StatusUpdateSchedule(delegate, budget, updater);
+  private DoubleSupplier jitter = () -> 0.0;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(
+          StaticStubSupport.install(StatusUpdateSchedule.class, "jitterSource", (DoubleSupplier) this::getJitter));
+
+    TuningParametersStub.setParameter(STATUS_UPDATE_INITIAL_SHORT_DELAY, Integer.toString(SHORT_DELAY));
+    TuningParametersStub.setParameter(STATUS_UPDATE_EVENTUAL_LONG_DELAY, Integer.toString(LONG_DELAY));
+    TuningParametersStub.setParameter(UNCHANGED_COUNT_TO_DELAY_STATUS_RECHECK, Integer.toString(UNCHANGED_COUNT));
+  }
+
+  private double getJitter() {
+    return jitter.getAsDouble();
+  }
+
+  @AfterEach
+  void tearDown() {
+    schedule.cancel();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void firstUpdateRunsAfterShortDelay() {
+    schedule.start();
+
+    testSupport.setTime(SHORT_DELAY * 1000 - 1, MILLISECONDS);
+    assertThat(updater.numUpdates, equalTo(0));
+
+    testSupport.setTime(SHORT_DELAY, SECONDS);
+    assertThat(updater.numUpdates, equalTo(1));
+  }
+
+  @Test
+  void whileStatusChanges_updatesRunAtShortDelay() {
+    updater.changeStateOnEachUpdate = true;
+    schedule.start();
+
+    testSupport.setTime(10 * SHORT_DELAY, SECONDS);
+
+    assertThat(updater.numUpdates, equalTo(10));
+  }
+
+  @Test
+  void afterStatusUnchanged_delayDoublesUpToLongDelay() {
+    schedule.start();
+
+    testSupport.setTime(SHORT_DELAY, SECONDS);
+    assertThat(schedule.getNextDelayMillis(), equalTo(SECONDS.toMillis(SHORT_DELAY)));
+    testSupport.setTime(2 * SHORT_DELAY, SECONDS);
+    assertThat(schedule.getNextDelayMillis(), equalTo(SECONDS.toMillis(SHORT_DELAY)));
+    testSupport.setTime(3 * SHORT_DELAY, SECONDS);
+    assertThat(schedule.getNextDelayMillis(), equalTo(SECONDS.toMillis(2 * SHORT_DELAY)));
+    testSupport.setTime(5 * SHORT_DELAY, SECONDS);
+    assertThat(schedule.getNextDelayMillis(), equalTo(SECONDS.toMillis(4 * SHORT_DELAY)));
+    testSupport.setTime(9 * SHORT_DELAY, SECONDS);
+    assertThat(schedule.getNextDelayMillis(), equalTo(SECONDS.toMillis(LONG_DELAY)));
+    assertThat(updater.numUpdates, equalTo(5));
+  }
+
+  @Test
+  void whenStatusChangesDuringBackoff_returnToShortDelay() {
+    schedule.start();
+    testSupport.setTime(5 * SHORT_DELAY, SECONDS);
+
+    updater.setState("server1", "RUNNING");
+    testSupport.setTime(9 * SHORT_DELAY, SECONDS);
+
+    assertThat(schedule.getNextDelayMillis(), equalTo(SECONDS.toMillis(SHORT_DELAY)));
+  }
+
+  @Test
+  void whenExpedited_endBackoff() {
+    schedule.start();
+    testSupport.setTime(5 * SHORT_DELAY, SECONDS);
+    final int numUpdates = updater.numUpdates;
+
+    schedule.expedite();
+    testSupport.setTime(6 * SHORT_DELAY, SECONDS);
+
+    assertThat(updater.numUpdates, equalTo(numUpdates + 1));
+  }
+
+  @Test
+  void whenExpeditedWithoutBackoff_doNotRunExtraUpdates() {
+    schedule.start();
+    testSupport.setTime(SHORT_DELAY, SECONDS);
+
+    schedule.expedite();
+    testSupport.setTime(2 * SHORT_DELAY, SECONDS);
+
+    assertThat(updater.numUpdates, equalTo(2));
+  }
+
+  @Test
+  void jitterShortensDelay() {
+    jitter = () -> 0.99;
+    schedule.start();
+
+    testSupport.setTime(SECONDS.toMillis(SHORT_DELAY) * 3 / 4 + 100, MILLISECONDS);
+
+    assertThat(updater.numUpdates, equalTo(1));
+  }
+
+  @Test
+  void whenBudgetExhausted_deferUpdateUntilAnotherCompletes() {
+    TuningParametersStub.setParameter(STATUS_UPDATE_CONCURRENCY_LIMIT, "1");
+    final UpdaterStub otherUpdater = new UpdaterStub();
+    otherUpdater.holdCompletion = true;
+    final StatusUpdateSchedule otherSchedule = new StatusUpdateSchedule(delegate, budget, otherUpdater);
+    otherSchedule.start();
+    testSupport.setTime(1, SECONDS);
+    schedule.start();
+
+    testSupport.setTime(SHORT_DELAY + 1, SECONDS);
+    assertThat(updater.numUpdates, equalTo(0));
+
+    otherUpdater.complete();
+    testSupport.setTime(2 * SHORT_DELAY + 1, SECONDS);
+    assertThat(updater.numUpdates, equalTo(1));
+    otherSchedule.cancel();
+  }
+
+  @Test
+  void afterCancel_runNoUpdates() {
+    schedule.start();
+
+    schedule.cancel();
+    testSupport.setTime(10 * SHORT_DELAY, SECONDS);
+
+    assertThat(updater.numUpdates, equalTo(0));
+  }
+
+  static class UpdaterStub implements StatusUpdateSchedule.Updater {
+    private final Map<String, String> states = new ConcurrentHashMap<>();
+    private Consumer<Packet> heldCallback;
+    private boolean holdCompletion;
+    private boolean changeStateOnEachUpdate;
+    private int numUpdates;
+
+    void setState(String serverName, String state) {
+      states.put(serverName, state);
+    }
+
+    void complete() {
+      heldCallback.accept(createPacket());
+    }
+
+    @Override
+    public void startUpdate(Consumer<Packet> onDone) {
+      numUpdates++;
+      if (changeStateOnEachUpdate) {
+        setState("server1", "STATE" + numUpdates);
+      }
+      if (holdCompletion) {
+        heldCallback = onDone;
+      } else {
+        onDone.accept(createPacket());
+      }
+    }
+
+    private Packet createPacket() {
+      final Packet packet = new Packet();
+      packet.put(SERVER_STATE_MAP, new ConcurrentHashMap<>(states));
+      return packet;
+    }
+  }
+}
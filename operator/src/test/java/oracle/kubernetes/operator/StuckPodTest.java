@@ -9,17 +9,22 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.EventHelper;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
@@ -52,6 +57,7 @@ class StuckPodTest {
   private final List<Memento> mementos = new ArrayList<>();
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final DomainResource domain = createTestDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
   private final MainDelegateStub mainDelegate = createStrictStub(MainDelegateStub.class, testSupport);
   private final StuckPodProcessing processing = new StuckPodProcessing(mainDelegate);
   private final V1Pod managedPod1 = defineManagedPod(SERVER_POD_1);
@@ -69,6 +75,7 @@ class StuckPodTest {
     mementos.add(NoopWatcherStarter.install());
 
     testSupport.defineResources(domain, managedPod1, managedPod2, foreignPod);
+    mainDelegate.addDomainPresenceInfo(info);
   }
 
   @AfterEach
@@ -144,6 +151,28 @@ class StuckPodTest {
     assertThat(mainDelegate.makeRightInvoked(domain), is(true));
   }
 
+  @Test
+  void whenServerPodStuck_removeItFromDomainPresence() {
+    info.setServerPod(SERVER_POD_2, getSelectedPod(SERVER_POD_2));
+    markAsDelete(getSelectedPod(SERVER_POD_2));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.checkStuckPods(NS);
+
+    assertThat(info.getServerPod(SERVER_POD_2), nullValue());
+  }
+
+  @Test
+  void whenServerPodStuck_dontRelistNamespace() {
+    markAsDelete(getSelectedPod(SERVER_POD_2));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+    testSupport.clearNumCalls();
+
+    processing.checkStuckPods(NS);
+
+    assertThat(testSupport.getNumCalls(), equalTo(2));
+  }
+
   @Test
   void whenForeignPodStuck_ignoreIt() {
     markAsDelete(getSelectedPod(FOREIGN_POD));
@@ -154,6 +183,110 @@ class StuckPodTest {
     assertThat(getSelectedPod(FOREIGN_POD), notNullValue());
   }
 
+  @Test
+  void whenTerminatingServerPodEventReceived_deleteItWhenGracePeriodExpires() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    processing.onPodWatch(createModifiedResponse(getSelectedPod(SERVER_POD_1)));
+
+    advanceTime(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  void whenTerminatingServerPodEventReceived_dontDeleteItBeforeGracePeriodExpires() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    processing.onPodWatch(createModifiedResponse(getSelectedPod(SERVER_POD_1)));
+
+    advanceTime(DELETION_GRACE_PERIOD_SECONDS - 1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+  }
+
+  @Test
+  void whenStuckServerPodDeletedByEvent_initiateMakeRightProcessing() {
+    markAsDelete(getSelectedPod(SERVER_POD_2));
+    processing.onPodWatch(createModifiedResponse(getSelectedPod(SERVER_POD_2)));
+
+    advanceTime(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    assertThat(mainDelegate.makeRightInvoked(domain), is(true));
+  }
+
+  @Test
+  void whenTerminatingServerPodRemoved_cancelCheck() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    processing.onPodWatch(createModifiedResponse(getSelectedPod(SERVER_POD_1)));
+
+    processing.onPodWatch(new Watch.Response<>("DELETED", getSelectedPod(SERVER_POD_1)));
+
+    assertThat(processing.getNumPendingChecks(), equalTo(0));
+  }
+
+  @Test
+  void whenNamespaceStopped_cancelItsChecks() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    processing.onPodWatch(createModifiedResponse(getSelectedPod(SERVER_POD_1)));
+
+    processing.onNamespaceStopped(NS);
+
+    assertThat(processing.getNumPendingChecks(), equalTo(0));
+  }
+
+  @Test
+  void whenListedServerPodAlreadyStuck_deleteIt() {
+    markAsDelete(getSelectedPod(SERVER_POD_1), DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.onPodList(new V1PodList().addItemsItem(getSelectedPod(SERVER_POD_1)));
+    advanceTime(1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  void whenListedServerPodTerminating_deleteItWhenGracePeriodExpires() {
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+
+    processing.onPodList(new V1PodList().addItemsItem(getSelectedPod(SERVER_POD_1)));
+    advanceTime(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  void whenListedPodsNotTerminating_dontScheduleChecks() {
+    markAsDelete(getSelectedPod(FOREIGN_POD));
+
+    processing.onPodList(new V1PodList().addItemsItem(getSelectedPod(SERVER_POD_1))
+          .addItemsItem(getSelectedPod(FOREIGN_POD)));
+
+    assertThat(processing.getNumPendingChecks(), equalTo(0));
+  }
+
+  @Test
+  void whenServerPodNotTerminating_dontScheduleCheck() {
+    processing.onPodWatch(createModifiedResponse(getSelectedPod(SERVER_POD_1)));
+
+    assertThat(processing.getNumPendingChecks(), equalTo(0));
+  }
+
+  @Test
+  void whenTerminatingForeignPodEventReceived_dontScheduleCheck() {
+    markAsDelete(getSelectedPod(FOREIGN_POD));
+    processing.onPodWatch(createModifiedResponse(getSelectedPod(FOREIGN_POD)));
+
+    assertThat(processing.getNumPendingChecks(), equalTo(0));
+  }
+
+  private Watch.Response<V1Pod> createModifiedResponse(V1Pod pod) {
+    return new Watch.Response<>("MODIFIED", pod);
+  }
+
+  private void advanceTime(long seconds) {
+    SystemClockTestSupport.increment(seconds);
+    testSupport.setTime(seconds, TimeUnit.SECONDS);
+  }
+
   private V1Pod getSelectedPod(String name) {
     return testSupport.getResourceWithName(POD, name);
   }
@@ -166,6 +299,7 @@ class StuckPodTest {
     return createPodMetadata(name)
           .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL,"true")
           .putLabelsItem(LabelConstants.DOMAINNAME_LABEL, UID)
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
           .putLabelsItem(LabelConstants.SERVERNAME_LABEL, name);
   }
 
@@ -181,9 +315,14 @@ class StuckPodTest {
   }
 
   private void markAsDelete(V1Pod pod) {
+    markAsDelete(pod, 0);
+  }
+
+  // marks the pod as deleted the specified number of seconds ago
+  private void markAsDelete(V1Pod pod, long secondsAgo) {
     Objects.requireNonNull(pod.getMetadata())
           .deletionGracePeriodSeconds(DELETION_GRACE_PERIOD_SECONDS)
-          .deletionTimestamp(SystemClock.now());
+          .deletionTimestamp(SystemClock.now().minusSeconds(secondsAgo));
   }
 
   abstract static class MainDelegateStub implements MainDelegate {
@@ -196,6 +335,11 @@ class StuckPodTest {
       this.testSupport = testSupport;
     }
 
+    void addDomainPresenceInfo(DomainPresenceInfo info) {
+      domainProcessor.domains.computeIfAbsent(info.getNamespace(), ns -> new ConcurrentHashMap<>())
+            .put(info.getDomainUid(), info);
+    }
+
     boolean makeRightInvoked(DomainResource domain) {
       return invocations.contains(domain);
     }
@@ -205,6 +349,12 @@ class StuckPodTest {
       testSupport.runSteps(firstStep);
     }
 
+    @Override
+    public Cancellable schedule(Runnable command, long delay, TimeUnit unit) {
+      ScheduledFuture<?> future = testSupport.schedule(command, delay, unit);
+      return () -> future.cancel(true);
+    }
+
     @Override
     public void runSteps(Packet packet, Step firstStep,  Runnable completionAction) {
       testSupport.runSteps(packet, firstStep);
@@ -234,6 +384,11 @@ class StuckPodTest {
         return createStrictStub(MakeRightDomainOperationStub.class);
       }
 
+      @Override
+      public DomainPresenceInfo getExistingDomainPresenceInfo(String namespace, String domainUid) {
+        return Optional.ofNullable(domains.get(namespace)).map(m -> m.get(domainUid)).orElse(null);
+      }
+
       @Override
       public Map<String, Map<String,DomainPresenceInfo>> getDomainPresenceInfoMap() {
         return domains;
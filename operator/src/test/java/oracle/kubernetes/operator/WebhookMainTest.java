@@ -56,6 +56,7 @@ import oracle.kubernetes.operator.utils.Certificates;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.utils.InMemoryFileSystem;
 import oracle.kubernetes.operator.watcher.NoopWatcherStarter;
+import oracle.kubernetes.operator.webhooks.resource.AdmissionResourceCache;
 import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.Packet;
@@ -207,6 +208,7 @@ public class WebhookMainTest extends CrdHelperTestBase {
     mementos.add(inMemoryFileSystem.install());
     mementos.add(InMemoryCertificates.install());
     mementos.add(UnitTestHash.install());
+    mementos.add(StaticStubSupport.install(AdmissionResourceCache.class, "instance", new AdmissionResourceCache()));
 
     HelmAccessStub.defineVariable(WEBHOOK_NAMESPACE_ENV, WEBHOOK_NAMESPACE);
     HelmAccessStub.defineVariable(WEBHOOK_POD_NAME_ENV, WEBHOOK_POD_NAME);
@@ -40,6 +40,7 @@ public class StubWatchFactory implements WatchApiFactory {
   private static StubWatchFactory factory;
   private static List<Map<String, String>> requestParameters;
   private static RuntimeException exceptionOnNext;
+  private static ApiException exceptionOnWatch;
   private static AllWatchesClosedListener listener;
 
   private final List<List<Watch.Response<?>>> calls = new ArrayList<>();
@@ -57,6 +58,7 @@ public class StubWatchFactory implements WatchApiFactory {
     factory = new StubWatchFactory();
     requestParameters = new ArrayList<>();
     exceptionOnNext = null;
+    exceptionOnWatch = null;
 
     return StaticStubSupport.install(RequestBuilder.class, "watchApiFactory", factory);
   }
@@ -90,6 +92,14 @@ public class StubWatchFactory implements WatchApiFactory {
     exceptionOnNext = e;
   }
 
+  /**
+   * Programs the stub to throw the specified exception when the next watch is requested.
+   * @param e the exception to throw
+   */
+  public static void throwExceptionOnWatch(ApiException e) {
+    exceptionOnWatch = e;
+  }
+
   /**
    * Create watch api.
    * @param <A> Kubernetes object type
@@ -114,6 +124,7 @@ public class StubWatchFactory implements WatchApiFactory {
       public Watchable<A> watch(String namespace, ListOptions listOptions) throws ApiException {
         try {
           addRecordedParameters(getParameters(namespace, listOptions));
+          throwExceptionOnWatchIfProgrammed();
 
           if (nothingToDo()) {
             return new WatchStub<>(Collections.emptyList());
@@ -134,6 +145,14 @@ public class StubWatchFactory implements WatchApiFactory {
     };
   }
 
+  private void throwExceptionOnWatchIfProgrammed() throws ApiException {
+    final ApiException exception = exceptionOnWatch;
+    exceptionOnWatch = null;
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
   @Nonnull
   private Map<String, String> getParameters(String namespace, ListOptions listOptions) {
     final Map<String, String> recordedParams = new HashMap<>();
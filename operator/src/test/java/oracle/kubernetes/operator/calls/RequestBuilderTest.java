@@ -0,0 +1,76 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.calls.RequestBuilder.CLIENT_SELECTOR;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class RequestBuilderTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(Client.class, "factory", (ClientFactory) ApiClient::new));
+    mementos.add(StaticStubSupport.install(
+          RequestBuilder.class, "kubernetesApiFactory", RequestBuilder.DEFAULT_KUBERNETES_API_FACTORY));
+    Client.reset();
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+    Client.reset();
+  }
+
+  private KubernetesApi<V1Pod, V1PodList> createPodApi() {
+    return RequestBuilder.createKubernetesApi(V1Pod.class, V1PodList.class, "", "v1", "pods", CLIENT_SELECTOR);
+  }
+
+  @Test
+  void whenSameResourceRequested_reuseApi() {
+    assertThat(createPodApi(), sameInstance(createPodApi()));
+  }
+
+  @Test
+  void whenDifferentResourcesRequested_createDifferentApis() {
+    final KubernetesApi<V1Service, V1ServiceList> serviceApi = RequestBuilder.createKubernetesApi(
+          V1Service.class, V1ServiceList.class, "", "v1", "services", CLIENT_SELECTOR);
+
+    assertThat(serviceApi, not(sameInstance(createPodApi())));
+  }
+
+  @Test
+  void afterClientReplaced_createNewApi() {
+    final KubernetesApi<V1Pod, V1PodList> api = createPodApi();
+
+    Client.reset();
+
+    assertThat(createPodApi(), not(sameInstance(api)));
+  }
+
+  @Test
+  void whenOtherClientSelected_doNotReuseApi() {
+    final ApiClient client = new ApiClient();
+
+    assertThat(RequestBuilder.createKubernetesApi(V1Pod.class, V1PodList.class, "", "v1", "pods", c -> client),
+          not(sameInstance(createPodApi())));
+  }
+}
@@ -0,0 +1,300 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.openapi.models.V1StatusDetails;
+import io.kubernetes.client.util.generic.KubernetesApiResponse;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.calls.RequestScheduler.Priority;
+import oracle.kubernetes.operator.calls.RequestScheduler.Ticket;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.operator.work.Packet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_TOO_MANY_REQUESTS;
+import static oracle.kubernetes.operator.tuning.TuningParameters.CALLS_PER_SECOND;
+import static oracle.kubernetes.operator.tuning.TuningParameters.CALL_BURST;
+import static oracle.kubernetes.operator.tuning.TuningParameters.CALL_CONCURRENCY_LIMIT;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class RequestSchedulerTest {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final RequestScheduler scheduler = new RequestScheduler();
+  private long nanoTime = 1000L;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(RequestScheduler.class, "nanoClock", (LongSupplier) () -> nanoTime));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private static KubernetesApiResponse<V1Pod> success() {
+    return new KubernetesApiResponse<>(new V1Pod());
+  }
+
+  private static KubernetesApiResponse<V1Pod> tooManyRequests(Integer retryAfterSeconds) {
+    return new KubernetesApiResponse<>(
+        new V1Status().details(new V1StatusDetails().retryAfterSeconds(retryAfterSeconds)), HTTP_TOO_MANY_REQUESTS);
+  }
+
+  private Ticket enqueue(Priority priority, String namespace) {
+    return scheduler.enqueue(priority, namespace);
+  }
+
+  private void advanceSeconds(int seconds) {
+    nanoTime += TimeUnit.SECONDS.toNanos(seconds);
+  }
+
+  @Test
+  void whenBelowConcurrencyLimit_startCallsImmediately() {
+    assertThat(enqueue(Priority.NORMAL, NS1).isAdmitted(), is(true));
+    assertThat(enqueue(Priority.NORMAL, NS1).isAdmitted(), is(true));
+    assertThat(scheduler.getNumInProgress(), equalTo(2));
+  }
+
+  @Test
+  void whenAtConcurrencyLimit_waitForCallToComplete() {
+    TuningParametersStub.setParameter(CALL_CONCURRENCY_LIMIT, "1");
+    enqueue(Priority.NORMAL, NS1);
+    Ticket waiting = enqueue(Priority.NORMAL, NS1);
+
+    assertThat(waiting.isAdmitted(), is(false));
+
+    scheduler.complete(success());
+
+    assertThat(waiting.isAdmitted(), is(true));
+  }
+
+  @Test
+  void whenCallsWaiting_startHigherPriorityFirst() {
+    TuningParametersStub.setParameter(CALL_CONCURRENCY_LIMIT, "1");
+    enqueue(Priority.NORMAL, NS1);
+    Ticket background = enqueue(Priority.BACKGROUND, NS1);
+    Ticket high = enqueue(Priority.HIGH, NS1);
+
+    scheduler.complete(success());
+
+    assertThat(high.isAdmitted(), is(true));
+    assertThat(background.isAdmitted(), is(false));
+  }
+
+  @Test
+  void whenLowerPriorityCallHasWaited_promoteIt() {
+    TuningParametersStub.setParameter(CALL_CONCURRENCY_LIMIT, "1");
+    enqueue(Priority.NORMAL, NS1);
+    Ticket background = enqueue(Priority.BACKGROUND, NS1);
+    advanceSeconds(RequestScheduler.AGING_SECONDS);
+    Ticket normal = enqueue(Priority.NORMAL, NS1);
+
+    scheduler.complete(success());
+
+    assertThat(background.isAdmitted(), is(true));
+    assertThat(normal.isAdmitted(), is(false));
+  }
+
+  @Test
+  void whenLowerPriorityCallHasNotWaitedLongEnough_startHigherPriorityFirst() {
+    TuningParametersStub.setParameter(CALL_CONCURRENCY_LIMIT, "1");
+    enqueue(Priority.NORMAL, NS1);
+    Ticket background = enqueue(Priority.BACKGROUND, NS1);
+    advanceSeconds(RequestScheduler.AGING_SECONDS);
+    Ticket high = enqueue(Priority.HIGH, NS1);
+
+    scheduler.complete(success());
+
+    assertThat(high.isAdmitted(), is(true));
+    assertThat(background.isAdmitted(), is(false));
+  }
+
+  @Test
+  void whenBackgroundCallHasWaitedLongEnough_startItBeforeNewHighPriorityCalls() {
+    TuningParametersStub.setParameter(CALL_CONCURRENCY_LIMIT, "1");
+    enqueue(Priority.HIGH, NS1);
+    Ticket background = enqueue(Priority.BACKGROUND, NS1);
+    advanceSeconds(2 * RequestScheduler.AGING_SECONDS);
+    Ticket high = enqueue(Priority.HIGH, NS1);
+
+    scheduler.complete(success());
+
+    assertThat(background.isAdmitted(), is(true));
+    assertThat(high.isAdmitted(), is(false));
+  }
+
+  @Test
+  void whenNoConcurrencyLimitConfigured_startAllCalls() {
+    for (int i = 0; i < 100; i++) {
+      enqueue(Priority.NORMAL, NS1);
+    }
+
+    assertThat(scheduler.getNumInProgress(), equalTo(100));
+  }
+
+  @Test
+  void whenCallRejectedWithoutConfiguredLimit_halveCallsInProgress() {
+    for (int i = 0; i < 4; i++) {
+      enqueue(Priority.NORMAL, NS1);
+    }
+
+    scheduler.complete(tooManyRequests(null));
+    scheduler.complete(success());
+
+    assertThat(enqueue(Priority.NORMAL, NS1).isAdmitted(), is(false));
+  }
+
+  @Test
+  void whenCallsWaitingWithSamePriority_namespacesTakeTurns() {
+    TuningParametersStub.setParameter(CALL_CONCURRENCY_LIMIT, "1");
+    enqueue(Priority.NORMAL, NS1);
+    enqueue(Priority.NORMAL, NS1);
+    Ticket secondInNs1 = enqueue(Priority.NORMAL, NS1);
+    Ticket firstInNs2 = enqueue(Priority.NORMAL, NS2);
+
+    scheduler.complete(success());
+    scheduler.complete(success());
+
+    assertThat(firstInNs2.isAdmitted(), is(true));
+    assertThat(secondInNs1.isAdmitted(), is(false));
+  }
+
+  @Test
+  void whenCallRejectedWithRetryAfter_dontStartCallsUntilThen() {
+    enqueue(Priority.HIGH, NS1);
+    scheduler.complete(tooManyRequests(2));
+    Ticket waiting = enqueue(Priority.HIGH, NS1);
+
+    advanceSeconds(3);
+    enqueue(Priority.HIGH, NS1);
+
+    assertThat(waiting.isAdmitted(), is(true));
+  }
+
+  @Test
+  void whenCallRejectedWithRetryAfter_callsWait() {
+    enqueue(Priority.HIGH, NS1);
+    scheduler.complete(tooManyRequests(2));
+
+    assertThat(enqueue(Priority.HIGH, NS1).isAdmitted(), is(false));
+  }
+
+  @Test
+  void whenCallRejected_halveConcurrencyLimit() {
+    TuningParametersStub.setParameter(CALL_CONCURRENCY_LIMIT, "4");
+    for (int i = 0; i < 4; i++) {
+      enqueue(Priority.NORMAL, NS1);
+    }
+
+    scheduler.complete(tooManyRequests(null));
+    scheduler.complete(success());
+
+    assertThat(enqueue(Priority.NORMAL, NS1).isAdmitted(), is(false));
+  }
+
+  @Test
+  void afterCallRejected_concurrencyLimitRecoversGradually() {
+    TuningParametersStub.setParameter(CALL_CONCURRENCY_LIMIT, "4");
+    enqueue(Priority.NORMAL, NS1);
+    scheduler.complete(tooManyRequests(null));
+
+    for (int i = 0; i < 2; i++) {
+      enqueue(Priority.NORMAL, NS1);
+      scheduler.complete(success());
+    }
+    for (int i = 0; i < 4; i++) {
+      enqueue(Priority.NORMAL, NS1);
+    }
+
+    assertThat(scheduler.getNumInProgress(), equalTo(3));
+  }
+
+  @Test
+  void whenCallRateLimited_dontExceedBurst() {
+    TuningParametersStub.setParameter(CALLS_PER_SECOND, "1");
+    TuningParametersStub.setParameter(CALL_BURST, "2");
+    startAndComplete(2);
+
+    assertThat(enqueue(Priority.HIGH, NS1).isAdmitted(), is(false));
+  }
+
+  @Test
+  void whenCallRateLimited_startCallWhenTokenAvailable() {
+    TuningParametersStub.setParameter(CALLS_PER_SECOND, "1");
+    TuningParametersStub.setParameter(CALL_BURST, "2");
+    startAndComplete(2);
+    Ticket waiting = enqueue(Priority.HIGH, NS1);
+
+    advanceSeconds(1);
+    enqueue(Priority.HIGH, NS1);
+
+    assertThat(waiting.isAdmitted(), is(true));
+  }
+
+  private void startAndComplete(int numCalls) {
+    for (int i = 0; i < numCalls; i++) {
+      enqueue(Priority.HIGH, NS1);
+      scheduler.complete(success());
+    }
+  }
+
+  @Test
+  void writesHaveHighPriority() {
+    assertThat(RequestScheduler.getPriority(new Packet(), "create", "pods"), equalTo(Priority.HIGH));
+  }
+
+  @Test
+  void readsHaveNormalPriority() {
+    assertThat(RequestScheduler.getPriority(new Packet(), "list", "pods"), equalTo(Priority.NORMAL));
+  }
+
+  @Test
+  void eventsAndStatusUpdatesHaveBackgroundPriority() {
+    assertThat(RequestScheduler.getPriority(new Packet(), "create", "events"), equalTo(Priority.BACKGROUND));
+    assertThat(RequestScheduler.getPriority(new Packet(), "updateStatus", "domains"), equalTo(Priority.BACKGROUND));
+  }
+
+  @Test
+  void eventsAndStatusUpdatesInMakeRight_haveHighPriority() {
+    Packet packet = new Packet();
+    packet.put(ProcessingConstants.MAKE_RIGHT_DOMAIN_OPERATION, "makeRight");
+
+    assertThat(RequestScheduler.getPriority(packet, "create", "events"), equalTo(Priority.HIGH));
+    assertThat(RequestScheduler.getPriority(packet, "patchStatus", "domains"), equalTo(Priority.HIGH));
+  }
+
+  @Test
+  void readsInMakeRight_haveNormalPriority() {
+    Packet packet = new Packet();
+    packet.put(ProcessingConstants.MAKE_RIGHT_DOMAIN_OPERATION, "makeRight");
+
+    assertThat(RequestScheduler.getPriority(packet, "get", "pods"), equalTo(Priority.NORMAL));
+  }
+
+  @Test
+  void whenPacketMarkedAsBackground_callsHaveBackgroundPriority() {
+    Packet packet = RequestScheduler.inBackground(new Packet());
+
+    assertThat(RequestScheduler.getPriority(packet, "create", "pods"), equalTo(Priority.BACKGROUND));
+  }
+}
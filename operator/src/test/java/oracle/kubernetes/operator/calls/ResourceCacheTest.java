@@ -0,0 +1,397 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class ResourceCacheTest {
+
+  private static final String NS = "namespace";
+  private static final String OTHER_NS = "other";
+  private static final String UID1 = "domain1";
+  private static final String UID2 = "domain2";
+
+  private final ResourceCache cache = new ResourceCache();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Pod createPod(String domainUid, String name, String resourceVersion) {
+    return new V1Pod().metadata(createMetadata(domainUid, name, resourceVersion));
+  }
+
+  private V1ObjectMeta createMetadata(String domainUid, String name, String resourceVersion) {
+    return new V1ObjectMeta().namespace(NS).name(name).resourceVersion(resourceVersion)
+          .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true")
+          .putLabelsItem(DOMAINUID_LABEL, domainUid)
+          .putLabelsItem(SERVERNAME_LABEL, name);
+  }
+
+  private String getResourceVersion(V1Pod pod) {
+    return pod.getMetadata().getResourceVersion();
+  }
+
+  private List<String> getNames(List<V1Pod> pods) {
+    return pods.stream().map(V1Pod::getMetadata).map(V1ObjectMeta::getName).toList();
+  }
+
+  @Test
+  void whenNamespaceNotListed_cannotReadFromCache() {
+    cache.recordWatchEvent("ADDED", createPod(UID1, "ms1", "10"));
+
+    assertThat(cache.get(V1Pod.class, NS, "ms1"), nullValue());
+  }
+
+  @Test
+  void afterNamespaceListed_canReadListedObjects() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms1")), equalTo("10"));
+  }
+
+  @Test
+  void afterDomainListedOnly_cannotReadFromCache() {
+    cache.recordList(V1Pod.class, NS, UID1, null, List.of(createPod(UID1, "ms1", "10")));
+
+    assertThat(cache.get(V1Pod.class, NS, "ms1"), nullValue());
+  }
+
+  @Test
+  void whenListRecordedInPages_canReadObjectsFromAllPages() {
+    cache.recordListed(V1Pod.class, NS, List.of(createPod(UID1, "ms1", "10")));
+    cache.recordListed(V1Pod.class, NS, List.of(createPod(UID1, "ms2", "11")));
+    cache.completeList(V1Pod.class, NS, null, "12", Set.of("ms1", "ms2"));
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms2")), equalTo("11"));
+  }
+
+  @Test
+  void whenListRecordedInPagesOmitsCachedObject_removeIt() {
+    cache.recordList(V1Pod.class, NS, null, "10", List.of(createPod(UID1, "ms1", "10")));
+
+    cache.recordListed(V1Pod.class, NS, List.of(createPod(UID1, "ms2", "11")));
+    cache.completeList(V1Pod.class, NS, null, "12", Set.of("ms2"));
+
+    assertThat(cache.get(V1Pod.class, NS, "ms1"), nullValue());
+  }
+
+  @Test
+  void whenModifiedObjectNoLongerSelected_removeIt() {
+    cache.recordList(V1Pod.class, NS, null, "10", List.of(createPod(UID1, "ms1", "10")));
+    final V1Pod pod = createPod(UID1, "ms1", "11");
+    pod.getMetadata().getLabels().remove(CREATEDBYOPERATOR_LABEL);
+
+    cache.recordWatchEvent("MODIFIED", pod);
+
+    assertThat(cache.get(V1Pod.class, NS, "ms1"), nullValue());
+  }
+
+  @Test
+  void whenOlderObjectNoLongerSelected_keepCachedObject() {
+    cache.recordList(V1Pod.class, NS, null, "10", List.of(createPod(UID1, "ms1", "10")));
+    final V1Pod pod = createPod(UID1, "ms1", "9");
+    pod.getMetadata().getLabels().remove(CREATEDBYOPERATOR_LABEL);
+
+    cache.recordWatchEvent("MODIFIED", pod);
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms1")), equalTo("10"));
+  }
+
+  @Test
+  void jobsAreNotCached() {
+    assertThat(ResourceCache.isCachedKind(V1Job.class), equalTo(false));
+  }
+
+  @Test
+  void afterWatchEvent_readReturnsNewVersion() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+
+    cache.recordWatchEvent("MODIFIED", createPod(UID1, "ms1", "12"));
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms1")), equalTo("12"));
+  }
+
+  @Test
+  void whenWatchEventOlderThanCachedVersion_ignoreIt() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+
+    cache.recordWatchEvent("MODIFIED", createPod(UID1, "ms1", "8"));
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms1")), equalTo("10"));
+  }
+
+  @Test
+  void afterDeletedWatchEvent_objectIsNotFound() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+
+    cache.recordWatchEvent("DELETED", createPod(UID1, "ms1", "11"));
+
+    assertThat(cache.get(V1Pod.class, NS, "ms1"), nullValue());
+  }
+
+  @Test
+  void whenListTakenBeforeDeletionIsRecordedAfterIt_doNotRestoreObject() {
+    cache.recordList(V1Pod.class, NS, null, "10", List.of(createPod(UID1, "ms1", "10")));
+    cache.recordWatchEvent("DELETED", createPod(UID1, "ms1", "11"));
+
+    cache.recordList(V1Pod.class, NS, null, "10", List.of(createPod(UID1, "ms1", "10")));
+
+    assertThat(cache.get(V1Pod.class, NS, "ms1"), nullValue());
+  }
+
+  @Test
+  void afterDeletedObjectRecreated_readReturnsNewObject() {
+    cache.recordList(V1Pod.class, NS, null, "10", List.of(createPod(UID1, "ms1", "10")));
+    cache.recordWatchEvent("DELETED", createPod(UID1, "ms1", "11"));
+
+    cache.recordWatchEvent("ADDED", createPod(UID1, "ms1", "14"));
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms1")), equalTo("14"));
+  }
+
+  @Test
+  void whenRepeatedDeletionIsOlderThanRecreatedObject_keepObject() {
+    cache.recordList(V1Pod.class, NS, null, "10", List.of(createPod(UID1, "ms1", "10")));
+    cache.recordWatchEvent("DELETED", createPod(UID1, "ms1", "11"));
+    cache.recordWatchEvent("ADDED", createPod(UID1, "ms1", "14"));
+
+    cache.recordWatchEvent("DELETED", createPod(UID1, "ms1", "11"));
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms1")), equalTo("14"));
+  }
+
+  @Test
+  void afterListNewerThanDeletion_forgetDeletion() {
+    cache.recordList(V1Pod.class, NS, null, "10", List.of(createPod(UID1, "ms1", "10")));
+    cache.recordWatchEvent("DELETED", createPod(UID1, "ms1", "11"));
+    cache.recordList(V1Pod.class, NS, null, "12", List.of());
+
+    cache.recordWatchEvent("ADDED", createPod(UID1, "ms1", "11"));
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms1")), equalTo("11"));
+  }
+
+  @Test
+  void whenObjectAddedAfterListWasTaken_listDoesNotRemoveIt() {
+    cache.recordList(V1Pod.class, NS, null, "10", List.of(createPod(UID1, "ms1", "10")));
+    cache.recordWatchEvent("ADDED", createPod(UID1, "ms2", "12"));
+
+    cache.recordList(V1Pod.class, NS, null, "11", List.of(createPod(UID1, "ms1", "10")));
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms2")), equalTo("12"));
+  }
+
+  @Test
+  void whenObjectNotCreatedByOperator_doNotCacheIt() {
+    final V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name("other").resourceVersion("3"));
+    cache.recordList(V1Pod.class, NS, null, null, List.of(pod));
+
+    assertThat(cache.get(V1Pod.class, NS, "other"), nullValue());
+  }
+
+  @Test
+  void domainResources_areCachedWithoutLabels() {
+    final DomainResource domain = new DomainResource().withMetadata(
+          new V1ObjectMeta().namespace(NS).name(UID1).resourceVersion("5"));
+    cache.recordList(DomainResource.class, NS, null, null, List.of(domain));
+
+    assertThat(cache.get(DomainResource.class, NS, UID1), notNullValue());
+  }
+
+  private V1ConfigMap createConfigMap(String name, String resourceVersion) {
+    return new V1ConfigMap().metadata(new V1ObjectMeta().namespace(NS).name(name).resourceVersion(resourceVersion)
+          .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true"));
+  }
+
+  @Test
+  void readOfConfigMapFromCache_returnsCopy() {
+    final V1ConfigMap configMap = createConfigMap("cm1", "10");
+    cache.recordList(V1ConfigMap.class, NS, null, null, List.of(configMap));
+
+    final V1ConfigMap cached = cache.get(V1ConfigMap.class, NS, "cm1");
+    cached.getMetadata().resourceVersion("99");
+
+    assertThat(cached, not(sameInstance(configMap)));
+    assertThat(cache.get(V1ConfigMap.class, NS, "cm1").getMetadata().getResourceVersion(), equalTo("10"));
+  }
+
+  @Test
+  void whenRecordedConfigMapIsModified_cacheIsUnchanged() {
+    final V1ConfigMap configMap = createConfigMap("cm1", "10");
+    cache.recordList(V1ConfigMap.class, NS, null, null, List.of(configMap));
+
+    configMap.getMetadata().resourceVersion("99");
+
+    assertThat(cache.get(V1ConfigMap.class, NS, "cm1").getMetadata().getResourceVersion(), equalTo("10"));
+  }
+
+  @Test
+  void readOfPodFromCache_returnsRecordedObject() {
+    final V1Pod pod = createPod(UID1, "ms1", "10");
+    cache.recordList(V1Pod.class, NS, null, null, List.of(pod));
+
+    assertThat(cache.get(V1Pod.class, NS, "ms1"), sameInstance(pod));
+  }
+
+  @Test
+  void afterWrite_readReturnsWrittenVersion() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+
+    cache.recordWrite(createPod(UID1, "ms1", "15"));
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms1")), equalTo("15"));
+  }
+
+  @Test
+  void afterWrite_olderWatchEventIsIgnored() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+    cache.recordWrite(createPod(UID1, "ms1", "15"));
+
+    cache.recordWatchEvent("MODIFIED", createPod(UID1, "ms1", "12"));
+
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms1")), equalTo("15"));
+  }
+
+  @Test
+  void afterDiscard_objectIsNotFound() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+
+    cache.discard(V1Pod.class, NS, "ms1");
+
+    assertThat(cache.get(V1Pod.class, NS, "ms1"), nullValue());
+  }
+
+  @Test
+  void afterInvalidate_cannotReadFromCacheUntilNextList() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+
+    cache.invalidate(V1Pod.class, NS);
+    assertThat(cache.get(V1Pod.class, NS, "ms1"), nullValue());
+
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "11")));
+    assertThat(getResourceVersion(cache.get(V1Pod.class, NS, "ms1")), equalTo("11"));
+  }
+
+  @Test
+  void afterNamespaceRemoved_cannotReadFromCache() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+
+    cache.removeNamespace(NS);
+
+    assertThat(cache.get(V1Pod.class, NS, "ms1"), nullValue());
+  }
+
+  @Test
+  void namespacesAreCachedSeparately() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+    cache.recordList(V1Pod.class, OTHER_NS, null, null, List.of());
+
+    assertThat(cache.get(V1Pod.class, OTHER_NS, "ms1"), nullValue());
+  }
+
+  @Test
+  void kindsAreCachedSeparately() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+
+    assertThat(cache.get(V1Service.class, NS, "ms1"), nullValue());
+  }
+
+  @Test
+  void afterDomainListed_objectsOfDomainNotListedAreRemoved() {
+    cache.recordList(V1Pod.class, NS, null, null,
+          List.of(createPod(UID1, "ms1", "10"), createPod(UID1, "ms2", "11"), createPod(UID2, "ms3", "12")));
+
+    cache.recordList(V1Pod.class, NS, UID1, null, List.of(createPod(UID1, "ms1", "10")));
+
+    assertThat(cache.get(V1Pod.class, NS, "ms2"), nullValue());
+    assertThat(cache.get(V1Pod.class, NS, "ms3"), notNullValue());
+  }
+
+  @Test
+  void domainResources_areIndexedByDomainUid() {
+    cache.recordList(V1Pod.class, NS, null, null,
+          List.of(createPod(UID1, "ms1", "10"), createPod(UID1, "ms2", "11"), createPod(UID2, "ms3", "12")));
+
+    assertThat(getNames(cache.getDomainResources(V1Pod.class, NS, UID1)), containsInAnyOrder("ms1", "ms2"));
+    assertThat(getNames(cache.getDomainResources(V1Pod.class, NS, UID2)), contains("ms3"));
+  }
+
+  @Test
+  void serverResources_areIndexedByServerName() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10"), createPod(UID2, "ms2", "12")));
+
+    assertThat(getResourceVersion(cache.getServerResource(V1Pod.class, NS, UID1, "ms1")), equalTo("10"));
+    assertThat(cache.getServerResource(V1Pod.class, NS, UID2, "ms1"), nullValue());
+  }
+
+  @Test
+  void afterNamespaceListed_canListCachedObjects() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10"), createPod(UID2, "ms2", "12")));
+    cache.recordWatchEvent("ADDED", createPod(UID1, "ms3", "13"));
+
+    assertThat(getNames(cache.list(V1Pod.class, NS, SystemClock.now())), containsInAnyOrder("ms1", "ms2", "ms3"));
+  }
+
+  @Test
+  void whenNamespaceNotListedSinceSpecifiedTime_cannotListCachedObjects() {
+    cache.recordList(V1Pod.class, NS, null, null, List.of(createPod(UID1, "ms1", "10")));
+
+    SystemClockTestSupport.increment(10);
+
+    assertThat(cache.list(V1Pod.class, NS, SystemClock.now().minusSeconds(5)), nullValue());
+  }
+
+  @Test
+  void whenNamespaceNotListed_cannotListCachedObjects() {
+    cache.recordWatchEvent("ADDED", createPod(UID1, "ms1", "10"));
+
+    assertThat(cache.list(V1Pod.class, NS, SystemClock.now()), nullValue());
+  }
+
+  @Test
+  void whenVersionsAreNumeric_compareThem() {
+    assertThat(ResourceCache.compareVersions("9", "10"), equalTo(-1));
+    assertThat(ResourceCache.compareVersions("10", "10"), equalTo(0));
+  }
+
+  @Test
+  void whenVersionsAreNotNumeric_cannotCompareThem() {
+    assertThat(ResourceCache.compareVersions("abc", "10"), nullValue());
+  }
+}
@@ -0,0 +1,211 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
+import io.prometheus.client.CollectorRegistry;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.ACCESS_REVIEW_CACHE_SECONDS;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class AccessReviewCacheTest {
+
+  private static final String PRINCIPAL = "operator";
+  private static final String TOKEN = "token";
+  private static final String NS = "namespace";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final AccessReviewCache cache = new AccessReviewCache();
+  private final ReviewStub tokenReview = new ReviewStub(authenticated());
+  private final AuthorizationProxyStub authorizationProxy = new AuthorizationProxyStub();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private static V1TokenReviewStatus authenticated() {
+    return new V1TokenReviewStatus().authenticated(true);
+  }
+
+  private V1TokenReviewStatus reviewToken(String token) {
+    return cache.getTokenReviewStatus(PRINCIPAL, token, NS, tokenReview);
+  }
+
+  private boolean checkAccess(String namespace) {
+    return cache.check(authorizationProxy, "user", List.of("group"), Operation.LIST, Resource.DOMAINS,
+        null, Scope.NAMESPACE, namespace);
+  }
+
+  @Test
+  void whenTokenReviewedAgain_reuseResult() {
+    reviewToken(TOKEN);
+    reviewToken(TOKEN);
+
+    assertThat(tokenReview.numCalls, equalTo(1));
+    assertThat(cache.getHitCount(), equalTo(1L));
+    assertThat(cache.getMissCount(), equalTo(1L));
+  }
+
+  @Test
+  void whenDifferentTokenReviewed_performReview() {
+    reviewToken(TOKEN);
+    reviewToken("other");
+
+    assertThat(tokenReview.numCalls, equalTo(2));
+  }
+
+  @Test
+  void afterResultExpires_performReviewAgain() {
+    reviewToken(TOKEN);
+
+    SystemClockTestSupport.increment(61);
+    reviewToken(TOKEN);
+
+    assertThat(tokenReview.numCalls, equalTo(2));
+  }
+
+  @Test
+  void rejectedToken_isKeptForShorterTime() {
+    tokenReview.status = new V1TokenReviewStatus().authenticated(false);
+    reviewToken(TOKEN);
+    reviewToken(TOKEN);
+
+    SystemClockTestSupport.increment(6);
+    reviewToken(TOKEN);
+
+    assertThat(tokenReview.numCalls, equalTo(2));
+  }
+
+  @Test
+  void whenReviewFails_doNotKeepResult() {
+    tokenReview.status = null;
+    reviewToken(TOKEN);
+    reviewToken(TOKEN);
+
+    assertThat(tokenReview.numCalls, equalTo(2));
+  }
+
+  @Test
+  void whenCacheDisabled_alwaysPerformReview() {
+    TuningParametersStub.setParameter(ACCESS_REVIEW_CACHE_SECONDS, "0");
+    reviewToken(TOKEN);
+    reviewToken(TOKEN);
+
+    assertThat(tokenReview.numCalls, equalTo(2));
+  }
+
+  @Test
+  void whenAccessCheckedAgain_reuseResult() {
+    checkAccess(NS);
+
+    assertThat(checkAccess(NS), is(true));
+    assertThat(authorizationProxy.numCalls, equalTo(1));
+  }
+
+  @Test
+  void whenAccessReviewFails_denyAccess() {
+    authorizationProxy.result = null;
+
+    assertThat(checkAccess(NS), is(false));
+  }
+
+  @Test
+  void whenAccessReviewFails_doNotKeepResult() {
+    authorizationProxy.result = null;
+    checkAccess(NS);
+    authorizationProxy.result = true;
+
+    assertThat(checkAccess(NS), is(true));
+    assertThat(authorizationProxy.numCalls, equalTo(2));
+  }
+
+  @Test
+  void hitAndMissCounts_areExportedAsMetrics() {
+    final double hitsBefore = getLookups("hit");
+    final double missesBefore = getLookups("miss");
+
+    reviewToken(TOKEN);
+    reviewToken(TOKEN);
+
+    assertThat(getLookups("hit"), closeTo(hitsBefore + 1, 0.01));
+    assertThat(getLookups("miss"), closeTo(missesBefore + 1, 0.01));
+  }
+
+  private double getLookups(String result) {
+    return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue(
+        "weblogic_operator_access_review_cache_lookups_total", new String[] {"result"}, new String[] {result}))
+        .orElse(0.0);
+  }
+
+  @Test
+  void whenAccessCheckedInOtherNamespace_performReview() {
+    checkAccess(NS);
+    checkAccess("other");
+
+    assertThat(authorizationProxy.numCalls, equalTo(2));
+  }
+
+  @Test
+  void whenTooManyResults_discardLeastRecentlyUsed() {
+    reviewToken(TOKEN);
+    for (int i = 0; i < AccessReviewCache.MAX_ENTRIES; i++) {
+      reviewToken(TOKEN + i);
+    }
+
+    reviewToken(TOKEN);
+
+    assertThat(tokenReview.numCalls, equalTo(AccessReviewCache.MAX_ENTRIES + 2));
+  }
+
+  private static class ReviewStub implements Supplier<V1TokenReviewStatus> {
+    private V1TokenReviewStatus status;
+    private int numCalls;
+
+    ReviewStub(V1TokenReviewStatus status) {
+      this.status = status;
+    }
+
+    @Override
+    public V1TokenReviewStatus get() {
+      numCalls++;
+      return status;
+    }
+  }
+
+  private static class AuthorizationProxyStub extends AuthorizationProxy {
+    private Boolean result = true;
+    private int numCalls;
+
+    @Override
+    public Boolean review(String principal, List<String> groups, Operation operation, Resource resource,
+                          String resourceName, Scope scope, String namespaceName) {
+      numCalls++;
+      return result;
+    }
+  }
+}
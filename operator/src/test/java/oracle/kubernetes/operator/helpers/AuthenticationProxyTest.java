@@ -1,4 +1,4 @@
-// Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+// Copyright (c) 2020, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -33,6 +33,7 @@ class AuthenticationProxyTest {
     mementos.add(testSupport.install());
     mementos.add(
         StaticStubSupport.install(AuthenticationProxy.class, "authorizationProxy", authorizationProxyStub));
+    mementos.add(StaticStubSupport.install(AccessReviewCache.class, "instance", new AccessReviewCache()));
   }
 
   @AfterEach
@@ -0,0 +1,115 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.tuning.TuningParameters.LEGACY_RECIPE_HASH;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+class CanonicalHashTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Pod createPod() {
+    return new V1Pod()
+          .metadata(new V1ObjectMeta().name("pod1").namespace("ns1")
+                .putLabelsItem("a", "1").putLabelsItem("b", "2"))
+          .spec(new V1PodSpec()
+                .addContainersItem(new V1Container().name("c1").image("image:1")
+                      .resources(new V1ResourceRequirements().putLimitsItem("memory", new Quantity("1Gi")))));
+  }
+
+  @Test
+  void equalObjects_haveSameHash() {
+    assertThat(CanonicalHash.sha256Hex(createPod()), equalTo(CanonicalHash.sha256Hex(createPod())));
+  }
+
+  @Test
+  void hashIsHexEncodedSha256() {
+    assertThat(CanonicalHash.sha256Hex(createPod()).matches("[0-9a-f]{64}"), equalTo(true));
+  }
+
+  @Test
+  void whenFieldChanges_hashChanges() {
+    final V1Pod pod = createPod();
+    pod.getSpec().getContainers().get(0).image("image:2");
+
+    assertThat(CanonicalHash.sha256Hex(pod), not(equalTo(CanonicalHash.sha256Hex(createPod()))));
+  }
+
+  @Test
+  void hashDoesNotDependOnMapEntryOrder() {
+    final V1Pod pod = createPod();
+    pod.getMetadata().labels(null).putLabelsItem("b", "2").putLabelsItem("a", "1");
+
+    assertThat(CanonicalHash.sha256Hex(pod), equalTo(CanonicalHash.sha256Hex(createPod())));
+  }
+
+  @Test
+  void emptyListDiffersFromNullList() {
+    final V1Pod pod = createPod();
+    pod.getSpec().initContainers(new ArrayList<>());
+
+    assertThat(CanonicalHash.sha256Hex(pod), not(equalTo(CanonicalHash.sha256Hex(createPod()))));
+  }
+
+  @Test
+  void servicePortsWithNamedTargetPorts_areHashed() {
+    final V1Service service = new V1Service().spec(new V1ServiceSpec()
+          .addPortsItem(new V1ServicePort().port(7001).targetPort(new IntOrString("default"))));
+    final V1Service numbered = new V1Service().spec(new V1ServiceSpec()
+          .addPortsItem(new V1ServicePort().port(7001).targetPort(new IntOrString(7001))));
+
+    assertThat(CanonicalHash.sha256Hex(service), not(equalTo(CanonicalHash.sha256Hex(numbered))));
+  }
+
+  @Test
+  void byDefault_createHashUsesCanonicalForm() {
+    assertThat(AnnotationHelper.createHash(createPod()), equalTo(CanonicalHash.sha256Hex(createPod())));
+  }
+
+  @Test
+  void legacyHash_matchesHashOfYaml() {
+    assertThat(AnnotationHelper.createLegacyHash(createPod()), equalTo(DigestUtils.sha256Hex(Yaml.dump(createPod()))));
+  }
+
+  @Test
+  void whenLegacyRecipeHashConfigured_createHashUsesYamlForm() {
+    TuningParametersStub.setParameter(LEGACY_RECIPE_HASH, "true");
+
+    assertThat(AnnotationHelper.createHash(createPod()), equalTo(DigestUtils.sha256Hex(Yaml.dump(createPod()))));
+  }
+}
@@ -12,8 +12,10 @@ import java.util.logging.LogRecord;
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -32,7 +34,12 @@ import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_N
 import static oracle.kubernetes.operator.ProcessingConstants.SCRIPT_CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
+import static oracle.kubernetes.operator.tuning.TuningParameters.SERVER_SIDE_APPLY;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -145,4 +152,62 @@ class ConfigMapHelperTest {
     });
   }
 
+  @Test
+  void whenServerSideApplyConfigured_createConfigMapWithApply() {
+    TuningParametersStub.setParameter(SERVER_SIDE_APPLY, "true");
+    testSupport.failOnCreate(CONFIG_MAP, DOMAIN_NS, 401);
+
+    Packet packet = testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(testSupport.getResources(CONFIG_MAP), hasSize(1));
+    assertThat(packet.get(SCRIPT_CONFIG_MAP), notNullValue());
+    assertThat(logRecords, containsInfo(CM_CREATED));
+  }
+
+  @Test
+  void whenServerSideApplyConfiguredAndConfigMapIsCurrent_dontApplyIt() {
+    TuningParametersStub.setParameter(SERVER_SIDE_APPLY, "true");
+    testSupport.defineResources(appliedByOperator(defineConfigMap(PRODUCT_VERSION)));
+    testSupport.failOnPatch(CONFIG_MAP, SCRIPT_CONFIG_MAP_NAME, DOMAIN_NS, 401);
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    assertThat(logRecords, containsFine(CM_EXISTS));
+  }
+
+  private V1ConfigMap appliedByOperator(V1ConfigMap configMap) {
+    configMap.getMetadata().addManagedFieldsItem(
+          new V1ManagedFieldsEntry().manager(RequestBuilder.FIELD_MANAGER).operation("Apply"));
+    return configMap;
+  }
+
+  @Test
+  void whenServerSideApplyConfiguredAndAppliedConfigMapHasOldVersion_applyUpdate() {
+    TuningParametersStub.setParameter(SERVER_SIDE_APPLY, "true");
+    testSupport.defineResources(appliedByOperator(defineConfigMap(PRODUCT_VERSION_OLD)));
+    testSupport.failOnDelete(CONFIG_MAP, SCRIPT_CONFIG_MAP_NAME, DOMAIN_NS, 401);
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    V1ConfigMap configMap = testSupport.<V1ConfigMap>getResources(CONFIG_MAP).get(0);
+    assertThat(configMap.getMetadata().getLabels(),
+          hasEntry(LabelConstants.OPERATOR_VERSION, PRODUCT_VERSION.toString()));
+    assertThat(logRecords, containsInfo(CM_REPLACED));
+  }
+
+  @Test
+  void whenServerSideApplyConfiguredAndUnappliedConfigMapHasOldVersion_recreateItWithApply() {
+    TuningParametersStub.setParameter(SERVER_SIDE_APPLY, "true");
+    final V1ConfigMap oldMap = defineConfigMap(PRODUCT_VERSION_OLD);
+    oldMap.putDataItem("obsolete.sh", "exit 0");
+    testSupport.defineResources(oldMap);
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(DOMAIN_NS, PRODUCT_VERSION));
+
+    V1ConfigMap configMap = testSupport.<V1ConfigMap>getResources(CONFIG_MAP).get(0);
+    assertThat(configMap.getData(), not(hasKey("obsolete.sh")));
+    assertThat(KubernetesUtils.isAppliedByOperator(configMap.getMetadata()), is(true));
+    assertThat(logRecords, containsInfo(CM_REPLACED));
+  }
+
 }
@@ -1,4 +1,4 @@
-// Copyright (c) 2019, 2022, Oracle and/or its affiliates.
+// Copyright (c) 2019, 2024, Oracle and/or its affiliates.
 // Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
@@ -13,6 +13,7 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.meterware.simplestub.Memento;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
@@ -20,6 +21,7 @@ import jakarta.json.JsonPatchBuilder;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
 import oracle.kubernetes.weblogic.domain.model.DomainCondition;
 import oracle.kubernetes.weblogic.domain.model.DomainConditionType;
@@ -29,6 +31,8 @@ import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static com.meterware.simplestub.Stub.createStrictStub;
@@ -43,6 +47,17 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class DomainStatusPatchTest {
   private final PatchBuilderStub builder = createStrictStub(PatchBuilderStub.class);
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
 
   @Test
   void whenExistingStatusNull_addStatus() {
@@ -159,9 +174,9 @@ class DomainStatusPatchTest {
     assertThat(builder.getPatches(),
           hasItemsInOrder(
                 "ADD /status/conditions []",
-                "ADD /status/conditions/- {'message':'hello','reason':'Internal','severity':'Severe'"
-                      + ",'status':'True','type':'Failed'}",
-                "ADD /status/conditions/- {'status':'true','type':'Completed'}"
+                "ADD /status/conditions/- {" + transitionTime() + ",'message':'hello','reason':'Internal'"
+                      + ",'severity':'Severe','status':'True','type':'Failed'}",
+                "ADD /status/conditions/- {" + transitionTime() + ",'status':'true','type':'Completed'}"
                 ));
   }
 
@@ -192,7 +207,8 @@ class DomainStatusPatchTest {
 
     assertThat(builder.getPatches(),
           hasItemsInOrder("REMOVE /status/conditions/1",
-                          "ADD /status/conditions/- {'message':'Almost','status':'false','type':'Completed'}"));
+                          "ADD /status/conditions/- {" + transitionTime()
+                                + ",'message':'Almost','status':'false','type':'Completed'}"));
   }
 
   @Test
@@ -206,7 +222,8 @@ class DomainStatusPatchTest {
 
     assertThat(builder.getPatches(),
           hasItemsInOrder("REMOVE /status/conditions/0",
-                          "ADD /status/conditions/- {'message':'Nope','status':'False','type':'Completed'}"));
+                          "ADD /status/conditions/- {" + transitionTime()
+                                + ",'message':'Nope','status':'False','type':'Completed'}"));
   }
 
   @Test
@@ -309,6 +326,10 @@ class DomainStatusPatchTest {
     assertThat(builder.getPatches(), hasItemsInOrder("REMOVE /status/servers/1", "REMOVE /status/servers/0"));
   }
 
+  private String transitionTime() {
+    return "'lastTransitionTime':'" + DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(SystemClock.now()) + "'";
+  }
+
   private OffsetDateTime now() {
     // Truncate to seconds because we intermittently see a different number of trailing decimals
     // that can cause the string comparison to fail
@@ -509,6 +530,12 @@ class DomainStatusPatchTest {
       return this;
     }
 
+    @Override
+    public JsonPatchBuilder replace(String s, JsonValue jsonValue) {
+      patches.add("REPLACE " + s + " " + toPatchString(jsonValue));
+      return this;
+    }
+
     @Override
     public JsonPatchBuilder replace(String s, String s1) {
       patches.add("REPLACE " + s + " '" + s1 + "'");
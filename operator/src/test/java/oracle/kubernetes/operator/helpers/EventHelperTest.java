@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -131,6 +132,8 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.START_MAN
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.STOP_MANAGING_NAMESPACE;
 import static oracle.kubernetes.operator.helpers.EventHelper.createEventStep;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.EVENT;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_WRITES_PER_SECOND;
+import static oracle.kubernetes.operator.tuning.TuningParameters.EVENT_WRITE_BURST;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -1001,6 +1004,73 @@ class EventHelperTest {
             CLUSTER_AVAILABLE_EVENT, 2), is(true));
   }
 
+  @Test
+  void whenEventWriteRateExceeded_combineIdenticalEventsIntoOneWrite() {
+    limitEventWritesToOnePerSecond();
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    testSupport.runSteps(Step.chain(
+        createEventStep(new EventData(DOMAIN_CREATED)),
+        createEventStep(new EventData(DOMAIN_CREATED)),
+        createEventStep(new EventData(DOMAIN_CREATED))));
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(testSupport, hasEvent(DOMAIN_CREATED_EVENT).inNamespace(NS).withCount(3));
+  }
+
+  @Test
+  void whenEventWriteRateExceeded_dontWriteEventBeforeTokenAvailable() {
+    limitEventWritesToOnePerSecond();
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED)));
+
+    assertThat(containsEvent(getEvents(testSupport), DOMAIN_CREATED_EVENT), is(false));
+    assertThat(EventSink.getInstance().getNumHeldEvents(), equalTo(1));
+  }
+
+  @Test
+  void whenEventsCombined_recordSeries() {
+    limitEventWritesToOnePerSecond();
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    testSupport.runSteps(Step.chain(
+        createEventStep(new EventData(DOMAIN_CREATED)),
+        createEventStep(new EventData(DOMAIN_CREATED))));
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    CoreV1Event event = EventTestUtils.getEventWithReason(getEvents(testSupport), DOMAIN_CREATED_EVENT);
+    assertThat(event.getSeries().getCount(), equalTo(2));
+  }
+
+  @Test
+  void whenEventWriteRateExceededInOneNamespace_writeEventsInOtherNamespace() {
+    limitEventWritesToOnePerSecond();
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+
+    testSupport.runSteps(Step.chain(
+        createEventStep(new EventData(DOMAIN_CREATED)),
+        createEventStep(new EventData(STOP_MANAGING_NAMESPACE).namespace(OP_NS).resourceName(NS))));
+
+    assertThat(containsEvent(getEvents(testSupport), STOP_MANAGING_NAMESPACE_EVENT), is(true));
+  }
+
+  @Test
+  void afterNamespaceRemoved_itsEventWriteLimitIsDiscarded() {
+    limitEventWritesToOnePerSecond();
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CHANGED)));
+    EventHelper.removeNamespace(NS);
+
+    testSupport.runSteps(createEventStep(new EventData(DOMAIN_CREATED)));
+
+    assertThat(containsEvent(getEvents(testSupport), DOMAIN_CREATED_EVENT), is(true));
+  }
+
+  private void limitEventWritesToOnePerSecond() {
+    TuningParametersStub.setParameter(EVENT_WRITES_PER_SECOND, "1");
+    TuningParametersStub.setParameter(EVENT_WRITE_BURST, "1");
+  }
+
   private void dispatchAddedEventWatches() {
     List<CoreV1Event> events = getEvents(testSupport);
     for (CoreV1Event event : events) {
@@ -0,0 +1,154 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.LogRecord;
+import java.util.stream.IntStream;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.common.utils.LogMatcher.containsInfo;
+import static oracle.kubernetes.common.utils.LogMatcher.containsSevere;
+import static oracle.kubernetes.operator.helpers.IntrospectorLogParser.MAX_RECORD_LENGTH;
+import static oracle.kubernetes.operator.helpers.IntrospectorLogParser.MAX_RETAINED_SEVERE_STATUSES;
+import static oracle.kubernetes.operator.helpers.JobHelper.INTROSPECTOR_LOG_PREFIX;
+import static oracle.kubernetes.operator.tuning.TuningParameters.INTROSPECTOR_LOG_PARSE_LIMIT;
+import static oracle.kubernetes.utils.OperatorUtils.onSeparateLines;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class IntrospectorLogParserTest {
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleMemento;
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(consoleMemento = TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  void returnSevereMessagesInOrder() {
+    final String log = onSeparateLines("@[SEVERE] first problem", "@[INFO] all is well", "@[SEVERE] second problem");
+
+    assertThat(IntrospectorLogParser.logIntrospectorRecords(log), contains("first problem", "second problem"));
+  }
+
+  @Test
+  void ignoreLinesBeforeFirstRecord() {
+    final String log = onSeparateLines("[SEVERE] not a record", "@[INFO] all is well");
+
+    assertThat(IntrospectorLogParser.logIntrospectorRecords(log), empty());
+  }
+
+  @Test
+  void appendFollowingLinesToRecord() {
+    final String log = onSeparateLines("@[SEVERE] a problem", "  with details  ", "@[INFO] all is well");
+
+    assertThat(IntrospectorLogParser.logIntrospectorRecords(log),
+          contains(onSeparateLines("a problem", "with details")));
+  }
+
+  @Test
+  void copyRecordsToOperatorLog() {
+    consoleMemento.collectAllLogMessages(logRecords);
+    final String log = onSeparateLines("@[SEVERE] a problem", "@[INFO] all is well");
+
+    IntrospectorLogParser.logIntrospectorRecords(log);
+
+    assertThat(logRecords, containsSevere(INTROSPECTOR_LOG_PREFIX + "@[SEVERE] a problem"));
+    assertThat(logRecords, containsInfo(INTROSPECTOR_LOG_PREFIX + "@[INFO] all is well"));
+    logRecords.clear();
+  }
+
+  @Test
+  void whenLogHasCarriageReturns_ignoreThem() {
+    final String log = "@[SEVERE] first problem\r\n@[SEVERE] second problem\r\n";
+
+    assertThat(IntrospectorLogParser.logIntrospectorRecords(log), contains("first problem", "second problem"));
+  }
+
+  @Test
+  void whenRecordsSpanReads_assembleThem() throws IOException {
+    final String log = onSeparateLines("@[SEVERE] first problem", "with details", "@[SEVERE] second problem");
+
+    final List<String> statuses = new IntrospectorLogParser(Long.MAX_VALUE)
+          .parse(new OneCharReader(log)).getSevereStatuses();
+
+    assertThat(statuses, contains(onSeparateLines("first problem", "with details"), "second problem"));
+  }
+
+  @Test
+  void whenTooManySevereRecords_retainMostRecent() {
+    final int numRecords = MAX_RETAINED_SEVERE_STATUSES + 5;
+    final String log = onSeparateLines(IntStream.rangeClosed(1, numRecords)
+          .mapToObj(i -> "@[SEVERE] problem " + i).toArray(String[]::new));
+
+    final List<String> statuses = IntrospectorLogParser.logIntrospectorRecords(log);
+
+    assertThat(statuses, hasSize(MAX_RETAINED_SEVERE_STATUSES));
+    assertThat(statuses.get(0), equalTo("problem 6"));
+    assertThat(statuses.get(MAX_RETAINED_SEVERE_STATUSES - 1), equalTo("problem " + numRecords));
+  }
+
+  @Test
+  void whenLogExceedsParseLimit_ignoreRemainder() {
+    final String first = "@[SEVERE] first problem";
+    TuningParametersStub.setParameter(INTROSPECTOR_LOG_PARSE_LIMIT, Integer.toString(first.length() + 1));
+
+    final String log = onSeparateLines(first, "@[SEVERE] second problem");
+
+    assertThat(IntrospectorLogParser.logIntrospectorRecords(log), contains("first problem"));
+  }
+
+  @Test
+  void whenRecordIsVeryLong_truncateIt() {
+    final String longLine = "x".repeat(MAX_RECORD_LENGTH);
+    final String log = onSeparateLines("@[SEVERE] " + longLine, longLine, longLine);
+
+    final List<String> statuses = IntrospectorLogParser.logIntrospectorRecords(log);
+
+    assertThat(statuses.get(0).length(), lessThanOrEqualTo(MAX_RECORD_LENGTH));
+  }
+
+  // A reader which returns a single character on each read, as a slow stream might.
+  static class OneCharReader extends Reader {
+    private final Reader reader;
+
+    OneCharReader(String text) {
+      reader = new StringReader(text);
+    }
+
+    @Override
+    public int read(char[] buffer, int off, int len) throws IOException {
+      return reader.read(buffer, off, Math.min(len, 1));
+    }
+
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+  }
+}
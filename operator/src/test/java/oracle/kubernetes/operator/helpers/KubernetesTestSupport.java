@@ -41,7 +41,10 @@ import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseList;
 import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -75,11 +78,14 @@ import io.kubernetes.client.util.generic.options.PatchOptions;
 import io.kubernetes.client.util.generic.options.UpdateOptions;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
 import jakarta.json.JsonPatch;
 import jakarta.json.JsonStructure;
+import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.calls.KubernetesApi;
 import oracle.kubernetes.operator.calls.KubernetesApiFactory;
 import oracle.kubernetes.operator.calls.RequestBuilder;
+import oracle.kubernetes.operator.calls.ResourceCache;
 import oracle.kubernetes.operator.calls.ResponseStep;
 import oracle.kubernetes.operator.calls.RetryStrategy;
 import oracle.kubernetes.operator.calls.RetryStrategyFactory;
@@ -103,6 +109,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String DOMAIN = "Domain";
   public static final String EVENT = "Event";
   public static final String JOB = "Job";
+  public static final String LEASE = "Lease";
   public static final String PV = "PersistentVolume";
   public static final String PVC = "PersistentVolumeClaim";
   public static final String POD = "Pod";
@@ -157,6 +164,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     supportNamespaced(DOMAIN, DomainResource.class, this::createDomainList).withStatusSubresource();
     supportNamespaced(EVENT, CoreV1Event.class, this::createEventList);
     supportNamespaced(JOB, V1Job.class, this::createJobList);
+    supportNamespaced(LEASE, V1Lease.class, this::createLeaseList);
     supportNamespaced(POD, V1Pod.class, this::createPodList);
     supportNamespaced(PODLOG, RequestBuilder.StringObject.class);
     supportNamespaced(PODDISRUPTIONBUDGET, V1PodDisruptionBudget.class, this::createPodDisruptionBudgetList);
@@ -173,6 +181,8 @@ public class KubernetesTestSupport extends FiberTestSupport {
                 RequestBuilder.class, "kubernetesApiFactory", new KubernetesApiFactoryImpl()));
         mementos.add(StaticStubSupport.install(
                 ResponseStep.class, "retryStrategyFactory", new RetryStrategyFactoryImpl()));
+        mementos.add(StaticStubSupport.install(ResourceCache.class, "instance", new ResourceCache()));
+        mementos.add(StaticStubSupport.install(EventSink.class, "instance", new EventSink()));
       }
 
       @Override
@@ -219,6 +229,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
     return new CoreV1EventList().metadata(createListMeta()).items(items);
   }
 
+  private V1LeaseList createLeaseList(List<V1Lease> items) {
+    return new V1LeaseList().metadata(createListMeta()).items(items);
+  }
+
   private V1PersistentVolumeList createPvList(List<V1PersistentVolume> items) {
     return new V1PersistentVolumeList().metadata(createListMeta()).items(items);
   }
@@ -490,6 +504,32 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.replaceStatus, resourceType, name, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that a patch operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnPatch(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.patch, resourceType, name, namespace, httpStatus);
+  }
+
+  /**
+   * Specifies that a status patch operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnPatchStatus(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.patchStatus, resourceType, name, namespace, httpStatus);
+  }
+
   /**
    * Specifies that a delete operation should fail if it matches the specified conditions. Applies to
    * namespaced resources and replaces any existing failure checks.
@@ -637,6 +677,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    patchStatus {
+      @Override
+      <T extends KubernetesType> KubernetesApiResponse<T> execute(CallContext<T> callContext,
+                                                                  DataRepository<T> dataRepository) {
+        return callContext.patchResourceStatus(dataRepository);
+      }
+    },
     getVersion {
       @Override
       @SuppressWarnings("unchecked")
@@ -785,6 +832,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
           return new CallContext<L>(
               Operation.list, getResourceName(apiTypeClass), null, null, null, null,
               listOptions.getFieldSelector(), listOptions.getLabelSelector(), null)
+              .withPage(listOptions.getLimit(), listOptions.getContinue())
               .execute();
         }
 
@@ -793,6 +841,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
           return new CallContext<L>(
               Operation.list, getResourceName(apiTypeClass), namespace, null, null, null,
               listOptions.getFieldSelector(), listOptions.getLabelSelector(), null)
+              .withPage(listOptions.getLimit(), listOptions.getContinue())
               .execute();
         }
 
@@ -846,6 +895,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
                                               PatchOptions patchOptions) {
           return new CallContext<A>(
               Operation.patch, getResourceName(apiTypeClass), namespace, name, patch)
+              .withPatchType(patchType)
+              .execute();
+        }
+
+        @Override
+        public KubernetesApiResponse<A> patchStatus(String namespace, String name, V1Patch patch) {
+          return new CallContext<A>(
+              Operation.patchStatus, getResourceName(apiTypeClass), namespace, name, patch)
               .execute();
         }
 
@@ -1186,6 +1243,26 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    // A status patch changes only the status subresource, and is rejected if any of its tests fail.
+    public T patchResourceStatus(String name, String namespace, V1Patch body) {
+      if (!data.containsKey(name)) {
+        throw new NotFoundException(getResourceName(), name, namespace);
+      }
+
+      JsonPatch patch = Json.createPatch(fromV1Patch(body));
+      T resource = fromJsonStructure(patch.apply(toJsonStructure(data.get(name))));
+      return replaceResourceStatus(name, resource);
+    }
+
+    // A server-side apply replaces the resource with the applied one, or creates it if it does not exist,
+    // and records the operator as a manager of its fields.
+    public T applyResource(String name, String namespace, V1Patch body) {
+      T resource = new JSON().deserialize(body.getValue(), resourceType);
+      getMetadata(resource).setManagedFields(
+          List.of(new V1ManagedFieldsEntry().manager(RequestBuilder.FIELD_MANAGER).operation("Apply")));
+      return hasElementWithName(name) ? replaceResource(name, resource) : createResource(namespace, resource);
+    }
+
     T fromJsonStructure(JsonStructure jsonStructure) {
       return new JSON().deserialize(jsonStructure.toString(), resourceType);
     }
@@ -1351,8 +1428,25 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).patchResource(name, namespace, body);
     }
 
+    @Override
+    public T patchResourceStatus(String name, String namespace, V1Patch body) {
+      return inNamespace(namespace).patchResourceStatus(name, namespace, body);
+    }
+
+    @Override
+    public T applyResource(String name, String namespace, V1Patch body) {
+      return inNamespace(namespace).applyResource(name, namespace, body);
+    }
+
     @Override
     List<T> getResources(String namespace, String fieldSelector, String... labelSelectors) {
+      if (namespace == null) {
+        List<T> result = new ArrayList<>();
+        for (DataRepository<T> repository : repositories.values()) {
+          result.addAll(repository.getResources(fieldSelector, labelSelectors));
+        }
+        return result;
+      }
       return inNamespace(namespace).getResources(fieldSelector, labelSelectors);
     }
 
@@ -1376,7 +1470,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
     private D requestBody;
     private Operation operation;
     private V1Patch patch;
+    private String patchType;
     private String cont = null;
+    private Integer limit;
 
     CallContext(Operation operation, String resourceType, String namespace, String name) {
       this(operation, resourceType, namespace, name, null, null, null, null, null);
@@ -1404,6 +1500,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       this.gracePeriodSeconds = gracePeriodSeconds;
     }
 
+    CallContext<D> withPatchType(String patchType) {
+      this.patchType = patchType;
+      return this;
+    }
+
     public void setContinue(String cont) {
       this.cont = cont;
     }
@@ -1412,8 +1513,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return cont;
     }
 
+    CallContext<D> withPage(Integer limit, String cont) {
+      this.limit = limit;
+      this.cont = cont;
+      return this;
+    }
+
     public Integer getLimit() {
-      return null;
+      return limit;
     }
 
     private boolean isDeleteCollection() {
@@ -1499,6 +1606,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
 
     private <T extends KubernetesType> KubernetesApiResponse<T> patchResource(DataRepository<T> dataRepository) {
+      if (V1Patch.PATCH_FORMAT_APPLY_YAML.equals(patchType)) {
+        return new KubernetesApiResponse<>(dataRepository.applyResource(requestName, requestNamespace, patch));
+      }
       try {
         return new KubernetesApiResponse<>(dataRepository.patchResource(requestName, requestNamespace, patch));
       } catch (NotFoundException nfe) {
@@ -1506,6 +1616,18 @@ public class KubernetesTestSupport extends FiberTestSupport {
       }
     }
 
+    private <T extends KubernetesType> KubernetesApiResponse<T> patchResourceStatus(
+        DataRepository<T> dataRepository) {
+      try {
+        return new KubernetesApiResponse<>(dataRepository.patchResourceStatus(requestName, requestNamespace, patch));
+      } catch (NotFoundException nfe) {
+        return new KubernetesApiResponse<>(new V1Status().message(nfe.getMessage()), HttpURLConnection.HTTP_NOT_FOUND);
+      } catch (JsonException e) {
+        return new KubernetesApiResponse<>(
+            new V1Status().message(e.getMessage()), KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY);
+      }
+    }
+
     private <T extends KubernetesType> KubernetesApiResponse<T> listResources(Integer limit, String cont,
                                                                               DataRepository<T> dataRepository) {
       return new KubernetesApiResponse<>(
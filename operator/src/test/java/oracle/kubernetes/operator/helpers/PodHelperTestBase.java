@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import javax.annotation.Nonnull;
@@ -917,6 +918,29 @@ public abstract class PodHelperTestBase extends DomainValidationTestBase {
     hashMemento.revert();
   }
 
+  @Test
+  void whenExistingPodHasHashOfYamlForm_patchItWithoutReplacing() throws NoSuchFieldException {
+    useProductionHash();
+    mementos.add(StaticStubSupport.install(AnnotationHelper.class, "legacyHashFunction", new ConstantLegacyHash()));
+    final V1Pod existingPod = createPodModel();
+    existingPod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, ConstantLegacyHash.HASH);
+    initializeExistingPod(existingPod);
+
+    verifyPodPatched();
+
+    V1Pod patchedPod = domainPresenceInfo.getServerPod(getServerName());
+    assertThat(AnnotationHelper.getHash(patchedPod), equalTo(AnnotationHelper.getHash(createPodModel())));
+  }
+
+  static class ConstantLegacyHash implements Function<Object, String> {
+    static final String HASH = "legacy-hash";
+
+    @Override
+    public String apply(Object object) {
+      return HASH;
+    }
+  }
+
   private V1Pod loadPodModel(String podYaml) {
     return Yaml.loadAs(podYaml, V1Pod.class);
   }
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import com.google.common.collect.ImmutableMap;
@@ -433,6 +434,7 @@ class PodPresenceTest {
     Watch.Response<V1Pod> event = WatchEvent.createDeletedEvent(newerPod).toWatchResponse();
 
     processor.dispatchPodWatch(event);
+    testSupport.setTime(1, TimeUnit.SECONDS);
 
     assertThat(info.getServerPod(SERVER), notNullValue());
   }
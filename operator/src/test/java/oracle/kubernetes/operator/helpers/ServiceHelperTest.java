@@ -13,13 +13,16 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1OwnerReference;
 import io.kubernetes.client.openapi.models.V1Service;
@@ -28,6 +31,7 @@ import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import io.kubernetes.client.openapi.models.V1Status;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.calls.RequestBuilder;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -67,16 +71,19 @@ import static oracle.kubernetes.operator.DomainStatusMatcher.hasStatus;
 import static oracle.kubernetes.operator.EventTestUtils.getEventsWithReason;
 import static oracle.kubernetes.operator.EventTestUtils.getLocalizedString;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_BAD_REQUEST;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
 import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.DOMAIN_FAILED;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SERVICE;
 import static oracle.kubernetes.operator.helpers.ServiceHelperTest.NodePortMatcher.nodePort;
 import static oracle.kubernetes.operator.helpers.ServiceHelperTest.PortMatcher.containsPort;
 import static oracle.kubernetes.operator.helpers.ServiceHelperTest.ServiceNameMatcher.serviceWithName;
 import static oracle.kubernetes.operator.helpers.ServiceHelperTest.UniquePortsMatcher.hasOnlyUniquePortNames;
+import static oracle.kubernetes.operator.tuning.TuningParameters.SERVER_SIDE_APPLY;
 import static oracle.kubernetes.weblogic.domain.model.DomainFailureReason.KUBERNETES;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
@@ -510,6 +517,19 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     assertThat(logRecords, containsFine(testFacade.getServiceExistsLogMessage()));
   }
 
+  @Test
+  void whenRecordedServiceHasHashOfYamlForm_logServiceExists() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(AnnotationHelper.class, "legacyHashFunction",
+          new PodHelperTestBase.ConstantLegacyHash()));
+    V1Service originalService = createService();
+    originalService.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, PodHelperTestBase.ConstantLegacyHash.HASH);
+    testFacade.recordService(domainPresenceInfo, originalService);
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsFine(testFacade.getServiceExistsLogMessage()));
+  }
+
   @Test
   void whenConfiguredLabelAdded_replaceService() {
     verifyServiceReplaced(this::configureNewLabel);
@@ -540,8 +560,72 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     verifyServiceReplaced(this::changeConfiguredSslListenPort);
   }
 
+  @Test
+  void whenServerSideApplyConfigured_createServiceWithoutCreateRequest() {
+    TuningParametersStub.setParameter(SERVER_SIDE_APPLY, "true");
+    consoleHandlerMemento.ignoreMessage(testFacade.getServiceCreateLogMessage());
+    testSupport.failOnCreate(SERVICE, NS, HTTP_BAD_REQUEST);
+
+    runServiceHelper();
+
+    assertThat(
+        testFacade.getRecordedService(domainPresenceInfo),
+        is(serviceWithName(testFacade.getServiceName())));
+  }
+
+  @Test
+  void whenServerSideApplyConfiguredAndConfiguredLabelChanged_replaceService() {
+    TuningParametersStub.setParameter(SERVER_SIDE_APPLY, "true");
+
+    verifyServiceReplaced(this::changeConfiguredLabel);
+  }
+
+  @Test
+  void whenServerSideApplyConfiguredAndAppliedServiceChanged_applyChangeWithoutDeletingService() {
+    TuningParametersStub.setParameter(SERVER_SIDE_APPLY, "true");
+    if (!isNodePortService()) {
+      testSupport.failOnDelete(SERVICE, testFacade.getServiceName(), NS, HTTP_BAD_REQUEST);
+    }
+
+    verifyServiceReplaced(this::appliedByOperator, this::changeConfiguredLabel);
+  }
+
+  @Test
+  void whenServerSideApplyConfiguredAndServiceNotAppliedByOperator_recreateServiceWithApply() {
+    TuningParametersStub.setParameter(SERVER_SIDE_APPLY, "true");
+
+    verifyServiceReplaced(this::changeConfiguredLabel);
+
+    assertThat(KubernetesUtils.isAppliedByOperator(
+          testFacade.getRecordedService(domainPresenceInfo).getMetadata()), is(true));
+  }
+
+  @Test
+  void whenServerSideApplyConfiguredAndChangeCannotBeApplied_replaceService() {
+    TuningParametersStub.setParameter(SERVER_SIDE_APPLY, "true");
+    if (!isNodePortService()) {
+      testSupport.failOnPatch(SERVICE, testFacade.getServiceName(), NS, HTTP_UNPROCESSABLE_ENTITY);
+    }
+
+    verifyServiceReplaced(this::appliedByOperator, this::changeConfiguredListenPort);
+  }
+
+  private boolean isNodePortService() {
+    return testFacade instanceof ExternalServiceHelperTest.ExternalServiceTestFacade;
+  }
+
+  private V1Service appliedByOperator(V1Service service) {
+    service.getMetadata().addManagedFieldsItem(
+          new V1ManagedFieldsEntry().manager(RequestBuilder.FIELD_MANAGER).operation("Apply"));
+    return service;
+  }
+
   private void verifyServiceReplaced(Runnable configurationMutator) {
-    recordInitialService();
+    verifyServiceReplaced(UnaryOperator.identity(), configurationMutator);
+  }
+
+  private void verifyServiceReplaced(UnaryOperator<V1Service> initialServiceMutator, Runnable configurationMutator) {
+    recordInitialService(initialServiceMutator.apply(createService()));
     if (testFacade instanceof ExternalServiceHelperTest.ExternalServiceTestFacade) {
       recordStrandedService();
     }
@@ -582,8 +666,7 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     serverConfig.setSslListenPort(9901);
   }
 
-  private void recordInitialService() {
-    V1Service originalService = createService();
+  private void recordInitialService(V1Service originalService) {
     testSupport.defineResources(originalService);
     testFacade.recordService(domainPresenceInfo, originalService);
   }
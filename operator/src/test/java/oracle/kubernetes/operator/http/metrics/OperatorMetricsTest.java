@@ -0,0 +1,98 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http.metrics;
+
+import java.util.Optional;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class OperatorMetricsTest {
+
+  private static double getValue(String name, String[] labelNames, String... labelValues) {
+    return Optional.ofNullable(CollectorRegistry.defaultRegistry.getSampleValue(name, labelNames, labelValues))
+          .orElse(0.0);
+  }
+
+  @Test
+  void apiRequests_areCountedByVerbResourceAndCode() {
+    final String[] labels = {"verb", "resource", "code"};
+    final double before = getValue("weblogic_operator_kubernetes_request_duration_seconds_count",
+          labels, "list", "pods", "200");
+
+    OperatorMetrics.recordApiRequest("list", "pods", 200, System.nanoTime());
+
+    assertThat(getValue("weblogic_operator_kubernetes_request_duration_seconds_count",
+          labels, "list", "pods", "200"), equalTo(before + 1));
+  }
+
+  @Test
+  void apiRetries_areCountedByCode() {
+    final String[] labels = {"code"};
+    final double before = getValue("weblogic_operator_kubernetes_request_retries_total", labels, "503");
+
+    OperatorMetrics.recordApiRetry(503);
+
+    assertThat(getValue("weblogic_operator_kubernetes_request_retries_total", labels, "503"),
+          equalTo(before + 1));
+  }
+
+  @Test
+  void makeRight_isRecordedByDomainAndOutcome() {
+    final String[] labels = {"namespace", "domain_uid", "outcome"};
+    final double before = getValue("weblogic_operator_make_right_duration_seconds_count",
+          labels, "ns1", "domain1", OperatorMetrics.FAILURE);
+
+    OperatorMetrics.recordMakeRight("ns1", "domain1", OperatorMetrics.FAILURE, System.nanoTime());
+
+    assertThat(getValue("weblogic_operator_make_right_duration_seconds_count",
+          labels, "ns1", "domain1", OperatorMetrics.FAILURE), equalTo(before + 1));
+  }
+
+  @Test
+  void afterMakeRightsRemoved_domainHasNoSeries() {
+    final String[] labels = {"namespace", "domain_uid", "outcome"};
+    OperatorMetrics.recordMakeRight("ns1", "domain2", OperatorMetrics.SUCCESS, System.nanoTime());
+
+    OperatorMetrics.removeMakeRights("ns1", "domain2");
+
+    assertThat(CollectorRegistry.defaultRegistry.getSampleValue(
+          "weblogic_operator_make_right_duration_seconds_count", labels,
+          new String[] {"ns1", "domain2", OperatorMetrics.SUCCESS}), nullValue());
+  }
+
+  @Test
+  void accessReviewCacheLookups_areCountedByResult() {
+    final String[] labels = {"result"};
+    final double before = getValue("weblogic_operator_access_review_cache_lookups_total", labels, "hit");
+
+    OperatorMetrics.recordAccessReviewCacheLookup("hit");
+
+    assertThat(getValue("weblogic_operator_access_review_cache_lookups_total", labels, "hit"),
+          equalTo(before + 1));
+  }
+
+  @Test
+  void fibersInFlight_areReadFromSource() {
+    OperatorMetrics.setFiberCountSource("test", () -> 3);
+
+    assertThat(getValue("weblogic_operator_fibers_in_flight", new String[] {"gate"}, "test"), closeTo(3.0, 0.01));
+  }
+
+  @Test
+  void watchEvents_areCountedByWatcherAndType() {
+    final String[] labels = {"watcher", "type"};
+    final double before = getValue("weblogic_operator_watch_events_total", labels, "PodWatcher", "ADDED");
+
+    OperatorMetrics.recordWatchEvent("PodWatcher", "ADDED");
+
+    assertThat(getValue("weblogic_operator_watch_events_total", labels, "PodWatcher", "ADDED"),
+          equalTo(before + 1));
+  }
+}
@@ -20,6 +20,8 @@ import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
 import jakarta.ws.rs.WebApplicationException;
+import oracle.kubernetes.operator.calls.ResourceCache;
+import oracle.kubernetes.operator.helpers.AccessReviewCache;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
@@ -30,6 +32,7 @@ import oracle.kubernetes.operator.http.rest.model.DomainActionType;
 import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -46,8 +49,10 @@ import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static oracle.kubernetes.operator.tuning.TuningParameters.REST_CACHE_MAX_AGE_SECONDS;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -80,6 +85,7 @@ class RestBackendImplTest {
   private ClusterResource createdClusterResource;
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain1);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final ResourceCache resourceCache = new ResourceCache();
   private WlsDomainConfig config;
 
   private static V1Namespace createNamespace(String name) {
@@ -97,6 +103,9 @@ class RestBackendImplTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
     mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(ResourceCache.class, "instance", resourceCache));
+    mementos.add(StaticStubSupport.install(AccessReviewCache.class, "instance", new AccessReviewCache()));
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "instance", new TopologyRetrieverStub()));
 
@@ -147,6 +156,52 @@ class RestBackendImplTest {
     }
   }
 
+  @Test
+  void whenNamespaceListedRecently_retrieveDomainIdsFromCache() {
+    resourceCache.recordList(DomainResource.class, NS, null, null, List.of(createDomain(NS, DOMAIN3)));
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(DOMAIN3));
+  }
+
+  @Test
+  void whenConsistentReadsRequested_listDomains() {
+    resourceCache.recordList(DomainResource.class, NS, null, null, List.of(createDomain(NS, DOMAIN3)));
+
+    restBackend.useConsistentReads();
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenNamespaceNotListedRecently_listDomains() {
+    resourceCache.recordList(DomainResource.class, NS, null, null, List.of(createDomain(NS, DOMAIN3)));
+
+    SystemClockTestSupport.increment(301);
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenRestCacheDisabled_listDomains() {
+    TuningParametersStub.setParameter(REST_CACHE_MAX_AGE_SECONDS, "0");
+    resourceCache.recordList(DomainResource.class, NS, null, null, List.of(createDomain(NS, DOMAIN3)));
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(DOMAIN1, DOMAIN2));
+  }
+
+  @Test
+  void whenClustersCached_scaleClusterUpdatesCachedClusterResource() {
+    final ClusterResource clusterResource = createClusterResource(DOMAIN1, NS, CLUSTER_1).withReplicas(1);
+    testSupport.defineResources(clusterResource);
+    configureDomain().withClusterReference(clusterResource.getClusterResourceName());
+    resourceCache.recordList(DomainResource.class, NS, null, null, List.of(domain1, domain2));
+    resourceCache.recordList(ClusterResource.class, NS, null, null, List.of(clusterResource));
+
+    restBackend.scaleCluster(DOMAIN1, CLUSTER_1, 5);
+
+    assertThat(getUpdatedClusterResource().getSpec().getReplicas(), equalTo(5));
+  }
+
   // functionality needed for Domain resource
 
   @Test
@@ -485,6 +540,28 @@ class RestBackendImplTest {
     assertThat(authorizationProxyStub.atzCheck, is(true));
   }
 
+  @Test
+  void whenSameTokenUsedAgain_reuseTokenReview() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    new RestBackendImpl("", "token", this::getDomainNamespaces);
+    testSupport.clearNumCalls();
+
+    new RestBackendImpl("", "token", this::getDomainNamespaces);
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  void whenDifferentTokenUsed_reviewIt() {
+    TuningParametersStub.setParameter("tokenReviewAuthentication", "true");
+    new RestBackendImpl("", "token", this::getDomainNamespaces);
+    testSupport.clearNumCalls();
+
+    new RestBackendImpl("", "other", this::getDomainNamespaces);
+
+    assertThat(testSupport.getNumCalls(), greaterThan(0));
+  }
+
   private DomainConfigurator configureDomain() {
     return configurator;
   }
@@ -504,7 +581,7 @@ class RestBackendImplTest {
     boolean atzCheck = false;
 
     /**
-     * Check if the specified principal is allowed to perform the specified operation on the specified
+     * Review whether the specified principal is allowed to perform the specified operation on the specified
      * resource in the specified scope.
      *
      * @param principal The user, group or service account.
@@ -517,7 +594,8 @@ class RestBackendImplTest {
      * @param namespaceName name of the namespace if scope is namespace else null.
      * @return true if the operation is allowed, or false if not.
      */
-    public boolean check(
+    @Override
+    public Boolean review(
         String principal,
         final List<String> groups,
         Operation operation,
@@ -254,6 +254,33 @@ class ReadHealthStepTest {
     assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("UNKNOWN"));
   }
 
+  @Test
+  void whenReadStateSucceeds_recordStateAndDoNotRunFallback() {
+    final TerminalStep fallback = new TerminalStep();
+    selectServer(MANAGED_SERVER1);
+
+    defineResponse(200, OK_RESPONSE, "http://" + MANAGED_SERVER1 + ".Test.svc:8001");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadStateStep(5, fallback, terminalStep));
+
+    assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("RUNNING"));
+    assertThat(fallback.wasRun(), is(false));
+  }
+
+  @Test
+  void whenUnableToReadState_runFallbackWithoutRecordingHealth() {
+    final TerminalStep fallback = new TerminalStep();
+    selectServer(MANAGED_SERVER1);
+
+    defineResponse(404, "", "http://" + MANAGED_SERVER1 + ".Test.svc:8001");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadStateStep(5, fallback, terminalStep));
+
+    assertThat(fallback.wasRun(), is(true));
+    assertThat(getServerHealthMap(packet).containsKey(MANAGED_SERVER1), is(false));
+    assertThat(getServerStateMap(packet).containsKey(MANAGED_SERVER1), is(false));
+  }
+
   @Test
   void whenServerConfiguredWithServerListenPortOnly_readHealthUsingServerListenPort() {
     V1Service service = selectServer(DYNAMIC_MANAGED_SERVER2);
@@ -26,4 +26,9 @@ public class FakeWatchTuning implements WatchTuning {
   public int getWatchBackstopRecheckCount() {
     return 24;
   }
+
+  @Override
+  public boolean isClusterScopedWatch() {
+    return false;
+  }
 }
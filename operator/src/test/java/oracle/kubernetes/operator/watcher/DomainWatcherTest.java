@@ -4,6 +4,8 @@
 package oracle.kubernetes.operator.watcher;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
@@ -26,6 +29,7 @@ class DomainWatcherTest extends WatcherTestBase implements WatchListener<DomainR
   private static final String UID = "uid";
 
   private final DomainResource domain = createDomain();
+  private final List<Watch.Response<DomainResource>> errors = new ArrayList<>();
 
   private static DomainResource createDomain() {
     return new DomainResource().withSpec(new DomainSpec().withDomainUid(UID));
@@ -36,6 +40,11 @@ class DomainWatcherTest extends WatcherTestBase implements WatchListener<DomainR
     recordCallBack(response);
   }
 
+  @Override
+  public void receivedError(Watch.Response<DomainResource> response) {
+    errors.add(response);
+  }
+
   @Test
   void initialRequest_specifiesStartingResourceVersion() {
     sendInitialRequest(INITIAL_RESOURCE_VERSION);
@@ -53,6 +62,13 @@ class DomainWatcherTest extends WatcherTestBase implements WatchListener<DomainR
     assertThat(watcher.getResourceVersion(), is(BOOKMARK_RESOURCE_VERSION));
   }
 
+  @Test
+  void whenWatchReportsError_notifyListener() {
+    sendErrorRequest(INITIAL_RESOURCE_VERSION);
+
+    assertThat(errors, hasSize(1));
+  }
+
   @Test
   void whenDomainAdded_createPersistentVolumeClaim() {
     assertDoesNotThrow(() -> scheduleAddResponse(domain));
@@ -0,0 +1,395 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.watcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.LogRecord;
+import java.util.stream.IntStream;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.ThreadFactoryTestBase;
+import oracle.kubernetes.operator.WatchTuning;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.calls.ResourceCache;
+import oracle.kubernetes.operator.tuning.FakeWatchTuning;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
+import static java.net.HttpURLConnection.HTTP_GONE;
+import static oracle.kubernetes.common.logging.MessageKeys.CLUSTER_WATCH_FORBIDDEN;
+import static oracle.kubernetes.common.utils.LogMatcher.containsWarning;
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
+import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+class WatchMultiplexerTest extends ThreadFactoryTestBase implements AllWatchesClosedListener {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final WatchTuning tuning = new FakeWatchTuning();
+  private final AtomicBoolean clusterStopping = new AtomicBoolean(false);
+  private final AtomicBoolean ns1Stopping = new AtomicBoolean(false);
+  private final AtomicBoolean ns2Stopping = new AtomicBoolean(false);
+  private final List<Watch.Response<V1Service>> ns1Events = new ArrayList<>();
+  private final List<Watch.Response<V1Service>> ns2Events = new ArrayList<>();
+  private final CountDownLatch clusterWatchReleased = new CountDownLatch(1);
+  private final ResourceCache cache = new ResourceCache();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private WatchMultiplexer<V1Service> multiplexer;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, CLUSTER_WATCH_FORBIDDEN));
+    mementos.add(StubWatchFactory.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(ResourceCache.class, "instance", cache));
+    mementos.add(StaticStubSupport.install(Watcher.class, "starter", (WatcherStarter) Watcher::startAsynchronousWatch));
+    StubWatchFactory.setListener(this);
+
+    multiplexer = WatchMultiplexer.start(ServiceWatcher.class, this::createClusterWatcher);
+  }
+
+  // the cluster watcher does not begin watching until the test releases it, so that events are not lost
+  private ServiceWatcher createClusterWatcher(WatchListener<V1Service> listener) {
+    return ServiceWatcher.create(deferredThreadFactory(), null, "100", tuning, listener, clusterStopping);
+  }
+
+  private ThreadFactory deferredThreadFactory() {
+    return r -> newThread(() -> runWhenReleased(r));
+  }
+
+  private void runWhenReleased(Runnable runnable) {
+    try {
+      clusterWatchReleased.await();
+      runnable.run();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    clusterStopping.set(true);
+    clusterWatchReleased.countDown();
+    shutDownThreads();
+    WatchMultiplexer.clearAll();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Override
+  public void allWatchesClosed() {
+    clusterStopping.set(true);
+  }
+
+  private ServiceWatcher createNamespaceWatcher(
+        String namespace, AtomicBoolean stopping, List<Watch.Response<V1Service>> events) {
+    return createNamespaceWatcher(namespace, "100", stopping, events::add);
+  }
+
+  private ServiceWatcher createNamespaceWatcher(
+        String namespace, String listVersion, AtomicBoolean stopping, WatchListener<V1Service> listener) {
+    return ServiceWatcher.create(this, namespace, listVersion, tuning, listener, stopping);
+  }
+
+  private void runClusterWatch() {
+    clusterWatchReleased.countDown();
+    multiplexer.getClusterWatcher().waitForExit();
+  }
+
+  private V1Service createService(String namespace, String name, String resourceVersion) {
+    return new V1Service().metadata(new V1ObjectMeta().namespace(namespace).name(name).resourceVersion(resourceVersion)
+          .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true")
+          .putLabelsItem(DOMAINUID_LABEL, "uid1"));
+  }
+
+  private Watch.Response<V1Service> createAddResponse(V1Service service) {
+    return WatchEvent.createAddedEvent(service).toWatchResponse();
+  }
+
+  private Watch.Response<V1Service> createModifyResponse(V1Service service) {
+    return WatchEvent.createModifiedEvent(service).toWatchResponse();
+  }
+
+  @Test
+  void namespaceWatchers_areMultiplexed() {
+    assertThat(createNamespaceWatcher(NS1, ns1Stopping, ns1Events).isMultiplexed(), equalTo(true));
+  }
+
+  @Test
+  void clusterWatcher_isNotMultiplexed() {
+    assertThat(multiplexer.getClusterWatcher().isMultiplexed(), equalTo(false));
+  }
+
+  @Test
+  void clusterWatch_isNotRestrictedToNamespace() {
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+    createNamespaceWatcher(NS2, ns2Stopping, ns2Events);
+
+    runClusterWatch();
+
+    assertThat(StubWatchFactory.getRequestParameters().size(), equalTo(1));
+    assertThat(StubWatchFactory.getRequestParameters().get(0), not(hasKey("namespace")));
+  }
+
+  @Test
+  void clusterWatchEvents_areRoutedToNamespaceWatchers() {
+    final V1Service service1 = createService(NS1, "s1", "101");
+    final V1Service service2 = createService(NS2, "s2", "102");
+    final V1Service service3 = createService(NS1, "s3", "103");
+    StubWatchFactory.addCallResponses(
+          createAddResponse(service1), createAddResponse(service2), createModifyResponse(service3));
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+    createNamespaceWatcher(NS2, ns2Stopping, ns2Events);
+
+    runClusterWatch();
+
+    assertThat(ns1Events, contains(addEvent(service1), modifyEvent(service3)));
+    assertThat(ns2Events, contains(addEvent(service2)));
+  }
+
+  @Test
+  void eventsForUnmanagedNamespaces_areIgnored() {
+    StubWatchFactory.addCallResponses(createAddResponse(createService("other", "s1", "101")));
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+
+    runClusterWatch();
+
+    assertThat(ns1Events, empty());
+  }
+
+  @Test
+  void afterNamespaceRemoved_itsEventsAreIgnored() {
+    StubWatchFactory.addCallResponses(createAddResponse(createService(NS1, "s1", "101")));
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+    multiplexer.removeNamespace(NS1);
+
+    runClusterWatch();
+
+    assertThat(ns1Events, empty());
+  }
+
+  @Test
+  void whilePaused_eventsAreHeld() {
+    StubWatchFactory.addCallResponses(createAddResponse(createService(NS1, "s1", "101")));
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events).pause();
+
+    runClusterWatch();
+
+    assertThat(ns1Events, empty());
+  }
+
+  @Test
+  void whenResumed_heldEventsNewerThanResumedVersionAreDispatched() {
+    final V1Service service1 = createService(NS1, "s1", "101");
+    final V1Service service2 = createService(NS1, "s2", "105");
+    StubWatchFactory.addCallResponses(createAddResponse(service1), createAddResponse(service2));
+    final ServiceWatcher watcher = createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+    watcher.pause();
+    runClusterWatch();
+
+    watcher.withResourceVersion("103").resume();
+
+    assertThat(ns1Events, contains(addEvent(service2)));
+  }
+
+  @Test
+  void whenPausedWatcherReceivesTooManyEvents_dropThem() {
+    final ServiceWatcher watcher = createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+    watcher.pause();
+    StubWatchFactory.addCallResponses(createManyAddResponses(Watcher.MAX_PAUSED_EVENTS + 1));
+    runClusterWatch();
+
+    watcher.resume();
+
+    assertThat(ns1Events, empty());
+  }
+
+  private Watch.Response<?>[] createManyAddResponses(int count) {
+    return IntStream.rangeClosed(1, count)
+          .mapToObj(i -> createAddResponse(createService(NS1, "s" + i, Integer.toString(100 + i))))
+          .toArray(Watch.Response[]::new);
+  }
+
+  @Test
+  void whenPausedWatcherWithDroppedEventsResumes_clusterWatchRestartsFromResumedVersion() {
+    final ServiceWatcher watcher = createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+    watcher.pause();
+    StubWatchFactory.addCallResponses(createManyAddResponses(Watcher.MAX_PAUSED_EVENTS + 1));
+    runClusterWatch();
+
+    watcher.withResourceVersion("150").resume();
+
+    assertThat(multiplexer.getClusterWatcher().getResourceVersion(), equalTo("150"));
+  }
+
+  @Test
+  void whenNamespaceListedBeforeClusterWatchStart_clusterWatchStartsFromNamespaceList() {
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+    createNamespaceWatcher(NS2, "90", ns2Stopping, ns2Events::add);
+
+    runClusterWatch();
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0).get("resourceVersion"), equalTo("90"));
+  }
+
+  @Test
+  void whenNamespaceListedAfterClusterWatchStart_clusterWatchStartsFromFirstList() {
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+    createNamespaceWatcher(NS2, "120", ns2Stopping, ns2Events::add);
+
+    runClusterWatch();
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0).get("resourceVersion"), equalTo("100"));
+  }
+
+  @Test
+  void whenClusterWatchStartsFromOlderList_namespaceWatchersIgnoreEventsOlderThanTheirLists() {
+    final V1Service service1 = createService(NS1, "s1", "95");
+    final V1Service service2 = createService(NS2, "s2", "96");
+    StubWatchFactory.addCallResponses(createAddResponse(service1), createAddResponse(service2));
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+    createNamespaceWatcher(NS2, "90", ns2Stopping, ns2Events::add);
+
+    runClusterWatch();
+
+    assertThat(ns1Events, empty());
+    assertThat(ns2Events, contains(addEvent(service2)));
+  }
+
+  @Test
+  void whenNamespaceStartsAfterClusterWatchPassedItsList_replayMissedEvents() {
+    final V1Service service1 = createService(NS1, "s1", "101");
+    final V1Service service2 = createService(NS2, "s2", "102");
+    final V1Service service3 = createService(NS1, "s3", "103");
+    StubWatchFactory.addCallResponses(
+          createAddResponse(service1), createAddResponse(service2), createAddResponse(service3));
+    StubWatchFactory.addCallResponses(
+          createAddResponse(service1), createAddResponse(service2), createAddResponse(service3));
+    createNamespaceWatcher(NS1, "100", ns1Stopping, this::startNamespace2);
+
+    runClusterWatch();
+
+    assertThat(ns1Events, contains(addEvent(service1), addEvent(service3)));
+    assertThat(ns2Events, contains(addEvent(service2)));
+    assertThat(StubWatchFactory.getRequestParameters().get(1).get("resourceVersion"), equalTo("100"));
+  }
+
+  // starts the second namespace, listed before the event just received, when the first namespace receives an event
+  private void startNamespace2(Watch.Response<V1Service> event) {
+    ns1Events.add(event);
+    if (ns2Events.isEmpty() && StubWatchFactory.getRequestParameters().size() == 1) {
+      createNamespaceWatcher(NS2, "100", ns2Stopping, ns2Events::add);
+    }
+  }
+
+  @Test
+  void pausingOneNamespace_doesNotHoldEventsForOthers() {
+    final V1Service service2 = createService(NS2, "s2", "102");
+    StubWatchFactory.addCallResponses(createAddResponse(createService(NS1, "s1", "101")), createAddResponse(service2));
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events).pause();
+    createNamespaceWatcher(NS2, ns2Stopping, ns2Events);
+
+    runClusterWatch();
+
+    assertThat(ns2Events, contains(addEvent(service2)));
+  }
+
+  @Test
+  void multiplexedEvents_areRecordedInResourceCacheForManagedNamespacesOnly() {
+    cache.recordList(V1Service.class, NS1, null, null, List.of());
+    cache.recordList(V1Service.class, "other", null, null, List.of());
+    StubWatchFactory.addCallResponses(
+          createAddResponse(createService(NS1, "s1", "101")), createAddResponse(createService("other", "s2", "102")));
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events).pause();
+
+    runClusterWatch();
+
+    assertThat(cache.get(V1Service.class, NS1, "s1"), notNullValue());
+    assertThat(cache.get(V1Service.class, "other", "s2"), nullValue());
+  }
+
+  @Test
+  void afterClusterWatchError_resourceCacheIsInvalidatedForAllNamespaces() {
+    cache.recordList(V1Service.class, NS1, null, null, List.of(createService(NS1, "s1", "101")));
+    cache.recordList(V1Service.class, NS2, null, null, List.of(createService(NS2, "s2", "102")));
+    StubWatchFactory.addCallResponses(WatchEvent.createErrorEvent(HTTP_GONE).toWatchResponse());
+    createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+
+    runClusterWatch();
+
+    assertThat(cache.get(V1Service.class, NS1, "s1"), nullValue());
+    assertThat(cache.get(V1Service.class, NS2, "s2"), nullValue());
+  }
+
+  @Test
+  void whenClusterWatchForbidden_namespaceWatchersWatchTheirOwnNamespaces() {
+    final V1Service service1 = createService(NS1, "s1", "101");
+    StubWatchFactory.addCallResponses(WatchEvent.createErrorEvent(HTTP_FORBIDDEN).toWatchResponse());
+    StubWatchFactory.addCallResponses(createAddResponse(service1));
+    final ServiceWatcher watcher = createNamespaceWatcher(NS1, "100", ns1Stopping, this::receiveAndStopNamespace1);
+
+    runClusterWatch();
+    watcher.waitForExit();
+
+    assertThat(watcher.isMultiplexed(), equalTo(false));
+    assertThat(ns1Events, contains(addEvent(service1)));
+    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("namespace", NS1));
+    assertThat(logRecords, containsWarning(CLUSTER_WATCH_FORBIDDEN));
+  }
+
+  private void receiveAndStopNamespace1(Watch.Response<V1Service> event) {
+    ns1Events.add(event);
+    ns1Stopping.set(true);
+  }
+
+  @Test
+  void whenClusterWatchRequestForbidden_dontRetryIt() {
+    StubWatchFactory.throwExceptionOnWatch(new ApiException(HTTP_FORBIDDEN, "forbidden"));
+
+    runClusterWatch();
+
+    assertThat(StubWatchFactory.getRequestParameters().size(), equalTo(1));
+    assertThat(logRecords, containsWarning(CLUSTER_WATCH_FORBIDDEN));
+  }
+
+  @Test
+  void afterClusterWatchForbidden_newNamespaceWatchersAreNotMultiplexed() {
+    StubWatchFactory.throwExceptionOnWatch(new ApiException(HTTP_FORBIDDEN, "forbidden"));
+    runClusterWatch();
+    ns1Stopping.set(true);
+
+    final ServiceWatcher watcher = createNamespaceWatcher(NS1, ns1Stopping, ns1Events);
+    watcher.waitForExit();
+
+    assertThat(watcher.isMultiplexed(), equalTo(false));
+    assertThat(logRecords, containsWarning(CLUSTER_WATCH_FORBIDDEN));
+  }
+}
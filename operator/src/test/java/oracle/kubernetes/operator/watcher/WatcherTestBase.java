@@ -109,6 +109,13 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return createAndRunWatcher(NAMESPACE, stopping, initialResourceVersion);
   }
 
+  void sendErrorRequest(BigInteger initialResourceVersion) {
+    StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, initialResourceVersion);
+  }
+
   private Object createObjectWithMetaData() {
     return createObjectWithMetaData(createMetaData());
   }
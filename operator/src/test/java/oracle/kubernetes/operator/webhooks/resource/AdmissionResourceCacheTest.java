@@ -0,0 +1,204 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.ClusterResource;
+import oracle.kubernetes.weblogic.domain.model.DomainResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GONE;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CLUSTER;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdmissionResourceCacheTest {
+
+  private static final String NS = "ns1";
+  private static final String OTHER_NS = "ns2";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final AdmissionResourceCache cache = new AdmissionResourceCache();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(ApiException.class));
+    mementos.add(testSupport.install());
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private DomainResource createDomain(String namespace, String name) {
+    return new DomainResource().withMetadata(new V1ObjectMeta().namespace(namespace).name(name));
+  }
+
+  private ClusterResource createCluster(String namespace, String name) {
+    return new ClusterResource().withMetadata(new V1ObjectMeta().namespace(namespace).name(name));
+  }
+
+  private List<String> getDomainNames(String namespace) throws ApiException {
+    return cache.getDomains(namespace).stream().map(d -> d.getMetadata().getName()).toList();
+  }
+
+  private List<String> getClusterNames(String namespace) throws ApiException {
+    return cache.getClusters(namespace).stream().map(c -> c.getMetadata().getName()).toList();
+  }
+
+  @Test
+  void whenNotLoaded_listDomainsInNamespace() throws ApiException {
+    testSupport.defineResources(createDomain(NS, "domain1"), createDomain(OTHER_NS, "domain2"));
+
+    assertThat(getDomainNames(NS), contains("domain1"));
+  }
+
+  @Test
+  void whenNotLoadedAndListFails_throwException() {
+    testSupport.failOnList(DOMAIN, NS, HTTP_FORBIDDEN);
+
+    assertThrows(ApiException.class, () -> cache.getDomains(NS));
+  }
+
+  @Test
+  void afterLoad_findResourcesWithoutListing() throws ApiException {
+    testSupport.defineResources(createDomain(NS, "domain1"), createCluster(NS, "cluster1"));
+    cache.reload();
+
+    testSupport.failOnList(DOMAIN, NS, HTTP_FORBIDDEN);
+    testSupport.failOnList(CLUSTER, NS, HTTP_FORBIDDEN);
+
+    assertThat(getDomainNames(NS), contains("domain1"));
+    assertThat(getClusterNames(NS), contains("cluster1"));
+  }
+
+  @Test
+  void afterLoad_resourcesInOtherNamespacesAreNotReturned() throws ApiException {
+    testSupport.defineResources(createDomain(OTHER_NS, "domain2"));
+    cache.reload();
+
+    assertThat(getDomainNames(NS), empty());
+  }
+
+  @Test
+  void whenRestrictedToNamespace_findResourcesInItWithoutListing() throws ApiException {
+    testSupport.defineResources(createDomain(NS, "domain1"), createDomain(OTHER_NS, "domain2"));
+    cache.restrictTo(NS);
+    cache.reload();
+
+    testSupport.failOnList(DOMAIN, NS, HTTP_FORBIDDEN);
+
+    assertThat(getDomainNames(NS), contains("domain1"));
+  }
+
+  @Test
+  void whenRestrictedToNamespace_listResourcesInOtherNamespaces() throws ApiException {
+    testSupport.defineResources(createDomain(NS, "domain1"), createDomain(OTHER_NS, "domain2"));
+    cache.restrictTo(NS);
+    cache.reload();
+
+    assertThat(getDomainNames(OTHER_NS), contains("domain2"));
+  }
+
+  @Test
+  void afterAddedEvent_findNewResource() throws ApiException {
+    cache.reload();
+
+    cache.getClusterListener().receivedResponse(new Watch.Response<>("ADDED", createCluster(NS, "cluster1")));
+
+    assertThat(getClusterNames(NS), contains("cluster1"));
+  }
+
+  @Test
+  void afterDeletedEvent_doNotFindResource() throws ApiException {
+    final DomainResource domain = createDomain(NS, "domain1");
+    testSupport.defineResources(domain);
+    cache.reload();
+
+    cache.getDomainListener().receivedResponse(new Watch.Response<>("DELETED", domain));
+
+    assertThat(getDomainNames(NS), empty());
+  }
+
+  @Test
+  void whenModifiedEventOlderThanStoredResource_keepStoredResource() throws ApiException {
+    final DomainResource domain = createDomain(NS, "domain1");
+    domain.getMetadata().resourceVersion("12");
+    cache.reload();
+    cache.getDomainListener().receivedResponse(new Watch.Response<>("ADDED", domain));
+
+    final DomainResource staleDomain = createDomain(NS, "domain1");
+    staleDomain.getMetadata().resourceVersion("11");
+    cache.getDomainListener().receivedResponse(new Watch.Response<>("MODIFIED", staleDomain));
+
+    assertThat(cache.getDomains(NS), contains(domain));
+  }
+
+  @Test
+  void afterWatchError_relistResources() throws ApiException {
+    final DomainResource domain = createDomain(NS, "domain1");
+    testSupport.defineResources(domain);
+    cache.reload();
+    testSupport.deleteResources(domain);
+
+    cache.getDomainListener().receivedError(new Watch.Response<>("ERROR", new V1Status().code(HTTP_GONE)));
+
+    assertThat(getDomainNames(NS), empty());
+  }
+
+  @Test
+  void whenLoadFailed_retryIt() throws ApiException {
+    testSupport.defineResources(createDomain(NS, "domain1"));
+    testSupport.failOnList(DOMAIN, null, HTTP_FORBIDDEN);
+    cache.reload();
+
+    cache.retryFailedLoads();
+    testSupport.failOnList(DOMAIN, NS, HTTP_FORBIDDEN);
+
+    assertThat(getDomainNames(NS), contains("domain1"));
+  }
+
+  @Test
+  void whenLoadSucceeded_dontRetryIt() {
+    cache.reload();
+    testSupport.clearNumCalls();
+
+    cache.retryFailedLoads();
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  void whenListOlderThanStoredResource_keepStoredResource() throws ApiException {
+    final DomainResource domain = createDomain(NS, "domain1");
+    domain.getMetadata().resourceVersion("12");
+    cache.reload();
+    cache.getDomainListener().receivedResponse(new Watch.Response<>("MODIFIED", domain));
+
+    final DomainResource staleDomain = createDomain(NS, "domain1");
+    staleDomain.getMetadata().resourceVersion("11");
+    testSupport.defineResources(staleDomain);
+    cache.reload();
+
+    assertThat(cache.getDomains(NS), contains(domain));
+  }
+}
@@ -0,0 +1,197 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.webhooks.resource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.common.utils.SchemaConversionUtils.Resources;
+import oracle.kubernetes.operator.http.rest.backend.RestBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static oracle.kubernetes.common.CommonConstants.API_VERSION_V8;
+import static oracle.kubernetes.common.CommonConstants.API_VERSION_V9;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DomainConverterTest {
+
+  private static final String NS = "ns1";
+  private static final String UID = "1234";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final BackendStub backend = createStrictStub(BackendStub.class);
+  private final DomainConverter converter = new DomainConverter();
+
+  @BeforeEach
+  void setUp() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(DomainConverter.class, "instance", converter));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Map<String, Object> createV9Domain(String name, String resourceVersion, String... clusterNames) {
+    final Map<String, Object> metadata = new LinkedHashMap<>();
+    metadata.put("name", name);
+    metadata.put("namespace", NS);
+    metadata.put("uid", UID + name);
+    metadata.put("resourceVersion", resourceVersion);
+    final Map<String, Object> spec = new LinkedHashMap<>();
+    spec.put("domainUID", name);
+    if (clusterNames.length > 0) {
+      spec.put("clusters", new ArrayList<>(List.of(clusterNames).stream().map(this::createReference).toList()));
+    }
+    final Map<String, Object> domain = new LinkedHashMap<>();
+    domain.put("apiVersion", API_VERSION_V9);
+    domain.put("kind", "Domain");
+    domain.put("metadata", metadata);
+    domain.put("spec", spec);
+    return domain;
+  }
+
+  private Map<String, Object> createReference(String clusterName) {
+    return new LinkedHashMap<>(Map.of("name", clusterName));
+  }
+
+  private List<Resources> convertToV8(List<Map<String, Object>> domains) {
+    return converter.convert(domains, API_VERSION_V8, backend);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object getSpecValue(Resources resources, String name) {
+    return ((Map<String, Object>) resources.domain().get("spec")).get(name);
+  }
+
+  @Test
+  void convertedDomains_areReturnedInOrderOfRequest() {
+    final List<Map<String, Object>> domains = IntStream.range(0, 20)
+        .mapToObj(i -> createV9Domain("domain" + i, "1")).toList();
+
+    final List<Resources> converted = convertToV8(domains);
+
+    assertThat(converted.stream().map(r -> getSpecValue(r, "domainUID")).toList(),
+        equalTo(IntStream.range(0, 20).mapToObj(i -> "domain" + i).toList()));
+    assertThat(converted.stream().map(r -> r.domain().get("apiVersion")).distinct().toList(),
+        contains(API_VERSION_V8));
+  }
+
+  @Test
+  void whenSameDomainContentConvertedAgain_reuseEarlierResult() {
+    backend.defineCluster("cluster1", "1", 2);
+    convertToV8(List.of(createV9Domain("domain1", "1", "cluster1")));
+
+    backend.defineCluster("cluster1", "1", 5);
+    final Resources converted = convertToV8(List.of(createV9Domain("domain1", "1", "cluster1"))).get(0);
+
+    assertThat(getClusterReplicas(converted), contains(2));
+  }
+
+  @Test
+  void whenDomainContentChangedAtSameResourceVersion_convertDomainAgain() {
+    convertToV8(List.of(createV9Domain("domain1", "1")));
+    final Map<String, Object> sameVersion = createV9Domain("domain1", "1");
+    sameVersion.put("spec", new LinkedHashMap<>(Map.of("domainUID", "changed")));
+
+    final Resources converted = convertToV8(List.of(sameVersion)).get(0);
+
+    assertThat(getSpecValue(converted, "domainUID"), equalTo("changed"));
+  }
+
+  @Test
+  void reusedResult_isCopied() {
+    final Resources first = convertToV8(List.of(createV9Domain("domain1", "1"))).get(0);
+
+    final Resources second = convertToV8(List.of(createV9Domain("domain1", "1"))).get(0);
+
+    assertThat(second.domain(), equalTo(first.domain()));
+    assertThat(second.domain(), not(sameInstance(first.domain())));
+  }
+
+  @Test
+  void whenResourceVersionChanged_convertDomainAgain() {
+    convertToV8(List.of(createV9Domain("domain1", "1")));
+    final Map<String, Object> newVersion = createV9Domain("domain1", "2");
+    newVersion.put("spec", new LinkedHashMap<>(Map.of("domainUID", "changed")));
+
+    final Resources converted = convertToV8(List.of(newVersion)).get(0);
+
+    assertThat(getSpecValue(converted, "domainUID"), equalTo("changed"));
+  }
+
+  @Test
+  void whenReferencedClusterChanged_convertDomainToV8Again() {
+    backend.defineCluster("cluster1", "1", 2);
+    convertToV8(List.of(createV9Domain("domain1", "1", "cluster1")));
+
+    backend.defineCluster("cluster1", "2", 5);
+    final Resources converted = convertToV8(List.of(createV9Domain("domain1", "1", "cluster1"))).get(0);
+
+    assertThat(getClusterReplicas(converted), contains(5));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Object> getClusterReplicas(Resources resources) {
+    return ((List<Map<String, Object>>) getSpecValue(resources, "clusters")).stream()
+        .map(c -> c.get("replicas")).toList();
+  }
+
+  @Test
+  void whenManyDomainsReferenceClusters_listClustersOnce() {
+    backend.defineCluster("cluster1", "1", 2);
+    final List<Map<String, Object>> domains = IntStream.range(0, 10)
+        .mapToObj(i -> createV9Domain("domain" + i, "1", "cluster1")).toList();
+
+    convertToV8(domains);
+
+    assertThat(backend.numListCalls.get(), equalTo(1));
+  }
+
+  @Test
+  void whenConversionFails_throwOriginalException() {
+    backend.failure = new IllegalStateException("no clusters");
+    final List<Map<String, Object>> domains = List.of(
+        createV9Domain("domain1", "1", "cluster1"), createV9Domain("domain2", "1", "cluster1"));
+
+    assertThrows(IllegalStateException.class, () -> convertToV8(domains));
+  }
+
+  abstract static class BackendStub implements RestBackend {
+    private final List<Map<String, Object>> clusters = new ArrayList<>();
+    private final AtomicInteger numListCalls = new AtomicInteger();
+    private RuntimeException failure;
+
+    void defineCluster(String name, String resourceVersion, int replicas) {
+      clusters.clear();
+      clusters.add(new HashMap<>(Map.of(
+          "metadata", Map.of("name", name, "namespace", NS, "resourceVersion", resourceVersion),
+          "spec", Map.of("clusterName", name, "replicas", replicas))));
+    }
+
+    @Override
+    public List<Map<String, Object>> listClusters(String namespace) {
+      numListCalls.incrementAndGet();
+      if (failure != null) {
+        throw failure;
+      }
+      return new ArrayList<>(clusters);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.extended.controller.reconciler.Result;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.work.FiberEvents.EVENT_NAME_PREFIX;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class FiberEventsTest {
+
+  private static final String FIBER_RUN = EVENT_NAME_PREFIX + "FiberRun";
+  private static final String STEP = EVENT_NAME_PREFIX + "Step";
+  private static final String FIBER_DELAY = EVENT_NAME_PREFIX + "FiberDelay";
+  private static final String FORK_JOIN = EVENT_NAME_PREFIX + "ForkJoin";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final Recording recording = new Recording();
+
+  @AfterEach
+  void tearDown() {
+    recording.close();
+  }
+
+  private List<RecordedEvent> runAndRecord(Packet packet, Step step, String... eventNames) throws IOException {
+    for (String eventName : eventNames) {
+      recording.enable(eventName);
+    }
+    recording.start();
+    testSupport.runSteps(packet, step);
+    recording.stop();
+
+    final Path file = Files.createTempFile("fiber-events", ".jfr");
+    try {
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static List<String> getStrings(List<RecordedEvent> events, String eventName, String field) {
+    return events.stream()
+          .filter(e -> e.getEventType().getName().equals(eventName))
+          .map(e -> e.getString(field))
+          .toList();
+  }
+
+  @Test
+  void whenStepEventsEnabled_recordEachStep() throws IOException {
+    List<RecordedEvent> events = runAndRecord(new Packet(), new StepOne(new StepTwo()), STEP);
+
+    assertThat(getStrings(events, STEP, "stepClass"),
+          contains(StepOne.class.getName(), StepTwo.class.getName()));
+  }
+
+  @Test
+  void whenStepEventsNotEnabled_dontRecordThem() throws IOException {
+    List<RecordedEvent> events = runAndRecord(new Packet(), new StepOne(new StepTwo()), FIBER_RUN);
+
+    assertThat(getStrings(events, STEP, "stepClass"), empty());
+  }
+
+  @Test
+  void fiberRunEvent_identifiesDomain() throws IOException {
+    Packet packet = new Packet();
+    packet.putValue(ProcessingConstants.DOMAIN_PRESENCE_INFO_KEY, new DomainPresenceInfo("ns1", "domain1"));
+
+    List<RecordedEvent> events = runAndRecord(packet, new StepOne(null), FIBER_RUN);
+
+    assertThat(getStrings(events, FIBER_RUN, "namespace"), contains("ns1"));
+    assertThat(getStrings(events, FIBER_RUN, "domainUid"), contains("domain1"));
+    assertThat(getStrings(events, FIBER_RUN, "outcome"), contains(FiberEvents.COMPLETED));
+  }
+
+  @Test
+  void whenStepRequeues_recordRequeue() throws IOException {
+    List<RecordedEvent> events = runAndRecord(new Packet(), new RequeueStep(), FIBER_RUN, FIBER_DELAY);
+
+    assertThat(getStrings(events, FIBER_DELAY, "kind"), contains("requeue"));
+    assertThat(getStrings(events, FIBER_RUN, "outcome"), contains(FiberEvents.REQUEUED));
+  }
+
+  @Test
+  void whenStepRunsForkJoin_recordBranchCount() throws IOException {
+    List<RecordedEvent> events = runAndRecord(new Packet(), new ForkStep(), FORK_JOIN);
+
+    assertThat(events.stream()
+          .filter(e -> e.getEventType().getName().equals(FORK_JOIN))
+          .map(e -> e.getInt("numBranches"))
+          .toList(), contains(2));
+    assertThat(getStrings(events, FORK_JOIN, "outcome"), equalTo(List.of(FiberEvents.COMPLETED)));
+  }
+
+  private static class StepOne extends Step {
+    StepOne(Step next) {
+      super(next);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class StepTwo extends StepOne {
+    StepTwo() {
+      super(null);
+    }
+  }
+
+  private static class RequeueStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return new Result(true, Duration.ofSeconds(5));
+    }
+  }
+
+  private static class ForkStep extends Step {
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doForkJoin(null, packet, List.of(
+            new Fiber.StepAndPacket(new StepOne(null), packet.copy()),
+            new Fiber.StepAndPacket(new StepOne(null), packet.copy())));
+    }
+  }
+}
@@ -54,6 +54,17 @@ class FiberGateTest {
     assertThat(terminalStep.wasRun(), is(true));
   }
 
+  @Test
+  void whenGatedFiberStartsDetachedFiber_continueGatedFiber() {
+    final TerminalStep detachedStep = new TerminalStep();
+
+    fiberGate.startFiber(UID1, () -> new StartDetachedStep(detachedStep, terminalStep), () -> packet,
+        completionCallback);
+
+    assertThat(detachedStep.wasRun(), is(true));
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
   private static class NoopStep extends Step {
 
     @Override
@@ -76,6 +87,21 @@ class FiberGateTest {
     }
   }
 
+  private class StartDetachedStep extends Step {
+    private final Step detachedStep;
+
+    StartDetachedStep(Step detachedStep, Step next) {
+      super(next);
+      this.detachedStep = detachedStep;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      Fiber.getCurrentIfSet().startDetached(detachedStep, packet.copy(), completionCallback);
+      return doNext(packet);
+    }
+  }
+
   private static class TestCompletionCallback implements Fiber.CompletionCallback {
 
     Object foundValue;
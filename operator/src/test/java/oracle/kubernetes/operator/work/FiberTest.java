@@ -3,11 +3,15 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
@@ -15,6 +19,8 @@ import javax.annotation.Nonnull;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.extended.controller.reconciler.Result;
+import oracle.kubernetes.operator.tuning.TuningParameters;
+import oracle.kubernetes.operator.tuning.TuningParametersStub;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,9 +28,12 @@ import org.junit.jupiter.api.Test;
 
 import static oracle.kubernetes.common.logging.MessageKeys.DUMP_BREADCRUMBS;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 class FiberTest {
@@ -35,7 +44,7 @@ class FiberTest {
   private final Packet packet = new Packet();
   private final CompletionCallbackImpl completionCallback = new CompletionCallbackImpl();
 
-  private final List<Step> stepList = new ArrayList<>();
+  private final List<Step> stepList = Collections.synchronizedList(new ArrayList<>());
   private final List<Throwable> throwableList = new ArrayList<>();
 
   private final Step step1 = new BasicStep(1);
@@ -47,10 +56,11 @@ class FiberTest {
   private final List<LogRecord> logRecords = new ArrayList<>();
 
   @BeforeEach
-  public void setUp() {
+  public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger()
           .collectLogMessages(logRecords, DUMP_BREADCRUMBS)
           .withLogLevel(Level.INFO));
+    mementos.add(TuningParametersStub.install());
 
     packet.put(STEPS, stepList);
   }
@@ -107,6 +117,83 @@ class FiberTest {
     assertThat(stepList, containsInRelativeOrder(step2, step3));
   }
 
+  @Test
+  void whenChildFibersCreatedOnVirtualExecutor_runChildrenConcurrently() throws InterruptedException {
+    CountDownLatch allStarted = new CountDownLatch(2);
+    runStepsConcurrently(new ChildFiberStep(step3, new AwaitingStep(allStarted), new AwaitingStep(allStarted)));
+
+    assertThat(completionCallback.awaitCompletion(), is(true));
+    assertThat(throwableList.isEmpty(), is(true));
+  }
+
+  private void runStepsConcurrently(Step... steps) {
+    Fiber fiber = new Fiber(new VirtualScheduledExecutorService(), Step.chain(steps), packet, completionCallback);
+    fiber.start();
+  }
+
+  @Test
+  void whenChildFibersCreatedOnVirtualExecutor_runSynchronizationStepLast() throws InterruptedException {
+    runStepsConcurrently(childFiberStep);
+
+    assertThat(completionCallback.awaitCompletion(), is(true));
+    assertThat(stepList.subList(0, 2), containsInAnyOrder(step1, step2));
+    assertThat(stepList.get(2), equalTo(step3));
+  }
+
+  @Test
+  void whenChildFibersCreatedOnVirtualExecutor_doNotExceedConcurrencyLimit() throws InterruptedException {
+    TuningParametersStub.setParameter(TuningParameters.FORK_JOIN_CONCURRENCY_LIMIT, "2");
+    ConcurrencyTracker tracker = new ConcurrencyTracker();
+
+    runStepsConcurrently(new ChildFiberStep(step3, tracker.createSteps(6)));
+
+    assertThat(completionCallback.awaitCompletion(), is(true));
+    assertThat(tracker.maxRunning.get(), lessThanOrEqualTo(2));
+    assertThat(tracker.numRun.get(), equalTo(6));
+  }
+
+  @Test
+  void whenConcurrencyLimitIsOne_runChildrenInOrder() throws InterruptedException {
+    TuningParametersStub.setParameter(TuningParameters.FORK_JOIN_CONCURRENCY_LIMIT, "1");
+
+    runStepsConcurrently(childFiberStep);
+
+    assertThat(completionCallback.awaitCompletion(), is(true));
+    assertThat(stepList, contains(step1, step2, step3));
+  }
+
+  @Test
+  void whenForkJoinNotConcurrent_runChildrenOneAtATime() throws InterruptedException {
+    ConcurrencyTracker tracker = new ConcurrencyTracker();
+
+    runStepsConcurrently(new SequentialChildFiberStep(step3, tracker.createSteps(6)));
+
+    assertThat(completionCallback.awaitCompletion(), is(true));
+    assertThat(tracker.maxRunning.get(), equalTo(1));
+    assertThat(tracker.numRun.get(), equalTo(6));
+  }
+
+  @Test
+  void whenChildFiberThrowsException_reportThrowableAndSkipSynchronizationStep() throws InterruptedException {
+    runStepsConcurrently(new ChildFiberStep(step3, step1, error));
+
+    assertThat(completionCallback.awaitCompletion(), is(true));
+    assertThat(throwableList, contains(instanceOf(RuntimeException.class)));
+    assertThat(stepList.contains(step3), is(false));
+  }
+
+  @Test
+  void whenChildFibersRequestRequeue_shortestDelayWins() throws InterruptedException {
+    ResultCapturingStep forkJoin = new ResultCapturingStep(
+          new ChildFiberStep(step3, new RequeueStep(30), new RequeueStep(10), step1));
+
+    runStepsConcurrently(forkJoin);
+
+    assertThat(completionCallback.awaitCompletion(), is(true));
+    assertThat(forkJoin.result.getRequeueAfter(), equalTo(Duration.ofSeconds(10)));
+    assertThat(stepList.contains(step3), is(false));
+  }
+
   static class BasicStep extends Step {
 
     private final Integer stepNum;
@@ -157,7 +244,7 @@ class FiberTest {
 
   static class ChildFiberStep extends BasicStep {
 
-    private final Step nextStep;
+    final Step nextStep;
     private final Step[] childSteps;
 
     ChildFiberStep(Step nextStep, Step... steps) {
@@ -167,28 +254,124 @@ class FiberTest {
 
     @Override
     public @Nonnull Result apply(Packet packet) {
-      return doForkJoin(nextStep, packet, createStepAndPacketList(packet));
+      return doConcurrentForkJoin(nextStep, packet, createStepAndPacketList(packet));
     }
 
     @Nonnull
-    private List<Fiber.StepAndPacket> createStepAndPacketList(Packet packet) {
+    List<Fiber.StepAndPacket> createStepAndPacketList(Packet packet) {
       return Arrays.stream(childSteps)
             .map(s -> new Fiber.StepAndPacket(s, packet.copy()))
             .collect(Collectors.toList());
     }
   }
 
+  static class SequentialChildFiberStep extends ChildFiberStep {
+
+    SequentialChildFiberStep(Step nextStep, Step... steps) {
+      super(nextStep, steps);
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return doForkJoin(nextStep, packet, createStepAndPacketList(packet));
+    }
+  }
+
+  static class AwaitingStep extends BasicStep {
+    private final CountDownLatch latch;
+
+    AwaitingStep(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      latch.countDown();
+      try {
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("siblings did not run concurrently");
+        }
+      } catch (InterruptedException e) {
+        return doTerminate(e, packet);
+      }
+      return doNext(packet);
+    }
+  }
+
+  static class ConcurrencyTracker {
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final AtomicInteger numRun = new AtomicInteger();
+
+    Step[] createSteps(int count) {
+      Step[] steps = new Step[count];
+      Arrays.setAll(steps, i -> new TrackingStep());
+      return steps;
+    }
+
+    class TrackingStep extends Step {
+      @Override
+      public @Nonnull Result apply(Packet packet) {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          TimeUnit.MILLISECONDS.sleep(20);
+        } catch (InterruptedException e) {
+          return doTerminate(e, packet);
+        } finally {
+          running.decrementAndGet();
+          numRun.incrementAndGet();
+        }
+        return doNext(packet);
+      }
+    }
+  }
+
+  static class RequeueStep extends Step {
+    private final int delaySeconds;
+
+    RequeueStep(int delaySeconds) {
+      this.delaySeconds = delaySeconds;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      return new Result(true, Duration.ofSeconds(delaySeconds));
+    }
+  }
+
+  static class ResultCapturingStep extends Step {
+    private final Step forkJoinStep;
+    private Result result;
+
+    ResultCapturingStep(Step forkJoinStep) {
+      this.forkJoinStep = forkJoinStep;
+    }
+
+    @Override
+    public @Nonnull Result apply(Packet packet) {
+      result = forkJoinStep.apply(packet);
+      return doEnd(packet);
+    }
+  }
+
   class CompletionCallbackImpl implements Fiber.CompletionCallback {
+    private final CountDownLatch done = new CountDownLatch(1);
     boolean completed;
 
     @Override
     public void onCompletion(Packet packet) {
       completed = true;
+      done.countDown();
     }
 
     @Override
     public void onThrowable(Packet packet, Throwable throwable) {
       throwableList.add(throwable);
+      done.countDown();
+    }
+
+    boolean awaitCompletion() throws InterruptedException {
+      return done.await(10, TimeUnit.SECONDS);
     }
   }
 }
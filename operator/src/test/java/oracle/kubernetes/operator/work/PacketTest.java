@@ -0,0 +1,122 @@
+// Copyright (c) 2024, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class PacketTest {
+
+  private static final Packet.Key<Integer> COUNT = Packet.Key.of("count");
+
+  private final Packet packet = new Packet();
+
+  @Test
+  void afterPut_getReturnsValue() {
+    packet.put("a", "1");
+
+    assertThat(packet.get("a"), equalTo("1"));
+  }
+
+  @Test
+  void putNullValue_removesValue() {
+    packet.put("a", "1");
+
+    packet.put("a", null);
+
+    assertThat(packet.containsKey("a"), is(false));
+  }
+
+  @Test
+  void copy_hasSameValues() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    assertThat(packet.copy(), equalTo(Map.of("a", "1", "b", "2")));
+  }
+
+  @Test
+  void changesToCopy_doNotAffectOriginal() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    Packet copy = packet.copy();
+    copy.put("a", "3");
+    copy.remove("b");
+    copy.put("c", "4");
+
+    assertThat(packet, equalTo(Map.of("a", "1", "b", "2")));
+    assertThat(copy, equalTo(Map.of("a", "3", "c", "4")));
+  }
+
+  @Test
+  void changesToOriginalAfterCopy_doNotAffectCopy() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    Packet copy = packet.copy();
+    packet.put("a", "3");
+    packet.remove("b");
+
+    assertThat(copy, equalTo(Map.of("a", "1", "b", "2")));
+    assertThat(packet, equalTo(Map.of("a", "3")));
+  }
+
+  @Test
+  void copiesOfCopies_seeValuesOfAllAncestors() {
+    packet.put("a", "1");
+    Packet child = packet.copy();
+    child.put("b", "2");
+    Packet grandchild = child.copy();
+    grandchild.put("c", "3");
+
+    assertThat(grandchild, equalTo(Map.of("a", "1", "b", "2", "c", "3")));
+  }
+
+  @Test
+  void afterRemovingValueFromCopy_valueIsAbsent() {
+    packet.put("a", "1");
+    Packet copy = packet.copy();
+
+    assertThat(copy.remove("a"), equalTo("1"));
+    assertThat(copy.get("a"), nullValue());
+    assertThat(copy.containsKey("a"), is(false));
+  }
+
+  @Test
+  void afterClear_packetIsEmpty() {
+    packet.put("a", "1");
+    Packet copy = packet.copy();
+    copy.put("b", "2");
+
+    copy.clear();
+
+    assertThat(copy, anEmptyMap());
+  }
+
+  @Test
+  void putIfAbsent_doesNotReplaceValueInheritedFromOriginal() {
+    packet.put("a", "1");
+    Packet copy = packet.copy();
+
+    copy.putIfAbsent("a", "2");
+
+    assertThat(copy.get("a"), equalTo("1"));
+  }
+
+  @Test
+  void typedKey_accessesValueByName() {
+    packet.putValue(COUNT, 3);
+
+    assertThat(packet.get("count"), equalTo(3));
+    assertThat(packet.getValue(COUNT), equalTo(3));
+  }
+}